@@ -0,0 +1,43 @@
+package com.dt180g.project.benchmarks;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.characters.BaseCharacter;
+import com.dt180g.project.stats.StatType;
+import com.dt180g.project.support.ActivityLogger;
+import com.dt180g.project.support.Randomizer;
+
+/**
+ * Shared setup for the benchmarks.
+ *
+ * @author Samuel Thand
+ */
+final class BenchmarkSupport {
+    static final long SEED = 180L;
+    private static final int IMMORTAL_HIT_POINTS = 1_000_000_000;
+
+    /**
+     * Constructor, private since the class only holds static helpers.
+     */
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Create a seeded engine with logging turned off.
+     *
+     * @return A new game engine
+     */
+    static GameEngine createEngine() {
+        ActivityLogger.INSTANCE.setEnabled(false);
+        return new GameEngine(new Randomizer(SEED));
+    }
+
+    /**
+     * Give a character so many hit points that benchmarks never kill it,
+     * so every invocation measures the same path.
+     *
+     * @param character The character to make immortal
+     */
+    static void makeImmortal(final BaseCharacter character) {
+        character.getCharacterStats().adjustStatStaticModifier(StatType.VITALITY, IMMORTAL_HIT_POINTS);
+    }
+}
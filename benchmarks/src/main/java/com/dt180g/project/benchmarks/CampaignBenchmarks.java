@@ -0,0 +1,67 @@
+package com.dt180g.project.benchmarks;
+
+import com.dt180g.project.simulation.CampaignResult;
+import com.dt180g.project.simulation.CampaignSimulator;
+import com.dt180g.project.simulation.MassBattle;
+import com.dt180g.project.simulation.MassBattleResult;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput benchmarks for complete campaigns and a mid-sized mass battle.
+ * Every invocation uses the next seed, so the benchmark covers many different games.
+ *
+ * @author Samuel Thand
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dfile.encoding=UTF-8")
+public class CampaignBenchmarks {
+    private static final int MASS_BATTLE_SIDE = 500;
+    private CampaignSimulator simulator;
+    private MassBattle massBattle;
+    private long seed;
+
+    /**
+     * Create the simulator and battle on seeded engines.
+     */
+    @Setup
+    public void setUp() {
+        simulator = new CampaignSimulator(BenchmarkSupport.createEngine());
+        massBattle = new MassBattle(BenchmarkSupport.createEngine(), MASS_BATTLE_SIDE, MASS_BATTLE_SIDE,
+                MassBattle.DEFAULT_ROUND_LIMIT);
+        seed = BenchmarkSupport.SEED;
+    }
+
+    /**
+     * Run a full campaign from the first dungeon level to the final boss.
+     *
+     * @return The outcome of the campaign
+     */
+    @Benchmark
+    public CampaignResult campaign() {
+        return simulator.runCampaign(seed++);
+    }
+
+    /**
+     * Fight a mass battle, including producing both sides.
+     *
+     * @return The outcome of the battle
+     */
+    @Benchmark
+    public MassBattleResult massBattle() {
+        return massBattle.run(seed++);
+    }
+}
@@ -0,0 +1,100 @@
+package com.dt180g.project.benchmarks;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.characters.BaseCharacter;
+import com.dt180g.project.characters.CharacterEquipment;
+import com.dt180g.project.characters.CharacterStats;
+import com.dt180g.project.support.Constants;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the stat and equipment getters read on every ability and every hit.
+ *
+ * @author Samuel Thand
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dfile.encoding=UTF-8")
+public class CharacterBenchmarks {
+    private CharacterStats stats;
+    private CharacterEquipment equipment;
+
+    /**
+     * Take the stats and equipment of a fully equipped hero.
+     */
+    @Setup
+    public void setUp() {
+        GameEngine engine = BenchmarkSupport.createEngine();
+        BaseCharacter hero = engine.getHeroes().get(0);
+        stats = hero.getCharacterStats();
+        equipment = hero.getEquipment();
+    }
+
+    /**
+     * Read the current and total action points, as done when checking if an ability is afforded.
+     *
+     * @return Sum of the values
+     */
+    @Benchmark
+    public int actionPoints() {
+        return stats.getCurrentActionPoints() + stats.getTotalActionPoints();
+    }
+
+    /**
+     * Read every combat stat and trait used when determining ability values.
+     *
+     * @param blackhole Consumes the values
+     */
+    @Benchmark
+    public void combatStats(final Blackhole blackhole) {
+        blackhole.consume(stats.getPhysicalPower());
+        blackhole.consume(stats.getMagicPower());
+        blackhole.consume(stats.getHealingPower());
+        blackhole.consume(stats.getAttackRate());
+        blackhole.consume(stats.getDefenceRate());
+    }
+
+    /**
+     * Read a stat by name, the string based lookup.
+     *
+     * @return The stat value
+     */
+    @Benchmark
+    public int statByName() {
+        return stats.getStatValue(Constants.COMBAT_STAT_PHYSICAL_POWER);
+    }
+
+    /**
+     * Sum the protection of all armor pieces, as done on every physical hit.
+     *
+     * @return Total armor protection
+     */
+    @Benchmark
+    public int totalArmorProtection() {
+        return equipment.getTotalArmorProtection();
+    }
+
+    /**
+     * Sum the damage of all weapons, as done for every weapon based ability.
+     *
+     * @return Total weapon damage
+     */
+    @Benchmark
+    public int totalWeaponDamage() {
+        return equipment.getTotalWeaponDamage();
+    }
+}
@@ -0,0 +1,118 @@
+package com.dt180g.project.benchmarks;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.abilities.AbilityInfo;
+import com.dt180g.project.characters.BaseCharacter;
+import com.dt180g.project.characters.CharacterStats;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for attacks resolved by the engine and for complete character turns.
+ * All targets are made immortal, so the rosters keep their size during measurement.
+ *
+ * @author Samuel Thand
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dfile.encoding=UTF-8")
+public class CombatBenchmarks {
+    private static final int ATTACK_DAMAGE = 40;
+    private static final int GROUP_TARGETS = 3;
+
+    @Param({"10", "1000"})
+    private int amountOfEnemies;
+
+    private GameEngine engine;
+    private BaseCharacter hero;
+    private AbilityInfo singleTargetAttack;
+    private AbilityInfo groupAttack;
+    private AbilityInfo magicAttack;
+    private AbilityInfo groupHeal;
+
+    /**
+     * Create a party and immortal enemies for every iteration.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        engine = BenchmarkSupport.createEngine();
+        engine.resetGame(BenchmarkSupport.SEED);
+        engine.produceEnemies(amountOfEnemies, false);
+        engine.getEnemies().forEach(BenchmarkSupport::makeImmortal);
+        engine.getHeroes().forEach(BenchmarkSupport::makeImmortal);
+        hero = engine.getHeroes().get(0);
+
+        singleTargetAttack = new AbilityInfo("Benchmark Attack", 1, false, false);
+        groupAttack = new AbilityInfo("Benchmark Group Attack", GROUP_TARGETS, false, false);
+        magicAttack = new AbilityInfo("Benchmark Blast", GROUP_TARGETS, true, false);
+        groupHeal = new AbilityInfo("Benchmark Heal", GROUP_TARGETS, true, true);
+    }
+
+    /**
+     * Resolve a single target physical attack against the enemies.
+     *
+     * @return The attack was performed
+     */
+    @Benchmark
+    public boolean singleTargetAttack() {
+        return engine.characterAttack(singleTargetAttack, ATTACK_DAMAGE, true);
+    }
+
+    /**
+     * Resolve a group physical attack against the enemies.
+     *
+     * @return The attack was performed
+     */
+    @Benchmark
+    public boolean groupAttack() {
+        return engine.characterAttack(groupAttack, ATTACK_DAMAGE, true);
+    }
+
+    /**
+     * Resolve a group magic attack, which cannot be mitigated by armor.
+     *
+     * @return The attack was performed
+     */
+    @Benchmark
+    public boolean magicAttack() {
+        return engine.characterAttack(magicAttack, ATTACK_DAMAGE, true);
+    }
+
+    /**
+     * Resolve a group heal on the heroes.
+     *
+     * @return The heal was performed
+     */
+    @Benchmark
+    public boolean groupHeal() {
+        return engine.characterAttack(groupHeal, -ATTACK_DAMAGE, false);
+    }
+
+    /**
+     * Play a complete hero turn: choosing and executing abilities until AP or energy runs out.
+     *
+     * @return Remaining action points of the hero
+     */
+    @Benchmark
+    public int heroTurn() {
+        CharacterStats stats = hero.getCharacterStats();
+        stats.resetActionPoints();
+        stats.resetEnergyLevel();
+        hero.doTurn(engine);
+        return hero.getActionPoints();
+    }
+}
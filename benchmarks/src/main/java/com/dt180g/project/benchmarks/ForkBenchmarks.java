@@ -0,0 +1,81 @@
+package com.dt180g.project.benchmarks;
+
+import com.dt180g.project.simulation.BattleSnapshot;
+import com.dt180g.project.simulation.BattleState;
+import com.dt180g.project.simulation.CampaignSimulator;
+import com.dt180g.project.support.Constants;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency benchmarks for forking a battle, comparing flat array states rewinding the characters
+ * in place with snapshots rebuilding every character.
+ *
+ * @author Samuel Thand
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dfile.encoding=UTF-8")
+public class ForkBenchmarks {
+    private CampaignSimulator simulator;
+    private CampaignSimulator snapshotSimulator;
+    private BattleState state;
+    private BattleSnapshot snapshot;
+
+    /**
+     * Stop a campaign as the first dungeon level starts, and capture it both ways.
+     */
+    @Setup
+    public void setUp() {
+        simulator = new CampaignSimulator(BenchmarkSupport.createEngine());
+        simulator.setStopPoint(Constants.DUNGEON_START_LEVEL, 1);
+        simulator.runCampaign(BenchmarkSupport.SEED);
+        state = BattleState.capture(simulator);
+        snapshot = BattleSnapshot.capture(simulator);
+        snapshotSimulator = new CampaignSimulator(BenchmarkSupport.createEngine());
+    }
+
+    /**
+     * Copy the live battle into a new state.
+     *
+     * @return The captured state
+     */
+    @Benchmark
+    public BattleState captureState() {
+        return BattleState.capture(simulator);
+    }
+
+    /**
+     * Rewind the live battle to a state.
+     *
+     * @return The rewound simulator
+     */
+    @Benchmark
+    public CampaignSimulator restoreState() {
+        state.restore();
+        return simulator;
+    }
+
+    /**
+     * Rebuild the battle from a snapshot.
+     *
+     * @return The simulator holding the rebuilt battle
+     */
+    @Benchmark
+    public CampaignSimulator restoreSnapshot() {
+        snapshot.restore(snapshotSimulator);
+        return snapshotSimulator;
+    }
+}
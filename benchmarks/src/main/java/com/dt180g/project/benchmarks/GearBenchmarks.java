@@ -0,0 +1,164 @@
+package com.dt180g.project.benchmarks;
+
+import com.dt180g.project.characters.heroes.Warrior;
+import com.dt180g.project.gear.Armor;
+import com.dt180g.project.gear.BinaryGearCatalog;
+import com.dt180g.project.gear.GearCatalogLoader;
+import com.dt180g.project.gear.GearManager;
+import com.dt180g.project.gear.Weapon;
+import com.dt180g.project.support.Constants;
+import com.dt180g.project.support.IOHelper;
+import com.dt180g.project.support.Randomizer;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for random gear selection and for loading the gear catalogs, from XML
+ * as well as from a compiled binary catalog.
+ *
+ * @author Samuel Thand
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dfile.encoding=UTF-8")
+public class GearBenchmarks {
+    private final List<String> enemyWeaponTypes = Arrays.asList(Constants.WEAPON_SHIELD, Constants.WEAPON_SWORD);
+    private Randomizer random;
+    private Path binaryCatalog;
+
+    /**
+     * Create the random stream, make sure the catalogs are loaded and compile a binary catalog.
+     *
+     * @throws IOException If the binary catalog cannot be compiled
+     */
+    @Setup
+    public void setUp() throws IOException {
+        random = new Randomizer(BenchmarkSupport.SEED);
+        GearManager.INSTANCE.getAllMappedWeapons();
+        binaryCatalog = Files.createTempFile("gear", ".bin");
+        BinaryGearCatalog.compile(IOHelper.getResourcePath(GearManager.WEAPON_CATALOG),
+                IOHelper.getResourcePath(GearManager.ARMOR_CATALOG), binaryCatalog);
+    }
+
+    /**
+     * Remove the compiled binary catalog.
+     *
+     * @throws IOException If the binary catalog cannot be removed
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(binaryCatalog);
+    }
+
+    /**
+     * Select a random weapon allowed for a hero class.
+     *
+     * @return The weapon
+     */
+    @Benchmark
+    public Weapon randomWeaponForClass() {
+        return GearManager.INSTANCE.getRandomWeapon(Warrior.class, random);
+    }
+
+    /**
+     * Select a random one-handed weapon allowed for a hero class.
+     *
+     * @return The weapon
+     */
+    @Benchmark
+    public Weapon randomOneHandedWeaponForClass() {
+        return GearManager.INSTANCE.getRandomOneHandedWeapon(Warrior.class, random);
+    }
+
+    /**
+     * Select a random one-handed weapon of several types, as done when equipping enemies.
+     *
+     * @return The weapon
+     */
+    @Benchmark
+    public Weapon randomOneHandedWeaponOfTypes() {
+        return GearManager.INSTANCE.getRandomOneHandedWeapon(enemyWeaponTypes, random);
+    }
+
+    /**
+     * Select a random armor piece for a slot and hero class.
+     *
+     * @return The armor piece
+     */
+    @Benchmark
+    public Armor randomArmorOfType() {
+        return GearManager.INSTANCE.getRandomArmorOfType(Constants.ARMOR_CHEST, Warrior.class, random);
+    }
+
+    /**
+     * Parse the weapon catalog from XML.
+     *
+     * @return The parsed weapon definitions
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Map<String, String>> readWeaponsFromFile() {
+        return IOHelper.readFromFile("weapons.xml");
+    }
+
+    /**
+     * Parse the armor catalog from XML.
+     *
+     * @return The parsed armor definitions
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Map<String, String>> readArmorFromFile() {
+        return IOHelper.readFromFile("armor.xml");
+    }
+
+    /**
+     * Stream the weapon catalog from XML, building every weapon definition.
+     *
+     * @param blackhole Consumes the weapon definitions
+     * @return Amount of weapons
+     * @throws IOException If the catalog cannot be read
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int streamWeaponCatalog(final Blackhole blackhole) throws IOException {
+        return GearCatalogLoader.loadWeapons(IOHelper.getResourcePath(GearManager.WEAPON_CATALOG), blackhole::consume);
+    }
+
+    /**
+     * Load both catalogs from the compiled binary catalog, building every gear definition.
+     *
+     * @param blackhole Consumes the gear definitions
+     * @return Amount of gear pieces
+     * @throws IOException If the catalog cannot be read
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int loadBinaryCatalog(final Blackhole blackhole) throws IOException {
+        return BinaryGearCatalog.load(binaryCatalog, blackhole::consume, blackhole::consume);
+    }
+}
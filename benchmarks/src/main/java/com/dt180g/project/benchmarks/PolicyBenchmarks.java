@@ -0,0 +1,99 @@
+package com.dt180g.project.benchmarks;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.abilities.BaseAbility;
+import com.dt180g.project.characters.BaseCharacter;
+import com.dt180g.project.policies.DecisionPolicy;
+import com.dt180g.project.policies.GreedyPolicy;
+import com.dt180g.project.policies.HealWhenLowPolicy;
+import com.dt180g.project.policies.PriorityTablePolicy;
+import com.dt180g.project.policies.RandomPolicy;
+import com.dt180g.project.simulation.CampaignResult;
+import com.dt180g.project.simulation.CampaignSimulator;
+import com.dt180g.project.support.Constants;
+import com.dt180g.project.support.IOHelper;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency benchmarks for the built-in decision policies, choosing the abilities of a cleric facing
+ * a full dungeon level, and for complete campaigns played by heroes using each policy. Run with
+ * -prof gc to see that choosing abilities does not allocate.
+ *
+ * @author Samuel Thand
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dfile.encoding=UTF-8")
+public class PolicyBenchmarks {
+    private static final int ENEMIES = 16;
+
+    @Param({"random", "greedy", "heal", "table"})
+    private String policyName;
+
+    private DecisionPolicy policy;
+    private GameEngine engine;
+    private BaseCharacter cleric;
+    private final BaseAbility[] chosen = new BaseAbility[Constants.ACTIONS_PER_TURN];
+    private CampaignSimulator simulator;
+    private long seed;
+
+    /**
+     * Select the policy and create the battle and simulator.
+     *
+     * @throws IOException If the priority table cannot be loaded
+     */
+    @Setup
+    public void setUp() throws IOException {
+        switch (policyName) {
+            case "greedy": policy = GreedyPolicy.INSTANCE; break;
+            case "heal": policy = HealWhenLowPolicy.INSTANCE; break;
+            case "table":
+                policy = PriorityTablePolicy.load(IOHelper.getResourcePath(PriorityTablePolicy.DEFAULT_TABLE));
+                break;
+            default: policy = RandomPolicy.INSTANCE;
+        }
+        engine = BenchmarkSupport.createEngine();
+        engine.produceEnemies(ENEMIES, false);
+        cleric = engine.getHeroes().get(engine.getAmountOfHeroes() - 1);
+
+        simulator = new CampaignSimulator(BenchmarkSupport.createEngine());
+        simulator.getEngine().setHeroPolicy(policy);
+        seed = BenchmarkSupport.SEED;
+    }
+
+    /**
+     * Choose the abilities of one turn.
+     *
+     * @return Amount of abilities chosen
+     */
+    @Benchmark
+    public int chooseAbilities() {
+        return policy.chooseAbilities(cleric, engine, chosen);
+    }
+
+    /**
+     * Run a full campaign with heroes using the policy.
+     *
+     * @return The outcome of the campaign
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public CampaignResult campaign() {
+        return simulator.runCampaign(seed++);
+    }
+}
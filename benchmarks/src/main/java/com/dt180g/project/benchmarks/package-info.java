@@ -0,0 +1,4 @@
+/**
+ * JMH benchmarks for the combat hot paths, gear selection, XML loading and full campaigns.
+ */
+package com.dt180g.project.benchmarks;
@@ -0,0 +1,62 @@
+package com.dt180g.project;
+
+import com.dt180g.project.policies.DecisionPolicy;
+import com.dt180g.project.policies.RandomPolicy;
+import com.dt180g.project.simulation.BatchStatistics;
+import com.dt180g.project.simulation.ParallelBatchRunner;
+import com.dt180g.project.support.ActivityLogger;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Starting point for headless batch simulation.
+ * Runs a number of complete campaigns without user interaction or logging,
+ * and reports aggregated statistics about the outcomes.
+ * @author Samuel Thand
+ */
+public final class BatchProject {
+    private BatchProject() { }
+
+    /**
+     * Run the requested amount of campaigns and print the aggregated statistics.
+     * @param args command arguments. The first argument may state the amount of campaigns to run,
+     *             the second the amount of worker threads (defaults to all available processors)
+     *             the third the master seed (defaults to the system clock), the fourth
+     *             a directory to record binary combat events in (not recorded by default, "-" to skip)
+     *             the fifth a directory to keep random journals of lost campaigns in, for replay
+     *             with ReplayProject (not recorded by default, "-" to skip) and the sixth the policy of
+     *             the heroes: random (default), greedy, heal, heal:percent or a priority table file.
+     * @throws IOException if the priority table cannot be loaded.
+     */
+    public static void main(final String... args) throws IOException {
+        final int defaultCampaigns = 1000;
+        int campaigns = (args.length > 0) ? Integer.parseInt(args[0]) : defaultCampaigns;
+        ParallelBatchRunner runner = (args.length > 1)
+                ? new ParallelBatchRunner(Integer.parseInt(args[1])) : new ParallelBatchRunner();
+        long masterSeed = (args.length > 2) ? Long.parseLong(args[2]) : System.nanoTime();
+        final int eventDirectoryArg = 3;
+        if (args.length > eventDirectoryArg && !args[eventDirectoryArg].equals("-")) {
+            runner.setEventDirectory(Path.of(args[eventDirectoryArg]));
+        }
+        final int journalDirectoryArg = 4;
+        if (args.length > journalDirectoryArg && !args[journalDirectoryArg].equals("-")) {
+            runner.setJournalDirectory(Path.of(args[journalDirectoryArg]));
+        }
+
+        final int policyArg = 5;
+        if (args.length > policyArg) {
+            runner.setPolicies(DecisionPolicy.forName(args[policyArg]), RandomPolicy.INSTANCE);
+        }
+
+        ActivityLogger.INSTANCE.setEnabled(false);  // no console output or sleep delays
+
+        long start = System.nanoTime();
+        BatchStatistics statistics = runner.run(campaigns, masterSeed);
+        final double nanosPerSecond = 1e9;
+        double seconds = (System.nanoTime() - start) / nanosPerSecond;
+
+        System.out.println(statistics);
+        System.out.println(String.format("Simulated %d campaigns on %d threads in %.2f s (%.0f campaigns/s), seed %d",
+                campaigns, runner.getThreads(), seconds, campaigns / seconds, masterSeed));
+    }
+}
@@ -0,0 +1,36 @@
+package com.dt180g.project;
+
+import com.dt180g.project.gear.BinaryGearCatalog;
+import com.dt180g.project.gear.GearManager;
+import com.dt180g.project.support.IOHelper;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Starting point for compiling the XML gear catalogs into a binary catalog.
+ * The game loads the binary catalog at startup instead of parsing XML, for as long
+ * as it is at least as new as the XML catalogs.
+ * @author Samuel Thand
+ */
+public final class CatalogCompilerProject {
+    private CatalogCompilerProject() { }
+
+    /**
+     * Compile the gear catalogs and report the result.
+     * @param args command arguments. The first argument may state the binary catalog to write
+     *             (defaults to gear.bin among the game resources), the second and third the
+     *             weapon and armor XML catalogs (default to the catalogs among the game resources).
+     * @throws IOException if a catalog cannot be read or is invalid, or the output cannot be written.
+     */
+    public static void main(final String... args) throws IOException {
+        Path output = (args.length > 0) ? Path.of(args[0]) : IOHelper.getResourcePath(GearManager.BINARY_CATALOG);
+        Path weapons = (args.length > 1) ? Path.of(args[1]) : IOHelper.getResourcePath(GearManager.WEAPON_CATALOG);
+        final int armorArg = 2;
+        Path armor = (args.length > armorArg)
+                ? Path.of(args[armorArg]) : IOHelper.getResourcePath(GearManager.ARMOR_CATALOG);
+
+        int gearPieces = BinaryGearCatalog.compile(weapons, armor, output);
+        System.out.println(String.format("Compiled %d gear pieces from %s and %s into %s",
+                gearPieces, weapons, armor, output));
+    }
+}
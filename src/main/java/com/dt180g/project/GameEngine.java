@@ -3,43 +3,183 @@ package com.dt180g.project;
 import com.dt180g.project.abilities.AbilityInfo;
 
 import com.dt180g.project.characters.BaseCharacter;
+import com.dt180g.project.characters.CharacterRoster;
+import com.dt180g.project.characters.DamageResolution;
+import com.dt180g.project.characters.TurnScheduler;
 import com.dt180g.project.characters.enemies.*;
 import com.dt180g.project.characters.heroes.*;
 
-import com.dt180g.project.support.ActivityLogger;
+import com.dt180g.project.events.CombatEventListener;
+import com.dt180g.project.events.ConsoleCombatLogger;
+
+import com.dt180g.project.policies.DecisionPolicy;
+import com.dt180g.project.policies.RandomPolicy;
+
 import com.dt180g.project.support.Constants;
 import com.dt180g.project.support.Randomizer;
+import com.dt180g.project.support.SimulationConfig;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
 
 /**
  * Entity responsible for game state and character activities.
+ * Each instance represents an independent simulation, so several games may run in parallel.
  * @author Erik Ström
  */
 public final class GameEngine {
-    public static final GameEngine INSTANCE = new GameEngine();
-    private final List<BaseHero> heroes;
-    private final List<BaseEnemy> enemies = new LinkedList<>();
+    private final CharacterRoster<BaseHero> heroes = new CharacterRoster<>();
+    private final CharacterRoster<BaseEnemy> enemies = new CharacterRoster<>();
+    private final TurnScheduler turnOrder = new TurnScheduler();
     private final List<String> enemyTypes;
+    private final Randomizer random;
+    private CombatEventListener events = ConsoleCombatLogger.INSTANCE;
+    private DecisionPolicy heroPolicy = RandomPolicy.INSTANCE;
+    private DecisionPolicy enemyPolicy = RandomPolicy.INSTANCE;
+    private SimulationConfig config = SimulationConfig.DEFAULT;
+
+    /**
+     * Constructor initialising needed members, with a random stream seeded from the system clock.
+     */
+    public GameEngine() {
+        this(new Randomizer());
+    }
 
     /**
      * Constructor initialising needed members.
+     * @param random the random stream all randomness of this game is drawn from.
      */
-    private GameEngine() {
-        heroes = new ArrayList<>(Arrays.asList(
-                new Warrior("Leila"), new Ranger("Allan"),
-                new Wizard("Elvira"), new Cleric("Kevin")));
+    public GameEngine(final Randomizer random) {
+        this.random = random;
+        produceHeroes();
 
         enemyTypes = Arrays.asList(
                 Constants.ENEMY_SKELETON_WARRIOR, Constants.ENEMY_SKELETON_ARCHER, Constants.ENEMY_SKELETON_MAGE);
     }
 
+    /**
+     * Fill list of heroes with a freshly equipped party.
+     */
+    private void produceHeroes() {
+        heroes.clear();
+        heroes.addAll(Arrays.asList(
+                new Warrior("Leila", random), new Ranger("Allan", random),
+                new Wizard("Elvira", random), new Cleric("Kevin", random)));
+    }
+
+    /**
+     * Replace the heroes with a party of the stated size, cycling through the hero classes.
+     * Heroes are named after their position in the party, e.g. "Hero 3".
+     * @param amountOfHeroes the amount of heroes to produce.
+     */
+    public void produceParty(final int amountOfHeroes) {
+        heroes.clear();
+
+        final int heroClasses = 4;
+        for (int i = 0; i < amountOfHeroes; i++) {
+            String name = "Hero " + (i + 1);
+            switch (i % heroClasses) {
+                case 0: heroes.add(new Warrior(name, random)); break;
+                case 1: heroes.add(new Ranger(name, random)); break;
+                case 2: heroes.add(new Wizard(name, random)); break;
+                default: heroes.add(new Cleric(name, random));
+            }
+        }
+    }
+
+    /**
+     * Used to start over with a new party and no enemies, e.g. between simulated campaigns.
+     */
+    public void resetGame() {
+        produceHeroes();
+        enemies.clear();
+    }
+
+    /**
+     * Used to start over with a new party and no enemies, reseeding the random stream first.
+     * The same seed will always produce the same game.
+     * @param seed the seed for the random stream.
+     */
+    public void resetGame(final long seed) {
+        random.setState(seed);
+        resetGame();
+    }
+
+    /**
+     * Accessor to get the random stream of this game.
+     * @return the random stream.
+     */
+    public Randomizer getRandomizer() { return random; }
+
+    /**
+     * Set the listener receiving all combat events of this game, console logging by default.
+     * @param listener the listener to emit combat events to.
+     */
+    public void setCombatEventListener(final CombatEventListener listener) { this.events = listener; }
+
+    /**
+     * Retrieve the listener receiving all combat events of this game.
+     * @return the combat event listener.
+     */
+    public CombatEventListener getCombatEventListener() { return events; }
+
+    /**
+     * Set the policy choosing the abilities of the heroes, random abilities by default.
+     * @param policy the decision policy of the heroes.
+     */
+    public void setHeroPolicy(final DecisionPolicy policy) { this.heroPolicy = policy; }
+
+    /**
+     * Retrieve the policy choosing the abilities of the heroes.
+     * @return the decision policy of the heroes.
+     */
+    public DecisionPolicy getHeroPolicy() { return heroPolicy; }
+
+    /**
+     * Set the policy choosing the abilities of the enemies, random abilities by default.
+     * @param policy the decision policy of the enemies.
+     */
+    public void setEnemyPolicy(final DecisionPolicy policy) { this.enemyPolicy = policy; }
+
+    /**
+     * Retrieve the policy choosing the abilities of the enemies.
+     * @return the decision policy of the enemies.
+     */
+    public DecisionPolicy getEnemyPolicy() { return enemyPolicy; }
+
+    /**
+     * Set the balance parameters of this game, the values of the constants by default.
+     * @param config the balance parameters.
+     */
+    public void setConfig(final SimulationConfig config) { this.config = config; }
+
+    /**
+     * Retrieve the balance parameters of this game.
+     * @return the balance parameters.
+     */
+    public SimulationConfig getConfig() { return config; }
+
+    /**
+     * Used by client to announce the start of a new round.
+     * @param dungeonLevel the current dungeon level.
+     * @param round the round on the dungeon level.
+     */
+    public void startRound(final int dungeonLevel, final int round) {
+        events.onRoundStart(dungeonLevel, round, heroes.size(), enemies.size());
+    }
+
+    /**
+     * Used by characters to announce the start of their turn.
+     * @param character the character about to act.
+     */
+    public void startTurn(final BaseCharacter character) {
+        events.onTurnStart(character.getCharacterName(), character instanceof BaseHero,
+                character.getActionPoints(), character.getHitPoints(), character.getEnergyLevel());
+    }
+
     /**
      * Get index of targets for character ability.
      * @param amountOfTargets the number of targets needed
@@ -50,7 +190,7 @@ public final class GameEngine {
         List<Integer> targets = new ArrayList<>();
 
         while (targets.size() < amountOfTargets) {
-            int randVal = Randomizer.INSTANCE.getRandomValue(listSize - 1);
+            int randVal = random.getRandomValue(listSize - 1);
             targets.add(randVal);
         }
         return targets;
@@ -96,6 +236,25 @@ public final class GameEngine {
         return allCharacters;
     }
 
+    /**
+     * Used to schedule the turns of a new round, highest action points act first.
+     * @return turn order of remaining heroes and enemies, reused between rounds.
+     */
+    public TurnScheduler scheduleTurns() {
+        turnOrder.schedule(heroes, enemies);
+        return turnOrder;
+    }
+
+    /**
+     * Used to continue a round in progress, e.g. when restoring a saved game.
+     * @param remainingTurns characters still to act in the round, in acting order.
+     * @return turn order holding the remaining turns, reused between rounds.
+     */
+    public TurnScheduler restoreTurns(final List<? extends BaseCharacter> remainingTurns) {
+        turnOrder.restore(remainingTurns);
+        return turnOrder;
+    }
+
     /**
      * Descriptor method, used to determine if there are heroes left.
      * @return whether there are heroes remaining.
@@ -117,22 +276,22 @@ public final class GameEngine {
         enemies.clear();  // be sure we start with an empty list
 
         if (finalBoss) {  // only add the final boss
-            enemies.add(new LichLord());
+            enemies.add(new LichLord(random, config.getBossHealthMultiplier()));
             return;
         }
 
         Map<String, Integer> amountOfTypes = new HashMap<>();
         for (int i = 0; i < amountOfEnemies; i++) {
-            int randVal = Randomizer.INSTANCE.getRandomValue(enemyTypes.size() - 1);
+            int randVal = random.getRandomValue(enemyTypes.size() - 1);
             String randStr = enemyTypes.get(randVal);
 
             int enemyCounter = (amountOfTypes.containsKey(randStr)) ? amountOfTypes.get(randStr) + 1 : 1;
             amountOfTypes.put(randStr, enemyCounter);
 
             switch (randStr) {
-                case Constants.ENEMY_SKELETON_ARCHER: enemies.add(new SkeletonArcher(enemyCounter)); break;
-                case Constants.ENEMY_SKELETON_MAGE: enemies.add(new SkeletonMage(enemyCounter)); break;
-                default: enemies.add(new SkeletonWarrior(enemyCounter));
+                case Constants.ENEMY_SKELETON_ARCHER: enemies.add(new SkeletonArcher(enemyCounter, random)); break;
+                case Constants.ENEMY_SKELETON_MAGE: enemies.add(new SkeletonMage(enemyCounter, random)); break;
+                default: enemies.add(new SkeletonWarrior(enemyCounter, random));
             }
         }
     }
@@ -141,119 +300,100 @@ public final class GameEngine {
 
     /**
      * Used internally by Game Engine to perform character attacks.
-     * @param targetList list containing character types which the attack targets.
+     * @param targetList roster containing character types which the attack targets.
      * @param abilityInfo information about the ability to base the attack.
+     * @param damage base damage of the attack, negative for heals.
      * @param critMultiplier multiplier for attack value (critical hit).
      */
-    private void performCharacterAttack(final List<? extends BaseCharacter> targetList, final AbilityInfo abilityInfo,
+    private void performCharacterAttack(final CharacterRoster<? extends BaseCharacter> targetList,
+                                        final AbilityInfo abilityInfo, final int damage,
                                         final int critMultiplier) {
-        List<BaseCharacter> toDie = new ArrayList<>();
-
         for (int charPos : getTargetIndexPos(abilityInfo.getAmountOfTargets(), targetList.size())) {
-            BaseCharacter character = targetList.get(charPos);  // current target
-
-            if (toDie.contains(character)) {  // already marked for death? No need to continue then!
+            if (!targetList.isAlive(charPos)) {  // already marked for death? No need to continue then!
                 continue;
             }
+            BaseCharacter character = targetList.get(charPos);  // current target
 
-            final int critUpperBound = 9;
-            boolean addCrit = Randomizer.INSTANCE.getRandomValue(1, critUpperBound)
-                    <= Constants.CRIT_CHANCE;
-            int damage = (addCrit)
-                    ? abilityInfo.getDamage() * critMultiplier : abilityInfo.getDamage();
-
-            String baseInfo = String.format("%s%s", (addCrit) ? "[CRITICAL HIT] " : "", character.getCharacterName());
+            boolean addCrit = random.getRandomValue(1, SimulationConfig.CRIT_ROLLS)
+                    <= config.getCritChance();
+            int value = (addCrit) ? damage * critMultiplier : damage;
 
             if (abilityInfo.isHeal()) {  // is the intention to heal?
-                String logInfo = String.format("%s receives %+d points of healing",
-                        baseInfo, -damage);  // heal by damage amount
-                ActivityLogger.INSTANCE.logHealing(String.format("%s and has %d HP left",
-                        logInfo, character.registerHealing(-damage)));
+                int hitPointsLeft = character.registerHealing(-value);  // heal by damage amount
+                events.onHeal(character.getCharacterName(), addCrit, -value, hitPointsLeft);
                 continue;
             }
 
             /*
-                We have a damaging attack. Get damage information as a list of two values.
+                We have a damaging attack. Get damage information as two values packed in a long.
                 The first value is the amount deflected from protective gear, while the
                 other is actual damage made. Magic abilities cannot be mitigated!
              */
-            List<Integer> damageInfo = character.registerDamage(damage, abilityInfo.isMagic());
-
-            String logInfo = String.format("%s deflects %d points of damage taking %d as direct hit",
-                    baseInfo, damageInfo.get(0), damageInfo.get(1));
+            long damageInfo = character.resolveDamage(value, abilityInfo.isMagic());
 
+            events.onDamage(character.getCharacterName(), addCrit, DamageResolution.getMitigatedDamage(damageInfo),
+                    DamageResolution.getActualDamage(damageInfo), character.getHitPoints());
 
             if (character.getHitPoints() < 1) {  // 0 or less HP means death!
-                ActivityLogger.INSTANCE.logDeath(String.format("%s causing death (%d HP)",
-                        logInfo, character.getHitPoints()));
-                toDie.add(character);  // schedule for removal
-                continue;
+                events.onDeath(character.getCharacterName());
+                targetList.markDead(charPos);  // schedule for removal
             }
-
-            ActivityLogger.INSTANCE.logDamage(String.format("%s and has %d HP left",
-                    logInfo, character.getHitPoints()));
         }
 
         /*
-            Clean up dead characters from target list. Note that we could have placed each target
-            to be removed in a Set and simply used method removeAll, instead of full iteration.
-            However, in order for it to be efficient character classes would need to override equals().
+            Clean up dead characters from target list. The roster only visits its slots when
+            something was marked dead, and fills each freed slot with its last character.
          */
-        ListIterator<? extends BaseCharacter> iter = targetList.listIterator();
-        while (iter.hasNext()) {
-            if (iter.next().isDead()) {
-                iter.remove();
-            }
-        }
+        targetList.removeDead();
     }
 
     /**
      * Used internally by Game Engine for hero specific attack.
      * @param abilityInfo information about the ability to base the attack.
+     * @param damage base damage of the attack, negative for heals.
      * @return whether the attack has been performed successfully.
      */
-    private boolean heroAttack(final AbilityInfo abilityInfo) {
+    private boolean heroAttack(final AbilityInfo abilityInfo, final int damage) {
         if (enemies.isEmpty()) {
-            ActivityLogger.INSTANCE.logAttack("All enemies are dead...");
+            events.onNoTargets(true);
             return false;
         }
 
-        int amountOfTargets = abilityInfo.getAmountOfTargets();
-        String targets = (amountOfTargets == 1) ? "enemy" : "enemies";
-        ActivityLogger.INSTANCE.logAttack(String.format("%s targeting %d %s",
-                abilityInfo.getInformation(), amountOfTargets, targets));
-        performCharacterAttack(enemies, abilityInfo, Constants.HERO_CRIT_MULTIPLIER);
+        events.onAbilityUsed(abilityInfo, abilityInfo.getAmountOfTargets(),
+                true, abilityInfo.isMagic(), abilityInfo.isHeal(), damage);
+        performCharacterAttack(enemies, abilityInfo, damage, config.getHeroCritMultiplier());
         return true;
     }
 
     /**
      * Used internally by Game Engine for enemy specific attack.
      * @param abilityInfo information about the ability to base the attack.
+     * @param damage base damage of the attack, negative for heals.
      * @return whether the attack has been performed successfully.
      */
-    private boolean enemyAttack(final AbilityInfo abilityInfo) {
+    private boolean enemyAttack(final AbilityInfo abilityInfo, final int damage) {
         if (heroes.isEmpty()) {
-            ActivityLogger.INSTANCE.logAttack("All heroes are dead...");
+            events.onNoTargets(false);
             return false;
         }
 
-        int amountOfTargets = abilityInfo.getAmountOfTargets();
-        String targets = (amountOfTargets == 1) ? "hero" : "heroes";
-        ActivityLogger.INSTANCE.logAttack(String.format("%s targeting %d %s",
-                abilityInfo.getInformation(), amountOfTargets, targets));
-        performCharacterAttack(heroes, abilityInfo, Constants.ENEMY_CRIT_MULTIPLIER);
+        events.onAbilityUsed(abilityInfo, abilityInfo.getAmountOfTargets(),
+                false, abilityInfo.isMagic(), abilityInfo.isHeal(), damage);
+        performCharacterAttack(heroes, abilityInfo, damage, config.getEnemyCritMultiplier());
         return true;
     }
 
     /**
      * Used by client to request that the engine performs an attack.
      * @param abilityInfo information about the ability to base the attack.
+     * @param damage base damage of the attack, negative for heals.
+     * @param targetEnemies whether enemies or heroes should be targeted.
      * @return whether the attack has been performed successfully.
      */
-    public boolean characterAttack(final AbilityInfo abilityInfo) {
-        if (abilityInfo.getTargetEnemies()) {
-            return heroAttack(abilityInfo);
+    public boolean characterAttack(final AbilityInfo abilityInfo, final int damage, final boolean targetEnemies) {
+        if (targetEnemies) {
+            return heroAttack(abilityInfo, damage);
         }
-        return enemyAttack(abilityInfo);
+        return enemyAttack(abilityInfo, damage);
     }
 }
@@ -1,6 +1,7 @@
 package com.dt180g.project;
 
 import com.dt180g.project.characters.BaseCharacter;
+import com.dt180g.project.characters.TurnScheduler;
 import com.dt180g.project.characters.heroes.BaseHero;
 
 import com.dt180g.project.support.ActivityLogger;
@@ -19,33 +20,12 @@ import java.util.List;
  * @author Erik Ström
  */
 public class GameRunner {
-    private final GameEngine engine = GameEngine.INSTANCE;  // reference to game engine
+    private final GameEngine engine = new GameEngine();     // the game engine for this game
     private final PrintStream out = System.out;             // our standard output stream
     private int currentDungeonLevel = Constants.DUNGEON_START_LEVEL;
     private int currentRound = 0;       // counter for the amount of rounds in level
     private boolean endGame = false;    // condition to end game
 
-    private interface CharacterType {  // for easy enumeration of character types
-        int ALL = 0;
-        int HEROES = 1;
-        int ENEMIES = 2;
-    }
-
-    /**
-     * Used internally by Game Runner to access remaining characters from Game Engine.
-     * @param type type of characters which should be collected.
-     * @return list of characters which has been collected from engine.
-     */
-    private List<? extends BaseCharacter> getCharacters(final int type) {
-        if (type == CharacterType.ENEMIES) {
-            return engine.getEnemies();
-        }
-        if (type == CharacterType.HEROES) {
-            return engine.getHeroes();
-        }
-        return engine.getAllCharacters();
-    }
-
     /**
      * Used internally by Game Runner to produce information about specific characters.
      * @param characters list of characters to view information about.
@@ -118,29 +98,23 @@ public class GameRunner {
     private void runRound() {
         ++currentRound;
 
-        final int repeatAmount = 15;
-        String filler = "*".repeat(repeatAmount);
-        String logInfo = String.format("%n%s DUNGEON LEVEL %d | ROUND %d | %d HEROES | %d ENEMIES %s",
-                filler, currentDungeonLevel, currentRound, engine.getAmountOfHeroes(),
-                engine.getAmountOfEnemies(), filler);
-        ActivityLogger.INSTANCE.logRoundInfo(logInfo);
-
-        // Get all characters, both heroes and enemies
-        List<? extends BaseCharacter> characters = getCharacters(CharacterType.ALL);
+        engine.startRound(currentDungeonLevel, currentRound);
 
-        // Sort based on action points in descending order. Highest AP rate will act first
-        characters.sort((c1, c2) -> c2.getActionPoints() - c1.getActionPoints());
+        // Schedule all characters, both heroes and enemies. Highest AP rate will act first
+        TurnScheduler turnOrder = engine.scheduleTurns();
 
-        for (BaseCharacter character : characters) {
+        for (int turn = 0; turn < turnOrder.size(); turn++) {
+            BaseCharacter character = turnOrder.get(turn);
             if (currentRound > 1) {  // replenish some AP and Energy for all characters
-                character.roundReset();
+                character.roundReset(engine.getConfig().getRoundResetActionPoints(),
+                        engine.getConfig().getRoundResetEnergy());
             }
 
             if (character.isDead()) {  // ignore late updates regarding list removals
                 continue;
             }
 
-            character.doTurn();
+            character.doTurn(engine);
 
             if (!engine.heroesRemaining()) {
                 endGame = true;  // game over
@@ -159,7 +133,7 @@ public class GameRunner {
      */
     private void runDungeonLevel(final int difficulty) {
         // Produce the amount of enemies we need. Final level will only have a single boss
-        int additionalEnemies = (currentDungeonLevel == 1) ? 0 : Constants.ENEMIES_MULTIPLIER;
+        int additionalEnemies = (currentDungeonLevel == 1) ? 0 : engine.getConfig().getEnemiesMultiplier();
         engine.produceEnemies(difficulty * additionalEnemies, currentDungeonLevel == 1);
 
         // Make sure remaining heroes are rested before entering dungeon level
@@ -174,6 +148,7 @@ public class GameRunner {
             runRound();  // do round
         }
 
+        ActivityLogger.INSTANCE.flush();  // finish printing the level before the menu
         out.println();
     }
 
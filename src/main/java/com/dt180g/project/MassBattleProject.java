@@ -0,0 +1,39 @@
+package com.dt180g.project;
+
+import com.dt180g.project.simulation.MassBattle;
+import com.dt180g.project.simulation.MassBattleResult;
+import com.dt180g.project.support.ActivityLogger;
+
+/**
+ * Starting point for the mass battle stress scenario.
+ * Fights a single battle between a large party and a large horde of enemies
+ * without user interaction or logging, and reports the outcome.
+ * @author Samuel Thand
+ */
+public final class MassBattleProject {
+    private MassBattleProject() { }
+
+    /**
+     * Fight a mass battle and print its outcome.
+     * @param args command arguments. The first argument may state the amount of heroes (default 10000),
+     *             the second the amount of enemies (default 10000) and the third the seed
+     *             (defaults to the system clock).
+     */
+    public static void main(final String... args) {
+        final int defaultSize = 10_000;
+        int heroes = (args.length > 0) ? Integer.parseInt(args[0]) : defaultSize;
+        int enemies = (args.length > 1) ? Integer.parseInt(args[1]) : defaultSize;
+        long seed = (args.length > 2) ? Long.parseLong(args[2]) : System.nanoTime();
+
+        ActivityLogger.INSTANCE.setEnabled(false);  // no console output or sleep delays
+
+        long start = System.nanoTime();
+        MassBattleResult result = new MassBattle(heroes, enemies).run(seed);
+        final double nanosPerSecond = 1e9;
+        double seconds = (System.nanoTime() - start) / nanosPerSecond;
+
+        System.out.println(result);
+        System.out.println(String.format("%d heroes against %d enemies in %.2f s (%.0f turns/s), seed %d",
+                heroes, enemies, seconds, result.getTurns() / seconds, seed));
+    }
+}
@@ -0,0 +1,67 @@
+package com.dt180g.project;
+
+import com.dt180g.project.policies.MctsPolicy;
+import com.dt180g.project.simulation.BatchStatistics;
+import com.dt180g.project.simulation.CampaignResult;
+import com.dt180g.project.simulation.CampaignSimulator;
+import com.dt180g.project.support.ActivityLogger;
+import com.dt180g.project.support.Constants;
+import com.dt180g.project.support.Randomizer;
+
+/**
+ * Starting point for campaigns where the heroes decide their abilities by Monte Carlo tree search,
+ * while the enemies keep using random abilities. Campaigns are seeded like those of BatchProject, so
+ * running BatchProject with the same master seed compares the search with the random heroes.
+ * @author Samuel Thand
+ */
+public final class MctsProject {
+    private MctsProject() { }
+
+    /**
+     * Run the requested amount of campaigns and print the outcome of each and the aggregated statistics.
+     * @param args command arguments. The first argument may state the amount of campaigns to run, the second
+     *             the amount of playouts per decision, the third the amount of worker threads (defaults to
+     *             all available processors), the fourth the master seed (defaults to the system clock)
+     *             and the fifth a time budget per decision in milliseconds (none by default).
+     */
+    public static void main(final String... args) {
+        final int defaultCampaigns = 10;
+        final int defaultIterations = 1000;
+        final int threadsArg = 2;
+        final int seedArg = 3;
+        final int timeArg = 4;
+        int campaigns = (args.length > 0) ? Integer.parseInt(args[0]) : defaultCampaigns;
+        int iterations = (args.length > 1) ? Integer.parseInt(args[1]) : defaultIterations;
+        int threads = (args.length > threadsArg)
+                ? Integer.parseInt(args[threadsArg]) : Runtime.getRuntime().availableProcessors();
+        long masterSeed = (args.length > seedArg) ? Long.parseLong(args[seedArg]) : System.nanoTime();
+
+        ActivityLogger.INSTANCE.setEnabled(false);  // no console output or sleep delays
+
+        CampaignSimulator simulator = new CampaignSimulator(new GameEngine(new Randomizer(masterSeed)));
+        BatchStatistics statistics = new BatchStatistics(Constants.DUNGEON_START_LEVEL);
+        long start = System.nanoTime();
+        try (MctsPolicy policy = new MctsPolicy(simulator, threads, masterSeed)) {
+            policy.setIterationBudget(iterations);
+            if (args.length > timeArg) {
+                policy.setTimeBudget(Long.parseLong(args[timeArg]));
+            }
+            simulator.getEngine().setHeroPolicy(policy);
+
+            for (int i = 0; i < campaigns; i++) {
+                CampaignResult result = simulator.runCampaign(Randomizer.deriveSeed(masterSeed, i));
+                statistics.add(result);
+                System.out.println(String.format("CAMPAIGN %d | %s", i, result));
+            }
+
+            final double nanosPerMilli = 1e6;
+            double millis = (System.nanoTime() - start) / nanosPerMilli;
+            long decisions = Math.max(1, policy.getDecisions());
+            System.out.println(statistics);
+            System.out.println(String.format(
+                    "Made %d decisions on %d threads in %.0f ms (%.1f ms and %d playouts per decision), seed %d",
+                    policy.getDecisions(), threads, millis, millis / decisions, policy.getPlayouts() / decisions,
+                    masterSeed));
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.dt180g.project;
 
+import com.dt180g.project.support.ActivityLogger;
+
 /**
  * The main starting point for Project.
  * Responsible for creation of game running entity and trigger its simulation.
@@ -13,6 +15,7 @@ public final class Project {
      * @param args command arguments. Not relevant here.
      */
     public static void main(final String... args) {
+        ActivityLogger.INSTANCE.setAsynchronous(true);  // print combat while the next rounds are played
         new GameRunner().runGame();
     }
 }
@@ -0,0 +1,66 @@
+package com.dt180g.project;
+
+import com.dt180g.project.events.ConsoleCombatLogger;
+import com.dt180g.project.simulation.CampaignReplay;
+import com.dt180g.project.simulation.CampaignResult;
+import com.dt180g.project.support.ActivityLogger;
+import com.dt180g.project.support.RandomJournal;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Starting point for replaying a recorded campaign from its random journal, e.g. one kept by BatchProject.
+ * Without a round the campaign is replayed silently and its outcome reported. With a round the campaign
+ * is replayed silently up to that round, the heroes and enemies are shown as the round starts, and the
+ * rest of the campaign is replayed with console logging. The campaign is replayed with the policies and
+ * balance parameters stored in the journal.
+ * @author Samuel Thand
+ */
+public final class ReplayProject {
+    private ReplayProject() { }
+
+    /**
+     * Replay a campaign.
+     * @param args command arguments. The first argument is the journal file, the second and third
+     *             may state the dungeon level and round to inspect.
+     * @throws IOException if the journal cannot be read.
+     */
+    public static void main(final String... args) throws IOException {
+        final int roundArg = 2;
+        if (args.length != 1 && args.length != roundArg + 1) {
+            System.err.println("Usage: ReplayProject <journal> [<dungeon level> <round>]");
+            return;
+        }
+        RandomJournal journal = RandomJournal.read(Path.of(args[0]));
+        ActivityLogger.INSTANCE.setEnabled(false);  // no console output or sleep delays while fast forwarding
+
+        CampaignReplay replay = new CampaignReplay(journal);
+        if (args.length == 1) {
+            long start = System.nanoTime();
+            CampaignResult result = replay.replay();
+            final double nanosPerMilli = 1e6;
+            System.out.println(result);
+            System.out.println(String.format("Replayed %d draws of seed %d in %.2f ms",
+                    replay.getDrawsReplayed(), journal.getSeed(), (System.nanoTime() - start) / nanosPerMilli));
+            return;
+        }
+
+        int dungeonLevel = Integer.parseInt(args[1]);
+        int round = Integer.parseInt(args[roundArg]);
+        if (!replay.replayTo(dungeonLevel, round)) {
+            System.out.println(String.format("The campaign ended before round %d of dungeon level %d: %s",
+                    round, dungeonLevel, replay.replay()));
+            return;
+        }
+
+        System.out.println(String.format("DUNGEON LEVEL %d | ROUND %d | after %d draws",
+                dungeonLevel, round, replay.getDrawsReplayed()));
+        replay.getEngine().getAllCharacters().forEach(System.out::println);
+
+        ActivityLogger.INSTANCE.setAsynchronous(true);
+        ActivityLogger.INSTANCE.setEnabled(true);
+        CampaignResult result = replay.replay(ConsoleCombatLogger.INSTANCE, dungeonLevel, round);
+        ActivityLogger.INSTANCE.flush();
+        System.out.println(result);
+    }
+}
@@ -0,0 +1,102 @@
+package com.dt180g.project;
+
+import com.dt180g.project.simulation.ParallelBatchRunner;
+import com.dt180g.project.simulation.ParameterSweep;
+import com.dt180g.project.support.ActivityLogger;
+import com.dt180g.project.support.SimulationConfig;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Starting point for balance parameter sweeps.
+ * Runs a batch of campaigns for every point of a grid or random search over the balance parameters,
+ * and writes a CSV results table with the win rate and average rounds of every point.
+ * @author Samuel Thand
+ */
+public final class SweepProject {
+    private SweepProject() { }
+
+    /**
+     * Run the requested sweep and write its results table.
+     * @param args command arguments. The first argument states the amount of campaigns per point, the second
+     *             the amount of worker threads, the third the master seed, the fourth the CSV file to write
+     *             and the fifth the search: grid for every combination of the values, or random:N for N
+     *             random points. Every further argument sweeps a parameter, like CRIT_CHANCE=1,2,3 for a
+     *             list of values, or ENEMIES_MULTIPLIER=1:4 or ROUND_RESET_AP=0:10:2 for a range with an
+     *             optional step. Parameters not swept keep the values of the constants.
+     * @throws IOException if the results table cannot be written.
+     */
+    public static void main(final String... args) throws IOException {
+        final int firstAxisArg = 5;
+        if (args.length < firstAxisArg) {
+            System.out.println("Usage: SweepProject <campaigns> <threads> <seed> <table.csv> grid|random:N "
+                    + "[PARAMETER=a,b,c|PARAMETER=min:max[:step]]...");
+            return;
+        }
+        int campaigns = Integer.parseInt(args[0]);
+        ParallelBatchRunner runner = new ParallelBatchRunner(Integer.parseInt(args[1]));
+        long masterSeed = Long.parseLong(args[2]);
+        final int tableArg = 3;
+        final int searchArg = 4;
+        Path table = Path.of(args[tableArg]);
+
+        ParameterSweep sweep = new ParameterSweep(runner, SimulationConfig.DEFAULT);
+        for (int i = firstAxisArg; i < args.length; i++) {
+            String[] axis = args[i].split("=", 2);
+            if (axis.length != 2) {
+                throw new IllegalArgumentException("Expected PARAMETER=values, was " + args[i]);
+            }
+            sweep.addAxis(SimulationConfig.Parameter.valueOf(axis[0]), parseValues(axis[1]));
+        }
+
+        String search = args[searchArg];
+        List<SimulationConfig> points;
+        if (search.equals("grid")) {
+            points = sweep.gridPoints();
+        } else if (search.startsWith("random:")) {
+            points = sweep.randomPoints(Integer.parseInt(search.substring("random:".length())), masterSeed);
+        } else {
+            throw new IllegalArgumentException("Expected grid or random:N, was " + search);
+        }
+
+        ActivityLogger.INSTANCE.setEnabled(false);  // no console output or sleep delays
+
+        long start = System.nanoTime();
+        sweep.run(points, campaigns, masterSeed, table);
+        final double nanosPerSecond = 1e9;
+        double seconds = (System.nanoTime() - start) / nanosPerSecond;
+        System.out.println(String.format("Swept %d points of %d campaigns on %d threads in %.2f s, seed %d, wrote %s",
+                points.size(), campaigns, runner.getThreads(), seconds, masterSeed, table));
+    }
+
+    /**
+     * Parse the values of a parameter axis.
+     * @param values a comma separated list of values, or a range min:max with an optional :step.
+     * @return the values.
+     */
+    private static int[] parseValues(final String values) {
+        if (!values.contains(":")) {
+            String[] list = values.split(",");
+            int[] parsed = new int[list.length];
+            for (int i = 0; i < list.length; i++) {
+                parsed[i] = Integer.parseInt(list[i].trim());
+            }
+            return parsed;
+        }
+
+        String[] range = values.split(":");
+        final int stepPart = 2;
+        int min = Integer.parseInt(range[0]);
+        int max = Integer.parseInt(range[1]);
+        int step = (range.length > stepPart) ? Integer.parseInt(range[stepPart]) : 1;
+        if (step < 1 || max < min) {
+            throw new IllegalArgumentException("Invalid range " + values);
+        }
+        int[] parsed = new int[(max - min) / step + 1];
+        for (int i = 0; i < parsed.length; i++) {
+            parsed[i] = min + i * step;
+        }
+        return parsed;
+    }
+}
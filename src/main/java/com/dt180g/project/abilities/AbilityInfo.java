@@ -1,36 +1,74 @@
 package com.dt180g.project.abilities;
 
-public final class AbilityInfo {
-    private final String information;
+import java.util.function.Supplier;
+
+/**
+ * Support class describing an ability to the game engine. A descriptor is built once per ability
+ * instance and reused for every use, the values that change per use (damage and targeted side)
+ * are passed to the engine as primitives. The log information is only formatted the first time
+ * a consumer asks for it, which is why the descriptor doubles as a supplier of that text.
+ *
+ * @author Samuel Thand
+ */
+public final class AbilityInfo implements Supplier<String> {
+    private final BaseAbility ability;
     private final int amountOfTargets;
-    private final int damage;
-    private final boolean targetEnemies;
     private final boolean isMagic;
     private final boolean isHeal;
+    private String information;
 
     /**
-     * Support class to contain ability information to be passed to game engine.
+     * Create a descriptor for an ability, the log information is produced from it on demand.
+     *
+     * @param ability The described ability
+     */
+    AbilityInfo(final BaseAbility ability) {
+        this.ability = ability;
+        this.amountOfTargets = ability.getAmountOfTargets();
+        this.isMagic = ability.isMagic();
+        this.isHeal = ability.isHeal();
+    }
+
+    /**
+     * Create a descriptor with fixed log information, for attacks not backed by an ability.
+     *
      * @param info log information.
      * @param amountOfTargets number of targets for the ability.
-     * @param damage amount of attack damage.
-     * @param targetEnemies whether enemies or heroes should be targeted.
      * @param isMagic whether the ability is magical or physical.
      * @param isHeal whether the ability is healing or damaging.
      */
-    public AbilityInfo(final String info, final int amountOfTargets, final int damage,
-                       final boolean targetEnemies, final boolean isMagic, final boolean isHeal) {
+    public AbilityInfo(final String info, final int amountOfTargets, final boolean isMagic, final boolean isHeal) {
+        this.ability = null;
         this.information = info;
         this.amountOfTargets = amountOfTargets;
-        this.damage = damage;
-        this.targetEnemies = targetEnemies;
         this.isMagic = isMagic;
         this.isHeal = isHeal;
     }
 
-    public String getInformation() { return information; }
+    /**
+     * Get the log information, formatted from the ability and its costs on first request.
+     *
+     * @return Log information about the ability
+     */
+    public String getInformation() {
+        if (information == null) {
+            information = String.format("%s (-%s AP, -%s Energy)",
+                    ability, ability.getActionPointCost(), ability.getEnergyCost());
+        }
+        return information;
+    }
+
+    /**
+     * Same as {@link #getInformation()}, lets event sinks decide if they need the text at all.
+     *
+     * @return Log information about the ability
+     */
+    @Override
+    public String get() {
+        return getInformation();
+    }
+
     public int getAmountOfTargets() { return amountOfTargets; }
-    public int getDamage() { return damage; }
-    public boolean getTargetEnemies() { return targetEnemies; }
     public boolean isMagic() { return isMagic; }
     public boolean isHeal() { return isHeal; }
 
@@ -10,6 +10,7 @@ import com.dt180g.project.GameEngine;
 public abstract class BaseAbility {
     private final int actionPointCost;
     private final int energyCost;
+    private AbilityInfo abilityInfo;
 
     /**
      * Base constructor, initializes members.
@@ -24,23 +25,28 @@ public abstract class BaseAbility {
 
     /**
      * Send command to the game engine to execute a character attack.
-     * Uses the class AbilityInfo to pass needed information about the BaseAbility.
+     * The AbilityInfo describing this BaseAbility is built on first use and reused afterwards.
      *
-     * @param abilityInfo Text information about the ability
-     * @param targetAmount Amount of targets to attack
+     * @param engine The game engine to perform the attack in
      * @param damageOrHealAmount Value of damage or heal
      * @param targetEnemies The ability will target enemies
      * @return The attack was successfully performed
      */
-    protected final boolean performAbility(final String abilityInfo, final int targetAmount,
-                                           final int damageOrHealAmount, final boolean targetEnemies) {
-
-        String logMessage = String.format("%s (-%s AP, -%s Energy)", abilityInfo, actionPointCost, energyCost);
-
-        AbilityInfo abilityToExecute = new AbilityInfo(logMessage,
-                targetAmount, damageOrHealAmount, targetEnemies, isMagic(), isHeal());
+    protected final boolean performAbility(final GameEngine engine, final int damageOrHealAmount,
+                                           final boolean targetEnemies) {
+        return engine.characterAttack(getAbilityInfo(), damageOrHealAmount, targetEnemies);
+    }
 
-        return GameEngine.INSTANCE.characterAttack(abilityToExecute);
+    /**
+     * Get the descriptor of this BaseAbility, created the first time it is requested.
+     *
+     * @return abilityInfo member
+     */
+    public final AbilityInfo getAbilityInfo() {
+        if (abilityInfo == null) {
+            abilityInfo = new AbilityInfo(this);
+        }
+        return abilityInfo;
     }
 
     /**
@@ -86,9 +92,10 @@ public abstract class BaseAbility {
      * Used by BaseAbilities to call performAbility, with a base value
      * and amount of targets.
      *
+     * @param engine The game engine to perform the ability in
      * @param baseValue Base value of the Ability
      * @param targetEnemies Target enemies
      * @return The attack was successfully performed
      */
-    public abstract boolean execute(int baseValue, boolean targetEnemies);
+    public abstract boolean execute(GameEngine engine, int baseValue, boolean targetEnemies);
 }
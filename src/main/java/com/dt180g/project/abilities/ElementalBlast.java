@@ -1,5 +1,6 @@
 package com.dt180g.project.abilities;
 
+import com.dt180g.project.GameEngine;
 import com.dt180g.project.support.Constants;
 
 /**
@@ -50,8 +51,8 @@ public class ElementalBlast extends BaseAbility implements Constants {
      * {@inheritDoc}
      */
     @Override
-    public final boolean execute(final int baseValue, final boolean targetEnemies) {
-        return super.performAbility(toString(), getAmountOfTargets(), baseValue, targetEnemies);
+    public final boolean execute(final GameEngine engine, final int baseValue, final boolean targetEnemies) {
+        return super.performAbility(engine, baseValue, targetEnemies);
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.dt180g.project.abilities;
 
+import com.dt180g.project.GameEngine;
 import com.dt180g.project.support.Constants;
 
 /**
@@ -49,10 +50,10 @@ public class GroupHeal extends BaseAbility implements Constants {
      * to target the own team and do negative damage(heal).
      */
     @Override
-    public final boolean execute(int baseValue, boolean targetEnemies) {
+    public final boolean execute(final GameEngine engine, int baseValue, boolean targetEnemies) {
         targetEnemies = !targetEnemies;
         baseValue = -(baseValue);
-        return super.performAbility(toString(), getAmountOfTargets(), baseValue, targetEnemies);
+        return super.performAbility(engine, baseValue, targetEnemies);
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.dt180g.project.abilities;
 
+import com.dt180g.project.GameEngine;
 import com.dt180g.project.support.Constants;
 
 /**
@@ -44,9 +45,9 @@ public class HeavyAttack extends BaseAbility implements Constants {
      * {@inheritDoc}
      */
     @Override
-    public final boolean execute(final int baseValue, final boolean targetEnemies) {
-        return super.performAbility(toString(), getAmountOfTargets(),
-                baseValue * SINGLE_TARGET_ABILITY_MULTIPLIER, targetEnemies);
+    public final boolean execute(final GameEngine engine, final int baseValue, final boolean targetEnemies) {
+        int value = baseValue * engine.getConfig().getSingleTargetAbilityMultiplier();
+        return super.performAbility(engine, value, targetEnemies);
     }
 
     /**
@@ -1,12 +1,11 @@
 package com.dt180g.project.characters;
 
+import com.dt180g.project.GameEngine;
 import com.dt180g.project.abilities.BaseAbility;
+import com.dt180g.project.policies.DecisionPolicy;
 import com.dt180g.project.support.Constants;
-import com.dt180g.project.support.Randomizer;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Deque;
 import java.util.List;
 
 /**
@@ -17,6 +16,7 @@ import java.util.List;
 public abstract class BaseCharacter implements Constants {
     private final CharacterStats characterStats;
     private final CharacterEquipment equipment;
+    private final BaseAbility[] chosenAbilities = new BaseAbility[ACTIONS_PER_TURN];  // reused every turn
     private List<BaseAbility> abilities;
 
     /**
@@ -38,17 +38,6 @@ public abstract class BaseCharacter implements Constants {
         this.abilities = abilities;
     }
 
-    /**
-     * Get turn information for this BaseCharacter.
-     *
-     * @param characterType Character type to get turn information for
-     * @return Formatted string of turn information
-     */
-    protected String getTurnInformation(final String characterType) {
-        return String.format("%s | %s AP | %s HP | %s Energy", characterType,
-                getActionPoints(), getHitPoints(), getEnergyLevel());
-    }
-
     /**
      * Check if an ability can be afforded.
      *
@@ -62,12 +51,13 @@ public abstract class BaseCharacter implements Constants {
     }
 
     /**
-     * Determine the base value for the ability, depending on its type.
+     * Determine the base value for the ability, depending on its type. Decision policies use it to
+     * estimate what an ability would do before choosing it.
      *
      * @param ability BaseAbility to get the base value for
      * @return The base value for the ability
      */
-    private int determineAbilityBaseValue(final BaseAbility ability) {
+    public int determineAbilityBaseValue(final BaseAbility ability) {
         int attackRate = getCharacterStats().getAttackRate();
 
         int abilityBaseValue;
@@ -87,15 +77,18 @@ public abstract class BaseCharacter implements Constants {
 
     /**
      * Execute actions and register resources cost for these actions.
-     * Iterates over a queue of BaseAbilities, executes it if possible
+     * Iterates over the abilities chosen by the decision policy, executes each if possible
      * and registers the AP and Energy cost.
      *
+     * @param engine The game engine to execute the actions in
+     * @param policy The decision policy choosing the abilities
      * @param targetEnemies Target enemies
      */
-    protected void executeActions(final boolean targetEnemies) {
-        Deque<BaseAbility> queuedAbilities = determineActions();
+    protected void executeActions(final GameEngine engine, final DecisionPolicy policy, final boolean targetEnemies) {
+        int amountOfAbilities = policy.chooseAbilities(this, engine, chosenAbilities);
 
-        for (BaseAbility ability : queuedAbilities) {
+        for (int i = 0; i < amountOfAbilities; i++) {
+            BaseAbility ability = chosenAbilities[i];
             int costAP = ability.getActionPointCost();
             int costEnergy = ability.getEnergyCost();
 
@@ -103,7 +96,7 @@ public abstract class BaseCharacter implements Constants {
                 int abilityBaseValue = determineAbilityBaseValue(ability);
 
                 // Tries to execute current ability and stores result.
-                boolean abilityWasExecuted = ability.execute(abilityBaseValue, targetEnemies);
+                boolean abilityWasExecuted = ability.execute(engine, abilityBaseValue, targetEnemies);
 
                 if (!abilityWasExecuted) {
                     // Failed execution means no target was available, stops execution of queued abilities.
@@ -119,46 +112,27 @@ public abstract class BaseCharacter implements Constants {
     }
 
     /**
-     * Select a random index in a list.
-     *
-     * @param list to index into
-     * @return random index from the list
-     */
-    private int getRandomIndex(final List<?> list) {
-        int randomIndex = 0;
-        if (list.size() != 0) {
-            randomIndex = Randomizer.INSTANCE.getRandomValue(list.size() - 1);
-        }
-
-        return randomIndex;
-    }
-
-    /**
-     * Determine what actions to execute during a turn.
+     * Register incoming damage on this BaseCharacter.
      *
-     * @return Queue of abilities
+     * @param baseDamage Incoming base damage
+     * @param isMagicDamage Incoming damage is magic
+     * @return Two item list with 0: mitigated damage and 1: actual damage
      */
-    private Deque<BaseAbility> determineActions() {
-        List<BaseAbility> abilitiesFromMember = getAbilities();
-        ArrayDeque<BaseAbility> randomAbilities = new ArrayDeque<>();
-
-        for (int i = 0; i < ACTIONS_PER_TURN; i++) {
-            int randomindex = getRandomIndex(abilitiesFromMember);
-            BaseAbility randomAbility = abilitiesFromMember.get(randomindex);
-            randomAbilities.push(randomAbility);
-        }
+    public List<Integer> registerDamage(final int baseDamage, final boolean isMagicDamage) {
+        long resolution = resolveDamage(baseDamage, isMagicDamage);
 
-        return randomAbilities;
+        return new ArrayList<>(Arrays.asList(DamageResolution.getMitigatedDamage(resolution),
+                DamageResolution.getActualDamage(resolution)));
     }
 
     /**
-     * Register incoming damage on this BaseCharacter.
+     * Register incoming damage on this BaseCharacter without allocating a result.
      *
      * @param baseDamage Incoming base damage
      * @param isMagicDamage Incoming damage is magic
-     * @return Two item list with 0: mitigated damage and 1: actual damage
+     * @return Mitigated and actual damage packed by {@link DamageResolution#pack(int, int)}
      */
-    public List<Integer> registerDamage(final int baseDamage, final boolean isMagicDamage) {
+    public long resolveDamage(final int baseDamage, final boolean isMagicDamage) {
         CharacterStats stats = getCharacterStats();
 
         int mitigatedDamage;
@@ -173,7 +147,7 @@ public abstract class BaseCharacter implements Constants {
 
         stats.adjustHitPoints(-actualDamage);
 
-        return new ArrayList<>(Arrays.asList(mitigatedDamage, actualDamage));
+        return DamageResolution.pack(mitigatedDamage, actualDamage);
     }
 
     /**
@@ -197,13 +171,23 @@ public abstract class BaseCharacter implements Constants {
      * Replenish some AP and Energy after a round.
      */
     public void roundReset() {
+        roundReset(ROUND_RESET_AP, ROUND_RESET_ENERGY);
+    }
+
+    /**
+     * Replenish the provided amounts of AP and Energy after a round, capped at the totals.
+     *
+     * @param actionPoints The amount of action points to replenish
+     * @param energy The amount of energy to replenish
+     */
+    public void roundReset(final int actionPoints, final int energy) {
         CharacterStats stats = getCharacterStats();
 
         int APAmountUntilMax = stats.getTotalActionPoints() - stats.getCurrentActionPoints();
         int energyAmountUntilMax = stats.getTotalEnergyLevel() - stats.getCurrentEnergyLevel();
 
-        int APregen = Math.min(APAmountUntilMax, ROUND_RESET_AP);
-        int Energyregen = Math.min(energyAmountUntilMax, ROUND_RESET_ENERGY);
+        int APregen = Math.min(APAmountUntilMax, actionPoints);
+        int Energyregen = Math.min(energyAmountUntilMax, energy);
 
         stats.adjustActionPoints(APregen);
         stats.adjustEnergyLevel(Energyregen);
@@ -211,8 +195,10 @@ public abstract class BaseCharacter implements Constants {
 
     /**
      * Log turn information and call executeActions.
+     *
+     * @param engine The game engine the turn is played in
      */
-    public abstract void doTurn();
+    public abstract void doTurn(GameEngine engine);
 
     /**
      * Get the name of this BaseCharacter.
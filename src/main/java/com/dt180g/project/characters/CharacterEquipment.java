@@ -5,30 +5,38 @@ import com.dt180g.project.gear.Weapon;
 import com.dt180g.project.support.Constants;
 import com.dt180g.project.support.IOHelper;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Class responsible for managing a characters gear by storing and
- * providing a public interface for accessing these.
+ * providing a public interface for accessing these. Totals and slot counts
+ * are kept up to date by every operation changing the gear, so reading them
+ * costs no iteration.
  *
  * @author Samuel Thand
  */
 public class CharacterEquipment implements Constants {
 
     private final List<Weapon> weapons = new ArrayList<>();
+    private final List<Weapon> weaponsView = Collections.unmodifiableList(weapons);
     private final Map<String, Armor> armorPieces = new HashMap<>();
     private final int maxArmorSlots = 5;
     private final int maxWeaponSlots = 2;
+    private int totalWeaponDamage = 0;
+    private int totalArmorProtection = 0;
+    private int emptyWeaponSlots = maxWeaponSlots;
+    private int emptyArmorSlots = maxArmorSlots;
 
     /**
      * Get the weapons for this BaseCharacter.
      *
-     * @return the weapons for this BaseCharacter
+     * @return an unmodifiable view of the weapons for this BaseCharacter
      */
     public final List<Weapon> getWeapons() {
-        return weapons;
+        return weaponsView;
     }
 
     /**
@@ -46,11 +54,6 @@ public class CharacterEquipment implements Constants {
      * @return the total weapon damage for this BaseCharacter
      */
     public final int getTotalWeaponDamage() {
-        int totalWeaponDamage = 0;
-        for (Weapon weapon : weapons) {
-            totalWeaponDamage += weapon.getDamage();
-        }
-
         return totalWeaponDamage;
     }
 
@@ -60,30 +63,17 @@ public class CharacterEquipment implements Constants {
      * @return the total armor protection for this BaseCharacter
      */
     public final int getTotalArmorProtection() {
-        int totalArmorProtection = 0;
-        for (Armor armor : armorPieces.values()) {
-            totalArmorProtection += armor.getProtection();
-        }
-
         return totalArmorProtection;
     }
 
     /**
-     * Get the base amount of weapon slots for this BaseCharacter.
+     * Get the amount of weapon slots a weapon occupies.
      *
-     * @return the base amount of weapon slots for this BaseCharacter
+     * @param weapon The weapon
+     * @return 2 for two-handed weapons, otherwise 1
      */
-    private int getMaxWeaponSlots() {
-        return maxWeaponSlots;
-    }
-
-    /**
-     * Get the base amount of armor slots for this BaseCharacter.
-     *
-     * @return the base amount of weapon slots for this BaseCharacter
-     */
-    private int getMaxArmorSlots() {
-        return maxArmorSlots;
+    private static int getSlotRequirement(final Weapon weapon) {
+        return weapon.isTwoHanded() ? 2 : 1;
     }
 
     /**
@@ -92,16 +82,7 @@ public class CharacterEquipment implements Constants {
      * @return the amount of empty weapon slots for this BaseCharacter
      */
     public final int amountOfEmptyWeaponSlots() {
-        int emptySlots = getMaxWeaponSlots();
-        for (Weapon weapon : getWeapons()) {
-            if (weapon.isTwoHanded()) {
-                emptySlots -= 2;
-            } else {
-                emptySlots -= 1;
-            }
-        }
-
-        return emptySlots;
+        return emptyWeaponSlots;
     }
 
     /**
@@ -110,12 +91,7 @@ public class CharacterEquipment implements Constants {
      * @return the amount of empty armor slots for this BaseCharacter
      */
     public final int amountOfEmptyArmorSlots() {
-        int emptySlots = getMaxArmorSlots();
-        for (Armor ignored : armorPieces.values()) {
-            emptySlots -= 1;
-        }
-
-        return emptySlots;
+        return emptyArmorSlots;
     }
 
     /**
@@ -125,23 +101,36 @@ public class CharacterEquipment implements Constants {
      * @return The weapon was successfully added
      */
     public final boolean addWeapon(final Weapon newWeapon) {
-
-        int slotRequirement;
-        if (newWeapon.isTwoHanded()) {
-            slotRequirement = 2;
-        } else {
-            slotRequirement = 1;
-        }
-
+        int slotRequirement = getSlotRequirement(newWeapon);
         boolean weaponCanBeAdded = amountOfEmptyWeaponSlots() >= slotRequirement;
 
         if (weaponCanBeAdded) {
-            getWeapons().add(newWeapon);
+            weapons.add(newWeapon);
+            totalWeaponDamage += newWeapon.getDamage();
+            emptyWeaponSlots -= slotRequirement;
         }
 
         return weaponCanBeAdded;
     }
 
+    /**
+     * Remove a weapon from this BaseCharacter. Bonus stats granted by the
+     * weapon are not touched, those are the responsibility of the caller.
+     *
+     * @param weapon Weapon to remove
+     * @return The weapon was equipped and has been removed
+     */
+    public final boolean removeWeapon(final Weapon weapon) {
+        boolean weaponWasRemoved = weapons.remove(weapon);
+
+        if (weaponWasRemoved) {
+            totalWeaponDamage -= weapon.getDamage();
+            emptyWeaponSlots += getSlotRequirement(weapon);
+        }
+
+        return weaponWasRemoved;
+    }
+
     /**
      * Add an armor piece to this BaseCharacter.
      *
@@ -157,11 +146,57 @@ public class CharacterEquipment implements Constants {
 
         if (armorCanBeAdded) {
             armorPieces.put(slot, newArmor);
+            totalArmorProtection += newArmor.getProtection();
+            emptyArmorSlots--;
         }
 
         return armorCanBeAdded;
     }
 
+    /**
+     * Remove the armor piece in a slot from this BaseCharacter. Bonus stats granted
+     * by the armor piece are not touched, those are the responsibility of the caller.
+     *
+     * @param slot The slot to remove armor from
+     * @return The removed armor piece, or null if the slot was empty
+     */
+    public final Armor removeArmorPiece(final String slot) {
+        Armor removedArmor = armorPieces.remove(slot);
+
+        if (removedArmor != null) {
+            totalArmorProtection -= removedArmor.getProtection();
+            emptyArmorSlots++;
+        }
+
+        return removedArmor;
+    }
+
+    /**
+     * Replace the armor piece in a slot, which may be empty.
+     *
+     * @param slot The slot to put armor in
+     * @param newArmor The armor to put in the slot
+     * @return The replaced armor piece, or null if the slot was empty
+     */
+    public final Armor swapArmorPiece(final String slot, final Armor newArmor) {
+        Armor removedArmor = removeArmorPiece(slot);
+        addArmorPiece(slot, newArmor);
+
+        return removedArmor;
+    }
+
+    /**
+     * Remove all weapons and armor from this BaseCharacter.
+     */
+    public final void clear() {
+        weapons.clear();
+        armorPieces.clear();
+        totalWeaponDamage = 0;
+        totalArmorProtection = 0;
+        emptyWeaponSlots = maxWeaponSlots;
+        emptyArmorSlots = maxArmorSlots;
+    }
+
     /**
      * Get all information about this BaseCharacters equipment formatted as a table.
      * Takes weapon information, stores it as a list of lists of strings, each
@@ -199,7 +234,7 @@ public class CharacterEquipment implements Constants {
             weaponInfo.add((ANSI_WHITE + "|"));
 
             weaponInfo.add((ANSI_CYAN + weaponInSlot));
-            weaponInfo.add(String.format("%s%3s", ANSI_YELLOW, "+" + weaponInSlot.getStat().getModifiedValue()));
+            weaponInfo.add(String.format("%s%3s", ANSI_YELLOW, "+" + weaponInSlot.getBoostValue()));
 
             equipmentInfoRows.add(weaponInfo);
         }
@@ -219,7 +254,7 @@ public class CharacterEquipment implements Constants {
             armorInfo.add((ANSI_WHITE + "|"));
 
             armorInfo.add((ANSI_CYAN + armorPieceInSlot));
-            armorInfo.add(String.format("%s%3s", ANSI_YELLOW, "+" + armorPieceInSlot.getStat().getModifiedValue()));
+            armorInfo.add(String.format("%s%3s", ANSI_YELLOW, "+" + armorPieceInSlot.getBoostValue()));
 
             equipmentInfoRows.add(armorInfo);
         }
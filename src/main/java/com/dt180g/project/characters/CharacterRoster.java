@@ -0,0 +1,179 @@
+package com.dt180g.project.characters;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Array backed list of characters on one side of a battle, with constant time random access.
+ * Every slot carries an alive flag, so characters dying during an attack can be marked in constant
+ * time and removed together afterwards by swap-remove compaction. Compaction does not preserve
+ * the order of the remaining characters.
+ *
+ * @param <T> Type of characters in the roster
+ * @author Samuel Thand
+ */
+public final class CharacterRoster<T extends BaseCharacter> extends AbstractList<T> implements RandomAccess {
+    private static final int DEFAULT_CAPACITY = 8;
+    private BaseCharacter[] members = new BaseCharacter[DEFAULT_CAPACITY];
+    private boolean[] alive = new boolean[DEFAULT_CAPACITY];
+    private int size = 0;
+    private int dead = 0;
+
+    /**
+     * Make sure the roster can hold the specified amount of characters.
+     *
+     * @param capacity Amount of characters to hold
+     */
+    private void ensureCapacity(final int capacity) {
+        if (capacity > members.length) {
+            int newCapacity = Math.max(capacity, members.length * 2);
+            members = Arrays.copyOf(members, newCapacity);
+            alive = Arrays.copyOf(alive, newCapacity);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(final int index) {
+        Objects.checkIndex(index, size);
+        return (T) members[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Replace the character in a slot, the slot is considered alive afterwards.
+     *
+     * @param index Index of the slot
+     * @param character The new character
+     * @return The replaced character
+     */
+    @Override
+    public T set(final int index, final T character) {
+        T previous = get(index);
+        members[index] = character;
+        if (!alive[index]) {
+            alive[index] = true;
+            dead--;
+        }
+        return previous;
+    }
+
+    /**
+     * Insert a character, shifting the characters after it.
+     *
+     * @param index Index to insert at
+     * @param character The character to insert
+     */
+    @Override
+    public void add(final int index, final T character) {
+        Objects.checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        System.arraycopy(members, index, members, index + 1, size - index);
+        System.arraycopy(alive, index, alive, index + 1, size - index);
+        members[index] = character;
+        alive[index] = true;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Remove a character, shifting the characters after it to keep their order.
+     *
+     * @param index Index of the character to remove
+     * @return The removed character
+     */
+    @Override
+    public T remove(final int index) {
+        T removed = get(index);
+        if (!alive[index]) {
+            dead--;
+        }
+        System.arraycopy(members, index + 1, members, index, size - index - 1);
+        System.arraycopy(alive, index + 1, alive, index, size - index - 1);
+        members[--size] = null;
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Remove a character by moving the last character into its slot.
+     *
+     * @param index Index of the character to remove
+     * @return The removed character
+     */
+    public T swapRemove(final int index) {
+        T removed = get(index);
+        if (!alive[index]) {
+            dead--;
+        }
+        int last = --size;
+        members[index] = members[last];
+        alive[index] = alive[last];
+        members[last] = null;
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(members, 0, size, null);
+        size = 0;
+        dead = 0;
+        modCount++;
+    }
+
+    /**
+     * Check if the character in a slot is alive, that is not marked dead since the last compaction.
+     *
+     * @param index Index of the slot
+     * @return The character is alive
+     */
+    public boolean isAlive(final int index) {
+        Objects.checkIndex(index, size);
+        return alive[index];
+    }
+
+    /**
+     * Mark the character in a slot as dead, it stays in the roster until the dead are removed.
+     *
+     * @param index Index of the slot
+     */
+    public void markDead(final int index) {
+        Objects.checkIndex(index, size);
+        if (alive[index]) {
+            alive[index] = false;
+            dead++;
+        }
+    }
+
+    /**
+     * Remove all characters marked as dead. Slots are visited from the back, so every
+     * dead slot is filled by a character that is already known to be alive.
+     *
+     * @return Amount of removed characters
+     */
+    public int removeDead() {
+        int removed = dead;
+        for (int i = size - 1; dead > 0 && i >= 0; i--) {
+            if (!alive[i]) {
+                swapRemove(i);
+            }
+        }
+        return removed;
+    }
+}
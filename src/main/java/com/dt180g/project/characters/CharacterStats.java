@@ -3,14 +3,13 @@ package com.dt180g.project.characters;
 import com.dt180g.project.stats.Attribute;
 import com.dt180g.project.stats.BaseStat;
 import com.dt180g.project.stats.CombatStat;
+import com.dt180g.project.stats.StatType;
 import com.dt180g.project.stats.StatsManager;
 import com.dt180g.project.stats.Trait;
 import com.dt180g.project.support.Constants;
 import com.dt180g.project.support.IOHelper;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Class responsible for managing a characters stats by storing and
@@ -20,7 +19,8 @@ import java.util.Map;
  */
 public class CharacterStats implements Constants {
 
-    private final Map<String, BaseStat> stats = new HashMap<>();
+    // indexed by StatType ordinal, so the hot getters avoid hashing stat names
+    private final BaseStat[] stats = new BaseStat[StatType.values().length];
 
     /**
      * Constructor, initializes member stats.
@@ -43,8 +43,8 @@ public class CharacterStats implements Constants {
     private void initializeAttributes(final List<Integer> attributeBaseValues) {
         int attributeIndex = 0;
         for (String attributeName : StatsManager.INSTANCE.getAttributeNames()) {
-            stats.put(attributeName, new Attribute(attributeName,
-                    attributeBaseValues.get(attributeIndex) * ATTRIBUTE_BASE_VALUE));
+            stats[StatType.fromName(attributeName).ordinal()] = new Attribute(attributeName,
+                    attributeBaseValues.get(attributeIndex) * ATTRIBUTE_BASE_VALUE);
             attributeIndex += 1;
         }
     }
@@ -64,7 +64,7 @@ public class CharacterStats implements Constants {
                 default -> throw new IllegalStateException("Unexpected trait name");
             };
 
-            stats.put(traitName, new Trait(traitName, belongingBaseValue));
+            stats[StatType.fromName(traitName).ordinal()] = new Trait(traitName, belongingBaseValue);
         }
     }
 
@@ -76,14 +76,15 @@ public class CharacterStats implements Constants {
     private void initializeCombatStats() {
         for (String combatStatName : StatsManager.INSTANCE.getCombatStatNames()) {
             BaseStat attributeReliance = switch (combatStatName) {
-                case COMBAT_STAT_ACTION_POINTS -> getStat(ATTRIBUTE_DEXTERITY);
-                case COMBAT_STAT_PHYSICAL_POWER -> getStat(ATTRIBUTE_STRENGTH);
-                case COMBAT_STAT_MAGIC_POWER -> getStat(ATTRIBUTE_INTELLIGENCE);
-                case COMBAT_STAT_HEALING_POWER -> getStat(ATTRIBUTE_WILLPOWER);
+                case COMBAT_STAT_ACTION_POINTS -> getStat(StatType.DEXTERITY);
+                case COMBAT_STAT_PHYSICAL_POWER -> getStat(StatType.STRENGTH);
+                case COMBAT_STAT_MAGIC_POWER -> getStat(StatType.INTELLIGENCE);
+                case COMBAT_STAT_HEALING_POWER -> getStat(StatType.WILLPOWER);
                 default -> throw new IllegalStateException("Unexpected combat stat name");
             };
 
-            stats.put(combatStatName, new CombatStat(combatStatName, attributeReliance, getStat(TRAIT_ATTACK_RATE)));
+            stats[StatType.fromName(combatStatName).ordinal()] = new CombatStat(combatStatName,
+                    attributeReliance, getStat(StatType.ATTACK_RATE));
         }
     }
 
@@ -93,7 +94,7 @@ public class CharacterStats implements Constants {
      * @param value Positive or negative value to adjust AP with
      */
     public final void adjustActionPoints(final int value) {
-        adjustStatDynamicModifier(COMBAT_STAT_ACTION_POINTS, value);
+        getStat(StatType.ACTION_POINTS).adjustDynamicModifier(value);
     }
 
     /**
@@ -102,7 +103,7 @@ public class CharacterStats implements Constants {
      * @param value Positive or negative value to adjust HP with
      */
     public final void adjustHitPoints(final int value) {
-        adjustStatDynamicModifier(TRAIT_VITALITY, value);
+        getStat(StatType.VITALITY).adjustDynamicModifier(value);
     }
 
     /**
@@ -111,7 +112,7 @@ public class CharacterStats implements Constants {
      * @param value Positive or negative value to adjust Energy with
      */
     public final void adjustEnergyLevel(final int value) {
-        getStat(TRAIT_ENERGY).adjustDynamicModifier(value);
+        getStat(StatType.ENERGY).adjustDynamicModifier(value);
     }
 
     /**
@@ -124,6 +125,16 @@ public class CharacterStats implements Constants {
         getStat(statName).adjustStaticModifier(value);
     }
 
+    /**
+     * Adjust the static modifier of a stat.
+     *
+     * @param statType Type of the stat to modify static modifier on
+     * @param value Positive or negative value to adjust the static modifier with
+     */
+    public final void adjustStatStaticModifier(final StatType statType, final int value) {
+        getStat(statType).adjustStaticModifier(value);
+    }
+
     /**
      * Adjust the dynamic modifier of a stat.
      *
@@ -138,21 +149,21 @@ public class CharacterStats implements Constants {
      * Reset the current AP to the base value, gear bonuses included.
      */
     public final void resetActionPoints() {
-        getStat(COMBAT_STAT_ACTION_POINTS).resetDynamicModifier();
+        getStat(StatType.ACTION_POINTS).resetDynamicModifier();
     }
 
     /**
      * Reset the current HP to the base value, gear bonuses included.
      */
     public final void resetHitPoints() {
-        getStat(TRAIT_VITALITY).resetDynamicModifier();
+        getStat(StatType.VITALITY).resetDynamicModifier();
     }
 
     /**
      * Reset the current Energy to the base value, gear bonuses included.
      */
     public final void resetEnergyLevel() {
-        getStat(TRAIT_ENERGY).resetDynamicModifier();
+        getStat(StatType.ENERGY).resetDynamicModifier();
     }
 
     /**
@@ -162,7 +173,17 @@ public class CharacterStats implements Constants {
      * @return The stat
      */
     public final BaseStat getStat(final String statName) {
-        return stats.get(statName);
+        return getStat(StatType.fromName(statName));
+    }
+
+    /**
+     * Get the stat of the provided type.
+     *
+     * @param statType Type of the stat
+     * @return The stat
+     */
+    public final BaseStat getStat(final StatType statType) {
+        return stats[statType.ordinal()];
     }
 
     /**
@@ -175,13 +196,23 @@ public class CharacterStats implements Constants {
         return getStat(statName).getModifiedValue();
     }
 
+    /**
+     * Get the modified value of the stat of the provided type.
+     *
+     * @param statType Type of the stat
+     * @return The modified value of the stat
+     */
+    public final int getStatValue(final StatType statType) {
+        return stats[statType.ordinal()].getModifiedValue();
+    }
+
     /**
      * Get the base value of AP.
      *
      * @return The base value of AP
      */
     public final int getTotalActionPoints() {
-        BaseStat statAP = getStat(COMBAT_STAT_ACTION_POINTS);
+        BaseStat statAP = getStat(StatType.ACTION_POINTS);
         return statAP.getBaseValue() + statAP.getStaticModifier();
     }
 
@@ -191,7 +222,7 @@ public class CharacterStats implements Constants {
      * @return The current value of AP
      */
     public final int getCurrentActionPoints() {
-        return getStatValue(COMBAT_STAT_ACTION_POINTS);
+        return getStatValue(StatType.ACTION_POINTS);
     }
 
     /**
@@ -200,7 +231,7 @@ public class CharacterStats implements Constants {
      * @return The base value of HP
      */
     public final int getTotalHitPoints() {
-        BaseStat statHP = getStat(TRAIT_VITALITY);
+        BaseStat statHP = getStat(StatType.VITALITY);
         return statHP.getBaseValue() + statHP.getStaticModifier();
     }
 
@@ -210,7 +241,7 @@ public class CharacterStats implements Constants {
      * @return The current value of HP
      */
     public final int getCurrentHitPoints() {
-        return getStatValue(TRAIT_VITALITY);
+        return getStatValue(StatType.VITALITY);
     }
 
     /**
@@ -219,7 +250,7 @@ public class CharacterStats implements Constants {
      * @return The base value of Energy
      */
     public final int getTotalEnergyLevel() {
-        BaseStat statEnergy = getStat(TRAIT_ENERGY);
+        BaseStat statEnergy = getStat(StatType.ENERGY);
         return statEnergy.getBaseValue() + statEnergy.getStaticModifier();
     }
 
@@ -229,7 +260,7 @@ public class CharacterStats implements Constants {
      * @return The current value of Energy
      */
     public final int getCurrentEnergyLevel() {
-        return getStatValue(TRAIT_ENERGY);
+        return getStatValue(StatType.ENERGY);
     }
 
     /**
@@ -238,7 +269,7 @@ public class CharacterStats implements Constants {
      * @return The modified value of Defence Rate
      */
     public final int getDefenceRate() {
-        return getStatValue(TRAIT_DEFENSE_RATE);
+        return getStatValue(StatType.DEFENSE_RATE);
     }
 
     /**
@@ -247,7 +278,7 @@ public class CharacterStats implements Constants {
      * @return The modified value of Attack Rate
      */
     public final int getAttackRate() {
-        return getStatValue(TRAIT_ATTACK_RATE);
+        return getStatValue(StatType.ATTACK_RATE);
     }
 
     /**
@@ -256,7 +287,7 @@ public class CharacterStats implements Constants {
      * @return The modified value of Physical Power
      */
     public final int getPhysicalPower() {
-        return getStatValue(COMBAT_STAT_PHYSICAL_POWER);
+        return getStatValue(StatType.PHYSICAL_POWER);
     }
 
     /**
@@ -265,7 +296,7 @@ public class CharacterStats implements Constants {
      * @return The modified value of Magic Power
      */
     public final int getMagicPower() {
-        return getStatValue(COMBAT_STAT_MAGIC_POWER);
+        return getStatValue(StatType.MAGIC_POWER);
     }
 
     /**
@@ -274,7 +305,7 @@ public class CharacterStats implements Constants {
      * @return The modified value of Healing Power
      */
     public final int getHealingPower() {
-        return getStatValue(COMBAT_STAT_HEALING_POWER);
+        return getStatValue(StatType.HEALING_POWER);
     }
 
     /**
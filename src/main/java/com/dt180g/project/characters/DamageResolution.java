@@ -0,0 +1,50 @@
+package com.dt180g.project.characters;
+
+/**
+ * Helpers for the packed damage resolution returned by {@link BaseCharacter#resolveDamage(int, boolean)}.
+ * The mitigated damage is stored in the upper 32 bits and the actual damage in the lower 32 bits of
+ * a long, so resolving a hit allocates nothing.
+ *
+ * @author Samuel Thand
+ */
+public final class DamageResolution {
+    private static final int HALF_BITS = 32;
+    private static final long LOWER_MASK = 0xFFFFFFFFL;
+
+    /**
+     * Constructor, private since the class only holds static helpers.
+     */
+    private DamageResolution() {
+    }
+
+    /**
+     * Pack mitigated and actual damage into a long.
+     *
+     * @param mitigatedDamage Damage mitigated by defence and armor
+     * @param actualDamage Damage taken as direct hit
+     * @return The packed damage resolution
+     */
+    public static long pack(final int mitigatedDamage, final int actualDamage) {
+        return ((long) mitigatedDamage << HALF_BITS) | (actualDamage & LOWER_MASK);
+    }
+
+    /**
+     * Get the mitigated damage of a packed damage resolution.
+     *
+     * @param resolution The packed damage resolution
+     * @return Damage mitigated by defence and armor
+     */
+    public static int getMitigatedDamage(final long resolution) {
+        return (int) (resolution >> HALF_BITS);
+    }
+
+    /**
+     * Get the actual damage of a packed damage resolution.
+     *
+     * @param resolution The packed damage resolution
+     * @return Damage taken as direct hit
+     */
+    public static int getActualDamage(final long resolution) {
+        return (int) resolution;
+    }
+}
@@ -0,0 +1,139 @@
+package com.dt180g.project.characters;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Decides the order characters act in during a round, highest action points first. Characters
+ * with equal action points keep the order they were scheduled in, heroes before enemies, exactly
+ * like the stable sort the game used before.
+ *
+ * Action points are small bounded integers, so the order is produced by a counting sort over
+ * buckets keyed by action points, in linear time. All buffers are kept between rounds and only
+ * grow, so scheduling a round does not allocate once the largest roster has been seen. Characters
+ * dying during the round stay in the order and should be skipped when their turn comes up.
+ *
+ * @author Samuel Thand
+ */
+public final class TurnScheduler {
+    private static final int MAX_BUCKETS = 1024;
+    private static final Comparator<BaseCharacter> BY_ACTION_POINTS_DESCENDING =
+            (c1, c2) -> Integer.compare(c2.getActionPoints(), c1.getActionPoints());
+    private BaseCharacter[] scheduled = new BaseCharacter[0];
+    private BaseCharacter[] order = new BaseCharacter[0];
+    private int[] actionPoints = new int[0];
+    private int[] bucketStarts = new int[0];
+    private int size = 0;
+
+    /**
+     * Schedule a new round for the specified characters, replacing the previous order.
+     *
+     * @param heroes The heroes to schedule, before enemies with equal action points
+     * @param enemies The enemies to schedule
+     */
+    public void schedule(final List<? extends BaseCharacter> heroes, final List<? extends BaseCharacter> enemies) {
+        int previousSize = size;
+        size = heroes.size() + enemies.size();
+        ensureCapacity(size);
+
+        int highest = Integer.MIN_VALUE;
+        int lowest = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            BaseCharacter character = (i < heroes.size()) ? heroes.get(i) : enemies.get(i - heroes.size());
+            int points = character.getActionPoints();  // read once, not once per comparison
+            scheduled[i] = character;
+            actionPoints[i] = points;
+            highest = Math.max(highest, points);
+            lowest = Math.min(lowest, points);
+        }
+
+        if (size > 0 && (long) highest - lowest < MAX_BUCKETS) {
+            countingSort(highest, highest - lowest + 1);
+        } else {  // unusually spread action points, fall back to a stable sort
+            System.arraycopy(scheduled, 0, order, 0, size);
+            Arrays.sort(order, 0, size, BY_ACTION_POINTS_DESCENDING);
+        }
+
+        if (previousSize > size) {  // do not keep characters from earlier rounds reachable
+            Arrays.fill(order, size, previousSize, null);
+        }
+        Arrays.fill(scheduled, 0, size, null);
+    }
+
+    /**
+     * Replace the order with characters already in acting order, e.g. the remaining turns of a restored round.
+     *
+     * @param characters The characters, in the order they act
+     */
+    public void restore(final List<? extends BaseCharacter> characters) {
+        int previousSize = size;
+        size = characters.size();
+        ensureCapacity(size);
+        for (int i = 0; i < size; i++) {
+            order[i] = characters.get(i);
+        }
+
+        if (previousSize > size) {  // do not keep characters from earlier rounds reachable
+            Arrays.fill(order, size, previousSize, null);
+        }
+    }
+
+    /**
+     * Place the scheduled characters in order, bucket 0 holding the highest action points.
+     *
+     * @param highest Highest action points among the scheduled characters
+     * @param buckets Amount of buckets needed to cover all action points
+     */
+    private void countingSort(final int highest, final int buckets) {
+        if (bucketStarts.length < buckets + 1) {
+            bucketStarts = new int[MAX_BUCKETS + 1];
+        }
+        Arrays.fill(bucketStarts, 0, buckets + 1, 0);
+
+        for (int i = 0; i < size; i++) {
+            bucketStarts[highest - actionPoints[i] + 1]++;
+        }
+        for (int bucket = 1; bucket <= buckets; bucket++) {
+            bucketStarts[bucket] += bucketStarts[bucket - 1];
+        }
+        for (int i = 0; i < size; i++) {  // visiting in scheduling order keeps equal characters stable
+            order[bucketStarts[highest - actionPoints[i]]++] = scheduled[i];
+        }
+    }
+
+    /**
+     * Make sure the buffers can hold the specified amount of characters.
+     *
+     * @param capacity Amount of characters to hold
+     */
+    private void ensureCapacity(final int capacity) {
+        if (capacity > order.length) {
+            int newCapacity = Math.max(capacity, order.length * 2);
+            scheduled = new BaseCharacter[newCapacity];
+            order = Arrays.copyOf(order, newCapacity);
+            actionPoints = new int[newCapacity];
+        }
+    }
+
+    /**
+     * Get the amount of characters scheduled for the current round.
+     *
+     * @return Amount of scheduled characters
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the character acting at a position in the current round.
+     *
+     * @param turn Position in the order, 0 acting first
+     * @return The character acting at that position
+     */
+    public BaseCharacter get(final int turn) {
+        Objects.checkIndex(turn, size);
+        return order[turn];
+    }
+}
@@ -1,13 +1,13 @@
 package com.dt180g.project.characters.enemies;
 
+import com.dt180g.project.GameEngine;
 import com.dt180g.project.characters.BaseCharacter;
 import com.dt180g.project.characters.CharacterEquipment;
 import com.dt180g.project.characters.CharacterStats;
 import com.dt180g.project.gear.GearManager;
 import com.dt180g.project.gear.Weapon;
-import com.dt180g.project.stats.BaseStat;
-import com.dt180g.project.support.ActivityLogger;
 import com.dt180g.project.support.Constants;
+import com.dt180g.project.support.Randomizer;
 import java.util.List;
 
 /**
@@ -34,8 +34,9 @@ public class BaseEnemy extends BaseCharacter implements Constants {
      * Equip Enemy with weapons and armor.
      *
      * @param equipment List of names of allowed weapon types
+     * @param random Random stream to draw the equipment from
      */
-    protected void equipEnemy(final List<String> equipment) {
+    protected void equipEnemy(final List<String> equipment, final Randomizer random) {
 
         CharacterEquipment enemyEquipment = getEquipment();
 
@@ -43,19 +44,15 @@ public class BaseEnemy extends BaseCharacter implements Constants {
 
             Weapon randomWeapon;
             if (enemyEquipment.amountOfEmptyWeaponSlots() == 1) {
-                randomWeapon = GearManager.INSTANCE.getRandomOneHandedWeapon(equipment);
+                randomWeapon = GearManager.INSTANCE.getRandomOneHandedWeapon(equipment, random);
             } else {
-                randomWeapon = GearManager.INSTANCE.getRandomWeapon(equipment);
+                randomWeapon = GearManager.INSTANCE.getRandomWeapon(equipment, random);
             }
 
             boolean weaponWasAdded = enemyEquipment.addWeapon(randomWeapon);
 
             if (weaponWasAdded) {
-                BaseStat weaponAttributeBoost = randomWeapon.getStat();
-                String weaponAttributeBoostName = weaponAttributeBoost.getStatName();
-                int weaponAttributeBoostValue = weaponAttributeBoost.getBaseValue();
-
-                getCharacterStats().adjustStatStaticModifier(weaponAttributeBoostName, weaponAttributeBoostValue);
+                getCharacterStats().adjustStatStaticModifier(randomWeapon.getBoostType(), randomWeapon.getBoostValue());
             }
         }
     }
@@ -70,9 +67,8 @@ public class BaseEnemy extends BaseCharacter implements Constants {
     /**
      * {@inheritDoc}
      */
-    public void doTurn() {
-        String enemyTurnInfo = getTurnInformation("[" + CHARACTER_TYPE_ENEMY + " TURN] " + getCharacterName());
-        ActivityLogger.INSTANCE.logTurnInfo(enemyTurnInfo);
-        super.executeActions(false);
+    public void doTurn(final GameEngine engine) {
+        engine.startTurn(this);
+        super.executeActions(engine, engine.getEnemyPolicy(), false);
     }
 }
@@ -8,7 +8,9 @@ import com.dt180g.project.abilities.WeaponAttack;
 import com.dt180g.project.abilities.Whirlwind;
 import com.dt180g.project.characters.CharacterStats;
 import com.dt180g.project.stats.BaseStat;
+import com.dt180g.project.stats.StatType;
 import com.dt180g.project.support.Constants;
+import com.dt180g.project.support.Randomizer;
 import java.util.ArrayList;
 import java.util.Arrays;
 
@@ -20,20 +22,40 @@ import java.util.Arrays;
 public class LichLord extends BaseEnemy implements Constants {
 
     /**
-     * Constructor, initializes members and adds an HP boost.
+     * Constructor, initializes members, equips the LichLord from the calling thread's random stream
+     * and adds an HP boost.
      */
     public LichLord() {
+        this(Randomizer.current());
+    }
+
+    /**
+     * Constructor, initializes members and adds an HP boost.
+     *
+     * @param random Random stream to draw the equipment from
+     */
+    public LichLord(final Randomizer random) {
+        this(random, BOSS_HEALTH_MULTIPLIER);
+    }
+
+    /**
+     * Constructor, initializes members and adds an HP boost of the provided size.
+     *
+     * @param random Random stream to draw the equipment from
+     * @param healthMultiplier Multiplier for the extra hit points of the LichLord
+     */
+    public LichLord(final Randomizer random, final int healthMultiplier) {
         super(ENEMY_LICH_LORD, ATTRIBUTE_VALUES_LICH_LORD);
-        super.equipEnemy(new ArrayList<>(Arrays.asList(WEAPON_AXE, WEAPON_SWORD, WEAPON_SHIELD)));
+        super.equipEnemy(new ArrayList<>(Arrays.asList(WEAPON_AXE, WEAPON_SWORD, WEAPON_SHIELD)), random);
         super.addAbilities(new ArrayList<>(Arrays.asList(
                 new WeaponAttack(), new HeavyAttack(), new Whirlwind(),
                 new FocusedHeal(), new ElementalBolt(ELEMENT_FIRE),
                 new ElementalBlast(ELEMENT_FIRE))));
 
         CharacterStats stats = getCharacterStats();
-        BaseStat bossHP = stats.getStat(TRAIT_VITALITY);
-        int currentHP = stats.getStatValue(TRAIT_VITALITY);
+        BaseStat bossHP = stats.getStat(StatType.VITALITY);
+        int currentHP = stats.getStatValue(StatType.VITALITY);
 
-        bossHP.adjustStaticModifier(currentHP * BOSS_HEALTH_MULTIPLIER);
+        bossHP.adjustStaticModifier(currentHP * healthMultiplier);
     }
 }
@@ -4,6 +4,7 @@ import com.dt180g.project.abilities.FocusedShot;
 import com.dt180g.project.abilities.SprayOfArrows;
 import com.dt180g.project.abilities.WeaponAttack;
 import com.dt180g.project.support.Constants;
+import com.dt180g.project.support.Randomizer;
 import java.util.ArrayList;
 import java.util.Arrays;
 
@@ -15,13 +16,23 @@ import java.util.Arrays;
 public class SkeletonArcher extends BaseEnemy implements Constants {
 
     /**
-     * Constructor, initializes members.
+     * Constructor, initializes members and equips the SkeletonArcher from the calling thread's random stream.
      *
      * @param sequenceNumber The number of this SkeletonArcher
      */
     public SkeletonArcher(final int sequenceNumber) {
+        this(sequenceNumber, Randomizer.current());
+    }
+
+    /**
+     * Constructor, initializes members.
+     *
+     * @param sequenceNumber The number of this SkeletonArcher
+     * @param random Random stream to draw the equipment from
+     */
+    public SkeletonArcher(final int sequenceNumber, final Randomizer random) {
         super(ENEMY_SKELETON_ARCHER + " " + sequenceNumber, ATTRIBUTE_VALUES_SKELETON_ARCHER);
-        super.equipEnemy(new ArrayList<>(Arrays.asList(WEAPON_BOW, WEAPON_CROSSBOW)));
+        super.equipEnemy(new ArrayList<>(Arrays.asList(WEAPON_BOW, WEAPON_CROSSBOW)), random);
         super.addAbilities(new ArrayList<>(Arrays.asList(new WeaponAttack(), new FocusedShot(), new SprayOfArrows())));
     }
 }
@@ -4,6 +4,7 @@ import com.dt180g.project.abilities.ElementalBlast;
 import com.dt180g.project.abilities.ElementalBolt;
 import com.dt180g.project.abilities.WeaponAttack;
 import com.dt180g.project.support.Constants;
+import com.dt180g.project.support.Randomizer;
 import java.util.ArrayList;
 import java.util.Arrays;
 
@@ -15,13 +16,23 @@ import java.util.Arrays;
 public class SkeletonMage extends BaseEnemy implements Constants {
 
     /**
-     * Constructor, initializes members.
+     * Constructor, initializes members and equips the SkeletonMage from the calling thread's random stream.
      *
      * @param sequenceNumber The number of this SkeletonMage
      */
     public SkeletonMage(final int sequenceNumber) {
+        this(sequenceNumber, Randomizer.current());
+    }
+
+    /**
+     * Constructor, initializes members.
+     *
+     * @param sequenceNumber The number of this SkeletonMage
+     * @param random Random stream to draw the equipment from
+     */
+    public SkeletonMage(final int sequenceNumber, final Randomizer random) {
         super(ENEMY_SKELETON_MAGE + " " + sequenceNumber, ATTRIBUTE_VALUES_SKELETON_MAGE);
-        super.equipEnemy(new ArrayList<>(Arrays.asList(WEAPON_STAFF, WEAPON_WAND)));
+        super.equipEnemy(new ArrayList<>(Arrays.asList(WEAPON_STAFF, WEAPON_WAND)), random);
         super.addAbilities(new ArrayList<>(Arrays.asList(new WeaponAttack(),
                 new ElementalBolt(ELEMENT_FIRE), new ElementalBolt(ELEMENT_ICE),
                 new ElementalBolt(ELEMENT_AIR), new ElementalBlast(ELEMENT_FIRE),
@@ -4,6 +4,7 @@ import com.dt180g.project.abilities.HeavyAttack;
 import com.dt180g.project.abilities.WeaponAttack;
 import com.dt180g.project.abilities.Whirlwind;
 import com.dt180g.project.support.Constants;
+import com.dt180g.project.support.Randomizer;
 import java.util.ArrayList;
 import java.util.Arrays;
 
@@ -15,13 +16,23 @@ import java.util.Arrays;
 public class SkeletonWarrior extends BaseEnemy implements Constants {
 
     /**
-     * Constructor, initializes members.
+     * Constructor, initializes members and equips the SkeletonWarrior from the calling thread's random stream.
      *
      * @param sequenceNumber The number of this SkeletonWarrior
      */
     public SkeletonWarrior(final int sequenceNumber) {
+        this(sequenceNumber, Randomizer.current());
+    }
+
+    /**
+     * Constructor, initializes members.
+     *
+     * @param sequenceNumber The number of this SkeletonWarrior
+     * @param random Random stream to draw the equipment from
+     */
+    public SkeletonWarrior(final int sequenceNumber, final Randomizer random) {
         super(ENEMY_SKELETON_WARRIOR + " " + sequenceNumber, ATTRIBUTE_VALUES_SKELETON_WARRIOR);
-        super.equipEnemy(new ArrayList<>(Arrays.asList(WEAPON_AXE, WEAPON_SWORD, WEAPON_SHIELD)));
+        super.equipEnemy(new ArrayList<>(Arrays.asList(WEAPON_AXE, WEAPON_SWORD, WEAPON_SHIELD)), random);
         super.addAbilities(new ArrayList<>(Arrays.asList(new WeaponAttack(), new HeavyAttack(), new Whirlwind())));
     }
 }
@@ -1,14 +1,14 @@
 package com.dt180g.project.characters.heroes;
 
+import com.dt180g.project.GameEngine;
 import com.dt180g.project.characters.BaseCharacter;
 import com.dt180g.project.characters.CharacterEquipment;
 import com.dt180g.project.characters.CharacterStats;
 import com.dt180g.project.gear.Armor;
 import com.dt180g.project.gear.GearManager;
 import com.dt180g.project.gear.Weapon;
-import com.dt180g.project.stats.BaseStat;
-import com.dt180g.project.support.ActivityLogger;
 import com.dt180g.project.support.Constants;
+import com.dt180g.project.support.Randomizer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -37,9 +37,10 @@ public abstract class BaseHero extends BaseCharacter implements Constants {
     /**
      * Equip hero with weapons and armor.
      *
-     * @param classRestriction The class this equipment is for
+     * @param classRestriction The hero class this equipment is for
+     * @param random Random stream to draw the equipment from
      */
-    protected void equipHero(final Class<?> classRestriction) {
+    protected void equipHero(final HeroClass classRestriction, final Randomizer random) {
 
         CharacterEquipment heroEquipment = getEquipment();
 
@@ -48,19 +49,15 @@ public abstract class BaseHero extends BaseCharacter implements Constants {
 
             Weapon randomWeapon;
             if (heroEquipment.amountOfEmptyWeaponSlots() == 1) {
-                randomWeapon = GearManager.INSTANCE.getRandomOneHandedWeapon(classRestriction);
+                randomWeapon = GearManager.INSTANCE.getRandomOneHandedWeapon(classRestriction, random);
             } else {
-                randomWeapon = GearManager.INSTANCE.getRandomWeapon(classRestriction);
+                randomWeapon = GearManager.INSTANCE.getRandomWeapon(classRestriction, random);
             }
 
             boolean weaponWasAdded = heroEquipment.addWeapon(randomWeapon);
 
             if (weaponWasAdded) {
-                BaseStat weaponAttributeBoost = randomWeapon.getStat();
-                String weaponAttributeBoostName = weaponAttributeBoost.getStatName();
-                int weaponAttributeBoostValue = weaponAttributeBoost.getBaseValue();
-
-                getCharacterStats().adjustStatStaticModifier(weaponAttributeBoostName, weaponAttributeBoostValue);
+                getCharacterStats().adjustStatStaticModifier(randomWeapon.getBoostType(), randomWeapon.getBoostValue());
             }
         }
 
@@ -70,15 +67,13 @@ public abstract class BaseHero extends BaseCharacter implements Constants {
 
         for (String armorSlot : armorSlots) {
 
-            Armor randomArmorForSlot = GearManager.INSTANCE.getRandomArmorOfType(armorSlot, classRestriction);
+            Armor randomArmorForSlot = GearManager.INSTANCE.getRandomArmorOfType(armorSlot, classRestriction, random);
 
             boolean armorWasAdded = heroEquipment.addArmorPiece(armorSlot, randomArmorForSlot);
 
             if (armorWasAdded) {
-                BaseStat armorTraitBoost = randomArmorForSlot.getStat();
-                String armorTraitBoostName = armorTraitBoost.getStatName();
-                int armorTraitBoostValue = armorTraitBoost.getBaseValue();
-                getCharacterStats().adjustStatStaticModifier(armorTraitBoostName, armorTraitBoostValue);
+                getCharacterStats().adjustStatStaticModifier(randomArmorForSlot.getBoostType(),
+                        randomArmorForSlot.getBoostValue());
             }
         }
     }
@@ -103,9 +98,8 @@ public abstract class BaseHero extends BaseCharacter implements Constants {
     /**
      * {@inheritDoc}
      */
-    public void doTurn() {
-        String heroTurnInfo = getTurnInformation("[" + CHARACTER_TYPE_HERO + " TURN] " + getCharacterName());
-        ActivityLogger.INSTANCE.logTurnInfo(heroTurnInfo);
-        super.executeActions(true);
+    public void doTurn(final GameEngine engine) {
+        engine.startTurn(this);
+        super.executeActions(engine, engine.getHeroPolicy(), true);
     }
 }
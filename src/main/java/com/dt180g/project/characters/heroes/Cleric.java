@@ -4,6 +4,7 @@ import com.dt180g.project.abilities.FocusedHeal;
 import com.dt180g.project.abilities.GroupHeal;
 import com.dt180g.project.abilities.WeaponAttack;
 import com.dt180g.project.support.Constants;
+import com.dt180g.project.support.Randomizer;
 import java.util.ArrayList;
 import java.util.Arrays;
 
@@ -15,13 +16,23 @@ import java.util.Arrays;
 public class Cleric extends BaseHero implements Constants {
 
     /**
-     * Constructor, initializes members.
+     * Constructor, initializes members and equips the Cleric from the calling thread's random stream.
      *
      * @param firstName The first name of this Cleric
      */
     public Cleric(final String firstName) {
+        this(firstName, Randomizer.current());
+    }
+
+    /**
+     * Constructor, initializes members.
+     *
+     * @param firstName The first name of this Cleric
+     * @param random Random stream to draw the equipment from
+     */
+    public Cleric(final String firstName, final Randomizer random) {
         super(firstName + " The " + HERO_CLERIC, ATTRIBUTE_VALUES_CLERIC_HERO);
-        super.equipHero(this.getClass());
+        super.equipHero(HeroClass.CLERIC, random);
         super.addAbilities(new ArrayList<>(Arrays.asList(new WeaponAttack(), new FocusedHeal(), new GroupHeal())));
     }
 }
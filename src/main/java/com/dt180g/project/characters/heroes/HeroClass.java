@@ -0,0 +1,152 @@
+package com.dt180g.project.characters.heroes;
+
+import com.dt180g.project.support.Constants;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Enumeration of the hero classes, used as compact identity for class restrictions on gear.
+ * Every hero class owns one bit, so a set of allowed classes is a single int mask and checking
+ * a restriction is a single AND. Names and classes are resolved without reflection.
+ *
+ * @author Samuel Thand
+ */
+public enum HeroClass implements Constants {
+    WARRIOR(HERO_WARRIOR, Warrior.class),
+    RANGER(HERO_RANGER, Ranger.class),
+    WIZARD(HERO_WIZARD, Wizard.class),
+    CLERIC(HERO_CLERIC, Cleric.class);
+
+    private static final HeroClass[] VALUES = values();
+    private final String className;
+    private final Class<? extends BaseHero> heroType;
+    private final int mask;
+
+    /**
+     * Constructor, initializes members.
+     *
+     * @param className The name of the hero class, as used in class restrictions
+     * @param heroType The class implementing heroes of this hero class
+     */
+    HeroClass(final String className, final Class<? extends BaseHero> heroType) {
+        this.className = className;
+        this.heroType = heroType;
+        this.mask = 1 << ordinal();
+    }
+
+    /**
+     * Get the name of the hero class.
+     *
+     * @return member className
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * Get the class implementing heroes of this hero class.
+     *
+     * @return member heroType
+     */
+    public Class<? extends BaseHero> getHeroType() {
+        return heroType;
+    }
+
+    /**
+     * Get the bit of this hero class in class restriction masks.
+     *
+     * @return member mask
+     */
+    public int getMask() {
+        return mask;
+    }
+
+    /**
+     * Check if this hero class is among the classes of a class restriction mask.
+     *
+     * @param restrictionMask The class restriction mask
+     * @return This hero class is allowed by the mask
+     */
+    public boolean isAllowedBy(final int restrictionMask) {
+        return (restrictionMask & mask) != 0;
+    }
+
+    /**
+     * Get the hero class with the provided name.
+     *
+     * @param className Name of the hero class
+     * @return The hero class
+     * @throws IllegalArgumentException if no hero class has the name
+     */
+    public static HeroClass fromName(final String className) {
+        for (HeroClass heroClass : VALUES) {
+            if (heroClass.className.equals(className)) {
+                return heroClass;
+            }
+        }
+        throw new IllegalArgumentException("Unknown hero class: " + className);
+    }
+
+    /**
+     * Get the hero class implemented by a class.
+     *
+     * @param heroType The class to look up
+     * @return The hero class, or null if the class does not implement a hero class
+     */
+    public static HeroClass fromType(final Class<?> heroType) {
+        for (HeroClass heroClass : VALUES) {
+            if (heroClass.heroType == heroType) {
+                return heroClass;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the class restriction mask of a class, 0 for classes not implementing a hero class.
+     *
+     * @param heroType The class to get the mask for
+     * @return The mask of the class
+     */
+    public static int maskOf(final Class<?> heroType) {
+        HeroClass heroClass = fromType(heroType);
+        return (heroClass == null) ? 0 : heroClass.mask;
+    }
+
+    /**
+     * Parse comma separated hero class names into a class restriction mask.
+     *
+     * @param restrictions Comma separated names of hero classes
+     * @return The class restriction mask
+     * @throws IllegalArgumentException if a name is not a hero class
+     */
+    public static int parseRestrictions(final String restrictions) {
+        int restrictionMask = 0;
+        int start = 0;
+        while (start <= restrictions.length()) {
+            int end = restrictions.indexOf(',', start);
+            if (end < 0) {
+                end = restrictions.length();
+            }
+            restrictionMask |= fromName(restrictions.substring(start, end).trim()).mask;
+            start = end + 1;
+        }
+        return restrictionMask;
+    }
+
+    /**
+     * Get the hero classes of a class restriction mask, in declaration order.
+     *
+     * @param restrictionMask The class restriction mask
+     * @return The allowed hero classes
+     */
+    public static List<HeroClass> fromMask(final int restrictionMask) {
+        List<HeroClass> heroClasses = new ArrayList<>(Integer.bitCount(restrictionMask));
+        for (HeroClass heroClass : VALUES) {
+            if (heroClass.isAllowedBy(restrictionMask)) {
+                heroClasses.add(heroClass);
+            }
+        }
+        return heroClasses;
+    }
+}
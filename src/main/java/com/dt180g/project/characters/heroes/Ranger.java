@@ -4,6 +4,7 @@ import com.dt180g.project.abilities.FocusedShot;
 import com.dt180g.project.abilities.SprayOfArrows;
 import com.dt180g.project.abilities.WeaponAttack;
 import com.dt180g.project.support.Constants;
+import com.dt180g.project.support.Randomizer;
 import java.util.ArrayList;
 import java.util.Arrays;
 
@@ -15,13 +16,23 @@ import java.util.Arrays;
 public class Ranger extends BaseHero implements Constants {
 
     /**
-     * Constructor, initializes members.
+     * Constructor, initializes members and equips the Ranger from the calling thread's random stream.
      *
      * @param firstName The first name of this Ranger
      */
     public Ranger(final String firstName) {
+        this(firstName, Randomizer.current());
+    }
+
+    /**
+     * Constructor, initializes members.
+     *
+     * @param firstName The first name of this Ranger
+     * @param random Random stream to draw the equipment from
+     */
+    public Ranger(final String firstName, final Randomizer random) {
         super(firstName + " The " + HERO_RANGER, ATTRIBUTE_VALUES_RANGER_HERO);
-        super.equipHero(this.getClass());
+        super.equipHero(HeroClass.RANGER, random);
         super.addAbilities(new ArrayList<>(Arrays.asList(new WeaponAttack(), new FocusedShot(), new SprayOfArrows())));
     }
 }
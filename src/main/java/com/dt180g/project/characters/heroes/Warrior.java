@@ -4,19 +4,30 @@ import com.dt180g.project.abilities.HeavyAttack;
 import com.dt180g.project.abilities.WeaponAttack;
 import com.dt180g.project.abilities.Whirlwind;
 import com.dt180g.project.support.Constants;
+import com.dt180g.project.support.Randomizer;
 import java.util.ArrayList;
 import java.util.Arrays;
 
 public class Warrior extends BaseHero implements Constants {
 
     /**
-     * Constructor, initializes members.
+     * Constructor, initializes members and equips the Warrior from the calling thread's random stream.
      *
      * @param firstName The first name of this Warrior
      */
     public Warrior(final String firstName) {
+        this(firstName, Randomizer.current());
+    }
+
+    /**
+     * Constructor, initializes members.
+     *
+     * @param firstName The first name of this Warrior
+     * @param random Random stream to draw the equipment from
+     */
+    public Warrior(final String firstName, final Randomizer random) {
         super(firstName + " The " + HERO_WARRIOR, ATTRIBUTE_VALUES_WARRIOR_HERO);
-        super.equipHero(this.getClass());
+        super.equipHero(HeroClass.WARRIOR, random);
         super.addAbilities(new ArrayList<>(Arrays.asList(new WeaponAttack(), new HeavyAttack(), new Whirlwind())));
     }
 }
@@ -4,6 +4,7 @@ import com.dt180g.project.abilities.ElementalBlast;
 import com.dt180g.project.abilities.ElementalBolt;
 import com.dt180g.project.abilities.WeaponAttack;
 import com.dt180g.project.support.Constants;
+import com.dt180g.project.support.Randomizer;
 import java.util.ArrayList;
 import java.util.Arrays;
 
@@ -15,13 +16,23 @@ import java.util.Arrays;
 public class Wizard extends BaseHero implements Constants {
 
     /**
-     * Constructor, initializes members.
+     * Constructor, initializes members and equips the Wizard from the calling thread's random stream.
      *
      * @param firstName The first name of this Wizard
      */
     public Wizard(final String firstName) {
+        this(firstName, Randomizer.current());
+    }
+
+    /**
+     * Constructor, initializes members.
+     *
+     * @param firstName The first name of this Wizard
+     * @param random Random stream to draw the equipment from
+     */
+    public Wizard(final String firstName, final Randomizer random) {
         super(firstName + " The " + HERO_WIZARD, ATTRIBUTE_VALUES_WIZARD_HERO);
-        super.equipHero(this.getClass());
+        super.equipHero(HeroClass.WIZARD, random);
         super.addAbilities(new ArrayList<>(
                 Arrays.asList(new WeaponAttack(), new ElementalBolt(ELEMENT_FIRE),
                         new ElementalBolt(ELEMENT_ICE), new ElementalBolt(Constants.ELEMENT_AIR),
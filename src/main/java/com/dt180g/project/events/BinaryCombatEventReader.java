@@ -0,0 +1,194 @@
+package com.dt180g.project.events;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads combat events written by {@link BinaryCombatEventWriter} and replays them to a listener.
+ *
+ * @author Samuel Thand
+ */
+public class BinaryCombatEventReader implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 17;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final List<String> names = new ArrayList<>();
+
+    /**
+     * Constructor, opens the file and validates the header.
+     *
+     * @param file The file to read events from
+     * @throws IOException If the file cannot be read or is not an event file
+     */
+    public BinaryCombatEventReader(final Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        buffer.limit(0);
+
+        if (!fill(Integer.BYTES + Short.BYTES) || buffer.getInt() != BinaryCombatEventWriter.MAGIC) {
+            channel.close();
+            throw new IOException("Not a combat event file: " + file);
+        }
+        short version = buffer.getShort();
+        if (version != BinaryCombatEventWriter.VERSION) {
+            channel.close();
+            throw new IOException("Unsupported combat event file version: " + version);
+        }
+    }
+
+    /**
+     * Make sure the buffer holds at least the specified amount of bytes, reading more from file if needed.
+     *
+     * @param size Amount of bytes needed
+     * @return The bytes are available, false if the file ended before any more bytes could be read
+     * @throws IOException If the file cannot be read, or ends in the middle of a record
+     */
+    private boolean fill(final int size) throws IOException {
+        if (buffer.remaining() >= size) {
+            return true;
+        }
+
+        buffer.compact();
+        boolean readAnything = buffer.position() > 0;
+        while (buffer.position() < size) {
+            if (channel.read(buffer) < 0) {
+                break;
+            }
+            readAnything = true;
+        }
+        buffer.flip();
+
+        if (buffer.remaining() >= size) {
+            return true;
+        }
+        if (readAnything) {
+            throw new EOFException("Combat event file ends in the middle of a record");
+        }
+        return false;
+    }
+
+    /**
+     * Make sure the buffer holds the rest of a record.
+     *
+     * @param size Amount of bytes needed
+     * @throws IOException If the file cannot be read, or ends before the record is complete
+     */
+    private void require(final int size) throws IOException {
+        if (!fill(size)) {
+            throw new EOFException("Combat event file ends in the middle of a record");
+        }
+    }
+
+    /**
+     * Get an interned string by its id.
+     *
+     * @param id The id of the string
+     * @return The string
+     * @throws IOException If no string has the id
+     */
+    private String name(final int id) throws IOException {
+        if (id < 0 || id >= names.size()) {
+            throw new IOException("Unknown name id " + id);
+        }
+        return names.get(id);
+    }
+
+    /**
+     * Replay all remaining events in the file to a listener.
+     *
+     * @param listener The listener to replay events to
+     * @return Amount of events replayed, not counting name records
+     * @throws IOException If the file cannot be read or is corrupt
+     */
+    public long replay(final CombatEventListener listener) throws IOException {
+        long events = 0;
+        while (fill(Byte.BYTES)) {
+            byte code = buffer.get();
+            if (code == BinaryCombatEventWriter.NAME) {
+                require(Integer.BYTES + Short.BYTES);
+                int id = buffer.getInt();
+                byte[] bytes = new byte[buffer.getShort() & BinaryCombatEventWriter.MAX_NAME_BYTES];
+                require(bytes.length);
+                buffer.get(bytes);
+                if (id != names.size()) {
+                    throw new IOException("Unexpected name id " + id);
+                }
+                names.add(new String(bytes, StandardCharsets.UTF_8));
+                continue;
+            }
+
+            replayEvent(code, listener);
+            events++;
+        }
+        return events;
+    }
+
+    /**
+     * Decode a single event and pass it on to a listener.
+     *
+     * @param code The event code
+     * @param listener The listener to pass the event on to
+     * @throws IOException If the file cannot be read or the event code is unknown
+     */
+    private void replayEvent(final byte code, final CombatEventListener listener) throws IOException {
+        final int intAndFlag = Integer.BYTES + Byte.BYTES;
+        switch (code) {
+            case BinaryCombatEventWriter.ROUND_START -> {
+                require(Integer.BYTES * 4);
+                listener.onRoundStart(buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt());
+            }
+            case BinaryCombatEventWriter.TURN_START -> {
+                require(intAndFlag + Integer.BYTES * 3);
+                listener.onTurnStart(name(buffer.getInt()), buffer.get() != 0,
+                        buffer.getInt(), buffer.getInt(), buffer.getInt());
+            }
+            case BinaryCombatEventWriter.ABILITY_USED -> {
+                require(Integer.BYTES * 3 + Byte.BYTES);
+                String ability = name(buffer.getInt());
+                int amountOfTargets = buffer.getInt();
+                int amount = buffer.getInt();
+                int flags = buffer.get();
+                listener.onAbilityUsed(() -> ability, amountOfTargets,
+                        (flags & BinaryCombatEventWriter.FLAG_TARGET_ENEMIES) != 0,
+                        (flags & BinaryCombatEventWriter.FLAG_MAGIC) != 0,
+                        (flags & BinaryCombatEventWriter.FLAG_HEAL) != 0, amount);
+            }
+            case BinaryCombatEventWriter.NO_TARGETS -> {
+                require(Byte.BYTES);
+                listener.onNoTargets(buffer.get() != 0);
+            }
+            case BinaryCombatEventWriter.DAMAGE -> {
+                require(intAndFlag + Integer.BYTES * 3);
+                listener.onDamage(name(buffer.getInt()), buffer.get() != 0,
+                        buffer.getInt(), buffer.getInt(), buffer.getInt());
+            }
+            case BinaryCombatEventWriter.HEAL -> {
+                require(intAndFlag + Integer.BYTES * 2);
+                listener.onHeal(name(buffer.getInt()), buffer.get() != 0, buffer.getInt(), buffer.getInt());
+            }
+            case BinaryCombatEventWriter.DEATH -> {
+                require(Integer.BYTES);
+                listener.onDeath(name(buffer.getInt()));
+            }
+            default -> throw new IOException("Unknown combat event code " + code);
+        }
+    }
+
+    /**
+     * Close the file.
+     *
+     * @throws IOException If the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
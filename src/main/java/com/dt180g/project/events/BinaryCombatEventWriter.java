@@ -0,0 +1,218 @@
+package com.dt180g.project.events;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Listener encoding combat events into a compact binary file.
+ *
+ * <p>The file starts with a magic number and a format version, followed by one record per event.
+ * Every record is a one byte event code followed by fixed size big-endian fields. Character names
+ * and ability information are interned: the first time a string is seen a name record assigning
+ * it an id is written, and all later records refer to the id only. Records are collected in a
+ * direct buffer that is written to the file channel whenever it fills up.</p>
+ *
+ * @author Samuel Thand
+ */
+public class BinaryCombatEventWriter implements CombatEventListener, Closeable {
+    static final int MAGIC = 0x44434556;  // "DCEV"
+    static final short VERSION = 1;
+    static final byte NAME = 0;
+    static final byte ROUND_START = 1;
+    static final byte TURN_START = 2;
+    static final byte ABILITY_USED = 3;
+    static final byte NO_TARGETS = 4;
+    static final byte DAMAGE = 5;
+    static final byte HEAL = 6;
+    static final byte DEATH = 7;
+    static final int FLAG_TARGET_ENEMIES = 1;
+    static final int FLAG_MAGIC = 2;
+    static final int FLAG_HEAL = 4;
+    static final int MAX_NAME_BYTES = 0xFFFF;  // name lengths are stored as unsigned shorts
+    private static final int BUFFER_SIZE = 1 << 17;  // fits the largest possible name record
+    private static final int MAX_EVENT_SIZE = 32;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final Map<String, Integer> nameIds = new HashMap<>();
+    private long events = 0;
+
+    /**
+     * Constructor, creates or truncates the file and writes the header.
+     *
+     * @param file The file to write events to
+     * @throws IOException If the file cannot be opened
+     */
+    public BinaryCombatEventWriter(final Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        buffer.putInt(MAGIC).putShort(VERSION);
+    }
+
+    /**
+     * Get the amount of events written so far.
+     *
+     * @return Amount of events
+     */
+    public long getEvents() {
+        return events;
+    }
+
+    /**
+     * Make room for a record of the specified size, writing the buffer to file if needed.
+     *
+     * @param size Size of the record in bytes
+     */
+    private void ensureCapacity(final int size) {
+        if (buffer.remaining() < size) {
+            drain();
+        }
+    }
+
+    /**
+     * Write all buffered records to the file channel.
+     */
+    private void drain() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Get the id of an interned string, writing a name record the first time it is seen.
+     *
+     * @param name The string to intern
+     * @return The id of the string
+     * @throws IllegalArgumentException If the string is longer than MAX_NAME_BYTES in UTF-8
+     */
+    private int intern(final String name) {
+        Integer id = nameIds.get(name);
+        if (id == null) {
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > MAX_NAME_BYTES) {
+                throw new IllegalArgumentException("Combat event name of " + bytes.length + " bytes is too long");
+            }
+            id = nameIds.size();
+            nameIds.put(name, id);
+
+            ensureCapacity(Byte.BYTES + Integer.BYTES + Short.BYTES + bytes.length);
+            buffer.put(NAME).putInt(id).putShort((short) bytes.length).put(bytes);
+        }
+        return id;
+    }
+
+    /**
+     * Start a new event record, making room for it in the buffer.
+     *
+     * @param code The event code
+     */
+    private void startEvent(final byte code) {
+        ensureCapacity(MAX_EVENT_SIZE);
+        buffer.put(code);
+        events++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onRoundStart(final int dungeonLevel, final int round, final int heroes, final int enemies) {
+        startEvent(ROUND_START);
+        buffer.putInt(dungeonLevel).putInt(round).putInt(heroes).putInt(enemies);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onTurnStart(final String characterName, final boolean hero, final int actionPoints,
+                            final int hitPoints, final int energyLevel) {
+        int nameId = intern(characterName);
+        startEvent(TURN_START);
+        buffer.putInt(nameId).put((byte) (hero ? 1 : 0)).putInt(actionPoints).putInt(hitPoints).putInt(energyLevel);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onAbilityUsed(final Supplier<String> abilityInformation, final int amountOfTargets,
+                              final boolean targetEnemies, final boolean magic, final boolean heal, final int amount) {
+        int abilityId = intern(abilityInformation.get());
+        int flags = (targetEnemies ? FLAG_TARGET_ENEMIES : 0) | (magic ? FLAG_MAGIC : 0) | (heal ? FLAG_HEAL : 0);
+        startEvent(ABILITY_USED);
+        buffer.putInt(abilityId).putInt(amountOfTargets).putInt(amount).put((byte) flags);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onNoTargets(final boolean targetEnemies) {
+        startEvent(NO_TARGETS);
+        buffer.put((byte) (targetEnemies ? 1 : 0));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onDamage(final String characterName, final boolean critical, final int deflected, final int direct,
+                         final int hitPointsLeft) {
+        int nameId = intern(characterName);
+        startEvent(DAMAGE);
+        buffer.putInt(nameId).put((byte) (critical ? 1 : 0)).putInt(deflected).putInt(direct).putInt(hitPointsLeft);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onHeal(final String characterName, final boolean critical, final int amount,
+                       final int hitPointsLeft) {
+        int nameId = intern(characterName);
+        startEvent(HEAL);
+        buffer.putInt(nameId).put((byte) (critical ? 1 : 0)).putInt(amount).putInt(hitPointsLeft);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onDeath(final String characterName) {
+        int nameId = intern(characterName);
+        startEvent(DEATH);
+        buffer.putInt(nameId);
+    }
+
+    /**
+     * Write all buffered records and close the file.
+     *
+     * @throws IOException If the file cannot be written or closed
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            drain();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.dt180g.project.events;
+
+import java.util.function.Supplier;
+
+/**
+ * Listener for the combat events emitted by the game engine. All events carry plain
+ * values only, so they can be written and read back without the characters involved.
+ * Ability information is supplied on demand, so it is never formatted for a listener ignoring it.
+ * Every method does nothing by default, implementations override the events they need.
+ *
+ * @author Samuel Thand
+ */
+public interface CombatEventListener {
+
+    /**
+     * A new round has started.
+     *
+     * @param dungeonLevel The current dungeon level
+     * @param round The round on the dungeon level
+     * @param heroes Amount of heroes alive
+     * @param enemies Amount of enemies alive
+     */
+    default void onRoundStart(int dungeonLevel, int round, int heroes, int enemies) {
+    }
+
+    /**
+     * A character has started its turn.
+     *
+     * @param characterName Name of the character
+     * @param hero The character is a hero
+     * @param actionPoints Current action points of the character
+     * @param hitPoints Current hit points of the character
+     * @param energyLevel Current energy level of the character
+     */
+    default void onTurnStart(String characterName, boolean hero, int actionPoints, int hitPoints, int energyLevel) {
+    }
+
+    /**
+     * An ability has been used against at least one target.
+     *
+     * @param abilityInformation Information about the ability, only formatted when requested
+     * @param amountOfTargets Amount of targets the ability is aimed at
+     * @param targetEnemies The ability targets enemies
+     * @param magic The ability is magic
+     * @param heal The ability heals
+     * @param amount Base damage of the ability, negative for heals
+     */
+    default void onAbilityUsed(Supplier<String> abilityInformation, int amountOfTargets, boolean targetEnemies,
+                               boolean magic, boolean heal, int amount) {
+    }
+
+    /**
+     * An ability could not be used since all characters on the targeted side are dead.
+     *
+     * @param targetEnemies The ability targeted enemies
+     */
+    default void onNoTargets(boolean targetEnemies) {
+    }
+
+    /**
+     * A character has taken damage.
+     *
+     * @param characterName Name of the damaged character
+     * @param critical The hit was critical
+     * @param deflected Damage deflected by protective gear
+     * @param direct Damage taken as direct hit
+     * @param hitPointsLeft Hit points left after the hit
+     */
+    default void onDamage(String characterName, boolean critical, int deflected, int direct, int hitPointsLeft) {
+    }
+
+    /**
+     * A character has been healed.
+     *
+     * @param characterName Name of the healed character
+     * @param critical The heal was critical
+     * @param amount Points of healing received
+     * @param hitPointsLeft Hit points after the heal
+     */
+    default void onHeal(String characterName, boolean critical, int amount, int hitPointsLeft) {
+    }
+
+    /**
+     * A character has died, emitted right after the damage that caused it.
+     *
+     * @param characterName Name of the dead character
+     */
+    default void onDeath(String characterName) {
+    }
+}
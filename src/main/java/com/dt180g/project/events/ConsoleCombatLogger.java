@@ -0,0 +1,116 @@
+package com.dt180g.project.events;
+
+import com.dt180g.project.support.ActivityLogger;
+import com.dt180g.project.support.Constants;
+
+import java.util.function.Supplier;
+
+/**
+ * The singleton listener writing combat events to console through the activity logger,
+ * in the same text form the game has always used. Nothing is formatted while the
+ * activity logger is disabled.
+ *
+ * @author Samuel Thand
+ */
+public final class ConsoleCombatLogger implements CombatEventListener, Constants {
+    public static final ConsoleCombatLogger INSTANCE = new ConsoleCombatLogger();
+    private static final String ROUND_FILLER = "*".repeat(15);
+
+    /**
+     * Constructor, private to enforce singleton access.
+     */
+    private ConsoleCombatLogger() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onRoundStart(final int dungeonLevel, final int round, final int heroes, final int enemies) {
+        if (ActivityLogger.INSTANCE.isEnabled()) {
+            ActivityLogger.INSTANCE.logRoundInfo("%n%s DUNGEON LEVEL %d | ROUND %d | %d HEROES | %d ENEMIES %s",
+                    ROUND_FILLER, dungeonLevel, round, heroes, enemies, ROUND_FILLER);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onTurnStart(final String characterName, final boolean hero, final int actionPoints,
+                            final int hitPoints, final int energyLevel) {
+        if (ActivityLogger.INSTANCE.isEnabled()) {
+            ActivityLogger.INSTANCE.logTurnInfo("[%s TURN] %s | %s AP | %s HP | %s Energy",
+                    hero ? CHARACTER_TYPE_HERO : CHARACTER_TYPE_ENEMY, characterName,
+                    actionPoints, hitPoints, energyLevel);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onAbilityUsed(final Supplier<String> abilityInformation, final int amountOfTargets,
+                              final boolean targetEnemies, final boolean magic, final boolean heal, final int amount) {
+        if (ActivityLogger.INSTANCE.isEnabled()) {
+            String targets;
+            if (targetEnemies) {
+                targets = (amountOfTargets == 1) ? "enemy" : "enemies";
+            } else {
+                targets = (amountOfTargets == 1) ? "hero" : "heroes";
+            }
+            ActivityLogger.INSTANCE.logAttack("%s targeting %d %s", abilityInformation.get(), amountOfTargets, targets);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onNoTargets(final boolean targetEnemies) {
+        ActivityLogger.INSTANCE.logAttack(targetEnemies ? "All enemies are dead..." : "All heroes are dead...");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onDamage(final String characterName, final boolean critical, final int deflected, final int direct,
+                         final int hitPointsLeft) {
+        if (!ActivityLogger.INSTANCE.isEnabled()) {
+            return;
+        }
+
+        if (hitPointsLeft < 1) {
+            ActivityLogger.INSTANCE.logDeath(
+                    "%s%s deflects %d points of damage taking %d as direct hit causing death (%d HP)",
+                    getCriticalInfo(critical), characterName, deflected, direct, hitPointsLeft);
+        } else {
+            ActivityLogger.INSTANCE.logDamage(
+                    "%s%s deflects %d points of damage taking %d as direct hit and has %d HP left",
+                    getCriticalInfo(critical), characterName, deflected, direct, hitPointsLeft);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onHeal(final String characterName, final boolean critical, final int amount,
+                       final int hitPointsLeft) {
+        if (ActivityLogger.INSTANCE.isEnabled()) {
+            ActivityLogger.INSTANCE.logHealing("%s%s receives %+d points of healing and has %d HP left",
+                    getCriticalInfo(critical), characterName, amount, hitPointsLeft);
+        }
+    }
+
+    /**
+     * Get the prefix marking a critical hit.
+     *
+     * @param critical The hit was critical
+     * @return The prefix, empty for regular hits
+     */
+    private String getCriticalInfo(final boolean critical) {
+        return critical ? "[CRITICAL HIT] " : "";
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Package for typed combat events emitted by the game engine, and the listeners consuming them.
+ */
+package com.dt180g.project.events;
@@ -1,7 +1,9 @@
 package com.dt180g.project.gear;
 
 
+import com.dt180g.project.characters.heroes.HeroClass;
 import com.dt180g.project.stats.BaseStat;
+import com.dt180g.project.stats.StatType;
 import com.dt180g.project.stats.StatsManager;
 import com.dt180g.project.stats.Trait;
 import com.dt180g.project.support.Constants;
@@ -9,56 +11,91 @@ import com.dt180g.project.support.Randomizer;
 import java.util.Map;
 
 /**
- * Concrete class for the gear armor.
+ * Concrete class for the gear armor, one dropped armor piece with its own random trait boost.
  *
  * @author Samuel Thand
  */
 public class Armor extends BaseGear implements Constants {
-    private final int protection;
-    private final String material;
-    private final Trait trait;
 
     /**
-     * Constructor, initializes members from provided map.
+     * Constructor, initializes members from provided map, rolling the random boost
+     * from the calling thread's random stream.
      *
      * @param armorData Mapped values with information about the armor piece
      */
     public Armor(final Map<String, String> armorData) {
-        super(armorData.get("type"), armorData.get("name"), armorData.get("restriction"));
-        this.protection = Integer.parseInt(armorData.get("protection"));
-        this.material = armorData.get("material");
-        this.trait = createTraitWithRandomBoost();
+        this(armorData, Randomizer.current());
+    }
+
+    /**
+     * Constructor, initializes members from provided map.
+     *
+     * @param armorData Mapped values with information about the armor piece
+     * @param random Random stream to roll the boost from
+     * @throws IllegalArgumentException if a restriction is not a hero class
+     */
+    public Armor(final Map<String, String> armorData, final Randomizer random) {
+        this(new ArmorDefinition(armorData.get("type"), armorData.get("name"), armorData.get("material"),
+                Integer.parseInt(armorData.get("protection")),
+                HeroClass.parseRestrictions(armorData.get("restriction"))), random);
+    }
+
+    /**
+     * Constructor, drops an armor piece from a catalog definition with a freshly rolled boost.
+     *
+     * @param definition The catalog definition of the armor piece
+     * @param random Random stream to roll the boost from
+     */
+    public Armor(final ArmorDefinition definition, final Randomizer random) {
+        this(definition, random.getRandomValue(1, Constants.ARMOR_STAT_VALUE_UPPER_BOUND), random);
+    }
 
+    /**
+     * Constructor, restores a dropped armor piece with an already rolled boost, e.g. from a saved game.
+     *
+     * @param definition The catalog definition of the armor piece
+     * @param boostType The boosted stat
+     * @param boostValue The boost value
+     */
+    public Armor(final ArmorDefinition definition, final StatType boostType, final int boostValue) {
+        super(definition, boostType, boostValue);
     }
 
     /**
-     * Create a random Trait with a random boost value.
+     * Constructor, the boost value is rolled before the boosted trait.
      *
-     * @return A random Trait with a random boost value.
+     * @param definition The catalog definition of the armor piece
+     * @param boostValue The rolled boost value
+     * @param random Random stream to roll the boosted trait from
      */
-    private Trait createTraitWithRandomBoost() {
-        int randomBoostValue = Randomizer.INSTANCE.getRandomValue(1, Constants.ARMOR_STAT_VALUE_UPPER_BOUND);
-        String randomTraitName = StatsManager.INSTANCE.getRandomTraitName();
+    private Armor(final ArmorDefinition definition, final int boostValue, final Randomizer random) {
+        super(definition, StatType.fromName(StatsManager.INSTANCE.getRandomTraitName(random)), boostValue);
+    }
 
-        return new Trait(randomTraitName, randomBoostValue);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final ArmorDefinition getDefinition() {
+        return (ArmorDefinition) super.getDefinition();
     }
 
     /**
      * Get the protection for this Armor.
      *
-     * @return protection member
+     * @return protection of the definition
      */
     public final int getProtection() {
-        return protection;
+        return getDefinition().getProtection();
     }
 
     /**
      * Get the material of this Armor.
      *
-     * @return material member
+     * @return material of the definition
      */
     public final String getMaterial() {
-        return material;
+        return getDefinition().getMaterial();
     }
 
     /**
@@ -66,7 +103,7 @@ public class Armor extends BaseGear implements Constants {
      */
     @Override
     public final BaseStat getStat() {
-        return trait;
+        return new Trait(getBoostType().getStatName(), getBoostValue());
     }
 
     /**
@@ -74,6 +111,6 @@ public class Armor extends BaseGear implements Constants {
      */
     @Override
     public final String toString() {
-        return String.format("%s of %s", super.toString(), trait.getStatName());
+        return String.format("%s of %s", super.toString(), getBoostType().getStatName());
     }
 }
@@ -0,0 +1,45 @@
+package com.dt180g.project.gear;
+
+/**
+ * Immutable catalog definition of an armor piece, shared by every armor piece dropped from it.
+ *
+ * @author Samuel Thand
+ */
+public final class ArmorDefinition extends GearDefinition {
+    private final String material;
+    private final int protection;
+
+    /**
+     * Constructor, initializes members.
+     *
+     * @param type Type of the armor piece
+     * @param name Name of the armor piece
+     * @param material Material of the armor piece
+     * @param protection Protection of the armor piece
+     * @param classRestrictionMask Hero classes allowed to use the armor piece, one bit per hero class
+     */
+    public ArmorDefinition(final String type, final String name, final String material, final int protection,
+                           final int classRestrictionMask) {
+        super(type, name, classRestrictionMask);
+        this.material = material;
+        this.protection = protection;
+    }
+
+    /**
+     * Get the material of the armor piece.
+     *
+     * @return material member
+     */
+    public String getMaterial() {
+        return material;
+    }
+
+    /**
+     * Get the protection of the armor piece.
+     *
+     * @return protection member
+     */
+    public int getProtection() {
+        return protection;
+    }
+}
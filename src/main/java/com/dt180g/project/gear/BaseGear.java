@@ -1,68 +1,69 @@
 package com.dt180g.project.gear;
 
+import com.dt180g.project.characters.heroes.HeroClass;
 import com.dt180g.project.stats.BaseStat;
-import java.util.ArrayList;
-import java.util.Arrays;
+import com.dt180g.project.stats.StatType;
 import java.util.List;
 
 /**
  * Base class for the gear hierarchy, declares common interface for all gear.
+ * A BaseGear is a single dropped piece of gear, holding its own rolled boost and
+ * referring to a shared, immutable GearDefinition for everything else.
  *
  * @author Samuel Thand
  */
 public abstract class BaseGear {
-    private final String type;
-    private final String gearName;
-    private final List<Class<?>> classRestrictions;
+    private final GearDefinition definition;
+    private final StatType boostType;
+    private final int boostValue;
 
     /**
      * Base constructor, initializes members.
      *
-     * @param type Type of BaseGear
-     * @param gearName Name of the BaseGear
-     * @param classRestrictions Classes allowed to use this BaseGear
+     * @param definition The catalog definition of the BaseGear
+     * @param boostType The stat boosted by the BaseGear
+     * @param boostValue The amount the stat is boosted by
      */
-    protected BaseGear(final String type, final String gearName, final String classRestrictions) {
-        this.type = type;
-        this.gearName = gearName;
-        this.classRestrictions = new ArrayList<>();
-        addClassRestrictions(classRestrictions);
+    protected BaseGear(final GearDefinition definition, final StatType boostType, final int boostValue) {
+        this.definition = definition;
+        this.boostType = boostType;
+        this.boostValue = boostValue;
     }
 
     /**
-     * Add classes to classRestrictions from a list of strings.
-     * Takes the strings from the list and adds the corresponding classes to classRestrictions.
+     * Get the catalog definition of the BaseGear, shared by all gear dropped from it.
      *
-     * @param restrictions List of restrictions
+     * @return definition member
      */
-    private void addClassRestrictions(final String restrictions) {
-        List<String> restrictionsList = new ArrayList<>(Arrays.asList(restrictions.split(",")));
-        String heroesPackage = "com.dt180g.project.characters.heroes";
-        restrictionsList.forEach(restriction -> {
-            try {
-                this.classRestrictions.add(Class.forName(String.format("%s.%s", heroesPackage, restriction)));
-            } catch (ClassNotFoundException e) {
-                e.printStackTrace();
-            }
-        });
+    public GearDefinition getDefinition() {
+        return definition;
     }
 
     /**
      * Get the type of the BaseGear.
      *
-     * @return type member
+     * @return type of the definition
      */
     public final String getType() {
-        return type;
+        return definition.getType();
     }
 
     /**
-     * Get the class restrictions for this BaseGear.
+     * Get the class restrictions for this BaseGear, as the classes implementing the allowed hero classes.
      *
-     * @return classRestrictions member
+     * @return Classes allowed to use this BaseGear
      */
     public final List<Class<?>> getClassRestrictions() {
-        return classRestrictions;
+        return definition.getClassRestrictions();
+    }
+
+    /**
+     * Get the class restrictions for this BaseGear, one bit per allowed hero class.
+     *
+     * @return class restriction mask of the definition
+     */
+    public final int getClassRestrictionMask() {
+        return definition.getClassRestrictionMask();
     }
 
     /**
@@ -72,11 +73,39 @@ public abstract class BaseGear {
      * @return The BaseGear can be used by the specified class
      */
     public final boolean checkClassRestriction(final Class<?> classType) {
-        return getClassRestrictions().contains(classType);
+        return definition.checkClassRestriction(classType);
+    }
+
+    /**
+     * Check if the BaseGear can be used by the specified hero class.
+     *
+     * @param heroClass hero class to check restrictions for
+     * @return The BaseGear can be used by the specified hero class
+     */
+    public final boolean checkClassRestriction(final HeroClass heroClass) {
+        return definition.checkClassRestriction(heroClass);
+    }
+
+    /**
+     * Get the stat boosted by this BaseGear.
+     *
+     * @return boostType member
+     */
+    public final StatType getBoostType() {
+        return boostType;
+    }
+
+    /**
+     * Get the amount the stat is boosted by.
+     *
+     * @return boostValue member
+     */
+    public final int getBoostValue() {
+        return boostValue;
     }
 
     /**
-     * Get the bonus stat for this BaseGear.
+     * Get the bonus stat for this BaseGear, a new stat on every call.
      *
      * @return The bonus BaseStat for this BaseGear.
      */
@@ -85,9 +114,9 @@ public abstract class BaseGear {
     /**
      * Get the name of this BaseGear.
      *
-     * @return gearName member
+     * @return name of the definition
      */
     public String toString() {
-        return gearName;
+        return definition.toString();
     }
 }
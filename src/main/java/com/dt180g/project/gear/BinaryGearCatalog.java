@@ -0,0 +1,257 @@
+package com.dt180g.project.gear;
+
+import com.dt180g.project.characters.heroes.HeroClass;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Precompiled binary form of the gear catalogs, for a fast start of short-lived JVMs.
+ * The XML catalogs are compiled once into a single file, which is later memory mapped
+ * and decoded without any XML parsing.
+ *
+ * The file starts with a magic number and a format version, followed by a table of all distinct
+ * strings and then the weapon and armor definitions. Every item is five integers: string ids of its
+ * type, name and wield or material, its damage or protection, and its class restriction mask.
+ * All values are big-endian.
+ *
+ * @author Samuel Thand
+ */
+public final class BinaryGearCatalog {
+    static final int MAGIC = 0x44434743;  // "DCGC"
+    static final int VERSION = 2;
+    private static final int FIELDS_PER_ITEM = 5;
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+    private static final int ALL_HERO_CLASSES = (1 << HeroClass.values().length) - 1;
+
+    private BinaryGearCatalog() { }
+
+    /**
+     * Compile XML weapon and armor catalogs into a binary catalog.
+     *
+     * @param weaponCatalog The XML weapon catalog
+     * @param armorCatalog The XML armor catalog
+     * @param output The binary catalog to write, replaced if it exists
+     * @return Amount of gear pieces compiled
+     * @throws IOException If a catalog cannot be read or is invalid, or the output cannot be written
+     */
+    public static int compile(final Path weaponCatalog, final Path armorCatalog,
+                               final Path output) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        int[] weapons = readItems(weaponCatalog, true, strings);
+        int[] armor = readItems(armorCatalog, false, strings);
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(output)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(strings.size());
+            for (String string : strings.keySet()) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                if (bytes.length > MAX_STRING_BYTES) {
+                    throw new IOException("Gear catalog value of " + bytes.length + " bytes is too long");
+                }
+                out.writeShort(bytes.length);
+                out.write(bytes);
+            }
+            writeItems(out, weapons);
+            writeItems(out, armor);
+        }
+        return (weapons.length + armor.length) / FIELDS_PER_ITEM;
+    }
+
+    /**
+     * Read all items of an XML catalog as string ids and values.
+     *
+     * @param catalog The XML catalog
+     * @param isWeaponCatalog The catalog holds weapons, otherwise armor
+     * @param strings Ids of the strings found so far, new strings are added
+     * @return Fields of all items, five per item
+     * @throws IOException If the catalog cannot be read or is invalid
+     */
+    private static int[] readItems(final Path catalog, final boolean isWeaponCatalog,
+                                   final Map<String, Integer> strings) throws IOException {
+        ItemTable items = new ItemTable();
+        GearCatalogLoader.ItemHandler handler = (fields, itemNumber) -> {
+            int value = isWeaponCatalog
+                    ? GearCatalogLoader.parseWeaponDamage(fields, itemNumber)
+                    : GearCatalogLoader.parseArmorProtection(fields, itemNumber);
+            items.add(intern(strings, fields[GearCatalogLoader.TYPE]),
+                    intern(strings, fields[GearCatalogLoader.NAME]),
+                    intern(strings, fields[GearCatalogLoader.DESCRIPTION]), value,
+                    HeroClass.parseRestrictions(fields[GearCatalogLoader.RESTRICTION]));
+        };
+
+        if (isWeaponCatalog) {
+            GearCatalogLoader.readWeaponItems(catalog, handler);
+        } else {
+            GearCatalogLoader.readArmorItems(catalog, handler);
+        }
+        return items.toArray();
+    }
+
+    /**
+     * Growing table of item fields, five per item in the order they are written.
+     */
+    private static final class ItemTable {
+        private static final int INITIAL_ITEMS = 64;
+        private int[] fields = new int[INITIAL_ITEMS * FIELDS_PER_ITEM];
+        private int size = 0;
+
+        /**
+         * Append an item.
+         *
+         * @param type String id of the type
+         * @param name String id of the name
+         * @param description String id of the wield or material
+         * @param value Damage or protection
+         * @param restriction Class restriction mask
+         */
+        void add(final int type, final int name, final int description, final int value, final int restriction) {
+            if (size + FIELDS_PER_ITEM > fields.length) {
+                fields = Arrays.copyOf(fields, fields.length * 2);
+            }
+            fields[size++] = type;
+            fields[size++] = name;
+            fields[size++] = description;
+            fields[size++] = value;
+            fields[size++] = restriction;
+        }
+
+        /**
+         * Get the fields of all appended items.
+         *
+         * @return Fields of all items, five per item
+         */
+        int[] toArray() {
+            return Arrays.copyOf(fields, size);
+        }
+    }
+
+    /**
+     * Get the id of a string, giving it the next free id the first time it is seen.
+     *
+     * @param strings Ids of the strings found so far
+     * @param string The string to get the id for
+     * @return Id of the string
+     */
+    private static int intern(final Map<String, Integer> strings, final String string) {
+        return strings.computeIfAbsent(string, key -> strings.size());
+    }
+
+    /**
+     * Write a block of items, preceded by the amount of items.
+     *
+     * @param out Stream to write to
+     * @param items Fields of all items, five per item
+     * @throws IOException If the items cannot be written
+     */
+    private static void writeItems(final DataOutputStream out, final int[] items) throws IOException {
+        out.writeInt(items.length / FIELDS_PER_ITEM);
+        for (int value : items) {
+            out.writeInt(value);
+        }
+    }
+
+    /**
+     * Load a binary catalog, weapon definitions first and then armor definitions, each in catalog order.
+     *
+     * @param file The binary catalog
+     * @param weaponConsumer Receives every weapon definition as soon as it is built
+     * @param armorConsumer Receives every armor definition as soon as it is built
+     * @return Amount of gear pieces loaded
+     * @throws IOException If the file cannot be read, is of another version or is corrupt
+     */
+    public static int load(final Path file, final Consumer<WeaponDefinition> weaponConsumer,
+                           final Consumer<ArmorDefinition> armorConsumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < Integer.BYTES * 2 || buffer.getInt() != MAGIC) {
+                throw new IOException("Not a binary gear catalog: " + file);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported gear catalog version " + version + " in " + file);
+            }
+
+            String[] strings = new String[checkedCount(buffer, Short.BYTES)];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[buffer.getShort() & MAX_STRING_BYTES];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            int weapons = checkedCount(buffer, Integer.BYTES * FIELDS_PER_ITEM);
+            for (int i = 0; i < weapons; i++) {
+                weaponConsumer.accept(new WeaponDefinition(string(strings, buffer), string(strings, buffer),
+                        string(strings, buffer), buffer.getInt(), restrictionMask(buffer)));
+            }
+            int armor = checkedCount(buffer, Integer.BYTES * FIELDS_PER_ITEM);
+            for (int i = 0; i < armor; i++) {
+                armorConsumer.accept(new ArmorDefinition(string(strings, buffer), string(strings, buffer),
+                        string(strings, buffer), buffer.getInt(), restrictionMask(buffer)));
+            }
+            return weapons + armor;
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated binary gear catalog: " + file, e);
+        }
+    }
+
+    /**
+     * Read an amount of entries, and make sure the remaining data can hold at least that many.
+     *
+     * @param buffer Buffer to read from
+     * @param minimumBytesPerEntry Least amount of bytes needed by every entry
+     * @return The amount of entries
+     * @throws IOException If the amount is negative or too large for the remaining data
+     */
+    private static int checkedCount(final MappedByteBuffer buffer, final int minimumBytesPerEntry) throws IOException {
+        int count = buffer.getInt();
+        if (count < 0 || (long) count * minimumBytesPerEntry > buffer.remaining()) {
+            throw new IOException("Corrupt binary gear catalog, invalid amount " + count);
+        }
+        return count;
+    }
+
+    /**
+     * Read a string id and look up its string.
+     *
+     * @param strings The string table
+     * @param buffer Buffer to read from
+     * @return The string
+     * @throws IOException If the id is not in the string table
+     */
+    private static String string(final String[] strings, final MappedByteBuffer buffer) throws IOException {
+        int id = buffer.getInt();
+        if (id < 0 || id >= strings.length) {
+            throw new IOException("Corrupt binary gear catalog, unknown string id " + id);
+        }
+        return strings[id];
+    }
+
+    /**
+     * Read a class restriction mask.
+     *
+     * @param buffer Buffer to read from
+     * @return The class restriction mask
+     * @throws IOException If the mask has bits of no hero class set
+     */
+    private static int restrictionMask(final MappedByteBuffer buffer) throws IOException {
+        int restrictionMask = buffer.getInt();
+        if ((restrictionMask & ~ALL_HERO_CLASSES) != 0) {
+            throw new IOException("Corrupt binary gear catalog, invalid class restrictions " + restrictionMask);
+        }
+        return restrictionMask;
+    }
+}
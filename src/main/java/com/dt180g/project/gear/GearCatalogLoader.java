@@ -0,0 +1,264 @@
+package com.dt180g.project.gear;
+
+import com.dt180g.project.characters.heroes.HeroClass;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Streaming loader for the XML gear catalogs. Catalogs are read in a single pass with StAX and every
+ * item is built into a weapon or armor definition as soon as its closing tag is read, so no document tree or
+ * intermediate maps are kept. Memory use does not depend on the size of the catalog, apart from
+ * whatever the consumer of the items keeps.
+ *
+ * Each item is an element directly below the root element, with one child element per field.
+ * Fields not used by the gear are ignored, missing or malformed fields fail the load, as do
+ * class restrictions naming anything but a hero class.
+ *
+ * @author Samuel Thand
+ */
+public final class GearCatalogLoader {
+    private static final String[] WEAPON_FIELDS = {"type", "name", "wield", "damage", "restriction"};
+    private static final String[] ARMOR_FIELDS = {"type", "name", "material", "protection", "restriction"};
+    static final int TYPE = 0;
+    static final int NAME = 1;
+    static final int DESCRIPTION = 2;  // wield of weapons, material of armor
+    static final int VALUE = 3;  // damage of weapons, protection of armor
+    static final int RESTRICTION = 4;
+    private static final int ITEM_DEPTH = 2;
+    private static final int FIELD_DEPTH = 3;
+
+    private GearCatalogLoader() { }
+
+    /**
+     * Receives the parsed fields of one catalog item, indexed like the field names.
+     */
+    @FunctionalInterface
+    interface ItemHandler {
+        /**
+         * Handle one item, the field array is reused for the next item.
+         *
+         * @param fields Fields of the item
+         * @param itemNumber Position of the item in the catalog, starting at 1
+         * @throws IOException If the item is invalid
+         */
+        void accept(String[] fields, int itemNumber) throws IOException;
+    }
+
+    /**
+     * Read all weapon definitions in a catalog, in file order.
+     *
+     * @param file The weapon catalog
+     * @param consumer Receives every weapon definition as soon as it is built
+     * @return Amount of weapons read
+     * @throws IOException If the file cannot be read or is not a valid weapon catalog
+     */
+    public static int loadWeapons(final Path file, final Consumer<WeaponDefinition> consumer) throws IOException {
+        return readWeaponItems(file, (fields, itemNumber) -> consumer.accept(new WeaponDefinition(fields[TYPE],
+                fields[NAME], fields[DESCRIPTION], parseWeaponDamage(fields, itemNumber),
+                HeroClass.parseRestrictions(fields[RESTRICTION]))));
+    }
+
+    /**
+     * Read all armor definitions in a catalog, in file order.
+     *
+     * @param file The armor catalog
+     * @param consumer Receives every armor definition as soon as it is built
+     * @return Amount of armor pieces read
+     * @throws IOException If the file cannot be read or is not a valid armor catalog
+     */
+    public static int loadArmor(final Path file, final Consumer<ArmorDefinition> consumer) throws IOException {
+        return readArmorItems(file, (fields, itemNumber) -> consumer.accept(new ArmorDefinition(fields[TYPE],
+                fields[NAME], fields[DESCRIPTION], parseArmorProtection(fields, itemNumber),
+                HeroClass.parseRestrictions(fields[RESTRICTION]))));
+    }
+
+    /**
+     * Read the raw fields of all weapons in a catalog, in file order.
+     *
+     * @param file The weapon catalog
+     * @param handler Receives the fields of every weapon
+     * @return Amount of weapons read
+     * @throws IOException If the file cannot be read or is not a valid weapon catalog
+     */
+    static int readWeaponItems(final Path file, final ItemHandler handler) throws IOException {
+        return readItems(file, WEAPON_FIELDS, handler);
+    }
+
+    /**
+     * Read the raw fields of all armor pieces in a catalog, in file order.
+     *
+     * @param file The armor catalog
+     * @param handler Receives the fields of every armor piece
+     * @return Amount of armor pieces read
+     * @throws IOException If the file cannot be read or is not a valid armor catalog
+     */
+    static int readArmorItems(final Path file, final ItemHandler handler) throws IOException {
+        return readItems(file, ARMOR_FIELDS, handler);
+    }
+
+    /**
+     * Parse the damage field of a weapon.
+     *
+     * @param fields Fields of the weapon
+     * @param itemNumber Position of the weapon in the catalog, starting at 1
+     * @return The parsed damage
+     * @throws IOException If the damage is not an integer
+     */
+    static int parseWeaponDamage(final String[] fields, final int itemNumber) throws IOException {
+        return parseValue(fields, WEAPON_FIELDS, itemNumber);
+    }
+
+    /**
+     * Parse the protection field of an armor piece.
+     *
+     * @param fields Fields of the armor piece
+     * @param itemNumber Position of the armor piece in the catalog, starting at 1
+     * @return The parsed protection
+     * @throws IOException If the protection is not an integer
+     */
+    static int parseArmorProtection(final String[] fields, final int itemNumber) throws IOException {
+        return parseValue(fields, ARMOR_FIELDS, itemNumber);
+    }
+
+    /**
+     * Parse the numeric value field of an item.
+     *
+     * @param fields Fields of the item
+     * @param fieldNames Names of the fields
+     * @param itemNumber Position of the item in the catalog, starting at 1
+     * @return The parsed value
+     * @throws IOException If the value is not an integer
+     */
+    private static int parseValue(final String[] fields, final String[] fieldNames,
+                                  final int itemNumber) throws IOException {
+        try {
+            return Integer.parseInt(fields[VALUE].trim());
+        } catch (NumberFormatException e) {
+            throw new IOException(String.format("Invalid %s '%s' in item %d",
+                    fieldNames[VALUE], fields[VALUE], itemNumber), e);
+        }
+    }
+
+    /**
+     * Stream the items of a catalog, handing each one over as soon as it is complete.
+     * The field array and text buffer are reused for every item.
+     *
+     * @param file The catalog
+     * @param fieldNames Names of the fields to collect
+     * @param handler Receives the fields of every item
+     * @return Amount of items read
+     * @throws IOException If the file cannot be read, is malformed or an item lacks a field
+     */
+    private static int readItems(final Path file, final String[] fieldNames,
+                                 final ItemHandler handler) throws IOException {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);  // avoid attacks like XML External Entities
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+        String[] fields = new String[fieldNames.length];
+        StringBuilder text = new StringBuilder();
+        int depth = 0;
+        int field = -1;
+        int items = 0;
+
+        try (InputStream in = Files.newInputStream(file)) {
+            XMLStreamReader reader = factory.createXMLStreamReader(in);
+            try {
+                while (reader.hasNext()) {
+                    switch (reader.next()) {
+                        case XMLStreamConstants.START_ELEMENT -> {
+                            depth++;
+                            if (depth == ITEM_DEPTH) {
+                                Arrays.fill(fields, null);
+                            } else if (depth == FIELD_DEPTH) {
+                                field = indexOf(fieldNames, reader.getLocalName());
+                                text.setLength(0);
+                            }
+                        }
+                        case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> {
+                            if (depth == FIELD_DEPTH && field >= 0) {
+                                text.append(reader.getTextCharacters(), reader.getTextStart(),
+                                        reader.getTextLength());
+                            }
+                        }
+                        case XMLStreamConstants.END_ELEMENT -> {
+                            if (depth == FIELD_DEPTH && field >= 0) {
+                                fields[field] = text.toString();
+                                field = -1;
+                            } else if (depth == ITEM_DEPTH) {
+                                requireFields(fields, fieldNames, ++items);
+                                acceptItem(handler, fields, items);
+                            }
+                            depth--;
+                        }
+                        default -> { }  // comments, whitespace between items and the like
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Malformed gear catalog " + file, e);
+        }
+        return items;
+    }
+
+    /**
+     * Hand an item over, reporting invalid values such as unknown hero classes as an invalid catalog.
+     *
+     * @param handler Receives the fields of the item
+     * @param fields Fields of the item
+     * @param itemNumber Position of the item in the catalog, starting at 1
+     * @throws IOException If the item is invalid
+     */
+    private static void acceptItem(final ItemHandler handler, final String[] fields,
+                                   final int itemNumber) throws IOException {
+        try {
+            handler.accept(fields, itemNumber);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(String.format("Invalid item %d: %s", itemNumber, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Find the index of a field name.
+     *
+     * @param fieldNames Names of the fields
+     * @param name Name to find
+     * @return Index of the name, or -1 if it is not a collected field
+     */
+    private static int indexOf(final String[] fieldNames, final String name) {
+        for (int i = 0; i < fieldNames.length; i++) {
+            if (fieldNames[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Make sure an item has every field.
+     *
+     * @param fields Fields of the item
+     * @param fieldNames Names of the fields
+     * @param itemNumber Position of the item in the catalog, starting at 1
+     * @throws IOException If a field is missing
+     */
+    private static void requireFields(final String[] fields, final String[] fieldNames,
+                                      final int itemNumber) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] == null) {
+                throw new IOException(String.format("Missing %s in item %d", fieldNames[i], itemNumber));
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.dt180g.project.gear;
+
+import com.dt180g.project.characters.heroes.HeroClass;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base class for immutable gear definitions, the catalog entries shared by every piece of gear
+ * dropped from them. Definitions hold no random rolls and no mutable state, so one catalog can be
+ * used by any amount of simulations in parallel.
+ *
+ * @author Samuel Thand
+ */
+public abstract class GearDefinition {
+    private final String type;
+    private final String gearName;
+    private final int classRestrictionMask;
+
+    /**
+     * Base constructor, initializes members.
+     *
+     * @param type Type of the gear
+     * @param gearName Name of the gear
+     * @param classRestrictionMask Hero classes allowed to use the gear, one bit per hero class
+     */
+    protected GearDefinition(final String type, final String gearName, final int classRestrictionMask) {
+        this.type = type;
+        this.gearName = gearName;
+        this.classRestrictionMask = classRestrictionMask;
+    }
+
+    /**
+     * Get the type of the gear.
+     *
+     * @return type member
+     */
+    public final String getType() {
+        return type;
+    }
+
+    /**
+     * Get the name of the gear.
+     *
+     * @return gearName member
+     */
+    public final String getName() {
+        return gearName;
+    }
+
+    /**
+     * Get the class restrictions for the gear, one bit per allowed hero class.
+     *
+     * @return classRestrictionMask member
+     */
+    public final int getClassRestrictionMask() {
+        return classRestrictionMask;
+    }
+
+    /**
+     * Get the class restrictions for the gear, as the classes implementing the allowed hero classes.
+     *
+     * @return Classes allowed to use the gear
+     */
+    public final List<Class<?>> getClassRestrictions() {
+        List<Class<?>> classRestrictions = new ArrayList<>();
+        HeroClass.fromMask(classRestrictionMask).forEach(heroClass -> classRestrictions.add(heroClass.getHeroType()));
+        return classRestrictions;
+    }
+
+    /**
+     * Check if the gear can be used by the specified class.
+     *
+     * @param classType class to check restrictions for
+     * @return The gear can be used by the specified class
+     */
+    public final boolean checkClassRestriction(final Class<?> classType) {
+        return (classRestrictionMask & HeroClass.maskOf(classType)) != 0;
+    }
+
+    /**
+     * Check if the gear can be used by the specified hero class.
+     *
+     * @param heroClass hero class to check restrictions for
+     * @return The gear can be used by the specified hero class
+     */
+    public final boolean checkClassRestriction(final HeroClass heroClass) {
+        return heroClass.isAllowedBy(classRestrictionMask);
+    }
+
+    /**
+     * Get the name of the gear.
+     *
+     * @return gearName member
+     */
+    @Override
+    public String toString() {
+        return gearName;
+    }
+}
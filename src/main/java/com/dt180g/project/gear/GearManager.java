@@ -1,8 +1,14 @@
 package com.dt180g.project.gear;
 
+import com.dt180g.project.characters.heroes.HeroClass;
 import com.dt180g.project.support.IOHelper;
 import com.dt180g.project.support.Randomizer;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -11,149 +17,220 @@ import java.util.Map;
 /**
  * The singleton class responsible for managing gear by loading it from
  * XML, storing it and providing a public interface for accessing these.
+ * A precompiled binary catalog is loaded instead of the XML when it is up to date.
+ * Only the immutable gear definitions are stored, every random Weapon or Armor handed
+ * out is a new piece of gear with its boost rolled from the caller's random stream.
  *
  * @author Samuel Thand
  */
 public final class GearManager {
+    public static final String WEAPON_CATALOG = "weapons.xml";
+    public static final String ARMOR_CATALOG = "armor.xml";
+    public static final String BINARY_CATALOG = "gear.bin";  // compiled by CatalogCompilerProject
     public static final GearManager INSTANCE = new GearManager();
-    private final Map<String, List<Weapon>> weapons = new HashMap<>();
-    private final Map<String, List<Armor>> armorPieces = new HashMap<>();
+    private final Map<String, List<WeaponDefinition>> weapons = new HashMap<>();
+    private final Map<String, List<ArmorDefinition>> armorPieces = new HashMap<>();
+
+    // lookup tables built once after loading, every list in them is unmodifiable
+    private final Map<HeroClass, List<WeaponDefinition>> weaponsByClass = new EnumMap<>(HeroClass.class);
+    private final Map<HeroClass, List<WeaponDefinition>> oneHandedWeaponsByClass = new EnumMap<>(HeroClass.class);
+    private final Map<String, List<WeaponDefinition>> oneHandedWeaponsByType = new HashMap<>();
+    private final Map<HeroClass, List<ArmorDefinition>> armorByClass = new EnumMap<>(HeroClass.class);
+    private final Map<HeroClass, Map<String, List<ArmorDefinition>>> armorByClassAndType =
+            new EnumMap<>(HeroClass.class);
 
     /**
      * Constructor, initializes members.
      */
     private GearManager() {
-        loadWeaponsToMemberFromXML(weapons);
-        loadArmorToMemberFromXML(armorPieces);
+        if (!loadFromBinaryCatalog()) {
+            loadWeaponsToMemberFromXML(weapons);
+            loadArmorToMemberFromXML(armorPieces);
+        }
+        indexWeapons();
+        indexArmor();
+    }
+
+    /**
+     * Load weapons and armor from the precompiled binary catalog, if there is one that is
+     * at least as new as the XML catalogs.
+     *
+     * @return The gear was loaded, otherwise the members are left empty for loading from XML
+     */
+    private boolean loadFromBinaryCatalog() {
+        Path binaryCatalog = IOHelper.getResourcePath(BINARY_CATALOG);
+        try {
+            if (!Files.isRegularFile(binaryCatalog) || isNewerThan(WEAPON_CATALOG, binaryCatalog)
+                    || isNewerThan(ARMOR_CATALOG, binaryCatalog)) {
+                return false;
+            }
+            BinaryGearCatalog.load(binaryCatalog,
+                    weapon -> addToType(weapons, weapon), armor -> addToType(armorPieces, armor));
+            return true;
+        } catch (IOException e) {
+            System.err.println("Loading gear from XML, binary catalog unusable: " + e.getMessage());
+            weapons.clear();
+            armorPieces.clear();
+            return false;
+        }
+    }
+
+    /**
+     * Check if an XML catalog has been changed after a binary catalog was compiled.
+     *
+     * @param xmlCatalog file name of the XML catalog
+     * @param binaryCatalog path to the binary catalog
+     * @return The XML catalog exists and is newer than the binary catalog
+     * @throws IOException If the modification times cannot be read
+     */
+    private boolean isNewerThan(final String xmlCatalog, final Path binaryCatalog) throws IOException {
+        Path xmlPath = IOHelper.getResourcePath(xmlCatalog);
+        return Files.exists(xmlPath)
+                && Files.getLastModifiedTime(xmlPath).compareTo(Files.getLastModifiedTime(binaryCatalog)) > 0;
     }
 
     /**
      * Load weapons from XML to a member.
-     * Iterates over the info for each weapon, creates a key-value pair
-     * for each weapon type, and adds all weapons of that type to the list
-     * as Weapon objects.
+     * Streams the weapon catalog, adding every weapon definition to the list for its
+     * weapon type as soon as it is read.
      *
      * @param member member to load weapons into
      */
-    private void loadWeaponsToMemberFromXML(final Map<String, List<Weapon>> member) {
-        List<Map<String, String>> weaponsInfoFromFile = IOHelper.readFromFile("weapons.xml");
-
-        weaponsInfoFromFile.forEach(weaponInfo -> {
-            String thisWeaponType = weaponInfo.get("type");
-            if (!member.containsKey(thisWeaponType)) {
-                member.put(thisWeaponType, new ArrayList<>() {
-                    {
-                        add(new Weapon(weaponInfo));
-                    }
-                });
-            } else {
-                member.get(thisWeaponType).add(new Weapon(weaponInfo));
-            }
-        });
+    private void loadWeaponsToMemberFromXML(final Map<String, List<WeaponDefinition>> member) {
+        try {
+            GearCatalogLoader.loadWeapons(IOHelper.getResourcePath(WEAPON_CATALOG),
+                    weapon -> addToType(member, weapon));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
     }
 
     /**
      * Load armor from XML to a member.
-     * Iterates over the info for each armor piece, creates a key-value pair
-     * for each armor type, and adds all armor pieces of that type to the list
-     * as Armor objects.
+     * Streams the armor catalog, adding every armor definition to the list for its
+     * armor type as soon as it is read.
      *
      * @param member member to load armor into
      */
-    private void loadArmorToMemberFromXML(final Map<String, List<Armor>> member) {
-        List<Map<String, String>> armorInfoFromFile = IOHelper.readFromFile("armor.xml");
-
-        armorInfoFromFile.forEach(armorInfo -> {
-            String thisArmorType = armorInfo.get("type");
-            if (!member.containsKey(thisArmorType)) {
-                member.put(thisArmorType, new ArrayList<>() {
-                    {
-                        add(new Armor(armorInfo));
-                    }
-                });
-            } else {
-                member.get(thisArmorType).add(new Armor(armorInfo));
-            }
-        });
+    private void loadArmorToMemberFromXML(final Map<String, List<ArmorDefinition>> member) {
+        try {
+            GearCatalogLoader.loadArmor(IOHelper.getResourcePath(ARMOR_CATALOG),
+                    armor -> addToType(member, armor));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
     }
 
     /**
-     * Select a random index in a list.
+     * Add a gear definition to the list for its type, creating the list for the first definition of a type.
      *
-     * @param list to index into
-     * @return random index from the list
+     * @param member member to add the gear definition to
+     * @param gear the gear definition to add
+     * @param <T> type of gear definition
      */
-    private int getRandomIndex(final List<?> list) {
-        int randomIndex = 0;
-        if (list.size() != 0) {
-            randomIndex = Randomizer.INSTANCE.getRandomValue(list.size() - 1);
+    private <T extends GearDefinition> void addToType(final Map<String, List<T>> member, final T gear) {
+        if (!member.containsKey(gear.getType())) {
+            member.put(gear.getType(), new ArrayList<>());
         }
-
-        return randomIndex;
+        member.get(gear.getType()).add(gear);
     }
 
     /**
-     * Get a list of all weapons available for the specified class.
-     * Iterates over all weapon types and all weapons of that type, and checks if the
-     * specified class can use it.
-     *
-     * @param classRestriction class to find weapons for
-     * @return A list of all available weapons for the class
+     * Build the weapon lookup tables by class restriction, handedness and type.
+     * Weapons are visited in the same order as the stored weapons, so every table
+     * keeps the catalog order.
      */
-    private List<Weapon> getAllWeaponsForRestriction(final Class<?> classRestriction) {
-        ArrayList<Weapon> allowedWeaponsForClass = new ArrayList<>();
-        getAllMappedWeapons().forEach((weaponType, weaponsInList) -> weaponsInList.forEach(weapon -> {
-            if (weapon.checkClassRestriction(classRestriction)) {
-                allowedWeaponsForClass.add(weapon);
-            }
-        }));
+    private void indexWeapons() {
+        Map<HeroClass, List<WeaponDefinition>> allowed = new EnumMap<>(HeroClass.class);
+        Map<HeroClass, List<WeaponDefinition>> allowedOneHanded = new EnumMap<>(HeroClass.class);
+
+        weapons.forEach((weaponType, weaponsInList) -> {
+            List<WeaponDefinition> oneHandedOfType = new ArrayList<>();
+            weaponsInList.forEach(weapon -> {
+                if (!weapon.isTwoHanded()) {
+                    oneHandedOfType.add(weapon);
+                }
+                HeroClass.fromMask(weapon.getClassRestrictionMask()).forEach(classRestriction -> {
+                    allowed.computeIfAbsent(classRestriction, key -> new ArrayList<>()).add(weapon);
+                    if (!weapon.isTwoHanded()) {
+                        allowedOneHanded.computeIfAbsent(classRestriction, key -> new ArrayList<>()).add(weapon);
+                    }
+                });
+            });
+            oneHandedWeaponsByType.put(weaponType, Collections.unmodifiableList(oneHandedOfType));
+        });
 
-        return allowedWeaponsForClass;
+        allowed.forEach((classRestriction, list) ->
+                weaponsByClass.put(classRestriction, Collections.unmodifiableList(list)));
+        allowedOneHanded.forEach((classRestriction, list) ->
+                oneHandedWeaponsByClass.put(classRestriction, Collections.unmodifiableList(list)));
     }
 
     /**
-     * Get a list of one-handed weapons from a list of weapons.
-     * Iterates over all weapons in the list and checks if they are one-handed.
-     *
-     * @param weaponsInList list to parse for one-handed weapons.
-     * @return A list of one-handed weapons
+     * Build the armor lookup tables by class restriction and armor type.
      */
-    private List<Weapon> getOneHandedWeapons(final List<Weapon> weaponsInList) {
-        List<Weapon> oneHandedWeapons = new ArrayList<>();
-        weaponsInList.forEach(weapon -> {
-            if (!weapon.isTwoHanded()) {
-                oneHandedWeapons.add(weapon);
-            }
+    private void indexArmor() {
+        Map<HeroClass, List<ArmorDefinition>> allowed = new EnumMap<>(HeroClass.class);
+        Map<HeroClass, Map<String, List<ArmorDefinition>>> allowedOfType = new EnumMap<>(HeroClass.class);
+
+        armorPieces.forEach((armorType, armors) -> armors.forEach(armor ->
+                HeroClass.fromMask(armor.getClassRestrictionMask()).forEach(classRestriction -> {
+                    allowed.computeIfAbsent(classRestriction, key -> new ArrayList<>()).add(armor);
+                    allowedOfType.computeIfAbsent(classRestriction, key -> new HashMap<>())
+                            .computeIfAbsent(armorType, key -> new ArrayList<>()).add(armor);
+                })));
+
+        allowed.forEach((classRestriction, list) ->
+                armorByClass.put(classRestriction, Collections.unmodifiableList(list)));
+        allowedOfType.forEach((classRestriction, armorOfType) -> {
+            Map<String, List<ArmorDefinition>> unmodifiableOfType = new HashMap<>();
+            armorOfType.forEach((armorType, list) ->
+                    unmodifiableOfType.put(armorType, Collections.unmodifiableList(list)));
+            armorByClassAndType.put(classRestriction, Collections.unmodifiableMap(unmodifiableOfType));
         });
+    }
 
-        return oneHandedWeapons;
+    /**
+     * Select a random index in a list.
+     *
+     * @param list to index into
+     * @param random random stream to draw from
+     * @return random index from the list
+     */
+    private int getRandomIndex(final List<?> list, final Randomizer random) {
+        int randomIndex = 0;
+        if (list.size() != 0) {
+            randomIndex = random.getRandomValue(list.size() - 1);
+        }
+
+        return randomIndex;
     }
 
     /**
-     * Get all Armor from stored armorPieces.
+     * Get all armor definitions from stored armorPieces.
      *
      * @return armorPieces member
      */
-    public Map<String, List<Armor>> getAllMappedArmorPieces() {
+    public Map<String, List<ArmorDefinition>> getAllMappedArmorPieces() {
         return armorPieces;
     }
 
     /**
-     * Get all weapons from stored weapons.
+     * Get all weapon definitions from stored weapons.
      *
      * @return weapons member
      */
-    public Map<String, List<Weapon>> getAllMappedWeapons() {
+    public Map<String, List<WeaponDefinition>> getAllMappedWeapons() {
         return weapons;
     }
 
     /**
-     * Get all weapons of a specified type from stored weapons.
+     * Get all weapon definitions of a specified type from stored weapons.
      *
      * @param type Type of weapon
-     * @return List of weapons of type
+     * @return List of weapon definitions of type
      */
-    public List<Weapon> getWeaponsOfType(final String type) {
+    public List<WeaponDefinition> getWeaponsOfType(final String type) {
         return weapons.get(type);
     }
 
@@ -164,10 +241,32 @@ public final class GearManager {
      * @return A random Weapon for the class
      */
     public Weapon getRandomWeapon(final Class<?> classRestriction) {
-        List<Weapon> allowedWeaponsForClass = getAllWeaponsForRestriction(classRestriction);
-        int randomIndex = getRandomIndex(allowedWeaponsForClass);
+        return getRandomWeapon(classRestriction, Randomizer.current());
+    }
+
+    /**
+     * Get a random Weapon available to the specified class, drawn from the specified random stream.
+     *
+     * @param classRestriction Class to get a random Weapon for
+     * @param random Random stream to draw from
+     * @return A random Weapon for the class
+     */
+    public Weapon getRandomWeapon(final Class<?> classRestriction, final Randomizer random) {
+        return getRandomWeapon(HeroClass.fromType(classRestriction), random);
+    }
+
+    /**
+     * Get a random Weapon available to the specified hero class, drawn from the specified random stream.
+     *
+     * @param heroClass Hero class to get a random Weapon for
+     * @param random Random stream to draw from
+     * @return A random Weapon for the hero class
+     */
+    public Weapon getRandomWeapon(final HeroClass heroClass, final Randomizer random) {
+        List<WeaponDefinition> allowedWeaponsForClass = weaponsByClass.getOrDefault(heroClass, List.of());
+        int randomIndex = getRandomIndex(allowedWeaponsForClass, random);
 
-        return allowedWeaponsForClass.get(randomIndex);
+        return new Weapon(allowedWeaponsForClass.get(randomIndex), random);
     }
 
     /**
@@ -177,11 +276,22 @@ public final class GearManager {
      * @return A random Weapon of a random type
      */
     public Weapon getRandomWeapon(final List<String> weaponTypes) {
-        String randomWeaponType = weaponTypes.get(getRandomIndex(weaponTypes));
-        List<Weapon> weaponsOfRandomType = weapons.get(randomWeaponType);
-        int randomIndex = getRandomIndex(weaponsOfRandomType);
+        return getRandomWeapon(weaponTypes, Randomizer.current());
+    }
 
-        return weaponsOfRandomType.get(randomIndex);
+    /**
+     * Get a random Weapon of a random type from the specified list, drawn from the specified random stream.
+     *
+     * @param weaponTypes List of Weapon types
+     * @param random Random stream to draw from
+     * @return A random Weapon of a random type
+     */
+    public Weapon getRandomWeapon(final List<String> weaponTypes, final Randomizer random) {
+        String randomWeaponType = weaponTypes.get(getRandomIndex(weaponTypes, random));
+        List<WeaponDefinition> weaponsOfRandomType = weapons.get(randomWeaponType);
+        int randomIndex = getRandomIndex(weaponsOfRandomType, random);
+
+        return new Weapon(weaponsOfRandomType.get(randomIndex), random);
     }
 
     /**
@@ -191,10 +301,32 @@ public final class GearManager {
      * @return A random one-handed Weapon for the class
      */
     public Weapon getRandomOneHandedWeapon(final Class<?> classRestriction) {
-        List<Weapon> allowed1hWeaponsForClass = getOneHandedWeapons(getAllWeaponsForRestriction(classRestriction));
-        int randomIndex = getRandomIndex(allowed1hWeaponsForClass);
+        return getRandomOneHandedWeapon(classRestriction, Randomizer.current());
+    }
+
+    /**
+     * Get a random one-handed Weapon available to the specified class, drawn from the specified random stream.
+     *
+     * @param classRestriction Class to get a random one-handed Weapon for
+     * @param random Random stream to draw from
+     * @return A random one-handed Weapon for the class
+     */
+    public Weapon getRandomOneHandedWeapon(final Class<?> classRestriction, final Randomizer random) {
+        return getRandomOneHandedWeapon(HeroClass.fromType(classRestriction), random);
+    }
+
+    /**
+     * Get a random one-handed Weapon available to the specified hero class, drawn from the specified random stream.
+     *
+     * @param heroClass Hero class to get a random one-handed Weapon for
+     * @param random Random stream to draw from
+     * @return A random one-handed Weapon for the hero class
+     */
+    public Weapon getRandomOneHandedWeapon(final HeroClass heroClass, final Randomizer random) {
+        List<WeaponDefinition> allowed1hWeaponsForClass = oneHandedWeaponsByClass.getOrDefault(heroClass, List.of());
+        int randomIndex = getRandomIndex(allowed1hWeaponsForClass, random);
 
-        return allowed1hWeaponsForClass.get(randomIndex);
+        return new Weapon(allowed1hWeaponsForClass.get(randomIndex), random);
     }
 
     /**
@@ -204,57 +336,94 @@ public final class GearManager {
      * @return A random one-handed Weapon of a random type
      */
     public Weapon getRandomOneHandedWeapon(final List<String> weaponTypes) {
-        List<Weapon> oneHandedWeapons = new ArrayList<>();
+        return getRandomOneHandedWeapon(weaponTypes, Randomizer.current());
+    }
 
+    /**
+     * Get a random one-handed Weapon of a random type from the specified list,
+     * drawn from the specified random stream. The index is drawn over the combined
+     * one-handed weapons of all types and then located, without building the combined list.
+     *
+     * @param weaponTypes List of Weapon types
+     * @param random Random stream to draw from
+     * @return A random one-handed Weapon of a random type
+     */
+    public Weapon getRandomOneHandedWeapon(final List<String> weaponTypes, final Randomizer random) {
+        int totalOneHanded = 0;
         for (String weaponType : weaponTypes) {
-            List<Weapon> oneHandedWeaponsOfThisType = getOneHandedWeapons(getWeaponsOfType(weaponType));
-            oneHandedWeapons.addAll(oneHandedWeaponsOfThisType);
+            totalOneHanded += oneHandedWeaponsByType.get(weaponType).size();
         }
 
-        int randomIndex = getRandomIndex(oneHandedWeapons);
+        int randomIndex = totalOneHanded != 0 ? random.getRandomValue(totalOneHanded - 1) : 0;
+        for (String weaponType : weaponTypes) {
+            List<WeaponDefinition> oneHandedWeaponsOfThisType = oneHandedWeaponsByType.get(weaponType);
+            if (randomIndex < oneHandedWeaponsOfThisType.size()) {
+                return new Weapon(oneHandedWeaponsOfThisType.get(randomIndex), random);
+            }
+            randomIndex -= oneHandedWeaponsOfThisType.size();
+        }
 
-        return oneHandedWeapons.get(randomIndex);
+        throw new IndexOutOfBoundsException("No one-handed weapons of types " + weaponTypes);
     }
 
     /**
-     * Get a list of all Armor available for the specified class.
-     * Iterates over all Armor types and all Armor pieces of that type, and checks if the
-     * specified class can use it.
+     * Get a list of all armor definitions available for the specified class.
      *
      * @param classRestriction class to find Armor for
-     * @return A list of all available Armor for the class
+     * @return An unmodifiable list of all available armor definitions for the class
      */
-    public List<Armor> getAllArmorForRestriction(final Class<?> classRestriction) {
-        ArrayList<Armor> allowedArmorForClass = new ArrayList<>();
-        getAllMappedArmorPieces().forEach((armorType, armors) -> armors.forEach(armor -> {
-            if (armor.checkClassRestriction(classRestriction)) {
-                allowedArmorForClass.add(armor);
-            }
-        }));
+    public List<ArmorDefinition> getAllArmorForRestriction(final Class<?> classRestriction) {
+        return getAllArmorForRestriction(HeroClass.fromType(classRestriction));
+    }
 
-        return allowedArmorForClass;
+    /**
+     * Get a list of all armor definitions available for the specified hero class.
+     *
+     * @param heroClass hero class to find Armor for
+     * @return An unmodifiable list of all available armor definitions for the hero class
+     */
+    public List<ArmorDefinition> getAllArmorForRestriction(final HeroClass heroClass) {
+        return armorByClass.getOrDefault(heroClass, List.of());
     }
 
     /**
      * Get a random Armor piece of the specified type, for the specified class.
-     * Iterates over all available Armor for the class and selects pieces of the correct type.
      *
      * @param armorType type of Armor
      * @param classRestriction class to find Armor for
-     * @return A list of all available Armor for the class
+     * @return A random Armor piece of the type for the class
      */
     public Armor getRandomArmorOfType(final String armorType, final Class<?> classRestriction) {
-        List<Armor> allowedArmorForClass = getAllArmorForRestriction(classRestriction);
+        return getRandomArmorOfType(armorType, classRestriction, Randomizer.current());
+    }
 
-        List<Armor> allowedArmorsOfType = new ArrayList<>();
-        allowedArmorForClass.forEach(armor -> {
-            if (armor.getType().equals(armorType)) {
-                allowedArmorsOfType.add(armor);
-            }
-        });
+    /**
+     * Get a random Armor piece of the specified type, for the specified class, drawn from the specified random stream.
+     *
+     * @param armorType type of Armor
+     * @param classRestriction class to find Armor for
+     * @param random Random stream to draw from
+     * @return A random Armor piece of the type for the class
+     */
+    public Armor getRandomArmorOfType(final String armorType, final Class<?> classRestriction,
+                                      final Randomizer random) {
+        return getRandomArmorOfType(armorType, HeroClass.fromType(classRestriction), random);
+    }
 
-        int randomIndex = getRandomIndex(allowedArmorsOfType);
+    /**
+     * Get a random Armor piece of the specified type, for the specified hero class, drawn from the specified
+     * random stream.
+     *
+     * @param armorType type of Armor
+     * @param heroClass hero class to find Armor for
+     * @param random Random stream to draw from
+     * @return A random Armor piece of the type for the hero class
+     */
+    public Armor getRandomArmorOfType(final String armorType, final HeroClass heroClass, final Randomizer random) {
+        List<ArmorDefinition> allowedArmorsOfType = armorByClassAndType.getOrDefault(heroClass, Map.of())
+                .getOrDefault(armorType, List.of());
+        int randomIndex = getRandomIndex(allowedArmorsOfType, random);
 
-        return allowedArmorsOfType.get(randomIndex);
+        return new Armor(allowedArmorsOfType.get(randomIndex), random);
     }
 }
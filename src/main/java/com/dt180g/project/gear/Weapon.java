@@ -1,62 +1,100 @@
 package com.dt180g.project.gear;
 
+import com.dt180g.project.characters.heroes.HeroClass;
 import com.dt180g.project.stats.Attribute;
 import com.dt180g.project.stats.BaseStat;
+import com.dt180g.project.stats.StatType;
 import com.dt180g.project.stats.StatsManager;
 import com.dt180g.project.support.Constants;
 import com.dt180g.project.support.Randomizer;
 import java.util.Map;
 
 /**
- * Concrete class for the gear weapon.
+ * Concrete class for the gear weapon, one dropped weapon with its own random attribute boost.
  *
  * @author Samuel Thand
  */
 public class Weapon extends BaseGear implements Constants {
-    private final int damage;
-    private final String wield;
-    private final Attribute attribute;
 
     /**
-     * Constructor, initializes members from provided map.
+     * Constructor, initializes members from provided map, rolling the random boost
+     * from the calling thread's random stream.
      *
      * @param weaponData Mapped values with information about the weapon piece
      */
     public Weapon(final Map<String, String> weaponData) {
-        super(weaponData.get("type"), weaponData.get("name"), weaponData.get("restriction"));
-        this.damage = Integer.parseInt(weaponData.get("damage"));
-        this.wield = weaponData.get("wield");
-        this.attribute = createAttributeWithRandomBoost();
+        this(weaponData, Randomizer.current());
+    }
+
+    /**
+     * Constructor, initializes members from provided map.
+     *
+     * @param weaponData Mapped values with information about the weapon piece
+     * @param random Random stream to roll the boost from
+     * @throws IllegalArgumentException if a restriction is not a hero class
+     */
+    public Weapon(final Map<String, String> weaponData, final Randomizer random) {
+        this(new WeaponDefinition(weaponData.get("type"), weaponData.get("name"), weaponData.get("wield"),
+                Integer.parseInt(weaponData.get("damage")),
+                HeroClass.parseRestrictions(weaponData.get("restriction"))), random);
     }
 
     /**
-     * Create a random Attribute with a random boost value.
+     * Constructor, drops a weapon from a catalog definition with a freshly rolled boost.
      *
-     * @return A random Attribute with a random boost value.
+     * @param definition The catalog definition of the weapon
+     * @param random Random stream to roll the boost from
      */
-    private Attribute createAttributeWithRandomBoost() {
-        int randomBoostValue = Randomizer.INSTANCE.getRandomValue(1, Constants.WEAPON_ATTRIBUTE_VALUE_UPPER_BOUND);
-        String randomAttributeName = StatsManager.INSTANCE.getRandomAttributeName();
+    public Weapon(final WeaponDefinition definition, final Randomizer random) {
+        this(definition, random.getRandomValue(1, Constants.WEAPON_ATTRIBUTE_VALUE_UPPER_BOUND), random);
+    }
 
-        return new Attribute(randomAttributeName, randomBoostValue);
+    /**
+     * Constructor, restores a dropped weapon with an already rolled boost, e.g. from a saved game.
+     *
+     * @param definition The catalog definition of the weapon
+     * @param boostType The boosted stat
+     * @param boostValue The boost value
+     */
+    public Weapon(final WeaponDefinition definition, final StatType boostType, final int boostValue) {
+        super(definition, boostType, boostValue);
+    }
+
+    /**
+     * Constructor, the boost value is rolled before the boosted attribute.
+     *
+     * @param definition The catalog definition of the weapon
+     * @param boostValue The rolled boost value
+     * @param random Random stream to roll the boosted attribute from
+     */
+    private Weapon(final WeaponDefinition definition, final int boostValue, final Randomizer random) {
+        super(definition, StatType.fromName(StatsManager.INSTANCE.getRandomAttributeName(random)), boostValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final WeaponDefinition getDefinition() {
+        return (WeaponDefinition) super.getDefinition();
     }
 
     /**
      * Get the damage for this Weapon.
      *
-     * @return protection member
+     * @return damage of the definition
      */
     public final int getDamage() {
-        return damage;
+        return getDefinition().getDamage();
     }
 
     /**
      * Get wield of this Weapon.
      *
-     * @return material member
+     * @return wield of the definition
      */
     public final String getWield() {
-        return wield;
+        return getDefinition().getWield();
     }
 
     /**
@@ -64,7 +102,7 @@ public class Weapon extends BaseGear implements Constants {
      */
     @Override
     public final BaseStat getStat() {
-        return attribute;
+        return new Attribute(getBoostType().getStatName(), getBoostValue());
     }
 
     /**
@@ -73,7 +111,7 @@ public class Weapon extends BaseGear implements Constants {
      * @return This weapon is two-handed.
      */
     public final boolean isTwoHanded() {
-        return wield.contains("Two Handed");
+        return getDefinition().isTwoHanded();
     }
 
     /**
@@ -81,6 +119,6 @@ public class Weapon extends BaseGear implements Constants {
      */
     @Override
     public final String toString() {
-        return String.format("%s of %s", super.toString(), attribute.getStatName());
+        return String.format("%s of %s", super.toString(), getBoostType().getStatName());
     }
 }
@@ -0,0 +1,56 @@
+package com.dt180g.project.gear;
+
+/**
+ * Immutable catalog definition of a weapon, shared by every weapon dropped from it.
+ *
+ * @author Samuel Thand
+ */
+public final class WeaponDefinition extends GearDefinition {
+    private final String wield;
+    private final int damage;
+    private final boolean twoHanded;
+
+    /**
+     * Constructor, initializes members.
+     *
+     * @param type Type of the weapon
+     * @param name Name of the weapon
+     * @param wield How the weapon is wielded
+     * @param damage Damage of the weapon
+     * @param classRestrictionMask Hero classes allowed to use the weapon, one bit per hero class
+     */
+    public WeaponDefinition(final String type, final String name, final String wield, final int damage,
+                            final int classRestrictionMask) {
+        super(type, name, classRestrictionMask);
+        this.wield = wield;
+        this.damage = damage;
+        this.twoHanded = wield.contains("Two Handed");
+    }
+
+    /**
+     * Get how the weapon is wielded.
+     *
+     * @return wield member
+     */
+    public String getWield() {
+        return wield;
+    }
+
+    /**
+     * Get the damage of the weapon.
+     *
+     * @return damage member
+     */
+    public int getDamage() {
+        return damage;
+    }
+
+    /**
+     * Check if the weapon is two-handed.
+     *
+     * @return twoHanded member
+     */
+    public boolean isTwoHanded() {
+        return twoHanded;
+    }
+}
@@ -0,0 +1,133 @@
+package com.dt180g.project.policies;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.abilities.BaseAbility;
+import com.dt180g.project.characters.BaseCharacter;
+import com.dt180g.project.characters.CharacterStats;
+import com.dt180g.project.characters.heroes.BaseHero;
+import com.dt180g.project.support.Constants;
+import com.dt180g.project.support.SimulationConfig;
+import java.util.List;
+
+/**
+ * Estimates shared by the built-in policies, following the rules the game engine resolves abilities by.
+ * Everything is computed from the current stats of the characters, without allocating, so policies can
+ * be evaluated for millions of turns.
+ *
+ * @author Samuel Thand
+ */
+final class AbilityEstimates implements Constants {
+    static final int PERCENT = 100;
+
+    private AbilityEstimates() { }
+
+    /**
+     * Get the side of a character, itself included.
+     *
+     * @param character The character
+     * @param engine The game engine the character plays in
+     * @return The heroes for a hero, otherwise the enemies
+     */
+    static List<? extends BaseCharacter> getAllies(final BaseCharacter character, final GameEngine engine) {
+        return (character instanceof BaseHero) ? engine.getHeroes() : engine.getEnemies();
+    }
+
+    /**
+     * Get the side a character attacks.
+     *
+     * @param character The character
+     * @param engine The game engine the character plays in
+     * @return The enemies for a hero, otherwise the heroes
+     */
+    static List<? extends BaseCharacter> getOpponents(final BaseCharacter character, final GameEngine engine) {
+        return (character instanceof BaseHero) ? engine.getEnemies() : engine.getHeroes();
+    }
+
+    /**
+     * Check if a character can afford an ability after the abilities already chosen for its turn.
+     *
+     * @param character The acting character
+     * @param chosen The abilities chosen so far
+     * @param amountChosen Amount of abilities chosen so far
+     * @param ability The ability to check
+     * @return The character has enough AP and energy left for the ability
+     */
+    static boolean isAffordable(final BaseCharacter character, final BaseAbility[] chosen, final int amountChosen,
+                                final BaseAbility ability) {
+        int actionPoints = character.getActionPoints();
+        int energy = character.getEnergyLevel();
+        for (int i = 0; i < amountChosen; i++) {
+            actionPoints -= chosen[i].getActionPointCost();
+            energy -= chosen[i].getEnergyCost();
+        }
+        return ability.getActionPointCost() <= actionPoints && ability.getEnergyCost() <= energy;
+    }
+
+    /**
+     * Check if a character is below a share of its total hit points.
+     *
+     * @param character The character
+     * @param thresholdPercent The share, in percent of the total hit points
+     * @return The character is hurt
+     */
+    static boolean isHurt(final BaseCharacter character, final int thresholdPercent) {
+        CharacterStats stats = character.getCharacterStats();
+        return stats.getCurrentHitPoints() * PERCENT < stats.getTotalHitPoints() * thresholdPercent;
+    }
+
+    /**
+     * Estimate the damage or heal an ability deals to each of its targets before mitigation and crits.
+     * Single target abilities multiply their base value by the single target multiplier of the game.
+     *
+     * @param character The acting character
+     * @param engine The game engine the character plays in
+     * @param ability The ability
+     * @return The value per target
+     */
+    static int estimateValue(final BaseCharacter character, final GameEngine engine, final BaseAbility ability) {
+        int baseValue = character.determineAbilityBaseValue(ability);
+        return (ability.getAmountOfTargets() == ABILITY_SINGLE_TARGET)
+                ? baseValue * engine.getConfig().getSingleTargetAbilityMultiplier() : baseValue;
+    }
+
+    /**
+     * Estimate the damage a damaging ability deals to an average opponent, including the chance of a crit,
+     * scaled by the amount of crit rolls to stay in integers.
+     *
+     * @param character The acting character
+     * @param engine The game engine the character plays in
+     * @param ability The ability
+     * @param defenceRate Average defence rate of the opponents
+     * @param armorProtection Average armor protection of the opponents
+     * @return The expected damage per target times the amount of crit rolls
+     */
+    static int estimateDamage(final BaseCharacter character, final GameEngine engine, final BaseAbility ability,
+                              final int defenceRate, final int armorProtection) {
+        SimulationConfig config = engine.getConfig();
+        int value = estimateValue(character, engine, ability);
+        int critMultiplier = (character instanceof BaseHero)
+                ? config.getHeroCritMultiplier() : config.getEnemyCritMultiplier();
+        int mitigation = ability.isMagic() ? defenceRate : defenceRate + armorProtection;
+        return (SimulationConfig.CRIT_ROLLS - config.getCritChance()) * Math.max(0, value - mitigation)
+                + config.getCritChance() * Math.max(0, value * critMultiplier - mitigation);
+    }
+
+    /**
+     * Compare how much two abilities achieve per AP spent, by cross multiplication.
+     *
+     * @param value What the first ability achieves
+     * @param ability The first ability
+     * @param otherValue What the second ability achieves
+     * @param other The second ability, or null
+     * @return The first ability achieves more per AP, or as much per AP but more in total
+     */
+    static boolean isMoreEfficient(final long value, final BaseAbility ability, final long otherValue,
+                                   final BaseAbility other) {
+        if (other == null) {
+            return value > 0;
+        }
+        long perCost = value * other.getActionPointCost();
+        long otherPerCost = otherValue * ability.getActionPointCost();
+        return perCost > otherPerCost || (perCost == otherPerCost && value > otherValue);
+    }
+}
@@ -0,0 +1,63 @@
+package com.dt180g.project.policies;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.abilities.BaseAbility;
+import com.dt180g.project.characters.BaseCharacter;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Decides which abilities a character uses during its turn. The character tries the chosen abilities
+ * in order, skipping those it cannot afford, and ends its turn early when no targets remain.
+ * The game engine holds one policy for the heroes and one for the enemies.
+ *
+ * @author Samuel Thand
+ */
+@FunctionalInterface
+public interface DecisionPolicy {
+    /**
+     * Choose the abilities for a turn, in the order they are tried.
+     *
+     * @param character The acting character
+     * @param engine The game engine the turn is played in
+     * @param chosen Array to fill with up to ACTIONS_PER_TURN abilities, reused between turns
+     * @return Amount of abilities chosen
+     */
+    int chooseAbilities(BaseCharacter character, GameEngine engine, BaseAbility[] chosen);
+
+    /**
+     * Get the name the policy is rebuilt from by {@link #forName(String)}, e.g. when a recorded
+     * campaign is replayed.
+     *
+     * @return The name of the policy, or null if it cannot be rebuilt from a name
+     */
+    default String getName() {
+        return null;
+    }
+
+    /**
+     * Rebuild a policy from its name, or load a priority table.
+     *
+     * @param name random, greedy, heal, heal:percent for another heal threshold, the name of a priority
+     *             table policy, or the path of a priority table
+     * @return The decision policy
+     * @throws IOException If the priority table cannot be rebuilt or loaded
+     * @throws IllegalArgumentException If the heal threshold is invalid
+     */
+    static DecisionPolicy forName(final String name) throws IOException {
+        final String healPrefix = "heal:";
+        switch (name) {
+            case "random": return RandomPolicy.INSTANCE;
+            case "greedy": return GreedyPolicy.INSTANCE;
+            case "heal": return HealWhenLowPolicy.INSTANCE;
+            default:
+                if (name.startsWith(healPrefix)) {
+                    return new HealWhenLowPolicy(Integer.parseInt(name.substring(healPrefix.length())));
+                }
+                if (name.startsWith(PriorityTablePolicy.NAME_PREFIX)) {
+                    return PriorityTablePolicy.fromName(name);
+                }
+                return PriorityTablePolicy.load(Path.of(name));
+        }
+    }
+}
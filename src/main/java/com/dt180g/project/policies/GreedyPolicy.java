@@ -0,0 +1,86 @@
+package com.dt180g.project.policies;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.abilities.BaseAbility;
+import com.dt180g.project.characters.BaseCharacter;
+import com.dt180g.project.support.Constants;
+import java.util.List;
+
+/**
+ * Policy maximizing the damage of every turn. It keeps choosing the damaging ability with the highest
+ * expected damage per AP that the character can still afford, against the average defence and armor of
+ * its opponents, until no ability is affordable or ACTIONS_PER_TURN abilities are chosen. Heals are never
+ * chosen, and no random numbers are drawn.
+ *
+ * @author Samuel Thand
+ */
+public final class GreedyPolicy implements DecisionPolicy, Constants {
+    public static final GreedyPolicy INSTANCE = new GreedyPolicy();
+
+    private GreedyPolicy() { }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return "greedy";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int chooseAbilities(final BaseCharacter character, final GameEngine engine, final BaseAbility[] chosen) {
+        return chooseDamagingAbilities(character, engine, chosen, 0);
+    }
+
+    /**
+     * Fill the rest of a turn with the most damaging abilities per AP.
+     *
+     * @param character The acting character
+     * @param engine The game engine the turn is played in
+     * @param chosen Array to fill
+     * @param alreadyChosen Amount of abilities already chosen, kept at the start of the array
+     * @return Amount of abilities chosen
+     */
+    static int chooseDamagingAbilities(final BaseCharacter character, final GameEngine engine,
+                                       final BaseAbility[] chosen, final int alreadyChosen) {
+        List<? extends BaseCharacter> opponents = AbilityEstimates.getOpponents(character, engine);
+        if (opponents.isEmpty()) {
+            return alreadyChosen;
+        }
+        int defenceRate = 0;
+        int armorProtection = 0;
+        for (int i = 0; i < opponents.size(); i++) {  // indexed loops do not allocate iterators
+            defenceRate += opponents.get(i).getCharacterStats().getDefenceRate();
+            armorProtection += opponents.get(i).getEquipment().getTotalArmorProtection();
+        }
+        defenceRate /= opponents.size();
+        armorProtection /= opponents.size();
+
+        List<BaseAbility> abilities = character.getAbilities();
+        int amountChosen = alreadyChosen;
+        while (amountChosen < ACTIONS_PER_TURN) {
+            BaseAbility best = null;
+            long bestDamage = 0;
+            for (int i = 0; i < abilities.size(); i++) {
+                BaseAbility ability = abilities.get(i);
+                if (ability.isHeal() || !AbilityEstimates.isAffordable(character, chosen, amountChosen, ability)) {
+                    continue;
+                }
+                long damage = (long) AbilityEstimates.estimateDamage(character, engine, ability, defenceRate,
+                        armorProtection) * Math.min(ability.getAmountOfTargets(), opponents.size());
+                if (AbilityEstimates.isMoreEfficient(damage, ability, bestDamage, best)) {
+                    best = ability;
+                    bestDamage = damage;
+                }
+            }
+            if (best == null) {
+                break;
+            }
+            chosen[amountChosen++] = best;
+        }
+        return amountChosen;
+    }
+}
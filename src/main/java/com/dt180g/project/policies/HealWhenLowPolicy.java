@@ -0,0 +1,92 @@
+package com.dt180g.project.policies;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.abilities.BaseAbility;
+import com.dt180g.project.characters.BaseCharacter;
+import com.dt180g.project.characters.CharacterStats;
+import com.dt180g.project.support.Constants;
+import java.util.List;
+
+/**
+ * Policy healing its side when somebody is low on hit points, and otherwise dealing damage like the
+ * greedy policy. As long as an ally, the acting character included, is below the threshold, the character
+ * starts its turn with the affordable heals restoring the most hit points per AP, until the missing hit
+ * points of its side are covered. The rest of the turn is filled by {@link GreedyPolicy}. Characters
+ * without heals always play greedily.
+ *
+ * @author Samuel Thand
+ */
+public final class HealWhenLowPolicy implements DecisionPolicy, Constants {
+    public static final int DEFAULT_THRESHOLD = 50;
+    public static final HealWhenLowPolicy INSTANCE = new HealWhenLowPolicy(DEFAULT_THRESHOLD);
+    private final int thresholdPercent;
+
+    /**
+     * Constructor, initializes members.
+     *
+     * @param thresholdPercent Share of the total hit points, in percent, below which allies are healed
+     */
+    public HealWhenLowPolicy(final int thresholdPercent) {
+        if (thresholdPercent < 1 || thresholdPercent > AbilityEstimates.PERCENT) {
+            throw new IllegalArgumentException("The threshold must be between 1 and 100 percent");
+        }
+        this.thresholdPercent = thresholdPercent;
+    }
+
+    /**
+     * Get the share of the total hit points below which allies are healed.
+     *
+     * @return member thresholdPercent
+     */
+    public int getThresholdPercent() {
+        return thresholdPercent;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return (thresholdPercent == DEFAULT_THRESHOLD) ? "heal" : "heal:" + thresholdPercent;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int chooseAbilities(final BaseCharacter character, final GameEngine engine, final BaseAbility[] chosen) {
+        List<? extends BaseCharacter> allies = AbilityEstimates.getAllies(character, engine);
+        boolean allyIsLow = false;
+        int missingHitPoints = 0;
+        for (int i = 0; i < allies.size(); i++) {  // indexed loops do not allocate iterators
+            CharacterStats stats = allies.get(i).getCharacterStats();
+            missingHitPoints += stats.getTotalHitPoints() - stats.getCurrentHitPoints();
+            allyIsLow |= AbilityEstimates.isHurt(allies.get(i), thresholdPercent);
+        }
+
+        List<BaseAbility> abilities = character.getAbilities();
+        int amountChosen = 0;
+        while (allyIsLow && missingHitPoints > 0 && amountChosen < ACTIONS_PER_TURN) {
+            BaseAbility best = null;
+            int bestHealing = 0;
+            for (int i = 0; i < abilities.size(); i++) {
+                BaseAbility ability = abilities.get(i);
+                if (!ability.isHeal() || !AbilityEstimates.isAffordable(character, chosen, amountChosen, ability)) {
+                    continue;
+                }
+                int healing = Math.min(missingHitPoints, AbilityEstimates.estimateValue(character, engine, ability)
+                        * Math.min(ability.getAmountOfTargets(), allies.size()));
+                if (AbilityEstimates.isMoreEfficient(healing, ability, bestHealing, best)) {
+                    best = ability;
+                    bestHealing = healing;
+                }
+            }
+            if (best == null) {
+                break;
+            }
+            chosen[amountChosen++] = best;
+            missingHitPoints -= bestHealing;
+        }
+        return GreedyPolicy.chooseDamagingAbilities(character, engine, chosen, amountChosen);
+    }
+}
@@ -0,0 +1,442 @@
+package com.dt180g.project.policies;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.abilities.BaseAbility;
+import com.dt180g.project.characters.BaseCharacter;
+import com.dt180g.project.characters.heroes.BaseHero;
+import com.dt180g.project.events.CombatEventListener;
+import com.dt180g.project.simulation.BattleSnapshot;
+import com.dt180g.project.simulation.BattleState;
+import com.dt180g.project.simulation.CampaignSimulator;
+import com.dt180g.project.support.Constants;
+import com.dt180g.project.support.Randomizer;
+import com.dt180g.project.support.SimulationConfig;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monte Carlo tree search over the abilities of a turn. Every decision captures the running campaign,
+ * and plays the current dungeon level out thousands of times from it: the acting character
+ * uses a sequence of abilities picked by UCB1 from a search tree, and everybody else, including the acting
+ * character in later turns, uses random abilities like the game does. The abilities of the best explored
+ * sequence are chosen, and any abilities beyond what the search explored are random.
+ *
+ * A playout ends when the dungeon level is cleared or lost, or is called off after a few rounds, and is
+ * rewarded by how it ended. Clearing the level is worth at least one half, plus one half times the share
+ * of the heroes still alive, while a lost or called off level is worth up to one half, depending on how
+ * much of the enemies' hit points were taken. Enemies using the policy are rewarded the other way around.
+ *
+ * The search is root parallel: every worker thread restores the captured campaign into a simulator of
+ * its own, grows a tree of its own and the visits of all trees are summed when choosing. Playouts never
+ * draw from the random stream of the real game, which only continues with the abilities chosen, and with
+ * an iteration budget the choices only depend on the seed of the policy and the amount of threads. With
+ * a time budget the search also stops when the time is up, making the choices depend on the machine.
+ *
+ * The policy belongs to the simulator running the campaign it decides for, and must be closed to stop
+ * its worker threads.
+ *
+ * @author Samuel Thand
+ */
+public final class MctsPolicy implements DecisionPolicy, AutoCloseable, Constants {
+    private static final int DEFAULT_ITERATION_BUDGET = 1000;
+    private final CampaignSimulator simulator;
+    private final long seed;
+    private final RolloutWorker[] workers;
+    private final int[] workerNodes;  // position of every worker in its tree while choosing
+    private final Randomizer random;  // fills the abilities the search did not explore
+    private final ExecutorService pool;
+    private int iterationBudget = DEFAULT_ITERATION_BUDGET;
+    private long timeBudget = 0;
+    private long decisions = 0;
+    private long playouts = 0;
+
+    /**
+     * Constructor, creates a policy searching with one worker per available processor.
+     *
+     * @param simulator The simulator running the campaigns to decide for
+     * @param seed The seed of the playouts
+     */
+    public MctsPolicy(final CampaignSimulator simulator, final long seed) {
+        this(simulator, Runtime.getRuntime().availableProcessors(), seed);
+    }
+
+    /**
+     * Constructor, initializes members and starts the worker threads.
+     *
+     * @param simulator The simulator running the campaigns to decide for
+     * @param threads Amount of worker threads
+     * @param seed The seed of the playouts
+     */
+    public MctsPolicy(final CampaignSimulator simulator, final int threads, final long seed) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one worker thread is needed");
+        }
+        this.simulator = simulator;
+        this.seed = seed;
+        this.random = new Randomizer(seed);
+        this.workers = new RolloutWorker[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new RolloutWorker();
+        }
+        this.workerNodes = new int[threads];
+        this.pool = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "mcts-worker");
+            thread.setDaemon(true);  // an unclosed policy does not keep the game running
+            return thread;
+        });
+    }
+
+    /**
+     * Set the amount of playouts per decision, shared evenly among the worker threads.
+     *
+     * @param iterations Amount of playouts, Integer.MAX_VALUE to only search for the time budget
+     */
+    public void setIterationBudget(final int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("At least one playout per decision is needed");
+        }
+        this.iterationBudget = iterations;
+    }
+
+    /**
+     * Set the time every decision may take, stopping the search before the iteration budget is spent.
+     * Every worker plays at least one playout per decision.
+     *
+     * @param millis Time budget in milliseconds, 0 for no time budget
+     */
+    public void setTimeBudget(final long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("The time budget cannot be negative");
+        }
+        this.timeBudget = TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    /**
+     * Get the amount of decisions made.
+     *
+     * @return member decisions
+     */
+    public long getDecisions() {
+        return decisions;
+    }
+
+    /**
+     * Get the amount of playouts played for all decisions.
+     *
+     * @return member playouts
+     */
+    public long getPlayouts() {
+        return playouts;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if the turn is not played in the simulator of this policy
+     */
+    @Override
+    public int chooseAbilities(final BaseCharacter character, final GameEngine engine, final BaseAbility[] chosen) {
+        if (engine != simulator.getEngine()) {
+            throw new IllegalStateException("The policy only decides for the campaigns of its own simulator");
+        }
+        BattleSnapshot snapshot = BattleSnapshot.capture(simulator);
+        SimulationConfig config = engine.getConfig();  // playouts follow the balance of the campaign
+        boolean hero = character instanceof BaseHero;
+        int branching = character.getAbilities().size();
+        long deadline = (timeBudget > 0) ? System.nanoTime() + timeBudget : Long.MAX_VALUE;
+
+        List<Future<Integer>> searches = new ArrayList<>(workers.length);
+        for (int i = 0; i < workers.length; i++) {
+            RolloutWorker worker = workers[i];
+            int share = iterationBudget / workers.length + ((i < iterationBudget % workers.length) ? 1 : 0);
+            long workerSeed = Randomizer.deriveSeed(seed, decisions * workers.length + i);
+            searches.add(pool.submit(
+                    () -> worker.search(snapshot, config, hero, branching, share, deadline, workerSeed)));
+        }
+        try {
+            for (Future<Integer> search : searches) {
+                playouts += search.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Search was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Playout failed", e.getCause());
+        }
+        ++decisions;
+
+        return chooseMostVisited(character.getAbilities(), chosen);
+    }
+
+    /**
+     * Choose the sequence of abilities visited most often by all workers together, one ability at a time.
+     *
+     * @param abilities The abilities of the acting character
+     * @param chosen Array to fill
+     * @return Amount of abilities chosen, ACTIONS_PER_TURN
+     */
+    private int chooseMostVisited(final List<BaseAbility> abilities, final BaseAbility[] chosen) {
+        Arrays.fill(workerNodes, 0);  // the roots
+        int depth = 0;
+        while (depth < ACTIONS_PER_TURN) {
+            int bestAbility = -1;
+            long bestVisits = 0;
+            for (int ability = 0; ability < abilities.size(); ability++) {
+                long visits = 0;
+                for (int i = 0; i < workers.length; i++) {
+                    visits += workers[i].getChildVisits(workerNodes[i], ability);
+                }
+                if (visits > bestVisits) {
+                    bestAbility = ability;
+                    bestVisits = visits;
+                }
+            }
+            if (bestAbility < 0) {  // no worker explored this deep
+                break;
+            }
+
+            chosen[depth++] = abilities.get(bestAbility);
+            for (int i = 0; i < workers.length; i++) {
+                workerNodes[i] = workers[i].getChild(workerNodes[i], bestAbility);
+            }
+        }
+        return RandomPolicy.chooseRandomAbilities(abilities, random, chosen, depth);
+    }
+
+    /**
+     * Stop the worker threads.
+     */
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Searches on a worker thread, with a silent simulator and a search tree of its own. The tree is kept
+     * in flat arrays reused for every decision, where the children of a node are stored next to each
+     * other, one per ability of the acting character. The worker is also the decision policy of its own
+     * simulator, forcing the abilities picked from the tree on the first turn of every playout.
+     */
+    private static final class RolloutWorker implements DecisionPolicy {
+        private static final int NO_CHILDREN = -1;
+        private static final int INITIAL_NODES = 1024;
+        private static final double EXPLORATION = Math.sqrt(2);
+        private static final double LEVEL_CLEARED = 0.5;
+        private static final int PLAYOUT_ROUNDS = 20;  // levels are usually over within a round or two
+        private final CampaignSimulator simulator;
+        private int[] firstChild = new int[INITIAL_NODES];
+        private int[] visits = new int[INITIAL_NODES];
+        private double[] rewards = new double[INITIAL_NODES];
+        private int nodes;
+        private final int[] path = new int[ACTIONS_PER_TURN + 1];  // nodes from the root
+        private final int[] forcedAbilities = new int[ACTIONS_PER_TURN];
+        private int amountOfForced;
+        private boolean forcing;
+
+        /**
+         * Constructor, creates the silent simulator of the worker.
+         */
+        RolloutWorker() {
+            GameEngine engine = new GameEngine(new Randomizer(0));
+            engine.setCombatEventListener(new CombatEventListener() { });
+            engine.setHeroPolicy(this);
+            engine.setEnemyPolicy(this);
+            this.simulator = new CampaignSimulator(engine);
+        }
+
+        /**
+         * Grow a new search tree for a decision.
+         *
+         * @param snapshot The campaign as the acting character starts its turn
+         * @param config The balance parameters of the campaign
+         * @param hero The acting character is a hero
+         * @param branching Amount of abilities of the acting character
+         * @param iterations Amount of playouts to play
+         * @param deadline System.nanoTime() at which to stop searching
+         * @param workerSeed Seed of the playouts of this worker
+         * @return Amount of playouts played
+         */
+        int search(final BattleSnapshot snapshot, final SimulationConfig config, final boolean hero,
+                   final int branching, final int iterations, final long deadline, final long workerSeed) {
+            simulator.getEngine().setConfig(config);
+            snapshot.restore(simulator);
+            BattleState root = BattleState.capture(simulator);
+            simulator.setStopAfterLevel(root.getDungeonLevel());  // play out the current dungeon level
+            simulator.setRoundLimit(root.getRound() + PLAYOUT_ROUNDS);
+            int heroesAtRoot = root.getAmountOfHeroes();
+            int enemyHitPointsAtRoot = sumHitPoints(simulator.getEngine().getEnemies());
+
+            nodes = 1;
+            firstChild[0] = NO_CHILDREN;
+            visits[0] = 0;
+            rewards[0] = 0;
+            int played = 0;
+            while (played < iterations && (played == 0 || System.nanoTime() < deadline)) {
+                amountOfForced = select(branching);
+                root.restore();
+                simulator.getEngine().getRandomizer().setState(Randomizer.deriveSeed(workerSeed, played));
+                forcing = true;
+                simulator.resumeCampaign();
+
+                double reward = evaluate(heroesAtRoot, enemyHitPointsAtRoot);
+                if (!hero) {
+                    reward = 1 - reward;
+                }
+                for (int depth = 0; depth <= amountOfForced; depth++) {
+                    visits[path[depth]]++;
+                    rewards[path[depth]] += reward;
+                }
+                ++played;
+            }
+            return played;
+        }
+
+        /**
+         * Walk down the tree by UCB1 until a node visited for the first time, expanding the visited nodes
+         * on the way, and remember the abilities picked.
+         *
+         * @param branching Amount of abilities of the acting character
+         * @return Amount of abilities picked
+         */
+        private int select(final int branching) {
+            int node = 0;
+            int depth = 0;
+            path[0] = node;
+            while (depth < ACTIONS_PER_TURN && visits[node] > 0) {
+                if (firstChild[node] == NO_CHILDREN) {
+                    expand(node, branching);
+                }
+                int ability = pickChild(node, branching);
+                forcedAbilities[depth++] = ability;
+                node = firstChild[node] + ability;
+                path[depth] = node;
+            }
+            return depth;
+        }
+
+        /**
+         * Pick the child of a node with the highest upper confidence bound, unvisited children first.
+         *
+         * @param node The node
+         * @param branching Amount of children
+         * @return The ability of the picked child
+         */
+        private int pickChild(final int node, final int branching) {
+            double logVisits = Math.log(visits[node]);
+            int best = 0;
+            double bestBound = Double.NEGATIVE_INFINITY;
+            for (int ability = 0; ability < branching; ability++) {
+                int child = firstChild[node] + ability;
+                if (visits[child] == 0) {
+                    return ability;
+                }
+                double bound = rewards[child] / visits[child] + EXPLORATION * Math.sqrt(logVisits / visits[child]);
+                if (bound > bestBound) {
+                    best = ability;
+                    bestBound = bound;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Add a child per ability to a node, growing the tree arrays when full.
+         *
+         * @param node The node
+         * @param branching Amount of children
+         */
+        private void expand(final int node, final int branching) {
+            if (nodes + branching > firstChild.length) {
+                int capacity = Math.max(firstChild.length * 2, nodes + branching);
+                firstChild = Arrays.copyOf(firstChild, capacity);
+                visits = Arrays.copyOf(visits, capacity);
+                rewards = Arrays.copyOf(rewards, capacity);
+            }
+            firstChild[node] = nodes;
+            Arrays.fill(firstChild, nodes, nodes + branching, NO_CHILDREN);
+            Arrays.fill(visits, nodes, nodes + branching, 0);
+            Arrays.fill(rewards, nodes, nodes + branching, 0);
+            nodes += branching;
+        }
+
+        /**
+         * Reward the heroes for how the dungeon level of a playout ended.
+         *
+         * @param heroesAtRoot Amount of heroes alive when the search started
+         * @param enemyHitPointsAtRoot Hit points of all enemies when the search started
+         * @return Reward between 0 and 1
+         */
+        private double evaluate(final int heroesAtRoot, final int enemyHitPointsAtRoot) {
+            GameEngine engine = simulator.getEngine();
+            if (!engine.enemiesRemaining()) {
+                return LEVEL_CLEARED + LEVEL_CLEARED * engine.getAmountOfHeroes() / heroesAtRoot;
+            }
+            double enemyHitPointsLeft = (double) sumHitPoints(engine.getEnemies()) / enemyHitPointsAtRoot;
+            return LEVEL_CLEARED * Math.max(0, 1 - enemyHitPointsLeft);
+        }
+
+        /**
+         * Sum the current hit points of some characters.
+         *
+         * @param characters The characters
+         * @return Sum of hit points
+         */
+        private static int sumHitPoints(final List<? extends BaseCharacter> characters) {
+            int hitPoints = 0;
+            for (BaseCharacter character : characters) {
+                hitPoints += character.getHitPoints();
+            }
+            return hitPoints;
+        }
+
+        /**
+         * Get the visits of a child of a node.
+         *
+         * @param node The node, negative for a node not in the tree
+         * @param ability The ability of the child
+         * @return Amount of visits, 0 if the node has no children
+         */
+        int getChildVisits(final int node, final int ability) {
+            return (node < 0 || firstChild[node] == NO_CHILDREN) ? 0 : visits[firstChild[node] + ability];
+        }
+
+        /**
+         * Get a child of a node.
+         *
+         * @param node The node, negative for a node not in the tree
+         * @param ability The ability of the child
+         * @return The child, negative if the node has no children
+         */
+        int getChild(final int node, final int ability) {
+            return (node < 0 || firstChild[node] == NO_CHILDREN) ? NO_CHILDREN : firstChild[node] + ability;
+        }
+
+        /**
+         * Use the abilities picked from the tree on the first turn of a playout, then random abilities.
+         *
+         * @param character The acting character
+         * @param engine The game engine of the worker
+         * @param chosen Array to fill
+         * @return Amount of abilities chosen
+         */
+        @Override
+        public int chooseAbilities(final BaseCharacter character, final GameEngine engine,
+                                   final BaseAbility[] chosen) {
+            if (!forcing) {
+                return RandomPolicy.INSTANCE.chooseAbilities(character, engine, chosen);
+            }
+            forcing = false;
+            for (int i = 0; i < amountOfForced; i++) {
+                chosen[i] = character.getAbilities().get(forcedAbilities[i]);
+            }
+            return RandomPolicy.chooseRandomAbilities(character.getAbilities(), engine.getRandomizer(),
+                    chosen, amountOfForced);
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package com.dt180g.project.policies;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.abilities.BaseAbility;
+import com.dt180g.project.abilities.ElementalBlast;
+import com.dt180g.project.abilities.ElementalBolt;
+import com.dt180g.project.abilities.FocusedHeal;
+import com.dt180g.project.abilities.FocusedShot;
+import com.dt180g.project.abilities.GroupHeal;
+import com.dt180g.project.abilities.HeavyAttack;
+import com.dt180g.project.abilities.SprayOfArrows;
+import com.dt180g.project.abilities.WeaponAttack;
+import com.dt180g.project.abilities.Whirlwind;
+import com.dt180g.project.characters.BaseCharacter;
+import com.dt180g.project.characters.enemies.BaseEnemy;
+import com.dt180g.project.characters.enemies.LichLord;
+import com.dt180g.project.characters.enemies.SkeletonArcher;
+import com.dt180g.project.characters.enemies.SkeletonMage;
+import com.dt180g.project.characters.enemies.SkeletonWarrior;
+import com.dt180g.project.characters.heroes.BaseHero;
+import com.dt180g.project.characters.heroes.HeroClass;
+import com.dt180g.project.support.Constants;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Policy choosing abilities from a priority table. Every rule names the characters it applies to, an
+ * ability and a condition, and the rules are tried in table order for every ability chosen: the first
+ * rule applying to the character whose condition holds and whose ability the character has and can
+ * still afford decides the next ability. The turn ends when no rule decides. Conditions are evaluated
+ * once as the turn starts, and no random numbers are drawn.
+ *
+ * Tables are XML files laid out like the gear catalogs, with one rule element per rule holding a
+ * character, an ability and a condition element. Characters are "Any", "Hero", "Enemy", a hero class
+ * or an enemy type, abilities are named like in the game without magical phrase or element, and
+ * conditions by the names of {@link Condition}. Loading resolves every name to the
+ * class implementing it, so choosing never compares strings. The table shipped as
+ * _RepoResources/priorities.xml heals hurt allies first and otherwise prefers single target abilities.
+ *
+ * The name of the policy holds the rules themselves rather than the path of the table, so a campaign
+ * recorded with it replays the same rules after the file is edited, moved or left on another machine.
+ *
+ * @author Samuel Thand
+ */
+public final class PriorityTablePolicy implements DecisionPolicy, Constants {
+    public static final String DEFAULT_TABLE = "priorities.xml";
+    static final String NAME_PREFIX = "table:";
+    private static final String RULE_SEPARATOR = ";";
+    private static final String FIELD_SEPARATOR = ",";
+    private static final String[] RULE_FIELDS = {"character", "ability", "condition"};
+    private static final int CHARACTER = 0;
+    private static final int ABILITY = 1;
+    private static final int CONDITION = 2;
+    private static final int HURT_PERCENT = 50;
+    private static final Map<String, Class<? extends BaseCharacter>> CHARACTER_TYPES = Map.of(
+            "Any", BaseCharacter.class, "Hero", BaseHero.class, "Enemy", BaseEnemy.class,
+            ENEMY_SKELETON_WARRIOR, SkeletonWarrior.class, ENEMY_SKELETON_ARCHER, SkeletonArcher.class,
+            ENEMY_SKELETON_MAGE, SkeletonMage.class, ENEMY_LICH_LORD, LichLord.class);
+    private static final Map<String, Class<? extends BaseAbility>> ABILITY_TYPES = Map.of(
+            ABILITY_WEAPON_ATTACK, WeaponAttack.class, ABILITY_HEAVY_ATTACK, HeavyAttack.class,
+            ABILITY_WHIRLWIND, Whirlwind.class, ABILITY_FOCUSED_SHOT, FocusedShot.class,
+            ABILITY_SPRAY_OF_ARROWS, SprayOfArrows.class, ABILITY_ELEMENTAL_BOLT, ElementalBolt.class,
+            ABILITY_ELEMENTAL_BLAST, ElementalBlast.class, ABILITY_FOCUSED_HEAL, FocusedHeal.class,
+            ABILITY_GROUP_HEAL, GroupHeal.class);
+    private final Class<?>[] characterTypes;  // per rule
+    private final Class<?>[] abilityTypes;
+    private final Condition[] conditions;
+    private final String name;  // the rules, so the policy is rebuilt without its file
+
+    /**
+     * Conditions a rule may depend on.
+     */
+    public enum Condition {
+        /** The rule always applies. */
+        ALWAYS("Always"),
+        /** An ally, the acting character included, is below half of its hit points. */
+        ALLY_HURT("Ally Hurt"),
+        /** The acting character is below half of its hit points. */
+        SELF_HURT("Self Hurt"),
+        /** At least as many opponents are left as group abilities have targets. */
+        MANY_TARGETS("Many Targets");
+
+        private final String conditionName;
+
+        /**
+         * Constructor, initializes members.
+         *
+         * @param conditionName Name of the condition in priority tables
+         */
+        Condition(final String conditionName) {
+            this.conditionName = conditionName;
+        }
+
+        /**
+         * Get the name of the condition in priority tables.
+         *
+         * @return member conditionName
+         */
+        public String getConditionName() {
+            return conditionName;
+        }
+
+        /**
+         * Get the condition with the provided name.
+         *
+         * @param conditionName Name of the condition
+         * @return The condition, or null if no condition has the name
+         */
+        static Condition fromName(final String conditionName) {
+            for (Condition condition : values()) {
+                if (condition.conditionName.equals(conditionName)) {
+                    return condition;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Check if the condition holds in the current turn.
+         *
+         * @param allyHurt An ally is hurt
+         * @param selfHurt The acting character is hurt
+         * @param manyTargets Many opponents are left
+         * @return The condition holds
+         */
+        boolean holds(final boolean allyHurt, final boolean selfHurt, final boolean manyTargets) {
+            switch (this) {
+                case ALLY_HURT: return allyHurt;
+                case SELF_HURT: return selfHurt;
+                case MANY_TARGETS: return manyTargets;
+                default: return true;
+            }
+        }
+    }
+
+    /**
+     * Constructor, initializes members from resolved rules.
+     *
+     * @param characterTypes The characters every rule applies to
+     * @param abilityTypes The ability of every rule
+     * @param conditions The condition of every rule
+     * @param name The name of the policy, holding the rules
+     */
+    private PriorityTablePolicy(final Class<?>[] characterTypes, final Class<?>[] abilityTypes,
+                                final Condition[] conditions, final String name) {
+        this.characterTypes = characterTypes;
+        this.abilityTypes = abilityTypes;
+        this.conditions = conditions;
+        this.name = name;
+    }
+
+    /**
+     * Load a priority table.
+     *
+     * @param file The priority table
+     * @return Policy choosing abilities by the table
+     * @throws IOException If the file cannot be read, is malformed, a rule lacks a field or names
+     *                     an unknown character, ability or condition
+     */
+    public static PriorityTablePolicy load(final Path file) throws IOException {
+        return resolveRules(readRules(file));
+    }
+
+    /**
+     * Rebuild a policy from its name.
+     *
+     * @param name The name of the policy, as returned by getName
+     * @return Policy choosing abilities by the rules in the name
+     * @throws IOException If the name is malformed or names an unknown character, ability or condition
+     */
+    static PriorityTablePolicy fromName(final String name) throws IOException {
+        if (!name.startsWith(NAME_PREFIX)) {
+            throw new IOException("Not the name of a priority table: " + name);
+        }
+        List<String[]> rules = new ArrayList<>();
+        String body = name.substring(NAME_PREFIX.length());
+        if (!body.isEmpty()) {
+            for (String rule : body.split(RULE_SEPARATOR, -1)) {
+                String[] fields = rule.split(FIELD_SEPARATOR, -1);
+                if (fields.length != RULE_FIELDS.length) {
+                    throw new IOException(String.format("Malformed rule %d in priority table name", rules.size() + 1));
+                }
+                rules.add(fields);
+            }
+        }
+        return resolveRules(rules);
+    }
+
+    /**
+     * Resolve the names in the fields of the rules to the classes implementing them.
+     *
+     * @param rules The fields of every rule, indexed like the field names
+     * @return Policy choosing abilities by the rules
+     * @throws IOException If a rule names an unknown character, ability or condition
+     */
+    private static PriorityTablePolicy resolveRules(final List<String[]> rules) throws IOException {
+        Class<?>[] characterTypes = new Class<?>[rules.size()];
+        Class<?>[] abilityTypes = new Class<?>[rules.size()];
+        Condition[] conditions = new Condition[rules.size()];
+        StringBuilder name = new StringBuilder(NAME_PREFIX);
+        for (int i = 0; i < rules.size(); i++) {
+            String[] fields = rules.get(i);
+            characterTypes[i] = resolveCharacter(fields[CHARACTER].trim(), i + 1);
+            abilityTypes[i] = ABILITY_TYPES.get(fields[ABILITY].trim());
+            conditions[i] = Condition.fromName(fields[CONDITION].trim());
+            if (abilityTypes[i] == null) {
+                throw new IOException(String.format("Unknown ability '%s' in rule %d", fields[ABILITY], i + 1));
+            }
+            if (conditions[i] == null) {
+                throw new IOException(String.format("Unknown condition '%s' in rule %d", fields[CONDITION], i + 1));
+            }
+            // known names hold no separators, so the name splits back into the same fields
+            name.append(i == 0 ? "" : RULE_SEPARATOR).append(fields[CHARACTER].trim()).append(FIELD_SEPARATOR)
+                    .append(fields[ABILITY].trim()).append(FIELD_SEPARATOR).append(fields[CONDITION].trim());
+        }
+        return new PriorityTablePolicy(characterTypes, abilityTypes, conditions, name.toString());
+    }
+
+    /**
+     * Resolve the character field of a rule.
+     *
+     * @param name The name of the characters
+     * @param ruleNumber Position of the rule in the table, starting at 1
+     * @return The class of the characters
+     * @throws IOException If no characters have the name
+     */
+    private static Class<?> resolveCharacter(final String name, final int ruleNumber) throws IOException {
+        Class<?> characterType = CHARACTER_TYPES.get(name);
+        if (characterType != null) {
+            return characterType;
+        }
+        try {
+            return HeroClass.fromName(name).getHeroType();
+        } catch (IllegalArgumentException e) {
+            throw new IOException(String.format("Unknown character '%s' in rule %d", name, ruleNumber), e);
+        }
+    }
+
+    /**
+     * Read the raw fields of all rules in a table, in file order.
+     *
+     * @param file The priority table
+     * @return The fields of every rule, indexed like the field names
+     * @throws IOException If the file cannot be read, is malformed or a rule lacks a field
+     */
+    private static List<String[]> readRules(final Path file) throws IOException {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        Document document;
+        try (InputStream in = Files.newInputStream(file)) {
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);  // avoid attacks like XXE
+            document = factory.newDocumentBuilder().parse(in);
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IOException("Malformed priority table " + file, e);
+        }
+
+        List<String[]> rules = new ArrayList<>();
+        NodeList nodes = document.getDocumentElement().getChildNodes();
+        for (int i = 0; i < nodes.getLength(); i++) {
+            if (nodes.item(i).getNodeType() != Node.ELEMENT_NODE) {  // ignore text and comments
+                continue;
+            }
+            Element rule = (Element) nodes.item(i);
+            String[] fields = new String[RULE_FIELDS.length];
+            for (int field = 0; field < RULE_FIELDS.length; field++) {
+                NodeList values = rule.getElementsByTagName(RULE_FIELDS[field]);
+                if (values.getLength() == 0) {
+                    throw new IOException(String.format("Missing %s in rule %d", RULE_FIELDS[field],
+                            rules.size() + 1));
+                }
+                fields[field] = values.item(0).getTextContent();
+            }
+            rules.add(fields);
+        }
+        return rules;
+    }
+
+    /**
+     * Get the amount of rules in the table.
+     *
+     * @return Amount of rules
+     */
+    public int getAmountOfRules() {
+        return conditions.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return table: followed by the character, ability and condition of every rule
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int chooseAbilities(final BaseCharacter character, final GameEngine engine, final BaseAbility[] chosen) {
+        List<? extends BaseCharacter> allies = AbilityEstimates.getAllies(character, engine);
+        boolean allyHurt = false;
+        for (int i = 0; i < allies.size(); i++) {  // indexed loops do not allocate iterators
+            allyHurt |= AbilityEstimates.isHurt(allies.get(i), HURT_PERCENT);
+        }
+        boolean selfHurt = AbilityEstimates.isHurt(character, HURT_PERCENT);
+        boolean manyTargets = AbilityEstimates.getOpponents(character, engine).size() >= ABILITY_GROUP_TARGET;
+
+        int amountChosen = 0;
+        while (amountChosen < ACTIONS_PER_TURN) {
+            BaseAbility next = null;
+            for (int rule = 0; rule < conditions.length && next == null; rule++) {
+                if (characterTypes[rule].isInstance(character)
+                        && conditions[rule].holds(allyHurt, selfHurt, manyTargets)) {
+                    BaseAbility ability = findAbility(character.getAbilities(), abilityTypes[rule]);
+                    if (ability != null && AbilityEstimates.isAffordable(character, chosen, amountChosen, ability)) {
+                        next = ability;
+                    }
+                }
+            }
+            if (next == null) {
+                break;
+            }
+            chosen[amountChosen++] = next;
+        }
+        return amountChosen;
+    }
+
+    /**
+     * Find the first ability of a type among the abilities of a character.
+     *
+     * @param abilities The abilities of the character
+     * @param abilityType The type of ability
+     * @return The ability, or null if the character has none of the type
+     */
+    private static BaseAbility findAbility(final List<BaseAbility> abilities, final Class<?> abilityType) {
+        for (int i = 0; i < abilities.size(); i++) {
+            if (abilities.get(i).getClass() == abilityType) {
+                return abilities.get(i);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,55 @@
+package com.dt180g.project.policies;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.abilities.BaseAbility;
+import com.dt180g.project.characters.BaseCharacter;
+import com.dt180g.project.support.Constants;
+import com.dt180g.project.support.Randomizer;
+import java.util.List;
+
+/**
+ * The game's own policy, queueing ACTIONS_PER_TURN uniformly random abilities drawn from the engine's
+ * random stream, with no regard for targets or resources. Abilities are tried in the reverse order
+ * they are drawn in, exactly like the queue the game used before policies existed.
+ *
+ * @author Samuel Thand
+ */
+public final class RandomPolicy implements DecisionPolicy, Constants {
+    public static final RandomPolicy INSTANCE = new RandomPolicy();
+
+    private RandomPolicy() { }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return "random";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int chooseAbilities(final BaseCharacter character, final GameEngine engine, final BaseAbility[] chosen) {
+        return chooseRandomAbilities(character.getAbilities(), engine.getRandomizer(), chosen, 0);
+    }
+
+    /**
+     * Fill the rest of a turn with random abilities.
+     *
+     * @param abilities The abilities to choose among
+     * @param random Random stream to draw the abilities from
+     * @param chosen Array to fill
+     * @param alreadyChosen Amount of abilities already chosen, kept at the start of the array
+     * @return Amount of abilities chosen, ACTIONS_PER_TURN
+     */
+    static int chooseRandomAbilities(final List<BaseAbility> abilities, final Randomizer random,
+                                     final BaseAbility[] chosen, final int alreadyChosen) {
+        for (int i = ACTIONS_PER_TURN - 1; i >= alreadyChosen; i--) {  // the last drawn ability is tried first
+            int randomIndex = abilities.isEmpty() ? 0 : random.getRandomValue(abilities.size() - 1);
+            chosen[i] = abilities.get(randomIndex);
+        }
+        return ACTIONS_PER_TURN;
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Package for the decision policies choosing the abilities characters use during their turns.
+ */
+package com.dt180g.project.policies;
@@ -0,0 +1,153 @@
+package com.dt180g.project.simulation;
+
+import com.dt180g.project.support.IOHelper;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregates the outcome of many simulated campaigns.
+ *
+ * @author Samuel Thand
+ */
+public final class BatchStatistics {
+    private final long[] roundsPerLevel;
+    private final long[] levelAttempts;
+    private final long[] levelClears;
+    private final Map<Integer, Long> survivorCounts = new TreeMap<>();
+    private long campaigns = 0;
+    private long victories = 0;
+
+    /**
+     * Constructor, initializes members.
+     *
+     * @param highestLevel The highest dungeon level of the simulated campaigns
+     */
+    public BatchStatistics(final int highestLevel) {
+        roundsPerLevel = new long[highestLevel + 1];
+        levelAttempts = new long[highestLevel + 1];
+        levelClears = new long[highestLevel + 1];
+    }
+
+    /**
+     * Register the outcome of a campaign.
+     *
+     * @param result The campaign outcome
+     */
+    public void add(final CampaignResult result) {
+        ++campaigns;
+        if (result.isVictory()) {
+            ++victories;
+        }
+
+        for (int level = result.getHighestLevel(); level > 0; level--) {
+            int rounds = result.getRounds(level);
+            if (rounds == 0) {
+                break;  // the campaign never reached this level
+            }
+
+            roundsPerLevel[level] += rounds;
+            ++levelAttempts[level];
+
+            // a level is cleared if the heroes moved on, or if they won on the final level
+            if (level > 1 && result.getRounds(level - 1) > 0 || level == 1 && result.isVictory()) {
+                ++levelClears[level];
+            }
+        }
+
+        survivorCounts.merge(result.getSurvivors(), 1L, Long::sum);
+    }
+
+    /**
+     * Add all outcomes registered in another batch to this batch.
+     *
+     * @param other The batch to merge into this one
+     */
+    public void merge(final BatchStatistics other) {
+        campaigns += other.campaigns;
+        victories += other.victories;
+        for (int level = 0; level < roundsPerLevel.length && level < other.roundsPerLevel.length; level++) {
+            roundsPerLevel[level] += other.roundsPerLevel[level];
+            levelAttempts[level] += other.levelAttempts[level];
+            levelClears[level] += other.levelClears[level];
+        }
+        other.survivorCounts.forEach((survivors, count) -> survivorCounts.merge(survivors, count, Long::sum));
+    }
+
+    /**
+     * Get the amount of registered campaigns.
+     *
+     * @return Amount of campaigns
+     */
+    public long getCampaigns() {
+        return campaigns;
+    }
+
+    /**
+     * Get the amount of registered campaigns won by the heroes.
+     *
+     * @return Amount of victories
+     */
+    public long getVictories() {
+        return victories;
+    }
+
+    /**
+     * Get the ratio of campaigns won by the heroes.
+     *
+     * @return Win rate between 0 and 1
+     */
+    public double getWinRate() {
+        return campaigns == 0 ? 0 : (double) victories / campaigns;
+    }
+
+    /**
+     * Get the average amount of rounds fought on a dungeon level, among campaigns reaching it.
+     *
+     * @param level The dungeon level
+     * @return Average amount of rounds
+     */
+    public double getAverageRounds(final int level) {
+        return levelAttempts[level] == 0 ? 0 : (double) roundsPerLevel[level] / levelAttempts[level];
+    }
+
+    /**
+     * Get the amount of campaigns ending with the specified amount of surviving heroes.
+     *
+     * @param survivors Amount of surviving heroes
+     * @return Amount of campaigns
+     */
+    public long getSurvivorCount(final int survivors) {
+        return survivorCounts.getOrDefault(survivors, 0L);
+    }
+
+    /**
+     * Get all information about the batch formatted as tables.
+     *
+     * @return Win rate, level information and survivor distribution in a formatted string
+     */
+    @Override
+    public String toString() {
+        final double percent = 100.0;
+        StringBuilder report = new StringBuilder(String.format("CAMPAIGNS %d | VICTORIES %d | WIN RATE %.2f%%%n%n",
+                campaigns, victories, getWinRate() * percent));
+
+        List<List<String>> levelRows = new ArrayList<>();
+        levelRows.add(Arrays.asList("LEVEL", "REACHED", "CLEARED", "AVG ROUNDS"));
+        for (int level = roundsPerLevel.length - 1; level > 0; level--) {
+            levelRows.add(Arrays.asList(Integer.toString(level), Long.toString(levelAttempts[level]),
+                    Long.toString(levelClears[level]), String.format("%.2f", getAverageRounds(level))));
+        }
+        report.append(IOHelper.formatAsTable(levelRows)).append('\n');
+
+        List<List<String>> survivorRows = new ArrayList<>();
+        survivorRows.add(Arrays.asList("SURVIVORS", "CAMPAIGNS", "SHARE"));
+        survivorCounts.forEach((survivors, count) -> survivorRows.add(Arrays.asList(Integer.toString(survivors),
+                Long.toString(count), String.format("%.2f%%", (double) count / campaigns * percent))));
+        report.append(IOHelper.formatAsTable(survivorRows));
+
+        return report.toString();
+    }
+}
@@ -0,0 +1,759 @@
+package com.dt180g.project.simulation;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.characters.BaseCharacter;
+import com.dt180g.project.characters.CharacterEquipment;
+import com.dt180g.project.characters.CharacterStats;
+import com.dt180g.project.characters.enemies.BaseEnemy;
+import com.dt180g.project.characters.enemies.LichLord;
+import com.dt180g.project.characters.enemies.SkeletonArcher;
+import com.dt180g.project.characters.enemies.SkeletonMage;
+import com.dt180g.project.characters.enemies.SkeletonWarrior;
+import com.dt180g.project.characters.heroes.BaseHero;
+import com.dt180g.project.characters.heroes.Cleric;
+import com.dt180g.project.characters.heroes.HeroClass;
+import com.dt180g.project.characters.heroes.Ranger;
+import com.dt180g.project.characters.heroes.Warrior;
+import com.dt180g.project.characters.heroes.Wizard;
+import com.dt180g.project.gear.Armor;
+import com.dt180g.project.gear.ArmorDefinition;
+import com.dt180g.project.gear.BaseGear;
+import com.dt180g.project.gear.GearDefinition;
+import com.dt180g.project.gear.GearManager;
+import com.dt180g.project.gear.Weapon;
+import com.dt180g.project.gear.WeaponDefinition;
+import com.dt180g.project.stats.StatType;
+import com.dt180g.project.support.Constants;
+import com.dt180g.project.support.Randomizer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Snapshot of a campaign between two turns or as a character starts its turn, holding everything needed
+ * to continue it: the dungeon level, round and remaining turn order, both rosters with every stat modifier
+ * and piece of gear, and the state of the random stream. Restoring a snapshot into any simulator and
+ * resuming it plays out exactly like the original campaign would have, so one snapshot can be forked into
+ * any number of what-if continuations.
+ *
+ * The binary form starts with a magic number and a format version, followed by the position in the
+ * campaign, the random state, a table of all distinct strings, the heroes and enemies and finally the
+ * remaining turns as roster positions, heroes first. Counts, string ids and stat modifiers are variable
+ * length integers, so a battle of sixteen characters takes little more than a kilobyte, most of it names.
+ * Gear is stored as its catalog type and name together with its rolled boost, and is looked up in the
+ * gear catalogs again when the snapshot is read.
+ *
+ * Snapshots are immutable and may be restored from several threads at once.
+ *
+ * @author Samuel Thand
+ */
+public final class BattleSnapshot implements Constants {
+    static final int MAGIC = 0x44435353;  // "DCSS"
+    static final int VERSION = 2;
+    private static final HeroClass[] HERO_CLASSES = HeroClass.values();
+    private static final List<Class<? extends BaseEnemy>> ENEMY_TYPES =
+            List.of(SkeletonWarrior.class, SkeletonArcher.class, SkeletonMage.class, LichLord.class);
+    private static final List<String> ENEMY_NAMES =
+            List.of(ENEMY_SKELETON_WARRIOR, ENEMY_SKELETON_ARCHER, ENEMY_SKELETON_MAGE, ENEMY_LICH_LORD);
+    private static final int SKELETON_WARRIOR = 0;  // indexes of ENEMY_TYPES
+    private static final int SKELETON_ARCHER = 1;
+    private static final int SKELETON_MAGE = 2;
+    private static final int LICH_LORD = 3;
+    private static final StatType[] STAT_TYPES = StatType.values();
+    private static final int MODIFIERS_PER_STAT = 2;  // static, then dynamic
+    private static final int VARINT_PAYLOAD_BITS = 7;
+    private static final int VARINT_PAYLOAD = 0x7F;
+    private static final int VARINT_CONTINUE = 0x80;
+    private static final int MAX_VARINT_SHIFT = 28;
+    private final int dungeonLevel;
+    private final int round;
+    private final int turn;
+    private final boolean turnStarted;
+    private final int[] roundsPerLevel;
+    private final long randomState;
+    private final CharacterState[] heroes;
+    private final CharacterState[] enemies;
+    private final int[] remainingTurns;  // roster positions, enemies following the heroes
+
+    /**
+     * Constructor, initializes members.
+     *
+     * @param dungeonLevel The dungeon level of the campaign
+     * @param round The amount of rounds started on the dungeon level
+     * @param turn The amount of turn positions taken in the round in progress
+     * @param turnStarted The first of the remaining characters has started its turn
+     * @param roundsPerLevel The amount of rounds played on every dungeon level, taken over without copying
+     * @param randomState The state of the random stream
+     * @param heroes The state of every hero, in roster order
+     * @param enemies The state of every enemy, in roster order
+     * @param remainingTurns Roster positions of the characters still to act in the round in progress
+     */
+    private BattleSnapshot(final int dungeonLevel, final int round, final int turn, final boolean turnStarted,
+                           final int[] roundsPerLevel, final long randomState, final CharacterState[] heroes,
+                           final CharacterState[] enemies, final int[] remainingTurns) {
+        this.dungeonLevel = dungeonLevel;
+        this.round = round;
+        this.turn = turn;
+        this.turnStarted = turnStarted;
+        this.roundsPerLevel = roundsPerLevel;
+        this.randomState = randomState;
+        this.heroes = heroes;
+        this.enemies = enemies;
+        this.remainingTurns = remainingTurns;
+    }
+
+    /**
+     * Take a snapshot of the campaign a simulator is running, usually right after it stopped at its stop point
+     * or from the decision policy of the acting character.
+     *
+     * @param simulator The simulator to take the snapshot of
+     * @return The snapshot
+     * @throws IllegalStateException if the simulator has not started a campaign
+     * @throws IllegalArgumentException if a character is not one of the game's hero classes or enemy types
+     */
+    public static BattleSnapshot capture(final CampaignSimulator simulator) {
+        if (simulator.getCurrentDungeonLevel() < 1) {
+            throw new IllegalStateException("No campaign to take a snapshot of");
+        }
+        GameEngine engine = simulator.getEngine();
+
+        Map<BaseCharacter, Integer> positions = new IdentityHashMap<>();  // roster position of every character
+        CharacterState[] heroStates = new CharacterState[engine.getAmountOfHeroes()];
+        for (int i = 0; i < heroStates.length; i++) {
+            BaseHero hero = engine.getHeroes().get(i);
+            positions.put(hero, i);
+            HeroClass heroClass = HeroClass.fromType(hero.getClass());
+            if (heroClass == null) {
+                throw new IllegalArgumentException("Not a hero of a hero class: " + hero.getCharacterName());
+            }
+            heroStates[i] = new CharacterState(true, heroClass.ordinal(), hero);
+        }
+
+        CharacterState[] enemyStates = new CharacterState[engine.getAmountOfEnemies()];
+        for (int i = 0; i < enemyStates.length; i++) {
+            BaseEnemy enemy = engine.getEnemies().get(i);
+            positions.put(enemy, heroStates.length + i);
+            int enemyType = ENEMY_TYPES.indexOf(enemy.getClass());
+            if (enemyType < 0) {
+                throw new IllegalArgumentException("Not an enemy of an enemy type: " + enemy.getCharacterName());
+            }
+            enemyStates[i] = new CharacterState(false, enemyType, enemy);
+        }
+
+        List<BaseCharacter> turns = simulator.getRemainingTurns();
+        int[] remainingTurns = new int[turns.size()];
+        for (int i = 0; i < remainingTurns.length; i++) {
+            remainingTurns[i] = positions.get(turns.get(i));
+        }
+
+        return new BattleSnapshot(simulator.getCurrentDungeonLevel(), simulator.getCurrentRound(),
+                simulator.getCurrentTurn(), simulator.isTurnStarted(), simulator.getRoundsPerLevel(),
+                engine.getRandomizer().getState(), heroStates, enemyStates, remainingTurns);
+    }
+
+    /**
+     * Restore this snapshot into a simulator, replacing its heroes, enemies, random state and position.
+     * Every restored character is built from scratch, so continuations never share mutable state.
+     * Resume the campaign afterwards with {@link CampaignSimulator#resumeCampaign()}.
+     *
+     * @param simulator The simulator to restore this snapshot into
+     */
+    public void restore(final CampaignSimulator simulator) {
+        Randomizer scratch = new Randomizer(0);  // only feeds the equipment replaced right away
+        List<BaseHero> restoredHeroes = new ArrayList<>(heroes.length);
+        for (CharacterState hero : heroes) {
+            restoredHeroes.add((BaseHero) hero.create(scratch));
+        }
+        List<BaseEnemy> restoredEnemies = new ArrayList<>(enemies.length);
+        for (CharacterState enemy : enemies) {
+            restoredEnemies.add((BaseEnemy) enemy.create(scratch));
+        }
+
+        GameEngine engine = simulator.getEngine();
+        engine.getHeroes().clear();
+        engine.getHeroes().addAll(restoredHeroes);
+        engine.getEnemies().clear();
+        engine.getEnemies().addAll(restoredEnemies);
+        engine.getRandomizer().setState(randomState);
+
+        List<BaseCharacter> turns = new ArrayList<>(remainingTurns.length);
+        for (int position : remainingTurns) {
+            turns.add((position < heroes.length) ? restoredHeroes.get(position)
+                    : restoredEnemies.get(position - heroes.length));
+        }
+        simulator.restorePosition(dungeonLevel, round, turn, roundsPerLevel, turns, turnStarted);
+    }
+
+    /**
+     * Get the dungeon level the snapshot was taken on.
+     *
+     * @return member dungeonLevel
+     */
+    public int getDungeonLevel() {
+        return dungeonLevel;
+    }
+
+    /**
+     * Get the amount of rounds started on the dungeon level when the snapshot was taken.
+     *
+     * @return member round
+     */
+    public int getRound() {
+        return round;
+    }
+
+    /**
+     * Get the amount of turn positions taken in the round in progress when the snapshot was taken.
+     *
+     * @return member turn, 0 if the snapshot was taken between rounds
+     */
+    public int getTurn() {
+        return turn;
+    }
+
+    /**
+     * Get the amount of heroes in the snapshot.
+     *
+     * @return Amount of heroes
+     */
+    public int getAmountOfHeroes() {
+        return heroes.length;
+    }
+
+    /**
+     * Get the amount of enemies in the snapshot.
+     *
+     * @return Amount of enemies
+     */
+    public int getAmountOfEnemies() {
+        return enemies.length;
+    }
+
+    /**
+     * Encode this snapshot into its binary form.
+     *
+     * @return The encoded snapshot
+     */
+    public byte[] toByteArray() {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        ByteArrayOutputStream characters = new ByteArrayOutputStream();
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        try {
+            DataOutputStream body = new DataOutputStream(characters);
+            writeCharacters(body, heroes, strings);
+            writeCharacters(body, enemies, strings);
+            writeVarInt(body, remainingTurns.length);
+            for (int position : remainingTurns) {
+                writeVarInt(body, position);
+            }
+
+            DataOutputStream out = new DataOutputStream(snapshot);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            writeVarInt(out, dungeonLevel);
+            writeVarInt(out, round);
+            writeVarInt(out, turn);
+            out.writeBoolean(turnStarted);
+            writeVarInt(out, roundsPerLevel.length);
+            for (int rounds : roundsPerLevel) {
+                writeVarInt(out, rounds);
+            }
+            out.writeLong(randomState);
+            writeVarInt(out, strings.size());
+            for (String string : strings.keySet()) {
+                out.writeUTF(string);
+            }
+            characters.writeTo(out);
+        } catch (IOException e) {  // byte array streams do not fail
+            throw new UncheckedIOException(e);
+        }
+        return snapshot.toByteArray();
+    }
+
+    /**
+     * Decode a snapshot from its binary form.
+     *
+     * @param data The encoded snapshot
+     * @return The snapshot
+     * @throws IOException If the data is not a snapshot, is of an unknown version, is corrupt
+     *                     or refers to gear missing from the gear catalogs
+     */
+    public static BattleSnapshot fromByteArray(final byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a battle snapshot");
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported battle snapshot version " + version);
+            }
+
+            int dungeonLevel = readVarInt(in);
+            int round = readVarInt(in);
+            int turn = readVarInt(in);
+            boolean turnStarted = in.readBoolean();
+            int[] roundsPerLevel = new int[readVarInt(in)];
+            if (roundsPerLevel.length != DUNGEON_START_LEVEL + 1
+                    || dungeonLevel < 1 || dungeonLevel > DUNGEON_START_LEVEL) {
+                throw new IOException("Corrupt battle snapshot, invalid dungeon level " + dungeonLevel);
+            }
+            for (int i = 0; i < roundsPerLevel.length; i++) {
+                roundsPerLevel[i] = readVarInt(in);
+            }
+            long randomState = in.readLong();
+
+            String[] strings = new String[checkedCount(in)];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = in.readUTF();
+            }
+
+            CharacterState[] heroes = readCharacters(in, true, strings);
+            CharacterState[] enemies = readCharacters(in, false, strings);
+            int[] remainingTurns = new int[checkedCount(in)];
+            for (int i = 0; i < remainingTurns.length; i++) {
+                remainingTurns[i] = readVarInt(in);
+                if (remainingTurns[i] >= heroes.length + enemies.length) {
+                    throw new IOException("Corrupt battle snapshot, unknown character " + remainingTurns[i]);
+                }
+            }
+            if (in.available() != 0) {
+                throw new IOException("Corrupt battle snapshot, unexpected data after the turns");
+            }
+            return new BattleSnapshot(dungeonLevel, round, turn, turnStarted, roundsPerLevel, randomState,
+                    heroes, enemies, remainingTurns);
+        } catch (EOFException e) {
+            throw new IOException("Truncated battle snapshot", e);
+        }
+    }
+
+    /**
+     * Write this snapshot to a file.
+     *
+     * @param file The file to write, replaced if it exists
+     * @throws IOException If the file cannot be written
+     */
+    public void write(final Path file) throws IOException {
+        Files.write(file, toByteArray());
+    }
+
+    /**
+     * Read a snapshot from a file.
+     *
+     * @param file The file to read
+     * @return The snapshot
+     * @throws IOException If the file cannot be read or does not hold a valid snapshot
+     */
+    public static BattleSnapshot read(final Path file) throws IOException {
+        try {
+            return fromByteArray(Files.readAllBytes(file));
+        } catch (IOException e) {
+            throw new IOException(e.getMessage() + ": " + file, e);
+        }
+    }
+
+    /**
+     * Write a block of characters, preceded by the amount of characters.
+     *
+     * @param out Stream to write to
+     * @param characters The characters to write
+     * @param strings Ids of the strings found so far, new strings are added
+     * @throws IOException If the characters cannot be written
+     */
+    private static void writeCharacters(final DataOutputStream out, final CharacterState[] characters,
+                                        final Map<String, Integer> strings) throws IOException {
+        writeVarInt(out, characters.length);
+        for (CharacterState character : characters) {
+            out.writeByte(character.kind);
+            writeVarInt(out, intern(strings, character.name));
+            for (int modifier : character.modifiers) {
+                writeSignedVarInt(out, modifier);
+            }
+            writeGear(out, character.weapons, strings);
+            writeGear(out, character.armor, strings);
+        }
+    }
+
+    /**
+     * Write a block of gear, preceded by the amount of gear pieces.
+     *
+     * @param out Stream to write to
+     * @param gear The gear pieces to write
+     * @param strings Ids of the strings found so far, new strings are added
+     * @throws IOException If the gear cannot be written
+     */
+    private static void writeGear(final DataOutputStream out, final BaseGear[] gear,
+                                  final Map<String, Integer> strings) throws IOException {
+        writeVarInt(out, gear.length);
+        for (BaseGear piece : gear) {
+            writeVarInt(out, intern(strings, piece.getType()));
+            writeVarInt(out, intern(strings, piece.getDefinition().getName()));
+            out.writeByte(piece.getBoostType().ordinal());
+            writeSignedVarInt(out, piece.getBoostValue());
+        }
+    }
+
+    /**
+     * Read a block of characters written by writeCharacters.
+     *
+     * @param in Stream to read from
+     * @param isHero The characters are heroes, otherwise enemies
+     * @param strings The string table
+     * @return The characters
+     * @throws IOException If the characters are corrupt or refer to unknown gear
+     */
+    private static CharacterState[] readCharacters(final DataInputStream in, final boolean isHero,
+                                                   final String[] strings) throws IOException {
+        CharacterState[] characters = new CharacterState[checkedCount(in)];
+        for (int i = 0; i < characters.length; i++) {
+            int kind = in.readUnsignedByte();
+            if (kind >= (isHero ? HERO_CLASSES.length : ENEMY_TYPES.size())) {
+                throw new IOException("Corrupt battle snapshot, unknown character kind " + kind);
+            }
+            String name = string(strings, in);
+
+            int[] modifiers = new int[STAT_TYPES.length * MODIFIERS_PER_STAT];
+            for (int j = 0; j < modifiers.length; j++) {
+                modifiers[j] = readSignedVarInt(in);
+            }
+
+            Weapon[] weapons = new Weapon[checkedCount(in)];
+            for (int j = 0; j < weapons.length; j++) {
+                WeaponDefinition definition = findDefinition(
+                        GearManager.INSTANCE.getAllMappedWeapons(), string(strings, in), string(strings, in));
+                weapons[j] = new Weapon(definition, statType(in), readSignedVarInt(in));
+            }
+            Armor[] armor = new Armor[checkedCount(in)];
+            for (int j = 0; j < armor.length; j++) {
+                ArmorDefinition definition = findDefinition(
+                        GearManager.INSTANCE.getAllMappedArmorPieces(), string(strings, in), string(strings, in));
+                armor[j] = new Armor(definition, statType(in), readSignedVarInt(in));
+            }
+
+            try {
+                characters[i] = new CharacterState(isHero, kind, name, modifiers, weapons, armor);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Corrupt battle snapshot, " + e.getMessage(), e);
+            }
+        }
+        return characters;
+    }
+
+    /**
+     * Look up a gear definition in a gear catalog by its type and name.
+     *
+     * @param catalog Definitions of the catalog, mapped by type
+     * @param type Type of the gear
+     * @param name Name of the gear
+     * @param <T> Type of the definitions
+     * @return The definition
+     * @throws IOException If the catalog holds no such gear
+     */
+    private static <T extends GearDefinition> T findDefinition(final Map<String, List<T>> catalog,
+                                                               final String type, final String name)
+            throws IOException {
+        for (T definition : catalog.getOrDefault(type, List.of())) {
+            if (definition.getName().equals(name)) {
+                return definition;
+            }
+        }
+        throw new IOException(String.format("Battle snapshot refers to unknown gear %s of type %s", name, type));
+    }
+
+    /**
+     * Read a stat type.
+     *
+     * @param in Stream to read from
+     * @return The stat type
+     * @throws IOException If the stat type is unknown
+     */
+    private static StatType statType(final DataInputStream in) throws IOException {
+        int ordinal = in.readUnsignedByte();
+        if (ordinal >= STAT_TYPES.length) {
+            throw new IOException("Corrupt battle snapshot, unknown stat " + ordinal);
+        }
+        return STAT_TYPES[ordinal];
+    }
+
+    /**
+     * Get the id of a string, giving it the next free id the first time it is seen.
+     *
+     * @param strings Ids of the strings found so far
+     * @param string The string to get the id for
+     * @return Id of the string
+     */
+    private static int intern(final Map<String, Integer> strings, final String string) {
+        return strings.computeIfAbsent(string, key -> strings.size());
+    }
+
+    /**
+     * Read a string id and look up its string.
+     *
+     * @param strings The string table
+     * @param in Stream to read from
+     * @return The string
+     * @throws IOException If the id is not in the string table
+     */
+    private static String string(final String[] strings, final DataInputStream in) throws IOException {
+        int id = readVarInt(in);
+        if (id >= strings.length) {
+            throw new IOException("Corrupt battle snapshot, unknown string id " + id);
+        }
+        return strings[id];
+    }
+
+    /**
+     * Read an amount of entries, and make sure the remaining data can hold at least that many.
+     *
+     * @param in Stream to read from
+     * @return The amount of entries
+     * @throws IOException If the amount is too large for the remaining data
+     */
+    private static int checkedCount(final DataInputStream in) throws IOException {
+        int count = readVarInt(in);
+        if (count > in.available()) {  // every entry takes at least one byte
+            throw new IOException("Corrupt battle snapshot, invalid amount " + count);
+        }
+        return count;
+    }
+
+    /**
+     * Write a value that may be negative, zigzag encoded so small magnitudes stay short.
+     *
+     * @param out Stream to write to
+     * @param value The value to write
+     * @throws IOException If the value cannot be written
+     */
+    private static void writeSignedVarInt(final DataOutputStream out, final int value) throws IOException {
+        writeVarInt(out, (value << 1) ^ (value >> (Integer.SIZE - 1)));
+    }
+
+    /**
+     * Read a value written by writeSignedVarInt.
+     *
+     * @param in Stream to read from
+     * @return The value
+     * @throws IOException If the value cannot be read or is too long
+     */
+    private static int readSignedVarInt(final DataInputStream in) throws IOException {
+        int zigzag = readUnsignedVarInt(in);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    /**
+     * Write a non-negative value, seven bits per byte with the high bit marking that more bytes follow.
+     *
+     * @param out Stream to write to
+     * @param value The value to write
+     * @throws IOException If the value cannot be written
+     */
+    private static void writeVarInt(final DataOutputStream out, final int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~VARINT_PAYLOAD) != 0) {
+            out.writeByte((remaining & VARINT_PAYLOAD) | VARINT_CONTINUE);
+            remaining >>>= VARINT_PAYLOAD_BITS;
+        }
+        out.writeByte(remaining);
+    }
+
+    /**
+     * Read a non-negative value written by writeVarInt.
+     *
+     * @param in Stream to read from
+     * @return The value
+     * @throws IOException If the value cannot be read, is too long or is negative
+     */
+    private static int readVarInt(final DataInputStream in) throws IOException {
+        int value = readUnsignedVarInt(in);
+        if (value < 0) {
+            throw new IOException("Corrupt battle snapshot, invalid value");
+        }
+        return value;
+    }
+
+    /**
+     * Read all 32 bits of a value written by writeVarInt.
+     *
+     * @param in Stream to read from
+     * @return The value, negative if its highest bit is set
+     * @throws IOException If the value cannot be read or is too long
+     */
+    private static int readUnsignedVarInt(final DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift <= MAX_VARINT_SHIFT; shift += VARINT_PAYLOAD_BITS) {
+            int b = in.readUnsignedByte();
+            value |= (b & VARINT_PAYLOAD) << shift;
+            if ((b & VARINT_CONTINUE) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Corrupt battle snapshot, invalid value");
+    }
+
+    /**
+     * State of one character: its kind, name, stat modifiers and gear. Gear is immutable,
+     * so the pieces are shared by every character restored from the state.
+     */
+    private static final class CharacterState {
+        private final boolean isHero;
+        private final int kind;
+        private final String name;
+        private final String firstName;  // heroes only
+        private final int sequenceNumber;  // skeletons only
+        private final int[] modifiers;  // static and dynamic modifier of every stat, in stat type order
+        private final Weapon[] weapons;
+        private final Armor[] armor;
+
+        /**
+         * Constructor, captures the state of a character.
+         *
+         * @param isHero The character is a hero, otherwise an enemy
+         * @param kind Ordinal of the hero class, or index of the enemy type
+         * @param character The character to capture
+         */
+        CharacterState(final boolean isHero, final int kind, final BaseCharacter character) {
+            this(isHero, kind, character.getCharacterName(), modifiersOf(character.getCharacterStats()),
+                    character.getEquipment().getWeapons().toArray(new Weapon[0]),
+                    character.getEquipment().getArmorPieces().toArray(new Armor[0]));
+        }
+
+        /**
+         * Constructor, initializes members.
+         *
+         * @param isHero The character is a hero, otherwise an enemy
+         * @param kind Ordinal of the hero class, or index of the enemy type
+         * @param name Name of the character
+         * @param modifiers Static and dynamic modifier of every stat, in stat type order
+         * @param weapons Equipped weapons
+         * @param armor Equipped armor, every piece in the slot of its type
+         * @throws IllegalArgumentException if the name cannot be given to a character of the kind
+         */
+        CharacterState(final boolean isHero, final int kind, final String name, final int[] modifiers,
+                       final Weapon[] weapons, final Armor[] armor) {
+            this.isHero = isHero;
+            this.kind = kind;
+            this.name = name;
+            this.modifiers = modifiers;
+            this.weapons = weapons;
+            this.armor = armor;
+
+            if (isHero) {
+                String className = HERO_CLASSES[kind].getClassName();
+                String suffix = " The " + className;
+                if (!name.endsWith(suffix)) {
+                    throw new IllegalArgumentException("not the name of a " + className + ": " + name);
+                }
+                this.firstName = name.substring(0, name.length() - suffix.length());
+                this.sequenceNumber = 0;
+            } else {
+                this.firstName = null;
+                this.sequenceNumber = (kind == LICH_LORD) ? 0 : parseSequenceNumber(ENEMY_NAMES.get(kind), name);
+                if (kind == LICH_LORD && !name.equals(ENEMY_LICH_LORD)) {
+                    throw new IllegalArgumentException("not the name of the lich lord: " + name);
+                }
+            }
+        }
+
+        /**
+         * Get the modifiers of every stat.
+         *
+         * @param stats The stats of a character
+         * @return Static and dynamic modifier of every stat, in stat type order
+         */
+        private static int[] modifiersOf(final CharacterStats stats) {
+            int[] modifiers = new int[STAT_TYPES.length * MODIFIERS_PER_STAT];
+            for (StatType statType : STAT_TYPES) {
+                modifiers[statType.ordinal() * MODIFIERS_PER_STAT] = stats.getStat(statType).getStaticModifier();
+                modifiers[statType.ordinal() * MODIFIERS_PER_STAT + 1] = stats.getStat(statType).getDynamicModifier();
+            }
+            return modifiers;
+        }
+
+        /**
+         * Get the sequence number from the name of a skeleton, e.g. 3 from "Skeleton Mage 3".
+         *
+         * @param enemyName Name of the enemy type
+         * @param name Name of the skeleton
+         * @return The sequence number
+         * @throws IllegalArgumentException if the name is not the enemy name followed by a number
+         */
+        private static int parseSequenceNumber(final String enemyName, final String name) {
+            String prefix = enemyName + " ";
+            if (name.startsWith(prefix)) {
+                try {
+                    return Integer.parseInt(name.substring(prefix.length()));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("not the name of a " + enemyName + ": " + name, e);
+                }
+            }
+            throw new IllegalArgumentException("not the name of a " + enemyName + ": " + name);
+        }
+
+        /**
+         * Build a character in this state.
+         *
+         * @param scratch Random stream the constructors draw their discarded equipment from
+         * @return The new character
+         */
+        BaseCharacter create(final Randomizer scratch) {
+            BaseCharacter character = isHero ? createHero(scratch) : createEnemy(scratch);
+
+            CharacterEquipment equipment = character.getEquipment();
+            equipment.clear();
+            for (Weapon weapon : weapons) {
+                equipment.addWeapon(weapon);
+            }
+            for (Armor armorPiece : armor) {
+                equipment.addArmorPiece(armorPiece.getType(), armorPiece);
+            }
+
+            CharacterStats stats = character.getCharacterStats();
+            for (StatType statType : STAT_TYPES) {
+                stats.getStat(statType).restoreModifiers(modifiers[statType.ordinal() * MODIFIERS_PER_STAT],
+                        modifiers[statType.ordinal() * MODIFIERS_PER_STAT + 1]);
+            }
+            return character;
+        }
+
+        /**
+         * Build a hero of the hero class of this state.
+         *
+         * @param scratch Random stream the constructor draws its equipment from
+         * @return The new hero
+         */
+        private BaseHero createHero(final Randomizer scratch) {
+            switch (HERO_CLASSES[kind]) {
+                case WARRIOR: return new Warrior(firstName, scratch);
+                case RANGER: return new Ranger(firstName, scratch);
+                case WIZARD: return new Wizard(firstName, scratch);
+                default: return new Cleric(firstName, scratch);
+            }
+        }
+
+        /**
+         * Build an enemy of the enemy type of this state.
+         *
+         * @param scratch Random stream the constructor draws its equipment from
+         * @return The new enemy
+         */
+        private BaseEnemy createEnemy(final Randomizer scratch) {
+            switch (kind) {
+                case SKELETON_WARRIOR: return new SkeletonWarrior(sequenceNumber, scratch);
+                case SKELETON_ARCHER: return new SkeletonArcher(sequenceNumber, scratch);
+                case SKELETON_MAGE: return new SkeletonMage(sequenceNumber, scratch);
+                default: return new LichLord(scratch);
+            }
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.dt180g.project.simulation;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.characters.BaseCharacter;
+import com.dt180g.project.characters.CharacterStats;
+import com.dt180g.project.characters.enemies.BaseEnemy;
+import com.dt180g.project.characters.heroes.BaseHero;
+import com.dt180g.project.stats.StatType;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Checkpoint of a running campaign in flat primitive arrays, for tree searches forking a battle
+ * thousands of times per second. Characters are not copied: a state refers to the characters of the
+ * simulator it was captured from, and only copies what changes during a battle. That is the static and
+ * dynamic modifier of every stat, which include the current HP, AP and energy, together with the rosters,
+ * the position in the campaign and the random state. Gear, abilities, names and base values never
+ * change in battle and stay shared.
+ *
+ * Restoring writes the modifiers back into the same characters, rewinding the simulator in place, so
+ * the existing characters play the continuation as usual. Capturing and restoring both take a few
+ * microseconds, and only capturing allocates. States are immutable and can be restored any number
+ * of times; reseed the random stream after restoring to branch into different continuations.
+ *
+ * A state can only be restored into the simulator it was captured from. Searches running on several
+ * threads give every thread its own simulator, e.g. by restoring the same {@link BattleSnapshot} into each.
+ *
+ * @author Samuel Thand
+ */
+public final class BattleState {
+    private static final StatType[] STAT_TYPES = StatType.values();
+    private static final int MODIFIERS_PER_STAT = 2;  // static, then dynamic
+    private static final int MODIFIERS_PER_CHARACTER = STAT_TYPES.length * MODIFIERS_PER_STAT;
+    private final CampaignSimulator simulator;
+    private final BaseHero[] heroes;
+    private final BaseEnemy[] enemies;
+    private final int[] modifiers;  // every stat of every hero, then of every enemy, in stat type order
+    private final BaseCharacter[] remainingTurns;
+    private final int dungeonLevel;
+    private final int round;
+    private final int turn;
+    private final boolean turnStarted;
+    private final int[] roundsPerLevel;
+    private final long randomState;
+
+    /**
+     * Constructor, copies the state of a simulator.
+     *
+     * @param simulator The simulator to capture
+     */
+    private BattleState(final CampaignSimulator simulator) {
+        GameEngine engine = simulator.getEngine();
+        this.simulator = simulator;
+        this.heroes = engine.getHeroes().toArray(new BaseHero[0]);
+        this.enemies = engine.getEnemies().toArray(new BaseEnemy[0]);
+        this.modifiers = new int[(heroes.length + enemies.length) * MODIFIERS_PER_CHARACTER];
+        this.remainingTurns = simulator.getRemainingTurns().toArray(new BaseCharacter[0]);
+        this.dungeonLevel = simulator.getCurrentDungeonLevel();
+        this.round = simulator.getCurrentRound();
+        this.turn = simulator.getCurrentTurn();
+        this.turnStarted = simulator.isTurnStarted();
+        this.roundsPerLevel = simulator.getRoundsPerLevel();
+        this.randomState = engine.getRandomizer().getState();
+
+        int offset = 0;
+        for (BaseHero hero : heroes) {
+            offset = copyModifiers(hero.getCharacterStats(), offset);
+        }
+        for (BaseEnemy enemy : enemies) {
+            offset = copyModifiers(enemy.getCharacterStats(), offset);
+        }
+    }
+
+    /**
+     * Capture the campaign a simulator is running, usually right after it stopped at its stop point or
+     * from the decision policy of the acting character.
+     *
+     * @param simulator The simulator to capture
+     * @return The state of the simulator
+     * @throws IllegalStateException if the simulator has not started a campaign
+     */
+    public static BattleState capture(final CampaignSimulator simulator) {
+        if (simulator.getCurrentDungeonLevel() < 1) {
+            throw new IllegalStateException("No campaign to capture");
+        }
+        return new BattleState(simulator);
+    }
+
+    /**
+     * Rewind the simulator this state was captured from to this state. Resume the campaign
+     * afterwards with {@link CampaignSimulator#resumeCampaign()}.
+     */
+    public void restore() {
+        GameEngine engine = simulator.getEngine();
+        List<BaseHero> heroRoster = engine.getHeroes();
+        heroRoster.clear();
+        int offset = 0;
+        for (BaseHero hero : heroes) {
+            heroRoster.add(hero);
+            offset = restoreModifiers(hero.getCharacterStats(), offset);
+        }
+        List<BaseEnemy> enemyRoster = engine.getEnemies();
+        enemyRoster.clear();
+        for (BaseEnemy enemy : enemies) {
+            enemyRoster.add(enemy);
+            offset = restoreModifiers(enemy.getCharacterStats(), offset);
+        }
+
+        engine.getRandomizer().setState(randomState);
+        simulator.restorePosition(dungeonLevel, round, turn, roundsPerLevel, Arrays.asList(remainingTurns),
+                turnStarted);
+    }
+
+    /**
+     * Copy the modifiers of every stat of a character into this state.
+     *
+     * @param stats The stats of the character
+     * @param offset Position of the first modifier of the character
+     * @return Position of the first modifier of the next character
+     */
+    private int copyModifiers(final CharacterStats stats, final int offset) {
+        int position = offset;
+        for (StatType statType : STAT_TYPES) {
+            modifiers[position++] = stats.getStat(statType).getStaticModifier();
+            modifiers[position++] = stats.getStat(statType).getDynamicModifier();
+        }
+        return position;
+    }
+
+    /**
+     * Write the modifiers of every stat of a character back from this state.
+     *
+     * @param stats The stats of the character
+     * @param offset Position of the first modifier of the character
+     * @return Position of the first modifier of the next character
+     */
+    private int restoreModifiers(final CharacterStats stats, final int offset) {
+        int position = offset;
+        for (StatType statType : STAT_TYPES) {
+            stats.getStat(statType).restoreModifiers(modifiers[position], modifiers[position + 1]);
+            position += MODIFIERS_PER_STAT;
+        }
+        return position;
+    }
+
+    /**
+     * Get the simulator this state was captured from.
+     *
+     * @return member simulator
+     */
+    public CampaignSimulator getSimulator() {
+        return simulator;
+    }
+
+    /**
+     * Get the dungeon level the state was captured on.
+     *
+     * @return member dungeonLevel
+     */
+    public int getDungeonLevel() {
+        return dungeonLevel;
+    }
+
+    /**
+     * Get the amount of rounds started on the dungeon level when the state was captured.
+     *
+     * @return member round
+     */
+    public int getRound() {
+        return round;
+    }
+
+    /**
+     * Get the amount of turn positions taken in the round in progress when the state was captured.
+     *
+     * @return member turn, 0 if the state was captured between rounds
+     */
+    public int getTurn() {
+        return turn;
+    }
+
+    /**
+     * Get the amount of heroes alive in the state.
+     *
+     * @return Amount of heroes
+     */
+    public int getAmountOfHeroes() {
+        return heroes.length;
+    }
+
+    /**
+     * Get the amount of enemies alive in the state.
+     *
+     * @return Amount of enemies
+     */
+    public int getAmountOfEnemies() {
+        return enemies.length;
+    }
+}
@@ -0,0 +1,196 @@
+package com.dt180g.project.simulation;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.events.CombatEventListener;
+import com.dt180g.project.policies.DecisionPolicy;
+import com.dt180g.project.support.RandomJournal;
+import com.dt180g.project.support.ReplayRandomizer;
+import com.dt180g.project.support.SimulationConfig;
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ * Replay engine re-executing a recorded campaign from its RandomJournal, draw by draw.
+ * Replays emit no combat events unless asked to, so reaching a late round of a long campaign
+ * costs no more than simulating it headless. A replay has to make the decisions and follow the balance
+ * parameters of the recorded campaign, or it requests other draws than those recorded.
+ *
+ * @author Samuel Thand
+ */
+public class CampaignReplay {
+    private static final CombatEventListener SILENT = new CombatEventListener() { };
+    private final RandomJournal journal;
+    private final ReplayRandomizer random;
+    private final CampaignSimulator simulator;
+
+    /**
+     * Constructor, creates a replay running on its own game engine, with the policies and balance
+     * parameters named in the journal.
+     *
+     * @param journal The journal of the campaign to replay
+     * @throws IOException If a policy of the journal is a priority table that cannot be rebuilt
+     */
+    public CampaignReplay(final RandomJournal journal) throws IOException {
+        this(journal, DecisionPolicy.forName(journal.getHeroPolicy()),
+                DecisionPolicy.forName(journal.getEnemyPolicy()), journal.getConfig());
+    }
+
+    /**
+     * Constructor, creates a replay running on its own game engine, with the provided policies and
+     * balance parameters, which must be those the campaign was recorded with.
+     *
+     * @param journal The journal of the campaign to replay
+     * @param heroPolicy The decision policy of the heroes
+     * @param enemyPolicy The decision policy of the enemies
+     * @param config The balance parameters
+     */
+    public CampaignReplay(final RandomJournal journal, final DecisionPolicy heroPolicy,
+                          final DecisionPolicy enemyPolicy, final SimulationConfig config) {
+        this.journal = journal;
+        this.random = new ReplayRandomizer(journal);
+        GameEngine engine = new GameEngine(random);
+        engine.setCombatEventListener(SILENT);
+        engine.setHeroPolicy(heroPolicy);
+        engine.setEnemyPolicy(enemyPolicy);
+        engine.setConfig(config);
+        this.simulator = new CampaignSimulator(engine);
+    }
+
+    /**
+     * Replay the whole campaign without emitting combat events.
+     *
+     * @return The outcome of the campaign, equal to the recorded outcome
+     */
+    public CampaignResult replay() {
+        return replay(SILENT, 0, 0);
+    }
+
+    /**
+     * Replay the whole campaign, emitting combat events from a round onwards.
+     *
+     * @param listener The listener receiving combat events
+     * @param fromLevel The dungeon level of the first round to emit events for
+     * @param fromRound The first round on that level to emit events for
+     * @return The outcome of the campaign, equal to the recorded outcome
+     */
+    public CampaignResult replay(final CombatEventListener listener, final int fromLevel, final int fromRound) {
+        simulator.getEngine().setCombatEventListener(new FromRoundListener(listener, fromLevel, fromRound));
+        simulator.setStopPoint(0, 0);
+        try {
+            return simulator.runCampaign(journal.getSeed());
+        } finally {
+            simulator.getEngine().setCombatEventListener(SILENT);
+        }
+    }
+
+    /**
+     * Replay the campaign up to right before a round starts, without emitting combat events.
+     * The characters of the engine are then in the exact state the round started from.
+     *
+     * @param dungeonLevel The dungeon level to stop on
+     * @param round The round to stop before
+     * @return The round was reached, false if the campaign ended before it
+     */
+    public boolean replayTo(final int dungeonLevel, final int round) {
+        simulator.setStopPoint(dungeonLevel, round);
+        simulator.runCampaign(journal.getSeed());
+        return simulator.isStopped();
+    }
+
+    /**
+     * Get the game engine the campaign is replayed in.
+     *
+     * @return The game engine
+     */
+    public GameEngine getEngine() {
+        return simulator.getEngine();
+    }
+
+    /**
+     * Get the amount of draws replayed by the last replay.
+     *
+     * @return Amount of draws taken from the journal
+     */
+    public int getDrawsReplayed() {
+        return random.getPosition();
+    }
+
+    /**
+     * Listener forwarding combat events to another listener, starting with the round start
+     * of a specified round. Dungeon levels count down, so every lower level comes later.
+     */
+    private static final class FromRoundListener implements CombatEventListener {
+        private final CombatEventListener listener;
+        private final int fromLevel;
+        private final int fromRound;
+        private boolean forwarding = false;
+
+        /**
+         * Constructor, initializes members.
+         *
+         * @param listener The listener to forward to
+         * @param fromLevel The dungeon level of the first forwarded round
+         * @param fromRound The first forwarded round on that level
+         */
+        FromRoundListener(final CombatEventListener listener, final int fromLevel, final int fromRound) {
+            this.listener = listener;
+            this.fromLevel = fromLevel;
+            this.fromRound = fromRound;
+        }
+
+        @Override
+        public void onRoundStart(final int dungeonLevel, final int round, final int heroes, final int enemies) {
+            forwarding |= dungeonLevel < fromLevel || (dungeonLevel == fromLevel && round >= fromRound);
+            if (forwarding) {
+                listener.onRoundStart(dungeonLevel, round, heroes, enemies);
+            }
+        }
+
+        @Override
+        public void onTurnStart(final String characterName, final boolean hero, final int actionPoints,
+                                final int hitPoints, final int energyLevel) {
+            if (forwarding) {
+                listener.onTurnStart(characterName, hero, actionPoints, hitPoints, energyLevel);
+            }
+        }
+
+        @Override
+        public void onAbilityUsed(final Supplier<String> abilityInformation, final int amountOfTargets,
+                                  final boolean targetEnemies, final boolean magic, final boolean heal,
+                                  final int amount) {
+            if (forwarding) {
+                listener.onAbilityUsed(abilityInformation, amountOfTargets, targetEnemies, magic, heal, amount);
+            }
+        }
+
+        @Override
+        public void onNoTargets(final boolean targetEnemies) {
+            if (forwarding) {
+                listener.onNoTargets(targetEnemies);
+            }
+        }
+
+        @Override
+        public void onDamage(final String characterName, final boolean critical, final int deflected,
+                             final int direct, final int hitPointsLeft) {
+            if (forwarding) {
+                listener.onDamage(characterName, critical, deflected, direct, hitPointsLeft);
+            }
+        }
+
+        @Override
+        public void onHeal(final String characterName, final boolean critical, final int amount,
+                           final int hitPointsLeft) {
+            if (forwarding) {
+                listener.onHeal(characterName, critical, amount, hitPointsLeft);
+            }
+        }
+
+        @Override
+        public void onDeath(final String characterName) {
+            if (forwarding) {
+                listener.onDeath(characterName);
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.dt180g.project.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Immutable outcome of a single simulated campaign.
+ *
+ * @author Samuel Thand
+ */
+public final class CampaignResult {
+    private final boolean victory;
+    private final int[] roundsPerLevel;
+    private final int survivors;
+
+    /**
+     * Constructor, initializes members.
+     *
+     * @param victory The heroes defeated the final boss
+     * @param roundsPerLevel Rounds fought on each dungeon level, indexed by level. Unreached levels hold 0
+     * @param survivors Amount of heroes alive when the campaign ended
+     */
+    public CampaignResult(final boolean victory, final int[] roundsPerLevel, final int survivors) {
+        this.victory = victory;
+        this.roundsPerLevel = roundsPerLevel.clone();
+        this.survivors = survivors;
+    }
+
+    /**
+     * Check if the heroes completed the dungeon.
+     *
+     * @return The campaign was won
+     */
+    public boolean isVictory() {
+        return victory;
+    }
+
+    /**
+     * Get the amount of rounds fought on a dungeon level.
+     *
+     * @param level The dungeon level
+     * @return Rounds fought on the level, 0 if it was never reached
+     */
+    public int getRounds(final int level) {
+        return roundsPerLevel[level];
+    }
+
+    /**
+     * Get the highest dungeon level this result holds information for.
+     *
+     * @return The highest dungeon level
+     */
+    public int getHighestLevel() {
+        return roundsPerLevel.length - 1;
+    }
+
+    /**
+     * Get the amount of heroes alive when the campaign ended.
+     *
+     * @return Amount of surviving heroes
+     */
+    public int getSurvivors() {
+        return survivors;
+    }
+
+    /**
+     * Get a short description of this result.
+     *
+     * @return Outcome, rounds per level and survivors in a formatted string
+     */
+    @Override
+    public String toString() {
+        return String.format("%s | rounds %s | %d survivors", victory ? "VICTORY" : "DEFEAT",
+                Arrays.toString(roundsPerLevel), survivors);
+    }
+}
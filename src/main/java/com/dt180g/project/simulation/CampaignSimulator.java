@@ -0,0 +1,377 @@
+package com.dt180g.project.simulation;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.characters.BaseCharacter;
+import com.dt180g.project.characters.TurnScheduler;
+import com.dt180g.project.support.Constants;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs complete campaigns without any user interaction. Mirrors the flow of the
+ * interactive GameRunner, from the first dungeon level down to the final boss.
+ *
+ * @author Samuel Thand
+ */
+public class CampaignSimulator implements Constants {
+    public static final int DEFAULT_ROUND_LIMIT = 10_000;
+    private final GameEngine engine;
+    private int roundLimit = DEFAULT_ROUND_LIMIT;
+    private int currentDungeonLevel;
+    private int currentRound;
+    private int[] roundsPerLevel = new int[DUNGEON_START_LEVEL + 1];
+    private TurnScheduler turnOrder;
+    private int currentTurn;  // positions of the turn order already taken
+    private int turnsBeforeOrder;  // positions taken before the turn order was restored
+    private boolean roundInProgress = false;
+    private boolean turnStarted = false;  // the character at the current position is choosing or using abilities
+    private int stopLevel = 0;  // dungeon levels end at 1, so level 0 never stops a campaign
+    private int stopRound = 0;
+    private int stopTurn = 0;
+    private int stopAfterLevel = 0;
+    private boolean stopped = false;
+    private boolean atResumePoint = false;  // the stop point does not apply where a campaign resumes
+
+    /**
+     * Constructor, creates a simulator running on its own game engine.
+     */
+    public CampaignSimulator() {
+        this(new GameEngine());
+    }
+
+    /**
+     * Constructor, initializes members.
+     *
+     * @param engine The game engine to run campaigns in. Must not be shared with other running simulators
+     */
+    public CampaignSimulator(final GameEngine engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Set the amount of rounds after which a dungeon level is called off and the campaign lost.
+     * Balance parameters like no replenished action points can leave both sides unable to win.
+     *
+     * @param roundLimit Amount of rounds per dungeon level
+     */
+    public void setRoundLimit(final int roundLimit) {
+        if (roundLimit < 1) {
+            throw new IllegalArgumentException("At least one round is needed");
+        }
+        this.roundLimit = roundLimit;
+    }
+
+    /**
+     * Make campaigns stop right before a round starts, leaving the engine in the state the round
+     * would start from. Level 0 removes the stop point.
+     *
+     * @param dungeonLevel The dungeon level to stop on
+     * @param round The round to stop before, 1 stopping as soon as the enemies of the level are produced
+     */
+    public void setStopPoint(final int dungeonLevel, final int round) {
+        setStopPoint(dungeonLevel, round, 0);
+    }
+
+    /**
+     * Make campaigns stop in the middle of a round, right before a position of its turn order is taken.
+     * Level 0 removes the stop point.
+     *
+     * @param dungeonLevel The dungeon level to stop on
+     * @param round The round to stop in
+     * @param turn The amount of turn positions taken before stopping, 0 stopping before the round starts.
+     *             Positions of characters that died earlier in the round count as taken, except in a
+     *             restored round for characters that had died before the snapshot was taken
+     */
+    public void setStopPoint(final int dungeonLevel, final int round, final int turn) {
+        this.stopLevel = dungeonLevel;
+        this.stopRound = round;
+        this.stopTurn = turn;
+    }
+
+    /**
+     * Make campaigns stop as soon as a dungeon level is cleared, before the enemies of the next level
+     * are produced. Level 0 removes the stop, and clearing level 1 always wins the campaign.
+     *
+     * @param dungeonLevel The dungeon level to stop after
+     */
+    public void setStopAfterLevel(final int dungeonLevel) {
+        this.stopAfterLevel = dungeonLevel;
+    }
+
+    /**
+     * Check if the last campaign ended at the stop point, rather than in victory or defeat.
+     *
+     * @return The last campaign was stopped
+     */
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    /**
+     * Get the game engine campaigns are run in.
+     *
+     * @return The game engine
+     */
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Run a full campaign with a new party of heroes, continuing the random stream of the engine.
+     *
+     * @return The outcome of the campaign
+     */
+    public CampaignResult runCampaign() {
+        engine.resetGame();
+        return runDungeon();
+    }
+
+    /**
+     * Run a full campaign with a new party of heroes, reseeding the random stream of the engine.
+     * The same seed will always produce the same campaign.
+     *
+     * @param seed The seed of the campaign
+     * @return The outcome of the campaign
+     */
+    public CampaignResult runCampaign(final long seed) {
+        engine.resetGame(seed);
+        return runDungeon();
+    }
+
+    /**
+     * Continue the current campaign from where it left off, e.g. after it was stopped or after a
+     * snapshot was restored into this simulator. The stop point does not apply to the position the
+     * campaign resumes from, so a stopped campaign continues past it.
+     *
+     * @return The outcome of the campaign
+     * @throws IllegalStateException if no campaign has been started
+     */
+    public CampaignResult resumeCampaign() {
+        if (currentDungeonLevel < 1) {
+            throw new IllegalStateException("No campaign to resume");
+        }
+        atResumePoint = true;
+        return continueDungeon();
+    }
+
+    /**
+     * Get the dungeon level of the current campaign, 0 if no campaign has been started.
+     *
+     * @return member currentDungeonLevel
+     */
+    public int getCurrentDungeonLevel() {
+        return currentDungeonLevel;
+    }
+
+    /**
+     * Get the amount of rounds played on the current dungeon level.
+     *
+     * @return member currentRound
+     */
+    public int getCurrentRound() {
+        return currentRound;
+    }
+
+    /**
+     * Get the amount of rounds played on every dungeon level of the current campaign, indexed by level.
+     *
+     * @return copy of member roundsPerLevel
+     */
+    public int[] getRoundsPerLevel() {
+        return roundsPerLevel.clone();
+    }
+
+    /**
+     * Get the amount of turn positions taken in the round in progress, 0 between rounds.
+     *
+     * @return Amount of turn positions taken
+     */
+    public int getCurrentTurn() {
+        return roundInProgress ? turnsBeforeOrder + currentTurn : 0;
+    }
+
+    /**
+     * Check if the character at the current turn position has started its turn, e.g. while its decision
+     * policy captures the campaign to search for the best abilities. A campaign captured during a turn
+     * continues that turn when resumed, without replenishing the character again.
+     *
+     * @return member turnStarted
+     */
+    public boolean isTurnStarted() {
+        return turnStarted;
+    }
+
+    /**
+     * Get the living characters still to act in the round in progress, in acting order.
+     *
+     * @return The remaining turns, empty between rounds
+     */
+    List<BaseCharacter> getRemainingTurns() {
+        List<BaseCharacter> remainingTurns = new ArrayList<>();
+        if (roundInProgress) {
+            for (int turn = currentTurn; turn < turnOrder.size(); turn++) {
+                if (!turnOrder.get(turn).isDead()) {
+                    remainingTurns.add(turnOrder.get(turn));
+                }
+            }
+        }
+        return remainingTurns;
+    }
+
+    /**
+     * Move the current campaign to a position, used when restoring a snapshot into this simulator.
+     *
+     * @param dungeonLevel The dungeon level
+     * @param round The amount of rounds started on the dungeon level
+     * @param turn The amount of turn positions taken in the round in progress
+     * @param rounds The amount of rounds played on every dungeon level, indexed by level
+     * @param remainingTurns The characters still to act in the round in progress, empty between rounds
+     * @param started The first of the remaining characters has started its turn
+     */
+    void restorePosition(final int dungeonLevel, final int round, final int turn, final int[] rounds,
+                         final List<? extends BaseCharacter> remainingTurns, final boolean started) {
+        this.currentDungeonLevel = dungeonLevel;
+        this.currentRound = round;
+        this.roundsPerLevel = rounds.clone();
+        this.roundInProgress = !remainingTurns.isEmpty();
+        this.turnStarted = roundInProgress && started;
+        if (roundInProgress) {
+            turnOrder = engine.restoreTurns(remainingTurns);
+            currentTurn = 0;
+            turnsBeforeOrder = turn;
+        }
+    }
+
+    /**
+     * Run all dungeon levels with the current party, from the start level down to the final boss.
+     *
+     * @return The outcome of the campaign
+     */
+    private CampaignResult runDungeon() {
+        currentDungeonLevel = DUNGEON_START_LEVEL;
+        roundsPerLevel = new int[DUNGEON_START_LEVEL + 1];
+        atResumePoint = false;
+        startDungeonLevel();
+        return continueDungeon();
+    }
+
+    /**
+     * Run the rest of the current dungeon level and all levels below it.
+     *
+     * @return The outcome of the campaign
+     */
+    private CampaignResult continueDungeon() {
+        stopped = false;
+        runDungeonLevel();
+        while (!stopped && engine.heroesRemaining() && !engine.enemiesRemaining() && currentDungeonLevel > 1) {
+            if (currentDungeonLevel == stopAfterLevel) {
+                stopped = true;
+                break;
+            }
+            --currentDungeonLevel;
+            startDungeonLevel();
+            runDungeonLevel();
+        }
+
+        return new CampaignResult(!stopped && !engine.enemiesRemaining() && engine.heroesRemaining(),
+                roundsPerLevel, engine.getAmountOfHeroes());
+    }
+
+    /**
+     * Produce the enemies of the current dungeon level and let the heroes rest before it.
+     */
+    private void startDungeonLevel() {
+        int difficulty = DUNGEON_START_LEVEL - currentDungeonLevel + 1;  // multiplier for additional enemies
+        int additionalEnemies = (currentDungeonLevel == 1) ? 0 : engine.getConfig().getEnemiesMultiplier();
+        engine.produceEnemies(difficulty * additionalEnemies, currentDungeonLevel == 1);
+        engine.resetHeroesStats();
+        currentRound = 0;
+        roundInProgress = false;
+        turnStarted = false;
+    }
+
+    /**
+     * Run the current dungeon level until either all enemies or all heroes are dead, the stop point
+     * or the round limit is reached.
+     */
+    private void runDungeonLevel() {
+        while (engine.enemiesRemaining() && engine.heroesRemaining() && !stopped) {
+            if (!roundInProgress) {
+                if (shouldStop(currentRound + 1, 0)) {
+                    stopped = true;
+                    break;
+                }
+                if (currentRound >= roundLimit) {  // called off, the enemies remaining lose the campaign
+                    break;
+                }
+                startRound();
+            }
+            runTurns();
+        }
+        roundsPerLevel[currentDungeonLevel] = currentRound;
+    }
+
+    /**
+     * Check if the campaign should stop at a position of the current dungeon level. Every position is
+     * checked once, except the position a resumed campaign continues from.
+     *
+     * @param round The round
+     * @param turn The amount of turn positions taken in the round
+     * @return The position is the stop point
+     */
+    private boolean shouldStop(final int round, final int turn) {
+        boolean stop = !atResumePoint && currentDungeonLevel == stopLevel && round == stopRound && turn == stopTurn;
+        atResumePoint = false;
+        return stop;
+    }
+
+    /**
+     * Start a new round, scheduling every character in order of their action points.
+     */
+    private void startRound() {
+        ++currentRound;
+
+        engine.startRound(currentDungeonLevel, currentRound);
+
+        // Highest AP rate will act first, same as in the interactive game
+        turnOrder = engine.scheduleTurns();
+        currentTurn = 0;
+        turnsBeforeOrder = 0;
+        roundInProgress = true;
+    }
+
+    /**
+     * Let the characters of the round in progress act, until the round ends or the stop point is reached.
+     */
+    private void runTurns() {
+        for (; currentTurn < turnOrder.size(); currentTurn++) {
+            int position = turnsBeforeOrder + currentTurn;
+            // position 0 is checked before the round, unless the campaign resumes in it
+            if ((position > 0 || atResumePoint) && shouldStop(currentRound, position)) {
+                stopped = true;
+                return;
+            }
+
+            BaseCharacter character = turnOrder.get(currentTurn);
+            if (!turnStarted) {  // a resumed turn has already been prepared
+                if (currentRound > 1) {
+                    character.roundReset(engine.getConfig().getRoundResetActionPoints(),
+                            engine.getConfig().getRoundResetEnergy());
+                }
+
+                if (character.isDead()) {
+                    continue;
+                }
+            }
+
+            turnStarted = true;
+            character.doTurn(engine);
+            turnStarted = false;
+
+            if (!engine.heroesRemaining() || !engine.enemiesRemaining()) {
+                break;
+            }
+        }
+        roundInProgress = false;
+    }
+}
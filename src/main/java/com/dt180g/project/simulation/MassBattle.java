@@ -0,0 +1,104 @@
+package com.dt180g.project.simulation;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.characters.BaseCharacter;
+import com.dt180g.project.characters.TurnScheduler;
+import com.dt180g.project.support.Constants;
+
+/**
+ * Stress scenario pitting a party of arbitrary size against an arbitrary amount of enemies
+ * in a single battle, fought in rounds like a dungeon level until one side is wiped out.
+ *
+ * @author Samuel Thand
+ */
+public class MassBattle implements Constants {
+    public static final int DEFAULT_ROUND_LIMIT = 10_000;
+    private static final int BATTLE_LEVEL = 0;  // reported as dungeon level in round events
+    private final GameEngine engine;
+    private final int amountOfHeroes;
+    private final int amountOfEnemies;
+    private final int roundLimit;
+
+    /**
+     * Constructor, creates a battle running on its own game engine with the default round limit.
+     *
+     * @param amountOfHeroes Size of the party
+     * @param amountOfEnemies Amount of enemies
+     */
+    public MassBattle(final int amountOfHeroes, final int amountOfEnemies) {
+        this(new GameEngine(), amountOfHeroes, amountOfEnemies, DEFAULT_ROUND_LIMIT);
+    }
+
+    /**
+     * Constructor, initializes members.
+     *
+     * @param engine The game engine to fight in. Must not be shared with other running simulations
+     * @param amountOfHeroes Size of the party
+     * @param amountOfEnemies Amount of enemies
+     * @param roundLimit Amount of rounds after which the battle is called off
+     */
+    public MassBattle(final GameEngine engine, final int amountOfHeroes, final int amountOfEnemies,
+                      final int roundLimit) {
+        if (amountOfHeroes < 1 || amountOfEnemies < 1) {
+            throw new IllegalArgumentException("Both sides need at least one character");
+        }
+        this.engine = engine;
+        this.amountOfHeroes = amountOfHeroes;
+        this.amountOfEnemies = amountOfEnemies;
+        this.roundLimit = roundLimit;
+    }
+
+    /**
+     * Fight the battle, reseeding the random stream of the engine first.
+     * The same seed will always produce the same battle.
+     *
+     * @param seed The seed of the battle
+     * @return The outcome of the battle
+     */
+    public MassBattleResult run(final long seed) {
+        engine.getRandomizer().setState(seed);
+        engine.produceParty(amountOfHeroes);
+        engine.produceEnemies(amountOfEnemies, false);
+
+        int round = 0;
+        long turns = 0;
+        while (engine.heroesRemaining() && engine.enemiesRemaining() && round < roundLimit) {
+            turns += runRound(++round);
+        }
+
+        return new MassBattleResult(round, turns, engine.getAmountOfHeroes(), engine.getAmountOfEnemies());
+    }
+
+    /**
+     * Run a single round, letting every character act in order of their action points.
+     *
+     * @param round The round to run
+     * @return Amount of turns taken
+     */
+    private int runRound(final int round) {
+        engine.startRound(BATTLE_LEVEL, round);
+
+        TurnScheduler turnOrder = engine.scheduleTurns();
+
+        int turns = 0;
+        for (int turn = 0; turn < turnOrder.size(); turn++) {
+            BaseCharacter character = turnOrder.get(turn);
+            if (round > 1) {
+                character.roundReset(engine.getConfig().getRoundResetActionPoints(),
+                        engine.getConfig().getRoundResetEnergy());
+            }
+
+            if (character.isDead()) {
+                continue;
+            }
+
+            character.doTurn(engine);
+            turns++;
+
+            if (!engine.heroesRemaining() || !engine.enemiesRemaining()) {
+                break;
+            }
+        }
+        return turns;
+    }
+}
@@ -0,0 +1,94 @@
+package com.dt180g.project.simulation;
+
+/**
+ * Immutable outcome of a single mass battle.
+ *
+ * @author Samuel Thand
+ */
+public final class MassBattleResult {
+    private final int rounds;
+    private final long turns;
+    private final int heroesLeft;
+    private final int enemiesLeft;
+
+    /**
+     * Constructor, initializes members.
+     *
+     * @param rounds Rounds fought
+     * @param turns Turns taken by all characters
+     * @param heroesLeft Amount of heroes alive when the battle ended
+     * @param enemiesLeft Amount of enemies alive when the battle ended
+     */
+    public MassBattleResult(final int rounds, final long turns, final int heroesLeft, final int enemiesLeft) {
+        this.rounds = rounds;
+        this.turns = turns;
+        this.heroesLeft = heroesLeft;
+        this.enemiesLeft = enemiesLeft;
+    }
+
+    /**
+     * Get the amount of rounds fought.
+     *
+     * @return Rounds fought
+     */
+    public int getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Get the amount of turns taken by all characters.
+     *
+     * @return Turns taken
+     */
+    public long getTurns() {
+        return turns;
+    }
+
+    /**
+     * Get the amount of heroes alive when the battle ended.
+     *
+     * @return Surviving heroes
+     */
+    public int getHeroesLeft() {
+        return heroesLeft;
+    }
+
+    /**
+     * Get the amount of enemies alive when the battle ended.
+     *
+     * @return Surviving enemies
+     */
+    public int getEnemiesLeft() {
+        return enemiesLeft;
+    }
+
+    /**
+     * Check if one side was wiped out, as opposed to the battle hitting its round limit.
+     *
+     * @return The battle was decided
+     */
+    public boolean isDecided() {
+        return heroesLeft == 0 || enemiesLeft == 0;
+    }
+
+    /**
+     * Check if the heroes won the battle.
+     *
+     * @return All enemies are dead and at least one hero survived
+     */
+    public boolean isHeroVictory() {
+        return enemiesLeft == 0 && heroesLeft > 0;
+    }
+
+    /**
+     * Get a summary of the battle.
+     *
+     * @return Rounds, turns and survivors of the battle
+     */
+    @Override
+    public String toString() {
+        String outcome = !isDecided() ? "UNDECIDED" : (isHeroVictory() ? "HEROES WIN" : "ENEMIES WIN");
+        return String.format("%s | %d ROUNDS | %d TURNS | %d HEROES LEFT | %d ENEMIES LEFT",
+                outcome, rounds, turns, heroesLeft, enemiesLeft);
+    }
+}
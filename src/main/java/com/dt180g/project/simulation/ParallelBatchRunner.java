@@ -0,0 +1,211 @@
+package com.dt180g.project.simulation;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.events.BinaryCombatEventWriter;
+import com.dt180g.project.policies.DecisionPolicy;
+import com.dt180g.project.policies.RandomPolicy;
+import com.dt180g.project.support.Constants;
+import com.dt180g.project.support.RandomJournal;
+import com.dt180g.project.support.Randomizer;
+import com.dt180g.project.support.RecordingRandomizer;
+import com.dt180g.project.support.SimulationConfig;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs batches of independent campaigns on a fixed pool of threads.
+ * Every worker owns its own simulator and game engine, and the partial
+ * statistics are merged once all workers are done.
+ *
+ * @author Samuel Thand
+ */
+public class ParallelBatchRunner implements Constants {
+    private final int threads;
+    private Path eventDirectory = null;
+    private Path journalDirectory = null;
+    private DecisionPolicy heroPolicy = RandomPolicy.INSTANCE;
+    private DecisionPolicy enemyPolicy = RandomPolicy.INSTANCE;
+    private SimulationConfig config = SimulationConfig.DEFAULT;
+
+    /**
+     * Constructor, creates a runner using all available processors.
+     */
+    public ParallelBatchRunner() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor, initializes members.
+     *
+     * @param threads Amount of worker threads
+     */
+    public ParallelBatchRunner(final int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one worker thread is needed");
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Get the amount of worker threads.
+     *
+     * @return Amount of worker threads
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Record the combat events of every campaign in binary event files in the specified directory,
+     * one file per worker named after the index of its first campaign. Null disables recording.
+     *
+     * @param eventDirectory Directory to write event files to, or null
+     */
+    public void setEventDirectory(final Path eventDirectory) {
+        this.eventDirectory = eventDirectory;
+    }
+
+    /**
+     * Record the random draws of every campaign, and keep the journals of all lost campaigns as
+     * journal files in the specified directory, named after the index of the campaign. A kept
+     * journal names the policies and holds the balance parameters of its campaign, and replays the
+     * campaign exactly with a CampaignReplay. Journals are only kept with policies that have a name
+     * to be rebuilt from. Null disables recording.
+     *
+     * @param journalDirectory Directory to write journal files to, or null
+     */
+    public void setJournalDirectory(final Path journalDirectory) {
+        this.journalDirectory = journalDirectory;
+    }
+
+    /**
+     * Set the policies choosing the abilities of the heroes and enemies in every campaign, random
+     * abilities by default. The policies are shared by all worker threads, and must not keep any state
+     * between turns, like the built-in policies apart from MctsPolicy.
+     *
+     * @param heroPolicy The decision policy of the heroes
+     * @param enemyPolicy The decision policy of the enemies
+     */
+    public void setPolicies(final DecisionPolicy heroPolicy, final DecisionPolicy enemyPolicy) {
+        this.heroPolicy = heroPolicy;
+        this.enemyPolicy = enemyPolicy;
+    }
+
+    /**
+     * Set the balance parameters of every campaign, the values of the constants by default.
+     *
+     * @param config The balance parameters
+     */
+    public void setConfig(final SimulationConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Get the balance parameters of every campaign.
+     *
+     * @return The balance parameters
+     */
+    public SimulationConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Run a batch of campaigns with a master seed taken from the system clock.
+     *
+     * @param campaigns Amount of campaigns to run
+     * @return Statistics for all campaigns
+     */
+    public BatchStatistics run(final int campaigns) {
+        return run(campaigns, System.nanoTime());
+    }
+
+    /**
+     * Run a batch of campaigns, divided evenly among the worker threads.
+     * Every campaign is seeded from the master seed and its index in the batch, so the
+     * outcome of a batch only depends on the master seed and not on the amount of threads.
+     *
+     * @param campaigns Amount of campaigns to run
+     * @param masterSeed The seed all campaign seeds are derived from
+     * @return Statistics for all campaigns
+     * @throws IllegalStateException If journals are kept and a policy cannot be rebuilt from a name
+     */
+    public BatchStatistics run(final int campaigns, final long masterSeed) {
+        if (journalDirectory != null && (heroPolicy.getName() == null || enemyPolicy.getName() == null)) {
+            throw new IllegalStateException("Journals can only be replayed for policies with a name");
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<BatchStatistics>> partials = new ArrayList<>();
+            int firstCampaign = 0;
+            for (int worker = 0; worker < threads; worker++) {
+                int share = campaigns / threads + ((worker < campaigns % threads) ? 1 : 0);
+                int first = firstCampaign;
+                partials.add(pool.submit(() -> runShare(masterSeed, first, share)));
+                firstCampaign += share;
+            }
+
+            BatchStatistics statistics = new BatchStatistics(DUNGEON_START_LEVEL);
+            for (Future<BatchStatistics> partial : partials) {
+                statistics.merge(partial.get());
+            }
+            return statistics;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Batch was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Campaign simulation failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Run a share of the batch on the calling thread.
+     *
+     * @param masterSeed The seed all campaign seeds are derived from
+     * @param firstCampaign Index of the first campaign in the share
+     * @param campaigns Amount of campaigns to run
+     * @return Statistics for the campaigns
+     * @throws IOException If combat events or journals cannot be recorded
+     */
+    private BatchStatistics runShare(final long masterSeed, final int firstCampaign, final int campaigns)
+            throws IOException {
+        RecordingRandomizer recorder = (journalDirectory != null) ? new RecordingRandomizer(masterSeed) : null;
+        GameEngine engine = new GameEngine((recorder != null) ? recorder : new Randomizer(masterSeed));
+        engine.setHeroPolicy(heroPolicy);
+        engine.setEnemyPolicy(enemyPolicy);
+        engine.setConfig(config);
+        BinaryCombatEventWriter eventWriter = null;
+        if (eventDirectory != null && campaigns > 0) {
+            eventWriter = new BinaryCombatEventWriter(
+                    eventDirectory.resolve(String.format("events-%08d.bin", firstCampaign)));
+            engine.setCombatEventListener(eventWriter);
+        }
+
+        try {
+            CampaignSimulator simulator = new CampaignSimulator(engine);
+            BatchStatistics statistics = new BatchStatistics(DUNGEON_START_LEVEL);
+            for (int i = firstCampaign; i < firstCampaign + campaigns; i++) {
+                CampaignResult result = simulator.runCampaign(Randomizer.deriveSeed(masterSeed, i));
+                statistics.add(result);
+                if (recorder != null && !result.isVictory()) {
+                    RandomJournal journal = recorder.getJournal();
+                    journal.setPolicies(heroPolicy.getName(), enemyPolicy.getName());
+                    journal.setConfig(config);
+                    journal.write(journalDirectory.resolve(String.format("journal-%08d.bin", i)));
+                }
+            }
+            return statistics;
+        } finally {
+            if (eventWriter != null) {
+                eventWriter.close();
+            }
+        }
+    }
+}
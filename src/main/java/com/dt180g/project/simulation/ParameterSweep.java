@@ -0,0 +1,188 @@
+package com.dt180g.project.simulation;
+
+import com.dt180g.project.support.Constants;
+import com.dt180g.project.support.Randomizer;
+import com.dt180g.project.support.SimulationConfig;
+import com.dt180g.project.support.SimulationConfig.Parameter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Sweeps balance parameters over a grid or random points, running a Monte Carlo batch of campaigns
+ * for every point on a ParallelBatchRunner and writing one row per point to a CSV results table.
+ *
+ * Every parameter swept is an axis listing the values to try, and parameters without an axis keep
+ * the value of the base configuration. All points run their campaigns from the same master seed,
+ * so differences between points come from the parameters rather than from the random streams.
+ *
+ * @author Samuel Thand
+ */
+public class ParameterSweep implements Constants {
+    private final ParallelBatchRunner runner;
+    private final SimulationConfig baseConfig;
+    private final List<Parameter> parameters = new ArrayList<>();
+    private final List<int[]> axes = new ArrayList<>();  // values per parameter swept
+
+    /**
+     * Constructor, initializes members.
+     *
+     * @param runner The runner playing the batch of every point
+     * @param baseConfig The values of the parameters not swept
+     */
+    public ParameterSweep(final ParallelBatchRunner runner, final SimulationConfig baseConfig) {
+        this.runner = runner;
+        this.baseConfig = baseConfig;
+    }
+
+    /**
+     * Sweep a parameter over the provided values.
+     *
+     * @param parameter The parameter to sweep
+     * @param values The values to try
+     * @throws IllegalArgumentException If the parameter is already swept, no values are provided
+     *                                  or a value is outside the valid range of the parameter
+     */
+    public void addAxis(final Parameter parameter, final int... values) {
+        if (parameters.contains(parameter)) {
+            throw new IllegalArgumentException(parameter + " is already swept");
+        }
+        if (values.length == 0) {
+            throw new IllegalArgumentException("No values to sweep " + parameter + " over");
+        }
+        for (int value : values) {
+            baseConfig.with(parameter, value);  // validates the value
+        }
+        parameters.add(parameter);
+        axes.add(values.clone());
+    }
+
+    /**
+     * Get the amount of points in the full grid of the axes.
+     *
+     * @return Amount of grid points
+     */
+    public long getGridSize() {
+        long size = 1;
+        for (int[] values : axes) {
+            size *= values.length;
+        }
+        return size;
+    }
+
+    /**
+     * Create every combination of the values of the axes, the last axis added varying fastest.
+     *
+     * @return The configurations of all grid points
+     */
+    public List<SimulationConfig> gridPoints() {
+        List<SimulationConfig> points = new ArrayList<>();
+        points.add(baseConfig);
+        for (int axis = 0; axis < axes.size(); axis++) {
+            List<SimulationConfig> expanded = new ArrayList<>();
+            for (SimulationConfig point : points) {
+                for (int value : axes.get(axis)) {
+                    expanded.add(point.with(parameters.get(axis), value));
+                }
+            }
+            points = expanded;
+        }
+        return points;
+    }
+
+    /**
+     * Create random points, choosing the value of every axis uniformly among its values.
+     * Large grids are searched by running a limited amount of random points instead.
+     *
+     * @param amount Amount of points to create
+     * @param seed Seed of the random choices
+     * @return The configurations of the random points
+     */
+    public List<SimulationConfig> randomPoints(final int amount, final long seed) {
+        Randomizer random = new Randomizer(seed);
+        List<SimulationConfig> points = new ArrayList<>(amount);
+        for (int i = 0; i < amount; i++) {
+            SimulationConfig point = baseConfig;
+            for (int axis = 0; axis < axes.size(); axis++) {
+                int[] values = axes.get(axis);
+                point = point.with(parameters.get(axis), values[random.getRandomValue(values.length - 1)]);
+            }
+            points.add(point);
+        }
+        return points;
+    }
+
+    /**
+     * Run a batch of campaigns for every point and write the results table. The header row names every
+     * parameter, followed by campaigns, victories, win_rate and the average rounds of every dungeon level,
+     * and each row is flushed as its point is done so partial results survive an interrupted sweep.
+     * The runner is left with the configuration it had before the sweep.
+     *
+     * @param points The configurations to run
+     * @param campaigns Amount of campaigns per point
+     * @param masterSeed The seed the campaign seeds of every point are derived from
+     * @param table The CSV file to write
+     * @return Statistics for every point, in the order of the points
+     * @throws IOException If the table cannot be written
+     */
+    public List<BatchStatistics> run(final List<SimulationConfig> points, final int campaigns, final long masterSeed,
+                                     final Path table) throws IOException {
+        SimulationConfig runnerConfig = runner.getConfig();
+        List<BatchStatistics> results = new ArrayList<>(points.size());
+        try (Writer out = Files.newBufferedWriter(table)) {
+            out.write(createHeader());
+            out.flush();
+            for (SimulationConfig point : points) {
+                runner.setConfig(point);
+                BatchStatistics statistics = runner.run(campaigns, masterSeed);
+                results.add(statistics);
+                out.write(createRow(point, statistics));
+                out.flush();
+            }
+        } finally {
+            runner.setConfig(runnerConfig);
+        }
+        return results;
+    }
+
+    /**
+     * Create the header row of the results table.
+     *
+     * @return The header row, ending with a line break
+     */
+    private static String createHeader() {
+        StringBuilder header = new StringBuilder();
+        for (Parameter parameter : Parameter.values()) {
+            header.append(parameter.name().toLowerCase(Locale.ROOT)).append(',');
+        }
+        header.append("campaigns,victories,win_rate");
+        for (int level = DUNGEON_START_LEVEL; level >= 1; level--) {
+            header.append(",rounds_level_").append(level);
+        }
+        return header.append(System.lineSeparator()).toString();
+    }
+
+    /**
+     * Create the row of a point in the results table.
+     *
+     * @param point The configuration of the point
+     * @param statistics The statistics of the batch of the point
+     * @return The row, ending with a line break
+     */
+    private static String createRow(final SimulationConfig point, final BatchStatistics statistics) {
+        StringBuilder row = new StringBuilder();
+        for (Parameter parameter : Parameter.values()) {
+            row.append(point.get(parameter)).append(',');
+        }
+        row.append(statistics.getCampaigns()).append(',').append(statistics.getVictories()).append(',')
+                .append(String.format(Locale.ROOT, "%.4f", statistics.getWinRate()));
+        for (int level = DUNGEON_START_LEVEL; level >= 1; level--) {
+            row.append(String.format(Locale.ROOT, ",%.2f", statistics.getAverageRounds(level)));
+        }
+        return row.append(System.lineSeparator()).toString();
+    }
+}
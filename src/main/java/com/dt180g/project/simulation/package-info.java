@@ -0,0 +1,4 @@
+/**
+ * Package for headless simulation of the game, used to gather statistics.
+ */
+package com.dt180g.project.simulation;
@@ -1,6 +1,7 @@
 package com.dt180g.project.stats;
 
 import com.dt180g.project.support.Constants;
+import java.util.Arrays;
 
 /**
  * Base class for the stat hierarchy, declares common interface for all stats.
@@ -12,6 +13,7 @@ public abstract class BaseStat implements Constants {
         private final int baseValue;
         private int staticModifier = 0;
         private int dynamicModifier = 0;
+        private BaseStat[] dependents = new BaseStat[0];
 
         /**
          * Base constructor, initializes members.
@@ -70,6 +72,30 @@ public abstract class BaseStat implements Constants {
                 return staticModifier;
         }
 
+        /**
+         * Get the dynamic modifier for this BaseStat.
+         *
+         * @return dynamic modifier for this BaseStat
+         */
+        public final int getDynamicModifier() {
+                return dynamicModifier;
+        }
+
+        /**
+         * Replace both modifiers of this BaseStat, e.g. when restoring a saved game.
+         * Derived stats are only invalidated if a modifier actually changes.
+         *
+         * @param staticModifier the new static modifier
+         * @param dynamicModifier the new dynamic modifier
+         */
+        public final void restoreModifiers(final int staticModifier, final int dynamicModifier) {
+                if (this.staticModifier != staticModifier || this.dynamicModifier != dynamicModifier) {
+                        this.staticModifier = staticModifier;
+                        this.dynamicModifier = dynamicModifier;
+                        notifyDependents();
+                }
+        }
+
         /**
          * Adjust the static modifier for this BaseStat.
          *
@@ -77,6 +103,7 @@ public abstract class BaseStat implements Constants {
          */
         public final void adjustStaticModifier(final int value) {
                 staticModifier = getStaticModifier() + value;
+                notifyDependents();
         }
 
         /**
@@ -86,13 +113,44 @@ public abstract class BaseStat implements Constants {
          */
         public final void adjustDynamicModifier(final int value) {
                 dynamicModifier += value;
+                notifyDependents();
         }
 
         /**
          * Reset the static modifier for this BaseStat.
          */
         public final void resetDynamicModifier() {
-                dynamicModifier = 0;
+                if (dynamicModifier != 0) {
+                        dynamicModifier = 0;
+                        notifyDependents();
+                }
+        }
+
+        /**
+         * Register a stat whose base value is derived from the modified value
+         * of this BaseStat, it is invalidated whenever a modifier changes.
+         *
+         * @param dependent The derived stat
+         */
+        final void addDependent(final BaseStat dependent) {
+                dependents = Arrays.copyOf(dependents, dependents.length + 1);
+                dependents[dependents.length - 1] = dependent;
+        }
+
+        /**
+         * Invalidate the derived stats relying on this BaseStat.
+         */
+        protected final void notifyDependents() {
+                for (BaseStat dependent : dependents) {
+                        dependent.invalidate();
+                }
+        }
+
+        /**
+         * Called when a stat this BaseStat relies on has changed. Does nothing by default,
+         * derived stats override it to drop their cached base value.
+         */
+        protected void invalidate() {
         }
 
         /**
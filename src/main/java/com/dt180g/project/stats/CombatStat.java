@@ -10,11 +10,13 @@ import com.dt180g.project.support.Constants;
 public class CombatStat extends BaseStat implements Constants {
     private final BaseStat attributeReliance;
     private final BaseStat traitReliance;
-
+    private int cachedBaseValue;
+    private boolean dirty = true;
 
     /**
      * Constructor, initialize members with baseValue of 0 since calculation of the base value
-     * is done in the overridden getBaseValue() method.
+     * is done in the overridden getBaseValue() method. Registers with both relied upon stats
+     * so the calculated base value is only recalculated when one of them changes.
      *
      * @param statName The name of this CombatStat
      * @param attributeReliance The attribute this CombatStat relies on
@@ -24,19 +26,37 @@ public class CombatStat extends BaseStat implements Constants {
         super(statName, 0);
         this.attributeReliance = attributeReliance;
         this.traitReliance = traitReliance;
+        attributeReliance.addDependent(this);
+        traitReliance.addDependent(this);
     }
 
     /**
      * Calculate the base value of this CombatStat
-     * based on the value of the attribute and trait reliance.
+     * based on the value of the attribute and trait reliance, the result is
+     * cached until either reliance changes.
      *
      * @return The calculated base value
      */
     @Override
     public final int getBaseValue() {
-        double calculatedAttributeValue = attributeReliance.getModifiedValue() * Constants.COMBAT_STAT_MULTIPLIER;
-        double calculatedTraitValue = traitReliance.getModifiedValue() * Constants.COMBAT_STAT_MULTIPLIER;
+        if (dirty) {
+            double calculatedAttributeValue = attributeReliance.getModifiedValue() * Constants.COMBAT_STAT_MULTIPLIER;
+            double calculatedTraitValue = traitReliance.getModifiedValue() * Constants.COMBAT_STAT_MULTIPLIER;
+
+            cachedBaseValue = (int) Math.round(calculatedAttributeValue + calculatedTraitValue);
+            dirty = false;
+        }
+        return cachedBaseValue;
+    }
 
-        return (int) Math.round(calculatedAttributeValue + calculatedTraitValue);
+    /**
+     * Mark the cached base value as stale, and pass the change on to any stats relying on this CombatStat.
+     */
+    @Override
+    protected final void invalidate() {
+        if (!dirty) {
+            dirty = true;
+            notifyDependents();
+        }
     }
 }
@@ -0,0 +1,68 @@
+package com.dt180g.project.stats;
+
+import com.dt180g.project.support.Constants;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Enumeration of all stats a character has, used as compact index into stat storage.
+ * Attributes come first, followed by traits and combat stats, in the same order as in StatsManager.
+ *
+ * @author Samuel Thand
+ */
+public enum StatType implements Constants {
+    STRENGTH(ATTRIBUTE_STRENGTH),
+    DEXTERITY(ATTRIBUTE_DEXTERITY),
+    INTELLIGENCE(ATTRIBUTE_INTELLIGENCE),
+    WILLPOWER(ATTRIBUTE_WILLPOWER),
+    VITALITY(TRAIT_VITALITY),
+    ENERGY(TRAIT_ENERGY),
+    ATTACK_RATE(TRAIT_ATTACK_RATE),
+    DEFENSE_RATE(TRAIT_DEFENSE_RATE),
+    ACTION_POINTS(COMBAT_STAT_ACTION_POINTS),
+    PHYSICAL_POWER(COMBAT_STAT_PHYSICAL_POWER),
+    MAGIC_POWER(COMBAT_STAT_MAGIC_POWER),
+    HEALING_POWER(COMBAT_STAT_HEALING_POWER);
+
+    private static final Map<String, StatType> BY_NAME = new HashMap<>();
+    private final String statName;
+
+    static {
+        for (StatType type : values()) {
+            BY_NAME.put(type.statName, type);
+        }
+    }
+
+    /**
+     * Constructor, initializes members.
+     *
+     * @param statName The name of the stat
+     */
+    StatType(final String statName) {
+        this.statName = statName;
+    }
+
+    /**
+     * Get the name of the stat.
+     *
+     * @return member statName
+     */
+    public String getStatName() {
+        return statName;
+    }
+
+    /**
+     * Get the stat type with the provided name.
+     *
+     * @param statName Name of the stat
+     * @return The stat type
+     * @throws IllegalArgumentException if no stat has the name
+     */
+    public static StatType fromName(final String statName) {
+        StatType type = BY_NAME.get(statName);
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown stat name: " + statName);
+        }
+        return type;
+    }
+}
@@ -45,8 +45,18 @@ public final class StatsManager implements Constants {
      * @return random Attribute name from member attributeNames
      */
     public String getRandomAttributeName() {
+        return getRandomAttributeName(Randomizer.current());
+    }
+
+    /**
+     * Get a random Attribute name, drawn from the specified random stream.
+     *
+     * @param random Random stream to draw from
+     * @return random Attribute name from member attributeNames
+     */
+    public String getRandomAttributeName(final Randomizer random) {
         int indexRange = getListIndexRange(attributeNames);
-        int randomIndex = Randomizer.INSTANCE.getRandomValue(indexRange);
+        int randomIndex = random.getRandomValue(indexRange);
 
         return attributeNames.get(randomIndex);
     }
@@ -57,8 +67,18 @@ public final class StatsManager implements Constants {
      * @return random Trait name from member traitNames
      */
     public String getRandomTraitName() {
+        return getRandomTraitName(Randomizer.current());
+    }
+
+    /**
+     * Get a random Trait name, drawn from the specified random stream.
+     *
+     * @param random Random stream to draw from
+     * @return random Trait name from member traitNames
+     */
+    public String getRandomTraitName(final Randomizer random) {
         int indexRange = getListIndexRange(traitNames);
-        int randomIndex = Randomizer.INSTANCE.getRandomValue(indexRange);
+        int randomIndex = random.getRandomValue(indexRange);
 
         return traitNames.get(randomIndex);
     }
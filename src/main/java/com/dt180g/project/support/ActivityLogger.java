@@ -1,5 +1,7 @@
 package com.dt180g.project.support;
 
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -10,19 +12,58 @@ import java.util.logging.SimpleFormatter;
  * The singleton class responsible for logging all game activity,
  * provides a public interface for logging actions.
  *
+ * <p>Messages are written synchronously by default. In asynchronous mode producers only
+ * publish the category, format and arguments of a message into a preallocated ring buffer,
+ * and a single daemon consumer thread formats and writes them in publishing order. Pending
+ * messages are flushed when the JVM shuts down, and a message that fails to format or write
+ * is reported without stopping the consumer. Should the consumer thread die regardless,
+ * logging falls back to synchronous mode.</p>
+ *
  * @author Samuel Thand
  */
 public final class ActivityLogger implements Constants {
 
     public static final ActivityLogger INSTANCE = new ActivityLogger();
+    private static final int CATEGORY_ROUND = 0;
+    private static final int CATEGORY_TURN = 1;
+    private static final int CATEGORY_ATTACK = 2;
+    private static final int CATEGORY_DAMAGE = 3;
+    private static final int CATEGORY_DEATH = 4;
+    private static final int CATEGORY_HEALING = 5;
+    private static final int BUFFER_CAPACITY = 1024;  // must be a power of two
+    private static final long IDLE_PARK_NANOS = 100_000L;
+    private static final Object[] NO_ARGS = new Object[0];
+
     private Logger logger;
     private final String indentation = " ".repeat(4);
+    private volatile boolean enabled = true;
+    private volatile boolean asynchronous = false;
+    private volatile Thread consumer;
+
+    // ring buffer state, slots are reused and never reallocated
+    private final LogSlot[] buffer = new LogSlot[BUFFER_CAPACITY];
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+
+    /**
+     * A reusable ring buffer slot holding one unformatted message.
+     * The slot is readable once its sequence equals the sequence it was claimed for.
+     */
+    private static final class LogSlot {
+        private volatile long sequence = -1;
+        private int category;
+        private String format;
+        private Object[] args;
+    }
 
     /**
      * Constructor, sets the logger object.
      */
     private ActivityLogger() {
         setLogger();
+        for (int i = 0; i < BUFFER_CAPACITY; i++) {
+            buffer[i] = new LogSlot();
+        }
     }
 
     /**
@@ -55,6 +96,175 @@ public final class ActivityLogger implements Constants {
         }
     }
 
+    /**
+     * Enable or disable logging. A disabled logger neither prints nor
+     * delays execution, which is used when running headless simulations.
+     *
+     * @param enabled Whether messages should be logged
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Check if logging is enabled. Callers can use this to skip building
+     * messages entirely when nothing would be written.
+     *
+     * @return Logging is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Switch between synchronous and asynchronous logging. The consumer thread and a shutdown hook
+     * flushing pending messages are started the first time asynchronous mode is enabled,
+     * switching back flushes pending messages.
+     *
+     * @param asynchronous Whether messages should be formatted and written by the consumer thread
+     */
+    public synchronized void setAsynchronous(final boolean asynchronous) {
+        if (asynchronous && consumer == null) {
+            Thread thread = new Thread(this::consumeMessages, "activity-logger");
+            thread.setDaemon(true);
+            thread.start();
+            consumer = thread;
+            Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "activity-logger-flush"));
+        }
+        this.asynchronous = asynchronous;
+        if (!asynchronous) {
+            flush();
+        }
+    }
+
+    /**
+     * Check if logging is asynchronous.
+     *
+     * @return Logging is asynchronous
+     */
+    public boolean isAsynchronous() {
+        return asynchronous;
+    }
+
+    /**
+     * Block until every message published so far has been written,
+     * or return early if the consumer thread has died.
+     */
+    public void flush() {
+        long target = claimed.get();
+        while (consumed.get() < target) {
+            if (consumerDied()) {
+                return;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Check if the consumer thread has died, switching to synchronous logging if so.
+     *
+     * @return The consumer thread was started and is no longer alive
+     */
+    private boolean consumerDied() {
+        Thread thread = consumer;
+        if (thread == null || thread.isAlive()) {
+            return false;
+        }
+        asynchronous = false;
+        return true;
+    }
+
+    /**
+     * Publish a message into the ring buffer, waiting for the consumer if the buffer is full.
+     * The message is written right away if the consumer thread has died.
+     *
+     * @param category The category of the message
+     * @param format The format string of the message
+     * @param args The arguments of the format string
+     */
+    private void publish(final int category, final String format, final Object[] args) {
+        long sequence = claimed.getAndIncrement();
+        while (sequence - consumed.get() >= BUFFER_CAPACITY) {
+            if (consumerDied()) {
+                write(category, args.length == 0 ? format : String.format(format, args));
+                return;
+            }
+            Thread.onSpinWait();
+        }
+
+        LogSlot slot = buffer[(int) (sequence & (BUFFER_CAPACITY - 1))];
+        slot.category = category;
+        slot.format = format;
+        slot.args = args;
+        slot.sequence = sequence;  // volatile write publishes the slot contents
+    }
+
+    /**
+     * Consumer loop, writes published messages in sequence order. A message that cannot be
+     * formatted or written is reported and skipped.
+     */
+    private void consumeMessages() {
+        long next = 0;
+        while (true) {
+            LogSlot slot = buffer[(int) (next & (BUFFER_CAPACITY - 1))];
+            if (slot.sequence != next) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+
+            int category = slot.category;
+            String format = slot.format;
+            Object[] args = slot.args;
+            slot.format = null;
+            slot.args = null;
+            try {
+                write(category, args.length == 0 ? format : String.format(format, args));
+            } catch (RuntimeException e) {
+                System.err.println("Could not log message \"" + format + "\": " + e);
+            } finally {
+                consumed.set(++next);
+            }
+        }
+    }
+
+    /**
+     * Log a message of a category, formatting it right away or handing it to the consumer.
+     *
+     * @param category The category of the message
+     * @param format The format string of the message
+     * @param args The arguments of the format string
+     */
+    private void log(final int category, final String format, final Object[] args) {
+        if (!enabled) {
+            return;
+        }
+
+        if (asynchronous && !consumerDied()) {
+            publish(category, format, args);
+        } else {
+            write(category, args.length == 0 ? format : String.format(format, args));
+        }
+    }
+
+    /**
+     * Decorate a message according to its category and write it.
+     *
+     * @param category The category of the message
+     * @param message The formatted message
+     */
+    private void write(final int category, final String message) {
+        switch (category) {
+            case CATEGORY_ROUND -> performLog(ANSI_PURPLE + message);
+            case CATEGORY_TURN -> performLog((message.contains(CHARACTER_TYPE_ENEMY) ? ANSI_MAGENTA : ANSI_BLUE)
+                    + message);
+            case CATEGORY_ATTACK -> performLog(ANSI_GREEN + indentation + message);
+            case CATEGORY_DAMAGE -> performLog(ANSI_YELLOW + indentation.repeat(2) + message);
+            case CATEGORY_DEATH -> performLog(ANSI_RED + indentation.repeat(2) + message);
+            case CATEGORY_HEALING -> performLog(ANSI_CYAN + indentation.repeat(2) + message);
+            default -> throw new IllegalStateException("Unexpected log category");
+        }
+    }
+
     /**
      * Log a message to console.
      *
@@ -73,7 +283,17 @@ public final class ActivityLogger implements Constants {
      * @param message The round info to log to console.
      */
     public void logRoundInfo(final String message) {
-        performLog(ANSI_PURPLE + message);
+        log(CATEGORY_ROUND, message, NO_ARGS);
+    }
+
+    /**
+     * Log formatted round info to console.
+     *
+     * @param format The format of the round info
+     * @param args The arguments of the format
+     */
+    public void logRoundInfo(final String format, final Object... args) {
+        log(CATEGORY_ROUND, format, args);
     }
 
     /**
@@ -82,11 +302,17 @@ public final class ActivityLogger implements Constants {
      * @param message The turn info to log to console.
      */
     public void logTurnInfo(final String message) {
-        if (message.contains(CHARACTER_TYPE_ENEMY)) {
-            performLog(ANSI_MAGENTA + message);
-        } else {
-            performLog(ANSI_BLUE + message);
-        }
+        log(CATEGORY_TURN, message, NO_ARGS);
+    }
+
+    /**
+     * Log formatted turn info to console.
+     *
+     * @param format The format of the turn info
+     * @param args The arguments of the format
+     */
+    public void logTurnInfo(final String format, final Object... args) {
+        log(CATEGORY_TURN, format, args);
     }
 
     /**
@@ -95,7 +321,17 @@ public final class ActivityLogger implements Constants {
      * @param message The attack to log to console.
      */
     public void logAttack(final String message) {
-        performLog(ANSI_GREEN + indentation + message);
+        log(CATEGORY_ATTACK, message, NO_ARGS);
+    }
+
+    /**
+     * Log a formatted attack to console.
+     *
+     * @param format The format of the attack
+     * @param args The arguments of the format
+     */
+    public void logAttack(final String format, final Object... args) {
+        log(CATEGORY_ATTACK, format, args);
     }
 
     /**
@@ -104,7 +340,17 @@ public final class ActivityLogger implements Constants {
      * @param message The damage info to log to console.
      */
     public void logDamage(final String message) {
-        performLog(ANSI_YELLOW + indentation.repeat(2) + message);
+        log(CATEGORY_DAMAGE, message, NO_ARGS);
+    }
+
+    /**
+     * Log formatted damage info to console.
+     *
+     * @param format The format of the damage info
+     * @param args The arguments of the format
+     */
+    public void logDamage(final String format, final Object... args) {
+        log(CATEGORY_DAMAGE, format, args);
     }
 
     /**
@@ -113,7 +359,17 @@ public final class ActivityLogger implements Constants {
      * @param message The death to log to console.
      */
     public void logDeath(final String message) {
-        performLog(ANSI_RED + indentation.repeat(2) + message);
+        log(CATEGORY_DEATH, message, NO_ARGS);
+    }
+
+    /**
+     * Log a formatted death to console.
+     *
+     * @param format The format of the death
+     * @param args The arguments of the format
+     */
+    public void logDeath(final String format, final Object... args) {
+        log(CATEGORY_DEATH, format, args);
     }
 
     /**
@@ -122,6 +378,16 @@ public final class ActivityLogger implements Constants {
      * @param message The healing to log to console.
      */
     public void logHealing(final String message) {
-        performLog(ANSI_CYAN + indentation.repeat(2) + message);
+        log(CATEGORY_HEALING, message, NO_ARGS);
+    }
+
+    /**
+     * Log formatted healing to console.
+     *
+     * @param format The format of the healing
+     * @param args The arguments of the format
+     */
+    public void logHealing(final String format, final Object... args) {
+        log(CATEGORY_HEALING, format, args);
     }
 }
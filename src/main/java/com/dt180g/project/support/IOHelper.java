@@ -13,6 +13,8 @@ import javax.xml.parsers.ParserConfigurationException;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.InputMismatchException;
@@ -48,6 +50,15 @@ public final class IOHelper {
         }
     }
 
+    /**
+     * Helper method used to locate resource files, such as the gear catalogs.
+     * @param fileName name of the resource file.
+     * @return path to the resource file.
+     */
+    public static Path getResourcePath(final String fileName) {
+        return Paths.get(BASE_PATH, fileName);
+    }
+
     /**
      * Helper method used to retrieve data from XML files.
      * @param fileName name of XML file containing target data.
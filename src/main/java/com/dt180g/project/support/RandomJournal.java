@@ -0,0 +1,292 @@
+package com.dt180g.project.support;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Journal of every random draw made by a simulation, in the order they were made, together with the
+ * seed the simulation was started from. Every draw is kept as its range (max - min) and the value
+ * drawn within that range, so a replay can both serve the exact values and detect the moment its
+ * requests stop matching the recording.
+ *
+ * A journal also names the policies of the heroes and enemies and holds the balance parameters of the
+ * simulation, since a replay making other decisions or playing by other rules requests other draws.
+ * Journals start out with random abilities on both sides and the default parameters.
+ *
+ * The file form starts with a magic number, a format version, the seed, the policy names, the amount
+ * and values of the balance parameters and the amount of draws, followed by the range and value of
+ * every draw as unsigned variable length integers. Nearly all draws pick among a handful of targets,
+ * abilities or enemy types, so most draws take two bytes.
+ *
+ * Instances are not thread-safe.
+ */
+public final class RandomJournal {
+    static final int MAGIC = 0x44435251;  // "DCRQ"
+    static final int VERSION = 2;
+    private static final String DEFAULT_POLICY = "random";
+    private static final int INITIAL_DRAWS = 1024;
+    private static final int VARINT_PAYLOAD_BITS = 7;
+    private static final int VARINT_PAYLOAD = 0x7F;
+    private static final int VARINT_CONTINUE = 0x80;
+    private static final int MAX_VARINT_SHIFT = 28;
+    private static final int MIN_DRAW_BYTES = 2;  // a range and a value of at least one byte each
+    private final long seed;
+    private int[] ranges;
+    private int[] values;
+    private int size = 0;
+    private String heroPolicy = DEFAULT_POLICY;
+    private String enemyPolicy = DEFAULT_POLICY;
+    private SimulationConfig config = SimulationConfig.DEFAULT;
+
+    /**
+     * Create an empty journal.
+     * @param seed the seed of the recorded simulation.
+     */
+    public RandomJournal(final long seed) {
+        this(seed, new int[INITIAL_DRAWS], new int[INITIAL_DRAWS], 0);
+    }
+
+    /**
+     * Create a journal holding already recorded draws.
+     * @param seed the seed of the recorded simulation.
+     * @param ranges range of every draw, taken over without copying.
+     * @param values value of every draw within its range, taken over without copying.
+     * @param size the amount of draws.
+     */
+    private RandomJournal(final long seed, final int[] ranges, final int[] values, final int size) {
+        this.seed = seed;
+        this.ranges = ranges;
+        this.values = values;
+        this.size = size;
+    }
+
+    /**
+     * Append a draw.
+     * @param min lower bound of the draw.
+     * @param max upper bound of the draw.
+     * @param value the value drawn.
+     */
+    void record(final int min, final int max, final int value) {
+        if (size == ranges.length) {
+            ranges = Arrays.copyOf(ranges, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        ranges[size] = max - min;
+        values[size] = value - min;
+        size++;
+    }
+
+    /**
+     * Accessor to get the seed of the recorded simulation.
+     * @return the seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Name the policies the recorded simulation chose abilities by.
+     * @param heroPolicy the name of the policy of the heroes, as returned by DecisionPolicy.getName.
+     * @param enemyPolicy the name of the policy of the enemies.
+     */
+    public void setPolicies(final String heroPolicy, final String enemyPolicy) {
+        this.heroPolicy = Objects.requireNonNull(heroPolicy);
+        this.enemyPolicy = Objects.requireNonNull(enemyPolicy);
+    }
+
+    /**
+     * Accessor to get the name of the policy of the heroes.
+     * @return the policy name.
+     */
+    public String getHeroPolicy() {
+        return heroPolicy;
+    }
+
+    /**
+     * Accessor to get the name of the policy of the enemies.
+     * @return the policy name.
+     */
+    public String getEnemyPolicy() {
+        return enemyPolicy;
+    }
+
+    /**
+     * Set the balance parameters the recorded simulation was played by.
+     * @param config the balance parameters.
+     */
+    public void setConfig(final SimulationConfig config) {
+        this.config = Objects.requireNonNull(config);
+    }
+
+    /**
+     * Accessor to get the balance parameters the recorded simulation was played by.
+     * @return the balance parameters.
+     */
+    public SimulationConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Accessor to get the amount of recorded draws.
+     * @return the amount of draws.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Accessor to get the range of a draw, i.e. its upper bound minus its lower bound.
+     * @param draw position of the draw, 0 being the first.
+     * @return the range of the draw.
+     */
+    public int getRange(final int draw) {
+        Objects.checkIndex(draw, size);
+        return ranges[draw];
+    }
+
+    /**
+     * Accessor to get the value of a draw, counted from its lower bound.
+     * @param draw position of the draw, 0 being the first.
+     * @return the value of the draw within its range.
+     */
+    public int getValue(final int draw) {
+        Objects.checkIndex(draw, size);
+        return values[draw];
+    }
+
+    /**
+     * Write the journal to a file.
+     * @param file the file to write, replaced if it exists.
+     * @throws IOException if the file cannot be written.
+     */
+    public void write(final Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(seed);
+            out.writeUTF(heroPolicy);
+            out.writeUTF(enemyPolicy);
+            SimulationConfig.Parameter[] parameters = SimulationConfig.Parameter.values();
+            out.writeInt(parameters.length);
+            for (SimulationConfig.Parameter parameter : parameters) {
+                out.writeInt(config.get(parameter));
+            }
+            out.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                writeVarInt(out, ranges[i]);
+                writeVarInt(out, values[i]);
+            }
+        }
+    }
+
+    /**
+     * Read a journal from a file.
+     * @param file the file to read.
+     * @return the journal.
+     * @throws IOException if the file cannot be read, is of another version or is corrupt.
+     */
+    public static RandomJournal read(final Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a random journal: " + file);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported random journal version " + version + " in " + file);
+            }
+            long seed = in.readLong();
+            String heroPolicy = in.readUTF();
+            String enemyPolicy = in.readUTF();
+            SimulationConfig config = readConfig(in);
+            int size = in.readInt();
+            if (size < 0 || (long) size * MIN_DRAW_BYTES > Files.size(file)) {  // before allocating the draws
+                throw new IOException("Corrupt random journal, invalid amount " + size);
+            }
+
+            int[] ranges = new int[Math.max(size, 1)];
+            int[] values = new int[ranges.length];
+            for (int i = 0; i < size; i++) {
+                ranges[i] = readVarInt(in);
+                values[i] = readVarInt(in);
+                if (values[i] > ranges[i]) {
+                    throw new IOException("Corrupt random journal, draw " + i + " is out of its range");
+                }
+            }
+            RandomJournal journal = new RandomJournal(seed, ranges, values, size);
+            journal.setPolicies(heroPolicy, enemyPolicy);
+            journal.setConfig(config);
+            return journal;
+        } catch (EOFException e) {
+            throw new IOException("Truncated random journal: " + file, e);
+        }
+    }
+
+    /**
+     * Read the balance parameters of a journal.
+     * @param in stream to read from.
+     * @return the balance parameters.
+     * @throws IOException if the parameters cannot be read, are not the parameters of this version
+     *                     of the game or a value is out of range.
+     */
+    private static SimulationConfig readConfig(final DataInputStream in) throws IOException {
+        SimulationConfig.Parameter[] parameters = SimulationConfig.Parameter.values();
+        int amount = in.readInt();
+        if (amount != parameters.length) {
+            throw new IOException("Corrupt random journal, expected " + parameters.length
+                    + " balance parameters but found " + amount);
+        }
+        SimulationConfig config = SimulationConfig.DEFAULT;
+        for (SimulationConfig.Parameter parameter : parameters) {
+            try {
+                config = config.with(parameter, in.readInt());
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Corrupt random journal, " + e.getMessage(), e);
+            }
+        }
+        return config;
+    }
+
+    /**
+     * Write a non-negative value, seven bits per byte with the high bit marking that more bytes follow.
+     * @param out stream to write to.
+     * @param value the value to write.
+     * @throws IOException if the value cannot be written.
+     */
+    private static void writeVarInt(final DataOutputStream out, final int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~VARINT_PAYLOAD) != 0) {
+            out.writeByte((remaining & VARINT_PAYLOAD) | VARINT_CONTINUE);
+            remaining >>>= VARINT_PAYLOAD_BITS;
+        }
+        out.writeByte(remaining);
+    }
+
+    /**
+     * Read a value written by writeVarInt.
+     * @param in stream to read from.
+     * @return the value.
+     * @throws IOException if the value cannot be read or is too long.
+     */
+    private static int readVarInt(final DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift <= MAX_VARINT_SHIFT; shift += VARINT_PAYLOAD_BITS) {
+            int b = in.readUnsignedByte();
+            value |= (b & VARINT_PAYLOAD) << shift;
+            if ((b & VARINT_CONTINUE) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IOException("Corrupt random journal, invalid value");
+    }
+}
@@ -1,28 +1,121 @@
 package com.dt180g.project.support;
 
-import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Support class used for randomising numeric values.
+ * Implemented as a counter based SplitMix64 generator, so that every simulation can own
+ * an independent stream derived from a seed, and any run can be reproduced from that seed.
+ * Instances are not thread-safe, each simulation should use its own. Code without a stream of
+ * its own draws from the stream of the calling thread, see {@link #current()}.
  */
-public final class Randomizer {
-    public static final Randomizer INSTANCE = new Randomizer();
-    private final Random generator = new Random();
+public class Randomizer {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final long CLOCK_SEED = mix64(System.nanoTime()) ^ System.currentTimeMillis();
+    private static final AtomicLong THREAD_STREAMS = new AtomicLong();  // index of the next thread stream
+    private static final ThreadLocal<Randomizer> CURRENT = ThreadLocal.withInitial(
+            () -> new Randomizer(deriveSeed(CLOCK_SEED, THREAD_STREAMS.getAndIncrement())));
+    private long state;
 
     /**
-     * Private construction since the class is a singleton.
+     * Create a randomizer seeded from the system clock.
      */
-    private Randomizer() { }
+    public Randomizer() {
+        this(mix64(System.nanoTime()) ^ System.currentTimeMillis());
+    }
+
+    /**
+     * Create a randomizer producing the same sequence for the same seed.
+     * @param seed the initial seed.
+     */
+    public Randomizer(final long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * Used by clients without a stream of their own to retrieve the stream of the calling thread.
+     * Every thread has an independent stream seeded from the system clock, so threads never share state.
+     * @return the randomizer of the calling thread.
+     */
+    public static Randomizer current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Derive the seed of a single stream from a master seed, e.g. one seed per simulated campaign.
+     * The same master seed and index will always produce the same seed.
+     * @param masterSeed the seed of the whole batch.
+     * @param index the index of the stream within the batch.
+     * @return seed for the stream.
+     */
+    public static long deriveSeed(final long masterSeed, final long index) {
+        return mix64(masterSeed + GOLDEN_GAMMA * (index + 1));
+    }
+
+    /**
+     * Mix the bits of a value, using the SplitMix64 finalizer.
+     * @param value the value to mix.
+     * @return mixed value.
+     */
+    private static long mix64(final long value) {
+        final int firstShift = 30;
+        final int secondShift = 27;
+        final int thirdShift = 31;
+        long z = value;
+        z = (z ^ (z >>> firstShift)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> secondShift)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> thirdShift);
+    }
+
+    /**
+     * Advance the counter and produce the next 64 random bits.
+     * @return random bits.
+     */
+    private long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix64(state);
+    }
+
+    /**
+     * Create a new randomizer with an independent stream, advancing this one.
+     * @return the split off randomizer.
+     */
+    public Randomizer split() {
+        return new Randomizer(nextLong());
+    }
+
+    /**
+     * Accessor to get the internal state, which together with setState allows a stream to be resumed.
+     * @return the current state.
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Restore an internal state previously retrieved by getState, or reseed the stream.
+     * @param state the state to continue from.
+     */
+    public void setState(final long state) {
+        this.state = state;
+    }
 
     /**
      * Used internally by Randomizer to produce random number within stated bounds.
+     * Uses rejection sampling so that all values are equally likely.
      * @param min lower bound for randomisation.
      * @param max upper bound for randomisation.
      * @return randomised numeric value.
      */
-    private int produceRandomValue(final int min, final int max) {
+    protected int produceRandomValue(final int min, final int max) {
         int bounds = (max - min) + 1;  // the bounds needs to be within interval min - max
-        return generator.nextInt(bounds) + min;
+        long limit = Long.MAX_VALUE - Long.MAX_VALUE % bounds;
+
+        long bits = nextLong() >>> 1;
+        while (bits >= limit) {
+            bits = nextLong() >>> 1;
+        }
+        return (int) (bits % bounds) + min;
     }
 
     /**
@@ -43,6 +136,4 @@ public final class Randomizer {
     public int getRandomValue(final int min, final int max) {
         return produceRandomValue(min, max);
     }
-
-
 }
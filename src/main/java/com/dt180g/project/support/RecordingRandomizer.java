@@ -0,0 +1,53 @@
+package com.dt180g.project.support;
+
+/**
+ * Randomizer recording every value it produces in a RandomJournal, so a simulation can later be
+ * replayed draw by draw with a ReplayRandomizer. Values are produced exactly like by a plain
+ * Randomizer, recording does not change the outcome of a simulation.
+ *
+ * Reseeding the stream with setState starts a new journal for the new seed, which is what
+ * happens when a game engine is reset for the next campaign. Earlier journals are left untouched.
+ */
+public class RecordingRandomizer extends Randomizer {
+    private RandomJournal journal;
+
+    /**
+     * Create a recording randomizer producing the same sequence as a Randomizer with the same seed.
+     * @param seed the initial seed.
+     */
+    public RecordingRandomizer(final long seed) {
+        super(seed);
+        this.journal = new RandomJournal(seed);
+    }
+
+    /**
+     * Accessor to get the journal of all draws since the stream was last seeded.
+     * @return the current journal, which keeps growing until the stream is reseeded.
+     */
+    public RandomJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Reseed the stream, starting a new journal.
+     * @param state the seed to continue from.
+     */
+    @Override
+    public void setState(final long state) {
+        super.setState(state);
+        journal = new RandomJournal(state);
+    }
+
+    /**
+     * Produce a value like a plain Randomizer, and record it.
+     * @param min lower bound for randomisation.
+     * @param max upper bound for randomisation.
+     * @return randomised numeric value.
+     */
+    @Override
+    protected int produceRandomValue(final int min, final int max) {
+        int value = super.produceRandomValue(min, max);
+        journal.record(min, max, value);
+        return value;
+    }
+}
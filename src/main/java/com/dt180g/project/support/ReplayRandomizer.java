@@ -0,0 +1,66 @@
+package com.dt180g.project.support;
+
+/**
+ * Randomizer serving the draws of a RandomJournal in recorded order, re-executing the recorded
+ * simulation exactly. Every request is checked against the recording, so a replay that asks for
+ * a different range, e.g. because the game rules changed since recording, fails at the first
+ * differing draw instead of silently playing out another game.
+ */
+public class ReplayRandomizer extends Randomizer {
+    private final RandomJournal journal;
+    private int position = 0;
+
+    /**
+     * Create a randomizer replaying a journal from its first draw.
+     * @param journal the journal to replay.
+     */
+    public ReplayRandomizer(final RandomJournal journal) {
+        super(journal.getSeed());
+        this.journal = journal;
+    }
+
+    /**
+     * Accessor to get the amount of draws replayed so far.
+     * @return position of the next draw in the journal.
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Rewind to the first draw. Only the seed of the journal can be replayed, since the
+     * journal holds no other stream.
+     * @param state the seed to start from, must be the seed of the journal.
+     * @throws IllegalArgumentException if the seed is not the seed of the journal.
+     */
+    @Override
+    public void setState(final long state) {
+        if (state != journal.getSeed()) {
+            throw new IllegalArgumentException(String.format("Journal was recorded with seed %d, not %d",
+                    journal.getSeed(), state));
+        }
+        super.setState(state);
+        position = 0;
+    }
+
+    /**
+     * Serve the next recorded draw.
+     * @param min lower bound for randomisation.
+     * @param max upper bound for randomisation.
+     * @return the recorded value.
+     * @throws IllegalStateException if the journal is exhausted or the draw does not match the recording.
+     */
+    @Override
+    protected int produceRandomValue(final int min, final int max) {
+        if (position >= journal.size()) {
+            throw new IllegalStateException("Replay went past the end of the journal after "
+                    + journal.size() + " draws");
+        }
+        if (journal.getRange(position) != max - min) {
+            throw new IllegalStateException(String.format(
+                    "Replay diverged at draw %d, requested range %d but recorded %d",
+                    position, max - min, journal.getRange(position)));
+        }
+        return min + journal.getValue(position++);
+    }
+}
@@ -0,0 +1,223 @@
+package com.dt180g.project.support;
+
+import java.util.Arrays;
+
+/**
+ * Runtime values of the balance parameters, read by the game engine, characters and abilities instead
+ * of the compile time constants of the same names, so balance can be explored without recompiling.
+ * {@link #DEFAULT} holds the values of the constants and plays exactly like the game always has.
+ *
+ * Configurations are immutable, and changing a parameter creates a new configuration, so one
+ * configuration can be shared by simulations running in parallel.
+ */
+public final class SimulationConfig {
+    public static final int CRIT_ROLLS = 9;  // crits are rolled from 1 to CRIT_ROLLS for every target
+    private static final Parameter[] PARAMETERS = Parameter.values();  // before DEFAULT, which needs them
+    public static final SimulationConfig DEFAULT = new SimulationConfig();
+    private final int[] values;  // indexed by parameter ordinal
+
+    /**
+     * The balance parameters, named like the constants they replace.
+     */
+    public enum Parameter {
+        /** Crit rolls at or below this value crit. */
+        CRIT_CHANCE(Constants.CRIT_CHANCE, 0, CRIT_ROLLS),
+        /** Multiplier for hero critical hits. */
+        HERO_CRIT_MULTIPLIER(Constants.HERO_CRIT_MULTIPLIER, 1, Integer.MAX_VALUE),
+        /** Multiplier for enemy critical hits. */
+        ENEMY_CRIT_MULTIPLIER(Constants.ENEMY_CRIT_MULTIPLIER, 1, Integer.MAX_VALUE),
+        /** Multiplier for the extra health of the Lich Lord. */
+        BOSS_HEALTH_MULTIPLIER(Constants.BOSS_HEALTH_MULTIPLIER, 0, Integer.MAX_VALUE),
+        /** Enemies added per dungeon level. */
+        ENEMIES_MULTIPLIER(Constants.ENEMIES_MULTIPLIER, 0, Integer.MAX_VALUE),
+        /** Action points replenished every round. */
+        ROUND_RESET_AP(Constants.ROUND_RESET_AP, 0, Integer.MAX_VALUE),
+        /** Energy replenished every round. */
+        ROUND_RESET_ENERGY(Constants.ROUND_RESET_ENERGY, 0, Integer.MAX_VALUE),
+        /** Multiplier for the base value of single target abilities. */
+        SINGLE_TARGET_ABILITY_MULTIPLIER(Constants.SINGLE_TARGET_ABILITY_MULTIPLIER, 0, Integer.MAX_VALUE);
+
+        private final int defaultValue;
+        private final int min;
+        private final int max;
+
+        /**
+         * Constructor, initializes members.
+         * @param defaultValue the value of the constant.
+         * @param min the lowest valid value.
+         * @param max the highest valid value.
+         */
+        Parameter(final int defaultValue, final int min, final int max) {
+            this.defaultValue = defaultValue;
+            this.min = min;
+            this.max = max;
+        }
+
+        /**
+         * Accessor to get the value of the constant the parameter replaces.
+         * @return the default value.
+         */
+        public int getDefaultValue() {
+            return defaultValue;
+        }
+
+        /**
+         * Accessor to get the lowest valid value.
+         * @return the lowest value.
+         */
+        public int getMin() {
+            return min;
+        }
+
+        /**
+         * Accessor to get the highest valid value.
+         * @return the highest value.
+         */
+        public int getMax() {
+            return max;
+        }
+    }
+
+    /**
+     * Create the default configuration.
+     */
+    private SimulationConfig() {
+        values = new int[PARAMETERS.length];
+        for (Parameter parameter : PARAMETERS) {
+            values[parameter.ordinal()] = parameter.defaultValue;
+        }
+    }
+
+    /**
+     * Create a configuration from a copy of the values of another.
+     * @param values the values, indexed by parameter ordinal.
+     */
+    private SimulationConfig(final int[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Create a configuration differing from this one in a single parameter.
+     * @param parameter the parameter to change.
+     * @param value the new value of the parameter.
+     * @return the new configuration.
+     * @throws IllegalArgumentException if the value is outside the valid range of the parameter.
+     */
+    public SimulationConfig with(final Parameter parameter, final int value) {
+        if (value < parameter.min || value > parameter.max) {
+            throw new IllegalArgumentException(String.format("%s must be between %d and %d, was %d",
+                    parameter, parameter.min, parameter.max, value));
+        }
+        int[] changed = values.clone();
+        changed[parameter.ordinal()] = value;
+        return new SimulationConfig(changed);
+    }
+
+    /**
+     * Accessor to get the value of a parameter.
+     * @param parameter the parameter.
+     * @return the value.
+     */
+    public int get(final Parameter parameter) {
+        return values[parameter.ordinal()];
+    }
+
+    /**
+     * Accessor to get the crit chance, crit rolls at or below it crit.
+     * @return the crit chance.
+     */
+    public int getCritChance() {
+        return get(Parameter.CRIT_CHANCE);
+    }
+
+    /**
+     * Accessor to get the multiplier for hero critical hits.
+     * @return the hero crit multiplier.
+     */
+    public int getHeroCritMultiplier() {
+        return get(Parameter.HERO_CRIT_MULTIPLIER);
+    }
+
+    /**
+     * Accessor to get the multiplier for enemy critical hits.
+     * @return the enemy crit multiplier.
+     */
+    public int getEnemyCritMultiplier() {
+        return get(Parameter.ENEMY_CRIT_MULTIPLIER);
+    }
+
+    /**
+     * Accessor to get the multiplier for the extra health of the Lich Lord.
+     * @return the boss health multiplier.
+     */
+    public int getBossHealthMultiplier() {
+        return get(Parameter.BOSS_HEALTH_MULTIPLIER);
+    }
+
+    /**
+     * Accessor to get the amount of enemies added per dungeon level.
+     * @return the enemies multiplier.
+     */
+    public int getEnemiesMultiplier() {
+        return get(Parameter.ENEMIES_MULTIPLIER);
+    }
+
+    /**
+     * Accessor to get the amount of action points replenished every round.
+     * @return the replenished action points.
+     */
+    public int getRoundResetActionPoints() {
+        return get(Parameter.ROUND_RESET_AP);
+    }
+
+    /**
+     * Accessor to get the amount of energy replenished every round.
+     * @return the replenished energy.
+     */
+    public int getRoundResetEnergy() {
+        return get(Parameter.ROUND_RESET_ENERGY);
+    }
+
+    /**
+     * Accessor to get the multiplier for the base value of single target abilities.
+     * @return the single target ability multiplier.
+     */
+    public int getSingleTargetAbilityMultiplier() {
+        return get(Parameter.SINGLE_TARGET_ABILITY_MULTIPLIER);
+    }
+
+    /**
+     * Compare the values of two configurations.
+     * @param other the object to compare with.
+     * @return whether other is a configuration with the same values.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof SimulationConfig && Arrays.equals(values, ((SimulationConfig) other).values);
+    }
+
+    /**
+     * Hash the values of the configuration.
+     * @return the hash code.
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    /**
+     * List every parameter and its value.
+     * @return the configuration as NAME=value pairs separated by spaces.
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (Parameter parameter : PARAMETERS) {
+            if (text.length() > 0) {
+                text.append(' ');
+            }
+            text.append(parameter).append('=').append(get(parameter));
+        }
+        return text.toString();
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class abilitiesTests {
@@ -143,4 +144,20 @@ public class abilitiesTests {
                 () -> assertFalse(ability.isHeal())
         );
     }
+
+    @Test
+    public void testAbilityInfoIsReused() {
+        BaseAbility ability = new ElementalBolt(Constants.ELEMENT_ICE);
+        AbilityInfo info = ability.getAbilityInfo();
+        String expectedInfo = String.format("%s (-%s AP, -%s Energy)", ability,
+                Constants.MEDIUM_AP_COST, Constants.LOW_ENERGY_COST);
+        assertAll("Validate that the ability info is built once and describes the ability",
+                () -> assertSame(info, ability.getAbilityInfo()),
+                () -> assertEquals(expectedInfo, info.getInformation()),
+                () -> assertSame(info.getInformation(), info.get()),
+                () -> assertEquals(ability.getAmountOfTargets(), info.getAmountOfTargets()),
+                () -> assertTrue(info.isMagic()),
+                () -> assertFalse(info.isHeal())
+        );
+    }
 }
@@ -0,0 +1,79 @@
+package com.dt180g.project.characters;
+
+import com.dt180g.project.characters.enemies.BaseEnemy;
+import com.dt180g.project.characters.enemies.SkeletonWarrior;
+import com.dt180g.project.support.Randomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CharacterRosterTests {
+    private final int amountOfEnemies = 20;
+    private final List<BaseEnemy> enemies = new ArrayList<>();
+    private final CharacterRoster<BaseEnemy> roster = new CharacterRoster<>();
+
+    public CharacterRosterTests() {
+        Randomizer random = new Randomizer(3);
+        for (int i = 1; i <= amountOfEnemies; i++) {
+            BaseEnemy enemy = new SkeletonWarrior(i, random);
+            enemies.add(enemy);
+            roster.add(enemy);
+        }
+    }
+
+    @Test
+    public void testRosterActsAsList() {
+        assertAll("Validate that the roster keeps insertion order until compaction",
+                () -> assertEquals(amountOfEnemies, roster.size()),
+                () -> assertEquals(enemies, roster),
+                () -> assertSame(enemies.get(7), roster.get(7)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> roster.get(amountOfEnemies)),
+                () -> assertSame(enemies.get(0), roster.remove(0)),
+                () -> assertEquals(enemies.subList(1, amountOfEnemies), roster)
+        );
+    }
+
+    @Test
+    public void testRemoveDead() {
+        final int[] dying = {0, 5, 6, amountOfEnemies - 1};
+        for (int index : dying) {
+            roster.markDead(index);
+        }
+        roster.markDead(5);  // marking twice has no further effect
+
+        assertAll("Validate that dead characters are removed by compaction",
+                () -> assertFalse(roster.isAlive(5)),
+                () -> assertTrue(roster.isAlive(4)),
+                () -> assertEquals(dying.length, roster.removeDead()),
+                () -> assertEquals(amountOfEnemies - dying.length, roster.size()),
+                () -> roster.forEach(enemy -> assertFalse(enemy == enemies.get(0) || enemy == enemies.get(5)
+                        || enemy == enemies.get(6) || enemy == enemies.get(amountOfEnemies - 1))),
+                () -> {
+                    for (int i = 0; i < roster.size(); i++) {
+                        assertTrue(roster.isAlive(i));
+                    }
+                },
+                () -> assertEquals(0, roster.removeDead())
+        );
+    }
+
+    @Test
+    public void testClear() {
+        roster.markDead(2);
+        roster.clear();
+        assertAll("Validate that a cleared roster is empty and reusable",
+                () -> assertTrue(roster.isEmpty()),
+                () -> assertEquals(0, roster.removeDead()),
+                () -> roster.add(enemies.get(2)),
+                () -> assertTrue(roster.isAlive(0))
+        );
+    }
+}
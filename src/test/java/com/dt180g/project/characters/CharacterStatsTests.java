@@ -1,5 +1,6 @@
 package com.dt180g.project.characters;
 
+import com.dt180g.project.stats.StatType;
 import com.dt180g.project.support.Constants;
 import org.junit.jupiter.api.Test;
 
@@ -7,6 +8,7 @@ import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class CharacterStatsTests {
     private final int baseStrength = 8;
@@ -145,4 +147,19 @@ public class CharacterStatsTests {
                 () -> assertEquals(totalEnergy, characterStats.getTotalEnergyLevel())
         );
     }
+
+    @Test
+    public void testStatTypeAccess() {
+        assertAll("Validate that stat types and stat names resolve to the same stats",
+                () -> assertSame(characterStats.getStat(Constants.ATTRIBUTE_STRENGTH),
+                        characterStats.getStat(StatType.STRENGTH)),
+                () -> assertSame(characterStats.getStat(Constants.TRAIT_VITALITY),
+                        characterStats.getStat(StatType.VITALITY)),
+                () -> assertSame(characterStats.getStat(Constants.COMBAT_STAT_MAGIC_POWER),
+                        characterStats.getStat(StatType.MAGIC_POWER)),
+                () -> characterStats.adjustStatStaticModifier(StatType.STRENGTH, 5),
+                () -> assertEquals(baseStrength * Constants.ATTRIBUTE_BASE_VALUE + 5,
+                        characterStats.getStatValue(Constants.ATTRIBUTE_STRENGTH))
+        );
+    }
 }
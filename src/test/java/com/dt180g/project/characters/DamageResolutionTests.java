@@ -0,0 +1,45 @@
+package com.dt180g.project.characters;
+
+import com.dt180g.project.characters.heroes.Warrior;
+import com.dt180g.project.support.Randomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DamageResolutionTests {
+
+    @Test
+    public void testPackAndUnpack() {
+        long packed = DamageResolution.pack(37, 0);
+        long packedLarge = DamageResolution.pack(Integer.MAX_VALUE, Integer.MAX_VALUE);
+        assertAll("Validate that both damage values survive packing",
+                () -> assertEquals(37, DamageResolution.getMitigatedDamage(packed)),
+                () -> assertEquals(0, DamageResolution.getActualDamage(packed)),
+                () -> assertEquals(Integer.MAX_VALUE, DamageResolution.getMitigatedDamage(packedLarge)),
+                () -> assertEquals(Integer.MAX_VALUE, DamageResolution.getActualDamage(packedLarge))
+        );
+    }
+
+    @Test
+    public void testResolveDamageMatchesRegisterDamage() {
+        BaseCharacter resolving = new Warrior("Resolving", new Randomizer(4));
+        BaseCharacter registering = new Warrior("Registering", new Randomizer(4));
+        final int damage = 60;
+
+        long resolution = resolving.resolveDamage(damage, false);
+        List<Integer> registered = registering.registerDamage(damage, false);
+        long magicResolution = resolving.resolveDamage(damage, true);
+        List<Integer> magicRegistered = registering.registerDamage(damage, true);
+
+        assertAll("Validate that the packed and list based damage paths agree",
+                () -> assertEquals(registered.get(0), DamageResolution.getMitigatedDamage(resolution)),
+                () -> assertEquals(registered.get(1), DamageResolution.getActualDamage(resolution)),
+                () -> assertEquals(magicRegistered.get(0), DamageResolution.getMitigatedDamage(magicResolution)),
+                () -> assertEquals(magicRegistered.get(1), DamageResolution.getActualDamage(magicResolution)),
+                () -> assertEquals(registering.getHitPoints(), resolving.getHitPoints())
+        );
+    }
+}
@@ -13,6 +13,7 @@ import java.util.Map;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class EquipmentArmorTests {
@@ -103,4 +104,21 @@ public class EquipmentArmorTests {
     public void testDuplicateLegsArmor() {
         runDuplicateAsserts(Constants.ARMOR_LEGS);
     }
+
+    @Test
+    public void testRemoveAndSwapArmor() {
+        CharacterEquipment equipment = new CharacterEquipment();
+        armorPieces.forEach(equipment::addArmorPiece);
+        Armor chest = armorPieces.get(Constants.ARMOR_CHEST);
+        assertAll("Validate that removing and swapping armor keeps totals correct",
+                () -> assertEquals(chest, equipment.removeArmorPiece(Constants.ARMOR_CHEST)),
+                () -> runArmorAsserts(1, armorProtection * (armorPieces.size() - 1), equipment),
+                () -> assertNull(equipment.removeArmorPiece(Constants.ARMOR_CHEST)),
+                () -> assertNull(equipment.swapArmorPiece(Constants.ARMOR_CHEST, chest)),
+                () -> assertEquals(chest, equipment.swapArmorPiece(Constants.ARMOR_CHEST, chest)),
+                () -> runArmorAsserts(0, armorProtection * armorPieces.size(), equipment),
+                () -> equipment.clear(),
+                () -> runArmorAsserts(armorPieces.size(), 0, equipment)
+        );
+    }
 }
@@ -14,6 +14,7 @@ import java.util.Map;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class EquipmentWeaponsTests {
@@ -85,4 +86,21 @@ public class EquipmentWeaponsTests {
                 () -> assertFalse(equipment.addWeapon(weapons.get(1)))  // should be one hander
         );
     }
+
+    @Test
+    public void testRemoveWeapons() {
+        CharacterEquipment equipment = new CharacterEquipment();
+        Weapon twoHander = weapons.get(0);
+        Weapon oneHander = weapons.get(1);
+        assertAll("Validate that removing weapons frees slots and damage",
+                () -> assertTrue(equipment.addWeapon(twoHander)),
+                () -> assertFalse(equipment.removeWeapon(oneHander)),
+                () -> assertTrue(equipment.removeWeapon(twoHander)),
+                () -> runWeaponAsserts(2, 0, equipment),
+                () -> assertTrue(equipment.addWeapon(oneHander)),
+                () -> assertTrue(equipment.addWeapon(weapons.get(2))),
+                () -> runWeaponAsserts(0, weaponDamage * 2, equipment),
+                () -> assertThrows(UnsupportedOperationException.class, () -> equipment.getWeapons().clear())
+        );
+    }
 }
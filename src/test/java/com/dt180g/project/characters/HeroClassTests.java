@@ -0,0 +1,51 @@
+package com.dt180g.project.characters;
+
+import com.dt180g.project.characters.enemies.SkeletonWarrior;
+import com.dt180g.project.characters.heroes.Cleric;
+import com.dt180g.project.characters.heroes.HeroClass;
+import com.dt180g.project.characters.heroes.Ranger;
+import com.dt180g.project.characters.heroes.Warrior;
+import com.dt180g.project.characters.heroes.Wizard;
+import com.dt180g.project.support.Constants;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HeroClassTests {
+
+    @Test
+    public void testHeroClassLookups() {
+        assertAll("Validate that hero classes are found by name and by class",
+                () -> assertSame(HeroClass.WARRIOR, HeroClass.fromName(Constants.HERO_WARRIOR)),
+                () -> assertSame(HeroClass.CLERIC, HeroClass.fromName(Constants.HERO_CLERIC)),
+                () -> assertSame(HeroClass.RANGER, HeroClass.fromType(Ranger.class)),
+                () -> assertSame(Wizard.class, HeroClass.WIZARD.getHeroType()),
+                () -> assertNull(HeroClass.fromType(SkeletonWarrior.class)),
+                () -> assertEquals(0, HeroClass.maskOf(SkeletonWarrior.class)),
+                () -> assertThrows(IllegalArgumentException.class, () -> HeroClass.fromName("Bard"))
+        );
+    }
+
+    @Test
+    public void testRestrictionMasks() {
+        int mask = HeroClass.parseRestrictions("Warrior, Cleric");
+        List<HeroClass> allowed = HeroClass.fromMask(mask);
+        assertAll("Validate that restrictions are parsed into one bit per hero class",
+                () -> assertEquals(HeroClass.WARRIOR.getMask() | HeroClass.CLERIC.getMask(), mask),
+                () -> assertEquals(Arrays.asList(HeroClass.WARRIOR, HeroClass.CLERIC), allowed),
+                () -> assertTrue(HeroClass.WARRIOR.isAllowedBy(mask)),
+                () -> assertFalse(HeroClass.WIZARD.isAllowedBy(mask)),
+                () -> assertEquals(HeroClass.maskOf(Warrior.class) | HeroClass.maskOf(Cleric.class), mask),
+                () -> assertThrows(IllegalArgumentException.class, () -> HeroClass.parseRestrictions("Warrior,,Cleric"))
+        );
+    }
+}
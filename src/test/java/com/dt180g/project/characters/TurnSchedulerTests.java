@@ -0,0 +1,95 @@
+package com.dt180g.project.characters;
+
+import com.dt180g.project.characters.enemies.BaseEnemy;
+import com.dt180g.project.characters.enemies.SkeletonWarrior;
+import com.dt180g.project.characters.heroes.BaseHero;
+import com.dt180g.project.characters.heroes.Warrior;
+import com.dt180g.project.support.Randomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TurnSchedulerTests {
+    private final List<BaseHero> heroes = new ArrayList<>();
+    private final List<BaseEnemy> enemies = new ArrayList<>();
+    private final TurnScheduler scheduler = new TurnScheduler();
+
+    public TurnSchedulerTests() {
+        Randomizer random = new Randomizer(11);
+        final int amountOfHeroes = 4;
+        final int amountOfEnemies = 30;
+        final int maxSpentActionPoints = 5;
+        for (int i = 1; i <= amountOfHeroes; i++) {
+            heroes.add(new Warrior("Hero " + i, random));
+        }
+        for (int i = 1; i <= amountOfEnemies; i++) {
+            enemies.add(new SkeletonWarrior(i, random));
+        }
+        for (BaseCharacter character : getAllCharacters()) {
+            character.getCharacterStats().adjustActionPoints(-random.getRandomValue(0, maxSpentActionPoints));
+        }
+    }
+
+    /**
+     * Heroes followed by enemies, in the order they are scheduled.
+     */
+    private List<BaseCharacter> getAllCharacters() {
+        List<BaseCharacter> characters = new ArrayList<>(heroes);
+        characters.addAll(enemies);
+        return characters;
+    }
+
+    private List<BaseCharacter> getScheduledOrder() {
+        List<BaseCharacter> order = new ArrayList<>();
+        for (int turn = 0; turn < scheduler.size(); turn++) {
+            order.add(scheduler.get(turn));
+        }
+        return order;
+    }
+
+    @Test
+    public void testOrderMatchesStableSort() {
+        List<BaseCharacter> expected = getAllCharacters();
+        expected.sort((c1, c2) -> c2.getActionPoints() - c1.getActionPoints());
+        scheduler.schedule(heroes, enemies);
+
+        assertAll("Validate that highest action points act first, heroes first on ties",
+                () -> assertEquals(expected.size(), scheduler.size()),
+                () -> assertEquals(expected, getScheduledOrder()),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> scheduler.get(expected.size()))
+        );
+    }
+
+    @Test
+    public void testWidelySpreadActionPoints() {
+        final int exhausted = -5000;
+        enemies.get(3).getCharacterStats().adjustActionPoints(exhausted);
+        List<BaseCharacter> expected = getAllCharacters();
+        expected.sort((c1, c2) -> c2.getActionPoints() - c1.getActionPoints());
+        scheduler.schedule(heroes, enemies);
+
+        assertAll("Validate the order when action points span more than the buckets",
+                () -> assertEquals(expected, getScheduledOrder()),
+                () -> assertSame(enemies.get(3), scheduler.get(scheduler.size() - 1))
+        );
+    }
+
+    @Test
+    public void testRescheduleSmallerRoster() {
+        scheduler.schedule(heroes, enemies);
+        scheduler.schedule(heroes, List.of());
+
+        List<BaseCharacter> expected = new ArrayList<>(heroes);
+        expected.sort((c1, c2) -> c2.getActionPoints() - c1.getActionPoints());
+        assertAll("Validate that a new round replaces the previous order",
+                () -> assertEquals(heroes.size(), scheduler.size()),
+                () -> assertEquals(expected, getScheduledOrder())
+        );
+    }
+}
@@ -0,0 +1,148 @@
+package com.dt180g.project.events;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.simulation.CampaignSimulator;
+import com.dt180g.project.support.ActivityLogger;
+import com.dt180g.project.support.Randomizer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CombatEventTests {
+
+    private static class RecordingListener implements CombatEventListener {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onRoundStart(int dungeonLevel, int round, int heroes, int enemies) {
+            events.add(String.format("round %d %d %d %d", dungeonLevel, round, heroes, enemies));
+        }
+
+        @Override
+        public void onTurnStart(String characterName, boolean hero, int actionPoints, int hitPoints, int energyLevel) {
+            events.add(String.format("turn %s %b %d %d %d", characterName, hero, actionPoints, hitPoints, energyLevel));
+        }
+
+        @Override
+        public void onAbilityUsed(Supplier<String> abilityInformation, int amountOfTargets, boolean targetEnemies,
+                                  boolean magic, boolean heal, int amount) {
+            events.add(String.format("ability %s %d %b %b %b %d", abilityInformation.get(), amountOfTargets,
+                    targetEnemies, magic, heal, amount));
+        }
+
+        @Override
+        public void onNoTargets(boolean targetEnemies) {
+            events.add("none " + targetEnemies);
+        }
+
+        @Override
+        public void onDamage(String characterName, boolean critical, int deflected, int direct, int hitPointsLeft) {
+            events.add(String.format("damage %s %b %d %d %d", characterName, critical, deflected, direct, hitPointsLeft));
+        }
+
+        @Override
+        public void onHeal(String characterName, boolean critical, int amount, int hitPointsLeft) {
+            events.add(String.format("heal %s %b %d %d", characterName, critical, amount, hitPointsLeft));
+        }
+
+        @Override
+        public void onDeath(String characterName) {
+            events.add("death " + characterName);
+        }
+    }
+
+    private void emitSampleEvents(CombatEventListener listener) {
+        listener.onRoundStart(5, 1, 4, 3);
+        listener.onTurnStart("Leila", true, 12, 120, 40);
+        listener.onAbilityUsed(() -> "Whirlwind (-4 AP, -10 Energy)", 3, true, false, false, 17);
+        listener.onDamage("Skeleton Warrior 1", true, 4, 30, -2);
+        listener.onDeath("Skeleton Warrior 1");
+        listener.onTurnStart("Kevin", true, 9, 80, 60);
+        listener.onAbilityUsed(() -> "Heal (-3 AP, -5 Energy)", 2, false, true, true, -20);
+        listener.onHeal("Leila", false, 20, 100);
+        listener.onNoTargets(false);
+    }
+
+    @Test
+    public void testBinaryRoundTrip(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("events.bin");
+        RecordingListener expected = new RecordingListener();
+        emitSampleEvents(expected);
+
+        try (BinaryCombatEventWriter writer = new BinaryCombatEventWriter(file)) {
+            emitSampleEvents(writer);
+            assertEquals(expected.events.size(), writer.getEvents());
+        }
+
+        RecordingListener replayed = new RecordingListener();
+        try (BinaryCombatEventReader reader = new BinaryCombatEventReader(file)) {
+            assertEquals(expected.events.size(), reader.replay(replayed));
+        }
+        assertEquals(expected.events, replayed.events);
+    }
+
+    @Test
+    public void testReaderRejectsOtherFiles(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("not-events.bin");
+        Files.writeString(file, "DUNGEON LEVEL 5");
+        assertThrows(IOException.class, () -> new BinaryCombatEventReader(file));
+    }
+
+    @Test
+    public void testNameLimits(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("unknown-name.bin");
+        Files.write(file, ByteBuffer.allocate(Integer.BYTES + Short.BYTES + Byte.BYTES + Integer.BYTES)
+                .putInt(BinaryCombatEventWriter.MAGIC).putShort(BinaryCombatEventWriter.VERSION)
+                .put(BinaryCombatEventWriter.DEATH).putInt(0).array());
+        String longName = "x".repeat(BinaryCombatEventWriter.MAX_NAME_BYTES + 1);
+        try (BinaryCombatEventWriter writer = new BinaryCombatEventWriter(directory.resolve("long-name.bin"));
+             BinaryCombatEventReader reader = new BinaryCombatEventReader(file)) {
+            assertAll("Validate that names outside the limits are rejected",
+                    () -> assertThrows(IllegalArgumentException.class, () -> writer.onDeath(longName)),
+                    () -> assertEquals(0, writer.getEvents()),
+                    () -> assertThrows(IOException.class, () -> reader.replay(new RecordingListener()))
+            );
+        }
+    }
+
+    @Test
+    public void testEngineEmitsCampaignEvents(@TempDir Path directory) throws IOException {
+        ActivityLogger.INSTANCE.setEnabled(false);
+        final long seed = 11;
+        Path file = directory.resolve("campaign.bin");
+        RecordingListener emitted = new RecordingListener();
+
+        GameEngine engine = new GameEngine(new Randomizer(seed));
+        engine.setCombatEventListener(emitted);
+        new CampaignSimulator(engine).runCampaign(seed);
+
+        try (BinaryCombatEventWriter writer = new BinaryCombatEventWriter(file)) {
+            engine.setCombatEventListener(writer);
+            new CampaignSimulator(engine).runCampaign(seed);
+        }
+        RecordingListener replayed = new RecordingListener();
+        try (BinaryCombatEventReader reader = new BinaryCombatEventReader(file)) {
+            reader.replay(replayed);
+        }
+
+        assertAll("Validate that a campaign emits events that survive encoding",
+                () -> assertTrue(emitted.events.get(0).startsWith("round ")),
+                () -> assertTrue(emitted.events.stream().anyMatch(event -> event.startsWith("turn "))),
+                () -> assertTrue(emitted.events.stream().anyMatch(event -> event.startsWith("damage "))),
+                () -> assertTrue(emitted.events.stream().anyMatch(event -> event.startsWith("death "))),
+                () -> assertEquals(emitted.events, replayed.events)
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package com.dt180g.project.gear;
 
 import com.dt180g.project.characters.heroes.Cleric;
+import com.dt180g.project.characters.heroes.HeroClass;
 import com.dt180g.project.characters.heroes.Ranger;
 import com.dt180g.project.characters.heroes.Warrior;
 import com.dt180g.project.characters.heroes.Wizard;
@@ -68,7 +69,13 @@ public class ArmorTests {
                 () -> assertTrue(armor.checkClassRestriction(Cleric.class)),
                 () -> assertTrue(armor.checkClassRestriction(Ranger.class)),
                 () -> assertFalse(armor.checkClassRestriction(Warrior.class)),
-                () -> assertFalse(armor.checkClassRestriction(Wizard.class))
+                () -> assertFalse(armor.checkClassRestriction(Wizard.class)),
+                () -> assertTrue(armor.checkClassRestriction(HeroClass.CLERIC)),
+                () -> assertFalse(armor.checkClassRestriction(HeroClass.WARRIOR)),
+                () -> assertFalse(armor.checkClassRestriction(String.class)),
+                () -> assertEquals(HeroClass.RANGER.getMask() | HeroClass.CLERIC.getMask(),
+                        armor.getClassRestrictionMask()),
+                () -> assertEquals(Arrays.asList(Ranger.class, Cleric.class), armor.getClassRestrictions())
         );
     }
 
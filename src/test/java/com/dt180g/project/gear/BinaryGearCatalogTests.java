@@ -0,0 +1,81 @@
+package com.dt180g.project.gear;
+
+import com.dt180g.project.support.IOHelper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BinaryGearCatalogTests {
+    private final Path weaponCatalog = IOHelper.getResourcePath(GearManager.WEAPON_CATALOG);
+    private final Path armorCatalog = IOHelper.getResourcePath(GearManager.ARMOR_CATALOG);
+
+    private String describe(final WeaponDefinition weapon) {
+        return String.join("|", weapon.getType(), weapon.getName(), weapon.getWield(),
+                String.valueOf(weapon.getDamage()), String.valueOf(weapon.getClassRestrictionMask()));
+    }
+
+    private String describe(final ArmorDefinition armor) {
+        return String.join("|", armor.getType(), armor.getName(), armor.getMaterial(),
+                String.valueOf(armor.getProtection()), String.valueOf(armor.getClassRestrictionMask()));
+    }
+
+    @Test
+    public void testCompiledCatalogMatchesXML(@TempDir Path directory) throws IOException {
+        Path binary = directory.resolve(GearManager.BINARY_CATALOG);
+        int compiled = BinaryGearCatalog.compile(weaponCatalog, armorCatalog, binary);
+
+        List<String> expected = new ArrayList<>();
+        GearCatalogLoader.loadWeapons(weaponCatalog, weapon -> expected.add(describe(weapon)));
+        GearCatalogLoader.loadArmor(armorCatalog, armor -> expected.add(describe(armor)));
+
+        List<String> loaded = new ArrayList<>();
+        int amount = BinaryGearCatalog.load(binary,
+                weapon -> loaded.add(describe(weapon)), armor -> loaded.add(describe(armor)));
+
+        assertAll("Validate that the binary catalog loads the same gear definitions",
+                () -> assertEquals(expected.size(), compiled),
+                () -> assertEquals(expected.size(), amount),
+                () -> assertEquals(expected, loaded)
+        );
+    }
+
+    @Test
+    public void testInvalidBinaryCatalogs(@TempDir Path directory) throws IOException {
+        Path binary = directory.resolve(GearManager.BINARY_CATALOG);
+        BinaryGearCatalog.compile(weaponCatalog, armorCatalog, binary);
+        byte[] bytes = Files.readAllBytes(binary);
+
+        Path notCatalog = directory.resolve("not.bin");
+        Files.writeString(notCatalog, "<weapons></weapons>");
+        Path otherVersion = directory.resolve("version.bin");
+        Files.write(otherVersion, ByteBuffer.allocate(bytes.length).put(bytes)
+                .putInt(Integer.BYTES, BinaryGearCatalog.VERSION + 1).array());
+        Path truncated = directory.resolve("truncated.bin");
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 1));
+        Path unknownClass = directory.resolve("unknown.bin");
+        Files.write(unknownClass, ByteBuffer.allocate(bytes.length).put(bytes)
+                .putInt(bytes.length - Integer.BYTES, -1).array());  // restrictions of the last armor piece
+
+        assertAll("Validate that invalid binary catalogs fail to load",
+                () -> assertThrows(IOException.class,
+                        () -> BinaryGearCatalog.load(notCatalog, weapon -> { }, armor -> { })),
+                () -> assertThrows(IOException.class,
+                        () -> BinaryGearCatalog.load(otherVersion, weapon -> { }, armor -> { })),
+                () -> assertThrows(IOException.class,
+                        () -> BinaryGearCatalog.load(truncated, weapon -> { }, armor -> { })),
+                () -> assertThrows(IOException.class,
+                        () -> BinaryGearCatalog.load(unknownClass, weapon -> { }, armor -> { }))
+        );
+    }
+}
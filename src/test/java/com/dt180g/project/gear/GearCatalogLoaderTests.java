@@ -0,0 +1,110 @@
+package com.dt180g.project.gear;
+
+import com.dt180g.project.support.IOHelper;
+import com.dt180g.project.support.Randomizer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GearCatalogLoaderTests {
+    private final long seed = 180L;
+
+    private void writeWeaponCatalog(final Path file, final String weapon) throws IOException {
+        Files.writeString(file, "<?xml version='1.0' encoding='UTF-8' ?>\n<weapons>\n" + weapon + "</weapons>\n");
+    }
+
+    @Test
+    public void testWeaponsMatchMappedCatalog() throws IOException {
+        List<Map<String, String>> mapped = IOHelper.readFromFile("weapons.xml");
+        List<WeaponDefinition> streamed = new ArrayList<>();
+        int amount = GearCatalogLoader.loadWeapons(IOHelper.getResourcePath("weapons.xml"), streamed::add);
+
+        Randomizer random = new Randomizer(seed);
+        assertEquals(mapped.size(), amount);
+        for (int i = 0; i < amount; i++) {
+            WeaponDefinition expected = new Weapon(mapped.get(i), random).getDefinition();
+            WeaponDefinition actual = streamed.get(i);
+            assertAll("Validate that the streamed weapon equals the mapped weapon",
+                    () -> assertEquals(expected.getName(), actual.getName()),
+                    () -> assertEquals(expected.getType(), actual.getType()),
+                    () -> assertEquals(expected.getWield(), actual.getWield()),
+                    () -> assertEquals(expected.getDamage(), actual.getDamage()),
+                    () -> assertEquals(expected.isTwoHanded(), actual.isTwoHanded()),
+                    () -> assertEquals(expected.getClassRestrictionMask(), actual.getClassRestrictionMask())
+            );
+        }
+    }
+
+    @Test
+    public void testArmorMatchesMappedCatalog() throws IOException {
+        List<Map<String, String>> mapped = IOHelper.readFromFile("armor.xml");
+        List<ArmorDefinition> streamed = new ArrayList<>();
+        int amount = GearCatalogLoader.loadArmor(IOHelper.getResourcePath("armor.xml"), streamed::add);
+
+        Randomizer random = new Randomizer(seed);
+        assertEquals(mapped.size(), amount);
+        for (int i = 0; i < amount; i++) {
+            ArmorDefinition expected = new Armor(mapped.get(i), random).getDefinition();
+            ArmorDefinition actual = streamed.get(i);
+            assertAll("Validate that the streamed armor piece equals the mapped armor piece",
+                    () -> assertEquals(expected.getName(), actual.getName()),
+                    () -> assertEquals(expected.getType(), actual.getType()),
+                    () -> assertEquals(expected.getMaterial(), actual.getMaterial()),
+                    () -> assertEquals(expected.getProtection(), actual.getProtection()),
+                    () -> assertEquals(expected.getClassRestrictionMask(), actual.getClassRestrictionMask())
+            );
+        }
+    }
+
+    @Test
+    public void testUnknownFieldsAndCommentsAreIgnored(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("weapons.xml");
+        writeWeaponCatalog(file, "<weapon><!-- AXES --><type>Axe</type><name>Hatchet</name><weight>2</weight>"
+                + "<wield>One Handed Melee</wield><damage> 3 </damage><restriction>Warrior</restriction></weapon>\n");
+        List<WeaponDefinition> streamed = new ArrayList<>();
+        GearCatalogLoader.loadWeapons(file, streamed::add);
+
+        assertAll("Validate that a weapon is built from the known fields only",
+                () -> assertEquals(1, streamed.size()),
+                () -> assertEquals("Axe", streamed.get(0).getType()),
+                () -> assertEquals(3, streamed.get(0).getDamage())
+        );
+    }
+
+    @Test
+    public void testInvalidCatalogs(@TempDir Path directory) throws IOException {
+        Path missingField = directory.resolve("missing.xml");
+        writeWeaponCatalog(missingField, "<weapon><type>Axe</type><name>Hatchet</name></weapon>\n");
+        Path invalidDamage = directory.resolve("invalid.xml");
+        writeWeaponCatalog(invalidDamage, "<weapon><type>Axe</type><name>Hatchet</name><wield>One Handed Melee</wield>"
+                + "<damage>lots</damage><restriction>Warrior</restriction></weapon>\n");
+        Path unknownClass = directory.resolve("unknown.xml");
+        writeWeaponCatalog(unknownClass, "<weapon><type>Axe</type><name>Hatchet</name><wield>One Handed Melee</wield>"
+                + "<damage>3</damage><restriction>Warrior,Bard</restriction></weapon>\n");
+        Path malformed = directory.resolve("malformed.xml");
+        Files.writeString(malformed, "<weapons><weapon><type>Axe</weapon>");
+
+        assertAll("Validate that invalid catalogs fail to load",
+                () -> assertThrows(IOException.class,
+                        () -> GearCatalogLoader.loadWeapons(missingField, weapon -> { })),
+                () -> assertThrows(IOException.class,
+                        () -> GearCatalogLoader.loadWeapons(invalidDamage, weapon -> { })),
+                () -> assertThrows(IOException.class,
+                        () -> GearCatalogLoader.loadWeapons(unknownClass, weapon -> { })),
+                () -> assertThrows(IOException.class,
+                        () -> GearCatalogLoader.loadWeapons(malformed, weapon -> { })),
+                () -> assertThrows(IOException.class,
+                        () -> GearCatalogLoader.loadWeapons(directory.resolve("absent.xml"), weapon -> { }))
+        );
+    }
+}
@@ -5,15 +5,19 @@ import com.dt180g.project.characters.heroes.Ranger;
 import com.dt180g.project.characters.heroes.Warrior;
 import com.dt180g.project.characters.heroes.Wizard;
 import com.dt180g.project.support.Constants;
+import com.dt180g.project.support.Randomizer;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -35,7 +39,7 @@ public class GearManagerTests {
         List<String> armorTypes = Arrays.asList(Constants.ARMOR_CHEST, Constants.ARMOR_FEET,
                 Constants.ARMOR_HANDS, Constants.ARMOR_HEAD, Constants.ARMOR_LEGS);
 
-        Map<String, List<Armor>> allPieces = GearManager.INSTANCE.getAllMappedArmorPieces();
+        Map<String, List<ArmorDefinition>> allPieces = GearManager.INSTANCE.getAllMappedArmorPieces();
         assertAll("Validate that the manager provides all armor correctly",
                 () -> assertTrue(allPieces.size() > 0),
                 () -> armorTypes.forEach(type -> assertTrue(allPieces.containsKey(type)))
@@ -53,7 +57,7 @@ public class GearManagerTests {
         );
     }
 
-    private void runAssertsForRestrictions(List<? extends BaseGear> targetList, Class<?> classRestriction) {
+    private void runAssertsForRestrictions(List<? extends GearDefinition> targetList, Class<?> classRestriction) {
         assertAll("Validate that we get gear relevant to class",
                 () -> assertTrue(targetList.size() > 0),
                 () -> targetList.forEach(piece -> assertTrue(piece.checkClassRestriction(classRestriction)))
@@ -83,7 +87,7 @@ public class GearManagerTests {
     /* TESTS FOR WEAPON RETRIEVAL */
     @Test
     public void testManagerGetAllWeapons() {
-        Map<String, List<Weapon>> allWeapons = GearManager.INSTANCE.getAllMappedWeapons();
+        Map<String, List<WeaponDefinition>> allWeapons = GearManager.INSTANCE.getAllMappedWeapons();
         assertAll("Validate that the manager provides all armor correctly",
                 () -> assertTrue(allWeapons.size() > 0),
                 () -> weaponTypes.forEach(type -> assertTrue(allWeapons.containsKey(type)))
@@ -106,7 +110,7 @@ public class GearManagerTests {
     @Test
     public void testManagerWeaponsOfType() {
         String weaponType = Constants.WEAPON_BOW;
-        List<Weapon> weapons = GearManager.INSTANCE.getWeaponsOfType(weaponType);
+        List<WeaponDefinition> weapons = GearManager.INSTANCE.getWeaponsOfType(weaponType);
         assertAll("Validate that the manager provides all weapons of type correctly",
                 () -> assertTrue(weapons.size() > 0),
                 () -> weapons.forEach(weapon -> assertEquals(weaponType, weapon.getType()))
@@ -128,4 +132,48 @@ public class GearManagerTests {
                 () -> assertTrue(weaponTypes.contains(weapon.getType()))
         );
     }
+
+    @Test
+    public void testManagerOneHandedWeaponsOfTypesCoverAllTypes() {
+        List<String> weaponTypes = Arrays.asList(Constants.WEAPON_SHIELD, Constants.WEAPON_SWORD);
+        Set<WeaponDefinition> expected = new HashSet<>();
+        weaponTypes.forEach(type -> GearManager.INSTANCE.getWeaponsOfType(type).forEach(weapon -> {
+            if (!weapon.isTwoHanded()) {
+                expected.add(weapon);
+            }
+        }));
+
+        Randomizer random = new Randomizer(7);
+        Set<WeaponDefinition> drawn = new HashSet<>();
+        final int draws = 2000;
+        for (int i = 0; i < draws; i++) {
+            drawn.add(GearManager.INSTANCE.getRandomOneHandedWeapon(weaponTypes, random).getDefinition());
+        }
+        assertEquals(expected, drawn);
+    }
+
+    @Test
+    public void testManagerRestrictionListsAreUnmodifiable() {
+        List<ArmorDefinition> armorForClass = GearManager.INSTANCE.getAllArmorForRestriction(Cleric.class);
+        assertThrows(UnsupportedOperationException.class, () -> armorForClass.remove(0));
+    }
+
+    @Test
+    public void testManagerDropsAreSeparateGear() {
+        List<String> weaponTypes = List.of(Constants.WEAPON_SHIELD);
+        Randomizer random = new Randomizer(11);
+        Weapon first = GearManager.INSTANCE.getRandomWeapon(weaponTypes, random);
+        Set<String> boosts = new HashSet<>();
+        final int draws = 200;
+        for (int i = 0; i < draws; i++) {
+            Weapon drop = GearManager.INSTANCE.getRandomWeapon(weaponTypes, random);
+            assertNotSame(first, drop);
+            boosts.add(drop.getBoostType() + " " + drop.getBoostValue());
+        }
+        assertAll("Validate that every drop is a new piece of gear with its own boost",
+                () -> assertTrue(boosts.size() > 1),
+                () -> assertTrue(GearManager.INSTANCE.getWeaponsOfType(Constants.WEAPON_SHIELD)
+                        .contains(first.getDefinition()))
+        );
+    }
 }
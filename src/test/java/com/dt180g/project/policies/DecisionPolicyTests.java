@@ -0,0 +1,207 @@
+package com.dt180g.project.policies;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.abilities.BaseAbility;
+import com.dt180g.project.characters.BaseCharacter;
+import com.dt180g.project.characters.heroes.BaseHero;
+import com.dt180g.project.simulation.BattleSnapshot;
+import com.dt180g.project.simulation.CampaignResult;
+import com.dt180g.project.simulation.CampaignSimulator;
+import com.dt180g.project.support.ActivityLogger;
+import com.dt180g.project.support.Constants;
+import com.dt180g.project.support.IOHelper;
+import com.dt180g.project.support.Randomizer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DecisionPolicyTests {
+    private final long seed = 1234;
+
+    @Test
+    public void testRandomPolicyIsDefault() {
+        ActivityLogger.INSTANCE.setEnabled(false);
+        CampaignResult expected = new CampaignSimulator(new GameEngine(new Randomizer(seed))).runCampaign(seed);
+        GameEngine engine = new GameEngine(new Randomizer(seed));
+        int[] turns = new int[1];
+        engine.setHeroPolicy((character, game, chosen) -> {
+            turns[0]++;
+            return RandomPolicy.INSTANCE.chooseAbilities(character, game, chosen);
+        });
+        CampaignResult result = new CampaignSimulator(engine).runCampaign(seed);
+        assertAll("Validate that random abilities are chosen by default",
+                () -> assertSame(RandomPolicy.INSTANCE, new GameEngine().getHeroPolicy()),
+                () -> assertSame(RandomPolicy.INSTANCE, new GameEngine().getEnemyPolicy()),
+                () -> assertTrue(turns[0] > 0),
+                () -> assertEquals(expected.toString(), result.toString())
+        );
+    }
+
+    @Test
+    public void testCaptureDuringTurn() {
+        ActivityLogger.INSTANCE.setEnabled(false);
+        final int capturedTurn = 3;
+        CampaignSimulator simulator = new CampaignSimulator(new GameEngine(new Randomizer(seed)));
+        List<BattleSnapshot> snapshots = new ArrayList<>();
+        simulator.getEngine().setHeroPolicy((character, game, chosen) -> {
+            if (snapshots.size() < capturedTurn) {
+                snapshots.add(BattleSnapshot.capture(simulator));
+            }
+            return RandomPolicy.INSTANCE.chooseAbilities(character, game, chosen);
+        });
+        CampaignResult expected = simulator.runCampaign(seed);
+
+        CampaignSimulator restored = new CampaignSimulator(new GameEngine(new Randomizer(1)));
+        snapshots.get(capturedTurn - 1).restore(restored);
+        assertAll("Validate that a campaign captured during a turn continues that turn",
+                () -> assertTrue(restored.isTurnStarted()),
+                () -> assertEquals(expected.toString(), restored.resumeCampaign().toString())
+        );
+    }
+
+    @Test
+    public void testMctsPolicy() {
+        ActivityLogger.INSTANCE.setEnabled(false);
+        final int iterations = 40;
+        final int threads = 2;
+        List<String> results = new ArrayList<>();
+        long decisions = 0;
+        long playouts = 0;
+        for (int run = 0; run < 2; run++) {
+            CampaignSimulator simulator = new CampaignSimulator(new GameEngine(new Randomizer(seed)));
+            try (MctsPolicy policy = new MctsPolicy(simulator, threads, seed)) {
+                policy.setIterationBudget(iterations);
+                simulator.getEngine().setHeroPolicy(policy);
+                results.add(simulator.runCampaign(seed).toString());
+                decisions = policy.getDecisions();
+                playouts = policy.getPlayouts();
+            }
+        }
+
+        long finalDecisions = decisions;
+        long finalPlayouts = playouts;
+        CampaignSimulator simulator = new CampaignSimulator(new GameEngine(new Randomizer(seed)));
+        try (MctsPolicy policy = new MctsPolicy(simulator, 1, seed)) {
+            GameEngine otherEngine = new GameEngine(new Randomizer(seed));
+            assertAll("Validate that the search is reproducible and spends its budget",
+                    () -> assertEquals(results.get(0), results.get(1)),
+                    () -> assertTrue(finalDecisions > 0),
+                    () -> assertEquals(finalDecisions * iterations, finalPlayouts),
+                    () -> assertThrows(IllegalStateException.class, () -> policy.chooseAbilities(
+                            otherEngine.getHeroes().get(0), otherEngine, new BaseAbility[Constants.ACTIONS_PER_TURN])),
+                    () -> assertThrows(IllegalArgumentException.class, () -> policy.setIterationBudget(0)),
+                    () -> assertThrows(IllegalArgumentException.class, () -> new MctsPolicy(simulator, 0, seed))
+            );
+        }
+    }
+
+    private GameEngine createBattle() {
+        GameEngine engine = new GameEngine(new Randomizer(seed));
+        final int enemies = 4;
+        engine.produceEnemies(enemies, false);
+        return engine;
+    }
+
+    private boolean isAffordable(final BaseCharacter character, final BaseAbility[] chosen, final int amountChosen) {
+        int actionPoints = 0;
+        int energy = 0;
+        for (int i = 0; i < amountChosen; i++) {
+            actionPoints += chosen[i].getActionPointCost();
+            energy += chosen[i].getEnergyCost();
+        }
+        return actionPoints <= character.getActionPoints() && energy <= character.getEnergyLevel();
+    }
+
+    @Test
+    public void testBuiltInPoliciesOnlyChooseAffordableAbilities() throws IOException {
+        GameEngine engine = createBattle();
+        long randomState = engine.getRandomizer().getState();
+        BaseAbility[] chosen = new BaseAbility[Constants.ACTIONS_PER_TURN];
+        List<DecisionPolicy> policies = List.of(GreedyPolicy.INSTANCE, HealWhenLowPolicy.INSTANCE,
+                PriorityTablePolicy.load(IOHelper.getResourcePath(PriorityTablePolicy.DEFAULT_TABLE)));
+        for (DecisionPolicy policy : policies) {
+            for (BaseCharacter character : engine.getAllCharacters()) {
+                int amountChosen = policy.chooseAbilities(character, engine, chosen);
+                assertAll("Validate that every chosen ability can be afforded",
+                        () -> assertTrue(amountChosen > 0),
+                        () -> assertTrue(amountChosen <= Constants.ACTIONS_PER_TURN),
+                        () -> assertTrue(isAffordable(character, chosen, amountChosen)),
+                        () -> assertEquals(randomState, engine.getRandomizer().getState())
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testHealWhenLow() {
+        GameEngine engine = createBattle();
+        BaseHero cleric = engine.getHeroes().get(engine.getAmountOfHeroes() - 1);
+        BaseHero warrior = engine.getHeroes().get(0);
+        BaseAbility[] chosen = new BaseAbility[Constants.ACTIONS_PER_TURN];
+
+        int healthyChoices = HealWhenLowPolicy.INSTANCE.chooseAbilities(cleric, engine, chosen);
+        boolean[] healedWhenHealthy = new boolean[1];
+        for (int i = 0; i < healthyChoices; i++) {
+            healedWhenHealthy[0] |= chosen[i].isHeal();
+        }
+        warrior.getCharacterStats().adjustHitPoints(1 - warrior.getHitPoints());
+        HealWhenLowPolicy.INSTANCE.chooseAbilities(cleric, engine, chosen);
+        boolean healedWhenLow = chosen[0].isHeal();
+        GreedyPolicy.INSTANCE.chooseAbilities(cleric, engine, chosen);
+        assertAll("Validate that heals are only chosen when an ally is low",
+                () -> assertFalse(healedWhenHealthy[0]),
+                () -> assertTrue(healedWhenLow),
+                () -> assertFalse(chosen[0].isHeal()),
+                () -> assertThrows(IllegalArgumentException.class, () -> new HealWhenLowPolicy(0))
+        );
+    }
+
+    @Test
+    public void testPriorityTable(@TempDir final Path directory) throws IOException {
+        PriorityTablePolicy table = PriorityTablePolicy.load(
+                IOHelper.getResourcePath(PriorityTablePolicy.DEFAULT_TABLE));
+        String rule = "<priorities><rule><character>Warrior</character><ability>%s</ability>"
+                + "<condition>%s</condition></rule></priorities>";
+        Path whirlwind = Files.writeString(directory.resolve("whirlwind.xml"),
+                String.format(rule, Constants.ABILITY_WHIRLWIND, "Always"));
+        Path unknownAbility = Files.writeString(directory.resolve("ability.xml"),
+                String.format(rule, "Dance", "Always"));
+        Path unknownCondition = Files.writeString(directory.resolve("condition.xml"),
+                String.format(rule, Constants.ABILITY_WHIRLWIND, "Sometimes"));
+
+        GameEngine engine = createBattle();
+        BaseAbility[] chosen = new BaseAbility[Constants.ACTIONS_PER_TURN];
+        DecisionPolicy whirlwindPolicy = PriorityTablePolicy.load(whirlwind);
+        int warriorChoices = whirlwindPolicy.chooseAbilities(engine.getHeroes().get(0), engine, chosen);
+        BaseAbility warriorFirstChoice = chosen[0];
+        int rangerChoices = whirlwindPolicy.chooseAbilities(engine.getHeroes().get(1), engine, chosen);
+        final int tableRules = 7;
+        DecisionPolicy rebuilt = DecisionPolicy.forName(table.getName());
+        assertAll("Validate that priority tables are loaded and followed",
+                () -> assertEquals(tableRules, table.getAmountOfRules()),
+                () -> assertEquals(table.getName(), rebuilt.getName()),
+                () -> assertEquals("table:Warrior," + Constants.ABILITY_WHIRLWIND + ",Always",
+                        whirlwindPolicy.getName()),
+                () -> assertThrows(IOException.class, () -> DecisionPolicy.forName("table:Warrior,Always")),
+                () -> assertThrows(IOException.class, () -> DecisionPolicy.forName("table:Warrior,Dance,Always")),
+                () -> assertTrue(warriorChoices > 0),
+                () -> assertEquals(Constants.ABILITY_WHIRLWIND, warriorFirstChoice.toString()),
+                () -> assertEquals(0, rangerChoices),
+                () -> assertThrows(IOException.class, () -> PriorityTablePolicy.load(unknownAbility)),
+                () -> assertThrows(IOException.class, () -> PriorityTablePolicy.load(unknownCondition)),
+                () -> assertThrows(IOException.class, () -> PriorityTablePolicy.load(directory.resolve("none.xml")))
+        );
+    }
+}
@@ -0,0 +1,92 @@
+package com.dt180g.project.simulation;
+
+import com.dt180g.project.support.ActivityLogger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BatchStatisticsTests {
+    private final CampaignResult victory = new CampaignResult(true, new int[] {0, 4, 2, 2, 1, 1}, 3);
+    private final CampaignResult defeat = new CampaignResult(false, new int[] {0, 0, 0, 3, 1, 1}, 0);
+
+    @Test
+    public void testAggregatedOutcomes() {
+        BatchStatistics statistics = new BatchStatistics(5);
+        statistics.add(victory);
+        statistics.add(defeat);
+
+        assertAll("Validate that outcomes are aggregated correctly",
+                () -> assertEquals(2, statistics.getCampaigns()),
+                () -> assertEquals(1, statistics.getVictories()),
+                () -> assertEquals(0.5, statistics.getWinRate()),
+                () -> assertEquals(1, statistics.getSurvivorCount(3)),
+                () -> assertEquals(1, statistics.getSurvivorCount(0)),
+                () -> assertEquals(0, statistics.getSurvivorCount(4))
+        );
+    }
+
+    @Test
+    public void testAverageRoundsOnlyCountsReachedLevels() {
+        BatchStatistics statistics = new BatchStatistics(5);
+        statistics.add(victory);
+        statistics.add(defeat);
+
+        assertAll("Validate that average rounds are calculated correctly",
+                () -> assertEquals(1.0, statistics.getAverageRounds(5)),
+                () -> assertEquals(2.5, statistics.getAverageRounds(3)),
+                () -> assertEquals(2.0, statistics.getAverageRounds(2)),
+                () -> assertEquals(4.0, statistics.getAverageRounds(1))
+        );
+    }
+
+    @Test
+    public void testMergedBatches() {
+        BatchStatistics first = new BatchStatistics(5);
+        BatchStatistics second = new BatchStatistics(5);
+        first.add(victory);
+        second.add(defeat);
+        first.merge(second);
+
+        assertAll("Validate that merged batches contain all outcomes",
+                () -> assertEquals(2, first.getCampaigns()),
+                () -> assertEquals(1, first.getVictories()),
+                () -> assertEquals(2.5, first.getAverageRounds(3)),
+                () -> assertEquals(1, first.getSurvivorCount(0))
+        );
+    }
+
+    @Test
+    public void testParallelBatch() {
+        ActivityLogger.INSTANCE.setEnabled(false);
+        BatchStatistics statistics = new ParallelBatchRunner(2).run(5);
+        assertEquals(5, statistics.getCampaigns());
+    }
+
+    @Test
+    public void testSeededCampaignsAreReproducible() {
+        ActivityLogger.INSTANCE.setEnabled(false);
+        CampaignSimulator simulator = new CampaignSimulator();
+        String first = simulator.runCampaign(1234).toString();
+        simulator.runCampaign(99);
+        assertEquals(first, simulator.runCampaign(1234).toString());
+    }
+
+    @Test
+    public void testParallelBatchIndependentOfThreads() {
+        ActivityLogger.INSTANCE.setEnabled(false);
+        BatchStatistics single = new ParallelBatchRunner(1).run(6, 77);
+        BatchStatistics multiple = new ParallelBatchRunner(3).run(6, 77);
+        assertEquals(single.toString(), multiple.toString());
+    }
+
+    @Test
+    public void testCampaignSimulation() {
+        ActivityLogger.INSTANCE.setEnabled(false);
+        CampaignResult result = new CampaignSimulator().runCampaign();
+        assertAll("Validate that a simulated campaign produces a consistent result",
+                () -> assertEquals(result.isVictory(), result.getSurvivors() > 0),
+                () -> assertEquals(5, result.getHighestLevel())
+        );
+    }
+}
@@ -0,0 +1,120 @@
+package com.dt180g.project.simulation;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.characters.BaseCharacter;
+import com.dt180g.project.support.ActivityLogger;
+import com.dt180g.project.support.Constants;
+import com.dt180g.project.support.Randomizer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BattleSnapshotTests {
+    private final long seed = 1234;
+    private final int level = Constants.DUNGEON_START_LEVEL - 2;
+    private final int turn = 4;
+
+    private List<String> describe(final GameEngine engine) {
+        List<String> characters = new ArrayList<>();
+        for (BaseCharacter character : engine.getAllCharacters()) {
+            characters.add(character.getCharacterName() + " " + character.getHitPoints() + " "
+                    + character.getActionPoints() + " " + character.getEnergyLevel() + " "
+                    + character.getCharacterStats().getAttackRate() + " " + character.getEquipment());
+        }
+        return characters;
+    }
+
+    private CampaignSimulator stoppedSimulator() {
+        CampaignSimulator simulator = new CampaignSimulator(new GameEngine(new Randomizer(seed)));
+        simulator.setStopPoint(level, 1, turn);
+        simulator.runCampaign(seed);
+        return simulator;
+    }
+
+    @Test
+    public void testRestoredSnapshotContinuesCampaign() {
+        ActivityLogger.INSTANCE.setEnabled(false);
+        CampaignResult expected = new CampaignSimulator(new GameEngine(new Randomizer(seed))).runCampaign(seed);
+        CampaignSimulator original = stoppedSimulator();
+        BattleSnapshot snapshot = BattleSnapshot.capture(original);
+
+        CampaignSimulator first = new CampaignSimulator(new GameEngine(new Randomizer(1)));
+        snapshot.restore(first);
+        List<String> restoredState = describe(first.getEngine());
+        CampaignResult firstResult = first.resumeCampaign();
+
+        CampaignSimulator second = new CampaignSimulator(new GameEngine(new Randomizer(2)));
+        snapshot.restore(second);
+        assertAll("Validate that every restored snapshot continues like the original campaign",
+                () -> assertTrue(original.isStopped()),
+                () -> assertEquals(level, snapshot.getDungeonLevel()),
+                () -> assertEquals(1, snapshot.getRound()),
+                () -> assertEquals(turn, snapshot.getTurn()),
+                () -> assertEquals(describe(original.getEngine()), restoredState),
+                () -> assertEquals(expected.toString(), firstResult.toString()),
+                () -> assertEquals(expected.toString(), second.resumeCampaign().toString())
+        );
+    }
+
+    @Test
+    public void testStoppedCampaignResumes() {
+        ActivityLogger.INSTANCE.setEnabled(false);
+        CampaignResult expected = new CampaignSimulator(new GameEngine(new Randomizer(seed))).runCampaign(seed);
+        CampaignSimulator simulator = stoppedSimulator();
+        assertEquals(expected.toString(), simulator.resumeCampaign().toString());
+    }
+
+    @Test
+    public void testBinaryFormRoundTrip(@TempDir final Path directory) throws IOException {
+        ActivityLogger.INSTANCE.setEnabled(false);
+        BattleSnapshot snapshot = BattleSnapshot.capture(stoppedSimulator());
+        byte[] data = snapshot.toByteArray();
+        Path file = directory.resolve("snapshot.bin");
+        snapshot.write(file);
+        BattleSnapshot decoded = BattleSnapshot.read(file);
+
+        CampaignSimulator restored = new CampaignSimulator(new GameEngine(new Randomizer(1)));
+        decoded.restore(restored);
+        final int maxBytesPerCharacter = 128;
+        assertAll("Validate that the binary form keeps the whole snapshot",
+                () -> assertArrayEquals(data, decoded.toByteArray()),
+                () -> assertArrayEquals(data, BattleSnapshot.capture(restored).toByteArray()),
+                () -> assertEquals(snapshot.getAmountOfEnemies(), decoded.getAmountOfEnemies()),
+                () -> assertTrue(data.length
+                        < maxBytesPerCharacter * (snapshot.getAmountOfHeroes() + snapshot.getAmountOfEnemies()))
+        );
+    }
+
+    @Test
+    public void testInvalidSnapshotsAreRejected() {
+        ActivityLogger.INSTANCE.setEnabled(false);
+        byte[] data = BattleSnapshot.capture(stoppedSimulator()).toByteArray();
+        byte[] wrongMagic = data.clone();
+        wrongMagic[0]++;
+        final int versionByte = 7;
+        byte[] wrongVersion = data.clone();
+        wrongVersion[versionByte]++;
+        byte[] olderVersion = data.clone();
+        olderVersion[versionByte]--;
+        assertAll("Validate that invalid snapshots are rejected",
+                () -> assertThrows(IOException.class, () -> BattleSnapshot.fromByteArray(wrongMagic)),
+                () -> assertThrows(IOException.class, () -> BattleSnapshot.fromByteArray(wrongVersion)),
+                () -> assertThrows(IOException.class, () -> BattleSnapshot.fromByteArray(olderVersion)),
+                () -> assertThrows(IOException.class,
+                        () -> BattleSnapshot.fromByteArray(Arrays.copyOf(data, data.length - 1))),
+                () -> assertThrows(IllegalStateException.class,
+                        () -> BattleSnapshot.capture(new CampaignSimulator(new GameEngine(new Randomizer(1)))))
+        );
+    }
+}
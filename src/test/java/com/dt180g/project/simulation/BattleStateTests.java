@@ -0,0 +1,103 @@
+package com.dt180g.project.simulation;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.characters.BaseCharacter;
+import com.dt180g.project.support.ActivityLogger;
+import com.dt180g.project.support.Constants;
+import com.dt180g.project.support.Randomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BattleStateTests {
+    private final long seed = 1234;
+    private final int level = Constants.DUNGEON_START_LEVEL - 2;
+    private final int turn = 4;
+
+    private List<String> describe(final GameEngine engine) {
+        List<String> characters = new ArrayList<>();
+        for (BaseCharacter character : engine.getAllCharacters()) {
+            characters.add(character.getCharacterName() + " " + character.getHitPoints() + " "
+                    + character.getActionPoints() + " " + character.getEnergyLevel() + " "
+                    + character.getCharacterStats().getAttackRate());
+        }
+        return characters;
+    }
+
+    private CampaignSimulator stoppedSimulator() {
+        CampaignSimulator simulator = new CampaignSimulator(new GameEngine(new Randomizer(seed)));
+        simulator.setStopPoint(level, 1, turn);
+        simulator.runCampaign(seed);
+        return simulator;
+    }
+
+    @Test
+    public void testRestoredStateReplaysContinuation() {
+        ActivityLogger.INSTANCE.setEnabled(false);
+        CampaignResult expected = new CampaignSimulator(new GameEngine(new Randomizer(seed))).runCampaign(seed);
+        CampaignSimulator simulator = stoppedSimulator();
+        List<String> stoppedState = describe(simulator.getEngine());
+        boolean stopped = simulator.isStopped();
+        BattleState state = BattleState.capture(simulator);
+
+        CampaignResult first = simulator.resumeCampaign();
+        state.restore();
+        List<String> restoredState = describe(simulator.getEngine());
+        CampaignResult second = simulator.resumeCampaign();
+        assertAll("Validate that restoring rewinds the simulator to the captured state",
+                () -> assertTrue(stopped),
+                () -> assertEquals(level, state.getDungeonLevel()),
+                () -> assertEquals(turn, state.getTurn()),
+                () -> assertEquals(stoppedState, restoredState),
+                () -> assertEquals(expected.toString(), first.toString()),
+                () -> assertEquals(expected.toString(), second.toString())
+        );
+    }
+
+    @Test
+    public void testStatesBranch() {
+        ActivityLogger.INSTANCE.setEnabled(false);
+        CampaignSimulator simulator = stoppedSimulator();
+        BattleState root = BattleState.capture(simulator);
+
+        simulator.setStopPoint(level, 1, turn + 1);
+        simulator.resumeCampaign();
+        BattleState child = BattleState.capture(simulator);
+        List<String> childState = describe(simulator.getEngine());
+
+        root.restore();
+        simulator.getEngine().getRandomizer().setState(seed + 1);
+        simulator.setStopPoint(0, 0);
+        simulator.resumeCampaign();
+        child.restore();
+        assertAll("Validate that states stay valid while other branches are played",
+                () -> assertEquals(turn + 1, child.getTurn()),
+                () -> assertEquals(childState, describe(simulator.getEngine())),
+                () -> assertEquals(turn + 1, simulator.getCurrentTurn()),
+                () -> assertThrows(IllegalStateException.class,
+                        () -> BattleState.capture(new CampaignSimulator(new GameEngine(new Randomizer(1)))))
+        );
+    }
+
+    @Test
+    public void testStopAfterLevel() {
+        ActivityLogger.INSTANCE.setEnabled(false);
+        CampaignSimulator simulator = new CampaignSimulator(new GameEngine(new Randomizer(seed)));
+        simulator.setStopAfterLevel(Constants.DUNGEON_START_LEVEL);  // the first level is always cleared
+        CampaignResult result = simulator.runCampaign(seed);
+        assertAll("Validate that campaigns stop before the enemies of the next level are produced",
+                () -> assertTrue(simulator.isStopped()),
+                () -> assertFalse(result.isVictory()),
+                () -> assertEquals(Constants.DUNGEON_START_LEVEL, simulator.getCurrentDungeonLevel()),
+                () -> assertTrue(simulator.getEngine().getEnemies().isEmpty()),
+                () -> assertTrue(simulator.getEngine().heroesRemaining())
+        );
+    }
+}
@@ -0,0 +1,135 @@
+package com.dt180g.project.simulation;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.characters.BaseCharacter;
+import com.dt180g.project.policies.GreedyPolicy;
+import com.dt180g.project.policies.PriorityTablePolicy;
+import com.dt180g.project.policies.RandomPolicy;
+import com.dt180g.project.support.ActivityLogger;
+import com.dt180g.project.support.Constants;
+import com.dt180g.project.support.IOHelper;
+import com.dt180g.project.support.RandomJournal;
+import com.dt180g.project.support.RecordingRandomizer;
+import com.dt180g.project.support.SimulationConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CampaignReplayTests {
+    private final long seed = 1234;
+
+    private List<String> describe(final GameEngine engine) {
+        List<String> characters = new ArrayList<>();
+        for (BaseCharacter character : engine.getAllCharacters()) {
+            characters.add(character.getCharacterName() + " " + character.getHitPoints() + " "
+                    + character.getActionPoints() + " " + character.getEnergyLevel());
+        }
+        return characters;
+    }
+
+    @Test
+    public void testReplayReproducesCampaign() throws IOException {
+        ActivityLogger.INSTANCE.setEnabled(false);
+        RecordingRandomizer recorder = new RecordingRandomizer(seed);
+        CampaignResult recorded = new CampaignSimulator(new GameEngine(recorder)).runCampaign(seed);
+        RandomJournal journal = recorder.getJournal();
+
+        CampaignReplay replay = new CampaignReplay(journal);
+        CampaignResult replayed = replay.replay();
+        final int unreachedRound = 100_000;
+        assertAll("Validate that a replay ends exactly like the recorded campaign",
+                () -> assertEquals(recorded.toString(), replayed.toString()),
+                () -> assertEquals(journal.size(), replay.getDrawsReplayed()),
+                () -> assertFalse(replay.replayTo(1, unreachedRound))
+        );
+    }
+
+    @Test
+    public void testReplayToRound() throws IOException {
+        ActivityLogger.INSTANCE.setEnabled(false);
+        RecordingRandomizer recorder = new RecordingRandomizer(seed);
+        CampaignSimulator simulator = new CampaignSimulator(new GameEngine(recorder));
+        final int level = Constants.DUNGEON_START_LEVEL - 1;
+        simulator.setStopPoint(level, 1);
+        simulator.runCampaign(seed);
+        List<String> expected = describe(simulator.getEngine());
+
+        CampaignReplay replay = new CampaignReplay(recorder.getJournal());
+        assertAll("Validate that a replay stops in the recorded state",
+                () -> assertTrue(simulator.isStopped()),
+                () -> assertTrue(replay.replayTo(level, 1)),
+                () -> assertEquals(expected, describe(replay.getEngine())),
+                () -> assertEquals(recorder.getJournal().size(), replay.getDrawsReplayed())
+        );
+    }
+
+    @Test
+    public void testReplayWithPolicyAndConfig(@TempDir final Path directory) throws IOException {
+        ActivityLogger.INSTANCE.setEnabled(false);
+        final int campaigns = 40;
+        final int critMultiplier = 4;  // deadlier enemies, so greedy heroes lose some campaigns
+        SimulationConfig config = SimulationConfig.DEFAULT.with(SimulationConfig.Parameter.ENEMY_CRIT_MULTIPLIER,
+                critMultiplier);
+        ParallelBatchRunner runner = new ParallelBatchRunner(2);
+        runner.setJournalDirectory(directory);
+        runner.setPolicies(GreedyPolicy.INSTANCE, RandomPolicy.INSTANCE);
+        runner.setConfig(config);
+        BatchStatistics statistics = runner.run(campaigns, seed);
+
+        List<String> outcomes = new ArrayList<>();
+        List<String> setups = new ArrayList<>();
+        try (DirectoryStream<Path> journals = Files.newDirectoryStream(directory)) {
+            for (Path file : journals) {
+                RandomJournal journal = RandomJournal.read(file);
+                CampaignReplay replay = new CampaignReplay(journal);
+                outcomes.add(replay.replay().isVictory() + " " + (replay.getDrawsReplayed() == journal.size()));
+                setups.add(journal.getHeroPolicy() + " " + journal.getEnemyPolicy() + " " + journal.getConfig());
+            }
+        }
+        ParallelBatchRunner unnamed = new ParallelBatchRunner(1);
+        unnamed.setJournalDirectory(directory);
+        unnamed.setPolicies(GreedyPolicy.INSTANCE::chooseAbilities, RandomPolicy.INSTANCE);
+        assertAll("Validate that journals of other policies and parameters replay their campaigns",
+                () -> assertTrue(outcomes.size() > 0),
+                () -> assertEquals(campaigns - statistics.getVictories(), outcomes.size()),
+                () -> assertTrue(outcomes.stream().allMatch("false true"::equals)),
+                () -> assertTrue(setups.stream().allMatch(("greedy random " + config)::equals)),
+                () -> assertThrows(IllegalStateException.class, () -> unnamed.run(1, seed))
+        );
+    }
+
+    @Test
+    public void testReplayWithoutPriorityTableFile(@TempDir final Path directory) throws IOException {
+        ActivityLogger.INSTANCE.setEnabled(false);
+        Path table = Files.copy(IOHelper.getResourcePath(PriorityTablePolicy.DEFAULT_TABLE),
+                directory.resolve("table.xml"));
+        RecordingRandomizer recorder = new RecordingRandomizer(seed);
+        GameEngine engine = new GameEngine(recorder);
+        engine.setHeroPolicy(PriorityTablePolicy.load(table));
+        CampaignResult recorded = new CampaignSimulator(engine).runCampaign(seed);
+        Path file = directory.resolve("journal.bin");
+        recorder.getJournal().setPolicies(engine.getHeroPolicy().getName(), RandomPolicy.INSTANCE.getName());
+        recorder.getJournal().write(file);
+        Files.delete(table);
+
+        RandomJournal journal = RandomJournal.read(file);
+        CampaignReplay replay = new CampaignReplay(journal);
+        CampaignResult replayed = replay.replay();
+        assertAll("Validate that a journal replays the rules of a priority table without its file",
+                () -> assertEquals(recorded.toString(), replayed.toString()),
+                () -> assertEquals(journal.size(), replay.getDrawsReplayed())
+        );
+    }
+}
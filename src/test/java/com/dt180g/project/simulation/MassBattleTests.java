@@ -0,0 +1,59 @@
+package com.dt180g.project.simulation;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.characters.heroes.Cleric;
+import com.dt180g.project.characters.heroes.Ranger;
+import com.dt180g.project.characters.heroes.Warrior;
+import com.dt180g.project.characters.heroes.Wizard;
+import com.dt180g.project.support.ActivityLogger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MassBattleTests {
+
+    @Test
+    public void testProducePartyCyclesHeroClasses() {
+        GameEngine engine = new GameEngine();
+        final int partySize = 10;
+        engine.produceParty(partySize);
+        assertAll("Validate that a party of any size is produced",
+                () -> assertEquals(partySize, engine.getAmountOfHeroes()),
+                () -> assertTrue(engine.getHeroes().get(0) instanceof Warrior),
+                () -> assertTrue(engine.getHeroes().get(1) instanceof Ranger),
+                () -> assertTrue(engine.getHeroes().get(2) instanceof Wizard),
+                () -> assertTrue(engine.getHeroes().get(3) instanceof Cleric),
+                () -> assertTrue(engine.getHeroes().get(8).getCharacterName().startsWith("Hero 9"))
+        );
+    }
+
+    @Test
+    public void testMassBattle() {
+        ActivityLogger.INSTANCE.setEnabled(false);
+        final long seed = 5;
+        final int heroes = 200;
+        final int enemies = 1500;
+        MassBattleResult result = new MassBattle(heroes, enemies).run(seed);
+        MassBattleResult repeated = new MassBattle(heroes, enemies).run(seed);
+
+        assertAll("Validate that a mass battle is fought to the end and reproducible",
+                () -> assertTrue(result.isDecided()),
+                () -> assertTrue(result.getRounds() > 0),
+                () -> assertTrue(result.getTurns() >= result.getRounds()),
+                () -> assertEquals(result.toString(), repeated.toString())
+        );
+    }
+
+    @Test
+    public void testMassBattleRoundLimit() {
+        ActivityLogger.INSTANCE.setEnabled(false);
+        MassBattleResult result = new MassBattle(new GameEngine(), 50, 50, 1).run(1);
+        assertAll("Validate that the round limit is respected",
+                () -> assertEquals(1, result.getRounds()),
+                () -> assertThrows(IllegalArgumentException.class, () -> new MassBattle(0, 10))
+        );
+    }
+}
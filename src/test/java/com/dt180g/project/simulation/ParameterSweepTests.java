@@ -0,0 +1,69 @@
+package com.dt180g.project.simulation;
+
+import com.dt180g.project.support.ActivityLogger;
+import com.dt180g.project.support.SimulationConfig;
+import com.dt180g.project.support.SimulationConfig.Parameter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParameterSweepTests {
+    private final long seed = 1234;
+
+    @Test
+    public void testPoints() {
+        ParameterSweep sweep = new ParameterSweep(new ParallelBatchRunner(1), SimulationConfig.DEFAULT);
+        sweep.addAxis(Parameter.CRIT_CHANCE, 1, 2, 3);
+        sweep.addAxis(Parameter.ENEMIES_MULTIPLIER, 0, 2);
+        final int gridSize = 6;
+        final int randomPoints = 10;
+        List<SimulationConfig> grid = sweep.gridPoints();
+        List<SimulationConfig> random = sweep.randomPoints(randomPoints, seed);
+        assertAll("Validate that points cover the values of the axes",
+                () -> assertEquals(gridSize, sweep.getGridSize()),
+                () -> assertEquals(gridSize, grid.size()),
+                () -> assertEquals(gridSize, grid.stream().distinct().count()),
+                () -> assertEquals(1, grid.get(0).getCritChance()),
+                () -> assertEquals(2, grid.get(1).getEnemiesMultiplier()),
+                () -> assertTrue(grid.containsAll(random)),
+                () -> assertEquals(random, sweep.randomPoints(randomPoints, seed)),
+                () -> assertThrows(IllegalArgumentException.class, () -> sweep.addAxis(Parameter.CRIT_CHANCE, 4)),
+                () -> assertThrows(IllegalArgumentException.class, () -> sweep.addAxis(Parameter.ROUND_RESET_AP)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> sweep.addAxis(Parameter.ROUND_RESET_AP, -1))
+        );
+    }
+
+    @Test
+    public void testResultsTable(@TempDir final Path directory) throws IOException {
+        ActivityLogger.INSTANCE.setEnabled(false);
+        final int campaigns = 20;
+        ParallelBatchRunner runner = new ParallelBatchRunner(2);
+        ParameterSweep sweep = new ParameterSweep(runner, SimulationConfig.DEFAULT);
+        sweep.addAxis(Parameter.HERO_CRIT_MULTIPLIER, Parameter.HERO_CRIT_MULTIPLIER.getDefaultValue(), 1);
+        Path table = directory.resolve("sweep.csv");
+        List<BatchStatistics> results = sweep.run(sweep.gridPoints(), campaigns, seed, table);
+        List<String> rows = Files.readAllLines(table);
+        BatchStatistics expected = new ParallelBatchRunner(1).run(campaigns, seed);
+        assertAll("Validate that every point is run and written to the table",
+                () -> assertEquals(2, results.size()),
+                () -> assertEquals(3, rows.size()),
+                () -> assertTrue(rows.get(0).startsWith("crit_chance,")),
+                () -> assertTrue(rows.get(0).endsWith(",rounds_level_1")),
+                () -> assertEquals(rows.get(0).split(",").length, rows.get(1).split(",").length),
+                () -> assertEquals(campaigns, results.get(1).getCampaigns()),
+                () -> assertEquals(expected.toString(), results.get(0).toString()),
+                () -> assertSame(SimulationConfig.DEFAULT, runner.getConfig())
+        );
+    }
+}
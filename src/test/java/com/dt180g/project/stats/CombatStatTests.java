@@ -115,4 +115,29 @@ public class CombatStatTests {
         BaseStat attributeReliance = new Attribute(Constants.ATTRIBUTE_WILLPOWER, 80);
         testResetModifier(Constants.COMBAT_STAT_HEALING_POWER, attributeReliance);
     }
+
+    /* CACHED BASE VALUE TESTS */
+
+    @Test
+    public void testCombatStatFollowsRelianceChanges() {
+        BaseStat attributeReliance = new Attribute(Constants.ATTRIBUTE_DEXTERITY, 80);
+        BaseStat combatStat = new CombatStat(Constants.COMBAT_STAT_ACTION_POINTS, attributeReliance, STAT_RELIANCE);
+        int initialBaseValue = combatStat.getBaseValue();
+        int attributeIncrease = 40;
+        int traitDecrease = -20;
+
+        assertAll("Validate that the cached base value is recalculated when a reliance changes",
+                () -> assertEquals(initialBaseValue, combatStat.getBaseValue()),
+                () -> attributeReliance.adjustStaticModifier(attributeIncrease),
+                () -> assertEquals(initialBaseValue + (int) Math.round(attributeIncrease * Constants.COMBAT_STAT_MULTIPLIER),
+                        combatStat.getBaseValue()),
+                () -> STAT_RELIANCE.adjustDynamicModifier(traitDecrease),
+                () -> assertEquals((int) Math.round((attributeReliance.getModifiedValue()
+                        + STAT_RELIANCE.getModifiedValue()) * Constants.COMBAT_STAT_MULTIPLIER),
+                        combatStat.getBaseValue()),
+                () -> STAT_RELIANCE.resetDynamicModifier(),
+                () -> attributeReliance.adjustStaticModifier(-attributeIncrease),
+                () -> assertEquals(initialBaseValue, combatStat.getBaseValue())
+        );
+    }
 }
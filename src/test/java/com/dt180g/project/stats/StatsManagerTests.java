@@ -60,4 +60,14 @@ public class StatsManagerTests {
     public void testManagerRandomStatName() {
         assertTrue(statNames.contains(StatsManager.INSTANCE.getRandomTraitName()));
     }
+
+    @Test
+    public void testStatTypeNames() {
+        assertAll("Validate that every stat name maps to a stat type",
+                () -> attributeNames.forEach(name -> assertEquals(name, StatType.fromName(name).getStatName())),
+                () -> statNames.forEach(name -> assertEquals(name, StatType.fromName(name).getStatName())),
+                () -> combatStatNames.forEach(name -> assertEquals(name, StatType.fromName(name).getStatName())),
+                () -> assertThrows(IllegalArgumentException.class, () -> StatType.fromName("Luck"))
+        );
+    }
 }
@@ -0,0 +1,113 @@
+package com.dt180g.project.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ActivityLoggerTests {
+
+    @Test
+    public void testSingletonAccess() {
+        assertThrows(IllegalAccessException.class, ActivityLogger.class::newInstance);
+    }
+
+    @Test
+    public void testDisabledLoggingReturnsImmediately() {
+        ActivityLogger logger = ActivityLogger.INSTANCE;
+        logger.setEnabled(false);
+        final int messages = 10_000;
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            for (int i = 0; i < messages; i++) {
+                logger.logDamage("%s takes %d damage", "Dummy", i);
+            }
+        });
+        logger.setEnabled(true);
+    }
+
+    @Test
+    public void testAsynchronousLoggingFlushesPublishedMessages() {
+        ActivityLogger logger = ActivityLogger.INSTANCE;
+        List<String> written = new ArrayList<>();
+        Handler capture = createCapturingHandler(written);
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).addHandler(capture);
+        boolean enabled = logger.isEnabled();
+        try {
+            logger.setEnabled(true);
+            logger.setAsynchronous(true);
+            logger.logAttack("%s targeting %d %s", "Dummy attack", 1, "enemy");
+            logger.logHealing("Dummy receives %+d points of healing", 5);
+            logger.logDamage("Dummy takes 3 damage");
+            assertTimeoutPreemptively(Duration.ofSeconds(5), logger::flush);
+            assertAll("Validate that every asynchronous message is written in order on flush",
+                    () -> assertTrue(logger.isAsynchronous()),
+                    () -> assertEquals(List.of(
+                            Constants.ANSI_GREEN + " ".repeat(4) + "Dummy attack targeting 1 enemy\n",
+                            Constants.ANSI_CYAN + " ".repeat(8) + "Dummy receives +5 points of healing\n",
+                            Constants.ANSI_YELLOW + " ".repeat(8) + "Dummy takes 3 damage\n"), written)
+            );
+        } finally {
+            logger.setAsynchronous(false);
+            logger.setEnabled(enabled);
+            Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).removeHandler(capture);
+        }
+        assertFalse(logger.isAsynchronous());
+    }
+
+    @Test
+    public void testFailingMessageDoesNotStopAsynchronousLogging() {
+        ActivityLogger logger = ActivityLogger.INSTANCE;
+        List<String> written = new ArrayList<>();
+        Handler capture = createCapturingHandler(written);
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).addHandler(capture);
+        boolean enabled = logger.isEnabled();
+        try {
+            logger.setEnabled(true);
+            logger.setAsynchronous(true);
+            logger.logAttack("%d targets", "Dummy");  // fails to format on the consumer thread
+            logger.logAttack("%s targeting %d %s", "Dummy attack", 2, "enemies");
+            assertTimeoutPreemptively(Duration.ofSeconds(5), logger::flush);
+            assertAll("Validate that a failing message is skipped and later messages are written",
+                    () -> assertTrue(logger.isAsynchronous()),
+                    () -> assertEquals(List.of(Constants.ANSI_GREEN + " ".repeat(4)
+                            + "Dummy attack targeting 2 enemies\n"), written)
+            );
+        } finally {
+            logger.setAsynchronous(false);
+            logger.setEnabled(enabled);
+            Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).removeHandler(capture);
+        }
+    }
+
+    /**
+     * Create a handler collecting the messages written by the activity logger.
+     *
+     * @param written the list to add the messages to
+     * @return the handler
+     */
+    private static Handler createCapturingHandler(final List<String> written) {
+        return new Handler() {
+            @Override
+            public void publish(final LogRecord logRecord) {
+                written.add(logRecord.getMessage());
+            }
+
+            @Override
+            public void flush() { }
+
+            @Override
+            public void close() { }
+        };
+    }
+}
@@ -0,0 +1,118 @@
+package com.dt180g.project.support;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RandomJournalTests {
+    private final long seed = 42;
+    private final int draws = 1000;
+    private final int wideRange = 1_000_000;
+
+    private RecordingRandomizer record(final int[] expected) {
+        RecordingRandomizer recorder = new RecordingRandomizer(seed);
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = (i % 2 == 0) ? recorder.getRandomValue(1, 9) : recorder.getRandomValue(wideRange);
+        }
+        return recorder;
+    }
+
+    @Test
+    public void testRecordingDoesNotChangeSequence() {
+        Randomizer plain = new Randomizer(seed);
+        int[] recorded = new int[draws];
+        record(recorded);
+        for (int i = 0; i < draws; i++) {
+            int expected = (i % 2 == 0) ? plain.getRandomValue(1, 9) : plain.getRandomValue(wideRange);
+            assertEquals(expected, recorded[i]);
+        }
+    }
+
+    @Test
+    public void testReplayServesRecordedDraws(@TempDir Path directory) throws IOException {
+        int[] expected = new int[draws];
+        RecordingRandomizer recorder = record(expected);
+        Path file = directory.resolve("journal.bin");
+        SimulationConfig config = SimulationConfig.DEFAULT.with(SimulationConfig.Parameter.CRIT_CHANCE, 1);
+        recorder.getJournal().setPolicies("greedy", "heal:30");
+        recorder.getJournal().setConfig(config);
+        recorder.getJournal().write(file);
+        RandomJournal journal = RandomJournal.read(file);
+
+        ReplayRandomizer replay = new ReplayRandomizer(journal);
+        int[] replayed = new int[draws];
+        for (int i = 0; i < draws; i++) {
+            replayed[i] = (i % 2 == 0) ? replay.getRandomValue(1, 9) : replay.getRandomValue(wideRange);
+        }
+        assertAll("Validate that a journal read back from file replays every draw",
+                () -> assertEquals(seed, journal.getSeed()),
+                () -> assertEquals(draws, journal.size()),
+                () -> assertEquals("greedy", journal.getHeroPolicy()),
+                () -> assertEquals("heal:30", journal.getEnemyPolicy()),
+                () -> assertEquals(config, journal.getConfig()),
+                () -> assertEquals(Arrays.toString(expected), Arrays.toString(replayed)),
+                () -> assertEquals(draws, replay.getPosition()),
+                () -> assertThrows(IllegalStateException.class, () -> replay.getRandomValue(1, 9))
+        );
+    }
+
+    @Test
+    public void testReplayDetectsDivergence() {
+        RecordingRandomizer recorder = record(new int[2]);
+        ReplayRandomizer replay = new ReplayRandomizer(recorder.getJournal());
+        replay.getRandomValue(1, 9);
+        assertAll("Validate that a replay only follows the recorded requests",
+                () -> assertThrows(IllegalStateException.class, () -> replay.getRandomValue(1, 9)),
+                () -> assertThrows(IllegalArgumentException.class, () -> replay.setState(seed + 1))
+        );
+    }
+
+    @Test
+    public void testReseedingStartsNewJournal() {
+        RecordingRandomizer recorder = record(new int[draws]);
+        RandomJournal previous = recorder.getJournal();
+        recorder.setState(seed + 1);
+        recorder.getRandomValue(1, 9);
+        assertAll("Validate that every seed gets a journal of its own",
+                () -> assertEquals(draws, previous.size()),
+                () -> assertEquals(1, recorder.getJournal().size()),
+                () -> assertEquals(seed + 1, recorder.getJournal().getSeed())
+        );
+    }
+
+    @Test
+    public void testInvalidJournals(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("journal.bin");
+        record(new int[draws]).getJournal().write(file);
+        byte[] bytes = Files.readAllBytes(file);
+        Path truncated = directory.resolve("truncated.bin");
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 1));
+        Path notJournal = directory.resolve("not.bin");
+        Files.writeString(notJournal, "not a journal");
+        Path empty = directory.resolve("empty.bin");
+        record(new int[0]).getJournal().write(empty);
+        byte[] oversized = Files.readAllBytes(empty);
+        ByteBuffer.wrap(oversized).putInt(oversized.length - Integer.BYTES, Integer.MAX_VALUE);  // amount of draws
+        Path huge = Files.write(directory.resolve("huge.bin"), oversized);
+        byte[] older = bytes.clone();
+        ByteBuffer.wrap(older).putInt(Integer.BYTES, RandomJournal.VERSION - 1);  // after the magic number
+        Path olderVersion = Files.write(directory.resolve("older.bin"), older);
+
+        assertAll("Validate that invalid journals fail to load",
+                () -> assertThrows(IOException.class, () -> RandomJournal.read(truncated)),
+                () -> assertThrows(IOException.class, () -> RandomJournal.read(notJournal)),
+                () -> assertEquals(0, RandomJournal.read(empty).size()),
+                () -> assertThrows(IOException.class, () -> RandomJournal.read(huge)),
+                () -> assertThrows(IOException.class, () -> RandomJournal.read(olderVersion))
+        );
+    }
+}
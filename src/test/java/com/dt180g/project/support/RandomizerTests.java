@@ -0,0 +1,73 @@
+package com.dt180g.project.support;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RandomizerTests {
+    private final int draws = 1000;
+
+    @Test
+    public void testSameSeedSameSequence() {
+        Randomizer first = new Randomizer(42);
+        Randomizer second = new Randomizer(42);
+        for (int i = 0; i < draws; i++) {
+            assertEquals(first.getRandomValue(1, 9), second.getRandomValue(1, 9));
+        }
+    }
+
+    @Test
+    public void testValuesWithinBounds() {
+        Randomizer random = new Randomizer(7);
+        boolean[] seen = new boolean[4];
+        for (int i = 0; i < draws; i++) {
+            int value = random.getRandomValue(2, 5);
+            assertTrue(value >= 2 && value <= 5);
+            seen[value - 2] = true;
+        }
+        assertAll("Validate that every value within bounds is produced",
+                () -> assertTrue(seen[0]),
+                () -> assertTrue(seen[1]),
+                () -> assertTrue(seen[2]),
+                () -> assertTrue(seen[3])
+        );
+    }
+
+    @Test
+    public void testRestoredStateContinuesSequence() {
+        Randomizer random = new Randomizer(3);
+        random.getRandomValue(100);
+        long state = random.getState();
+        int expected = random.getRandomValue(1000);
+
+        random.setState(state);
+        assertEquals(expected, random.getRandomValue(1000));
+    }
+
+    @Test
+    public void testDerivedSeeds() {
+        assertAll("Validate that derived seeds are stable and distinct",
+                () -> assertEquals(Randomizer.deriveSeed(1, 5), Randomizer.deriveSeed(1, 5)),
+                () -> assertNotEquals(Randomizer.deriveSeed(1, 5), Randomizer.deriveSeed(1, 6)),
+                () -> assertNotEquals(Randomizer.deriveSeed(1, 5), Randomizer.deriveSeed(2, 5))
+        );
+    }
+
+    @Test
+    public void testThreadsHaveTheirOwnStream() throws InterruptedException {
+        Randomizer[] other = new Randomizer[1];
+        Thread thread = new Thread(() -> other[0] = Randomizer.current());
+        thread.start();
+        thread.join();
+        assertAll("Validate that the fallback stream is confined to its thread",
+                () -> assertSame(Randomizer.current(), Randomizer.current()),
+                () -> assertNotSame(Randomizer.current(), other[0]),
+                () -> assertNotEquals(Randomizer.current().getState(), other[0].getState())
+        );
+    }
+}
@@ -0,0 +1,90 @@
+package com.dt180g.project.support;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.simulation.CampaignResult;
+import com.dt180g.project.simulation.CampaignSimulator;
+import com.dt180g.project.support.SimulationConfig.Parameter;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SimulationConfigTests {
+    private final long seed = 1234;
+
+    @Test
+    public void testDefaultMatchesConstants() {
+        SimulationConfig config = SimulationConfig.DEFAULT;
+        assertAll("Validate that the default configuration holds the values of the constants",
+                () -> assertEquals(Constants.CRIT_CHANCE, config.getCritChance()),
+                () -> assertEquals(Constants.HERO_CRIT_MULTIPLIER, config.getHeroCritMultiplier()),
+                () -> assertEquals(Constants.ENEMY_CRIT_MULTIPLIER, config.getEnemyCritMultiplier()),
+                () -> assertEquals(Constants.BOSS_HEALTH_MULTIPLIER, config.getBossHealthMultiplier()),
+                () -> assertEquals(Constants.ENEMIES_MULTIPLIER, config.getEnemiesMultiplier()),
+                () -> assertEquals(Constants.ROUND_RESET_AP, config.getRoundResetActionPoints()),
+                () -> assertEquals(Constants.ROUND_RESET_ENERGY, config.getRoundResetEnergy()),
+                () -> assertEquals(Constants.SINGLE_TARGET_ABILITY_MULTIPLIER,
+                        config.getSingleTargetAbilityMultiplier()),
+                () -> assertEquals(SimulationConfig.DEFAULT, new GameEngine(new Randomizer(seed)).getConfig())
+        );
+    }
+
+    @Test
+    public void testChangingParameters() {
+        final int critChance = 5;
+        SimulationConfig changed = SimulationConfig.DEFAULT.with(Parameter.CRIT_CHANCE, critChance);
+        assertAll("Validate that changing a parameter creates a valid new configuration",
+                () -> assertEquals(critChance, changed.getCritChance()),
+                () -> assertEquals(Constants.CRIT_CHANCE, SimulationConfig.DEFAULT.getCritChance()),
+                () -> assertNotEquals(SimulationConfig.DEFAULT, changed),
+                () -> assertEquals(SimulationConfig.DEFAULT,
+                        changed.with(Parameter.CRIT_CHANCE, Constants.CRIT_CHANCE)),
+                () -> assertEquals(SimulationConfig.DEFAULT.hashCode(),
+                        changed.with(Parameter.CRIT_CHANCE, Constants.CRIT_CHANCE).hashCode()),
+                () -> assertTrue(changed.toString().contains("CRIT_CHANCE=" + critChance)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> changed.with(Parameter.CRIT_CHANCE, SimulationConfig.CRIT_ROLLS + 1)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> changed.with(Parameter.HERO_CRIT_MULTIPLIER, 0)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> changed.with(Parameter.ENEMIES_MULTIPLIER, -1))
+        );
+    }
+
+    @Test
+    public void testEngineFollowsConfig() {
+        ActivityLogger.INSTANCE.setEnabled(false);
+        GameEngine defaultBoss = new GameEngine(new Randomizer(seed));
+        defaultBoss.produceEnemies(0, true);
+        GameEngine weakBoss = new GameEngine(new Randomizer(seed));
+        weakBoss.setConfig(SimulationConfig.DEFAULT.with(Parameter.BOSS_HEALTH_MULTIPLIER, 0));
+        weakBoss.produceEnemies(0, true);
+
+        String expected = new CampaignSimulator(new GameEngine(new Randomizer(seed))).runCampaign(seed).toString();
+        GameEngine engine = new GameEngine(new Randomizer(seed));
+        engine.setConfig(SimulationConfig.DEFAULT.with(Parameter.ENEMIES_MULTIPLIER, 0)
+                .with(Parameter.CRIT_CHANCE, SimulationConfig.CRIT_ROLLS));
+        String changed = new CampaignSimulator(engine).runCampaign(seed).toString();
+
+        GameEngine exhausted = new GameEngine(new Randomizer(seed));
+        exhausted.setConfig(SimulationConfig.DEFAULT.with(Parameter.ROUND_RESET_AP, 0));
+        CampaignSimulator stalemate = new CampaignSimulator(exhausted);
+        final int roundLimit = 50;
+        stalemate.setRoundLimit(roundLimit);
+        CampaignResult calledOff = stalemate.runCampaign(seed);
+        assertAll("Validate that the game is played by the configuration of its engine",
+                () -> assertTrue(weakBoss.getEnemies().get(0).getHitPoints()
+                        < defaultBoss.getEnemies().get(0).getHitPoints()),
+                () -> assertNotEquals(expected, changed),
+                () -> assertFalse(calledOff.isVictory()),
+                () -> assertTrue(IntStream.rangeClosed(1, Constants.DUNGEON_START_LEVEL)
+                        .allMatch(level -> calledOff.getRounds(level) <= roundLimit))
+        );
+    }
+}